@@ -0,0 +1,33 @@
+package com.pji.noticeboard.config;
+
+import com.pji.noticeboard.service.OrphanAttachmentCollector;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 고아 첨부파일 수거 상태를 /actuator/attachmentgc로 노출합니다.
+ * POST 요청은 주기를 기다리지 않고 수거 작업을 한 번 실행합니다.
+ */
+@Component
+@Endpoint(id = "attachmentgc")
+@RequiredArgsConstructor
+public class AttachmentGcEndpoint {
+
+    private final OrphanAttachmentCollector orphanAttachmentCollector;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return orphanAttachmentCollector.getStatus();
+    }
+
+    @WriteOperation
+    public Map<String, Object> run() {
+        orphanAttachmentCollector.runOnce();
+        return orphanAttachmentCollector.getStatus();
+    }
+}
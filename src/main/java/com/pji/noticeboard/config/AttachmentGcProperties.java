@@ -0,0 +1,37 @@
+package com.pji.noticeboard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "file.upload.gc")
+public class AttachmentGcProperties {
+
+    private boolean enabled = true;
+    private int batchSize = 500;
+    private int maxDeletesPerRun = 100;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxDeletesPerRun() {
+        return maxDeletesPerRun;
+    }
+
+    public void setMaxDeletesPerRun(int maxDeletesPerRun) {
+        this.maxDeletesPerRun = maxDeletesPerRun;
+    }
+}
@@ -0,0 +1,67 @@
+package com.pji.noticeboard.config;
+
+import com.pji.noticeboard.util.AttachmentStorage;
+import com.pji.noticeboard.util.LocalAttachmentStorage;
+import com.pji.noticeboard.util.S3AttachmentStorage;
+import com.pji.noticeboard.util.SegmentAttachmentStorage;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * file.upload.storage 설정에 따라 첨부파일 저장소를 선택합니다.
+ */
+@Configuration
+public class AttachmentStorageConfig {
+
+    @Bean
+    public AttachmentStorage attachmentStorage(FileUploadProperties fileUploadProperties,
+                                               S3StorageProperties s3StorageProperties) throws IOException {
+        LocalAttachmentStorage localAttachmentStorage = new LocalAttachmentStorage(fileUploadProperties);
+        return switch (fileUploadProperties.getStorage()) {
+            case FILESYSTEM -> localAttachmentStorage;
+            case SEGMENT -> new SegmentAttachmentStorage(fileUploadProperties, localAttachmentStorage);
+            case S3 -> s3AttachmentStorage(s3StorageProperties);
+        };
+    }
+
+    /**
+     * endpoint를 지정하면 AWS 대신 해당 주소의 S3 호환 서버를 사용합니다. 서명된 주소도 같은 endpoint로 만듭니다.
+     */
+    private S3AttachmentStorage s3AttachmentStorage(S3StorageProperties s3StorageProperties) {
+        Region region = Region.of(s3StorageProperties.getRegion());
+        AwsCredentialsProvider credentialsProvider = StringUtils.hasText(s3StorageProperties.getAccessKey())
+                ? StaticCredentialsProvider.create(AwsBasicCredentials.create(s3StorageProperties.getAccessKey(), s3StorageProperties.getSecretKey()))
+                : DefaultCredentialsProvider.create();
+        S3Configuration serviceConfiguration = S3Configuration.builder()
+                .pathStyleAccessEnabled(s3StorageProperties.isPathStyleAccess())
+                .build();
+
+        S3ClientBuilder clientBuilder = S3Client.builder()
+                .region(region)
+                .credentialsProvider(credentialsProvider)
+                .serviceConfiguration(serviceConfiguration);
+        S3Presigner.Builder presignerBuilder = S3Presigner.builder()
+                .region(region)
+                .credentialsProvider(credentialsProvider)
+                .serviceConfiguration(serviceConfiguration);
+        if (StringUtils.hasText(s3StorageProperties.getEndpoint())) {
+            URI endpoint = URI.create(s3StorageProperties.getEndpoint());
+            clientBuilder.endpointOverride(endpoint);
+            presignerBuilder.endpointOverride(endpoint);
+        }
+        return new S3AttachmentStorage(clientBuilder.build(), presignerBuilder.build(), s3StorageProperties);
+    }
+}
@@ -1,26 +1,47 @@
 package com.pji.noticeboard.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.jcache.JCacheCacheManager;
+import org.springframework.cache.support.CompositeCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
 import org.springframework.core.io.ClassPathResource;
 
 import javax.cache.Caching;
 import javax.cache.spi.CachingProvider;
 
+/**
+ * 캐시 인터셉터를 트랜잭션 인터셉터보다 바깥에 두어 캐시 적중 시 트랜잭션을 시작하지 않고,
+ * 캐시 무효화는 트랜잭션이 끝난 뒤에 실행되도록 합니다.
+ */
 @Configuration
-@EnableCaching
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
 public class CacheConfig {
 
     @Bean
-    public CacheManager cacheManager() throws Exception {
+    public RefreshingCacheManager refreshingCacheManager(RefreshingCacheProperties refreshingCacheProperties,
+                                                         MeterRegistry meterRegistry) {
+        RefreshingCacheManager refreshingCacheManager = new RefreshingCacheManager(refreshingCacheProperties, meterRegistry);
+        refreshingCacheManager.setTransactionAware(true);
+        return refreshingCacheManager;
+    }
+
+    @Bean
+    @Primary
+    public CacheManager cacheManager(RefreshingCacheManager refreshingCacheManager) throws Exception {
         CachingProvider cachingProvider = Caching.getCachingProvider();
         javax.cache.CacheManager cacheManager = cachingProvider.getCacheManager(
                 new ClassPathResource("ehcache.xml").getURI(),
                 cachingProvider.getDefaultClassLoader()
         );
-        return new JCacheCacheManager(cacheManager);
+        JCacheCacheManager jCacheCacheManager = new JCacheCacheManager(cacheManager);
+        // 수정/삭제에 따른 캐시 무효화를 트랜잭션 커밋 이후로 미룹니다.
+        jCacheCacheManager.setTransactionAware(true);
+        jCacheCacheManager.afterPropertiesSet();
+        return new CompositeCacheManager(refreshingCacheManager, jCacheCacheManager);
     }
 }
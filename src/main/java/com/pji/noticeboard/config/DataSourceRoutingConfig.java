@@ -0,0 +1,56 @@
+package com.pji.noticeboard.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * notice.datasource.routing.enabled가 true일 때 기본 DB와 복제본으로 구성된 라우팅 DataSource를 등록합니다.
+ * 복제본 연결 풀은 spring.datasource.hikari 설정을 그대로 따르며 읽기 전용으로 열립니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "notice.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                                             ReplicaRoutingProperties routingProperties) {
+        List<DataSource> replicas = new ArrayList<>();
+        List<ReplicaRoutingProperties.Replica> replicaProperties = routingProperties.getReplicas();
+        for (int i = 0; i < replicaProperties.size(); i++) {
+            ReplicaRoutingProperties.Replica replica = replicaProperties.get(i);
+            HikariConfig config = new HikariConfig();
+            primaryDataSource.copyStateTo(config);
+            config.setPoolName("replica-" + i);
+            config.setJdbcUrl(replica.getUrl());
+            config.setUsername(replica.getUsername());
+            config.setPassword(replica.getPassword());
+            config.setReadOnly(true);
+            replicas.add(new HikariDataSource(config));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, routingProperties);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
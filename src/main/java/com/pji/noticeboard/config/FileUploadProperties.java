@@ -2,13 +2,42 @@ package com.pji.noticeboard.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
 
 @Configuration
 @ConfigurationProperties(prefix = "file.upload")
 public class FileUploadProperties {
 
+    /**
+     * 첨부파일 저장 방식입니다.
+     * FILESYSTEM은 파일마다 하나의 파일로, SEGMENT는 segment-threshold 이하의 작은 파일을 큰 세그먼트 파일에 이어 붙여 저장합니다.
+     * S3는 S3 호환 저장소에 저장하여 여러 서버가 같은 첨부파일을 공유합니다. (file.upload.s3 설정)
+     */
+    public enum Storage {
+        FILESYSTEM,
+        SEGMENT,
+        S3
+    }
+
     private String basePath;
     private int maxFiles;
+    private DataSize maxFileSize = DataSize.ofMegabytes(10);
+    private DataSize bufferSize = DataSize.ofKilobytes(64);
+    private int bufferPoolSize = 16;
+    private Duration bufferWaitTimeout = Duration.ofSeconds(5);
+    private int ioThreads = 4;
+    private int ioQueueCapacity = 100;
+    private Duration orphanGracePeriod = Duration.ofMinutes(10);
+    private DataSize chunkSize = DataSize.ofMegabytes(5);
+    private DataSize maxChunkedFileSize = DataSize.ofGigabytes(1);
+    private Duration uploadSessionTtl = Duration.ofHours(1);
+    private int maxUploadSessions = 100;
+    private Storage storage = Storage.FILESYSTEM;
+    private DataSize segmentThreshold = DataSize.ofKilobytes(64);
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+    private double segmentCompactionRatio = 0.5;
 
     public String getBasePath() {
         return basePath;
@@ -25,4 +54,127 @@ public class FileUploadProperties {
     public void setMaxFiles(int maxFiles) {
         this.maxFiles = maxFiles;
     }
+
+    public DataSize getMaxFileSize() {
+        return maxFileSize;
+    }
+
+    public void setMaxFileSize(DataSize maxFileSize) {
+        this.maxFileSize = maxFileSize;
+    }
+
+    public DataSize getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(DataSize bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public int getBufferPoolSize() {
+        return bufferPoolSize;
+    }
+
+    public void setBufferPoolSize(int bufferPoolSize) {
+        if (bufferPoolSize < 1) {
+            throw new IllegalArgumentException("file.upload.buffer-pool-size must be positive");
+        }
+        this.bufferPoolSize = bufferPoolSize;
+    }
+
+    public Duration getBufferWaitTimeout() {
+        return bufferWaitTimeout;
+    }
+
+    public void setBufferWaitTimeout(Duration bufferWaitTimeout) {
+        this.bufferWaitTimeout = bufferWaitTimeout;
+    }
+
+    public int getIoThreads() {
+        return ioThreads;
+    }
+
+    public void setIoThreads(int ioThreads) {
+        this.ioThreads = ioThreads;
+    }
+
+    public int getIoQueueCapacity() {
+        return ioQueueCapacity;
+    }
+
+    public void setIoQueueCapacity(int ioQueueCapacity) {
+        this.ioQueueCapacity = ioQueueCapacity;
+    }
+
+    public Duration getOrphanGracePeriod() {
+        return orphanGracePeriod;
+    }
+
+    public void setOrphanGracePeriod(Duration orphanGracePeriod) {
+        this.orphanGracePeriod = orphanGracePeriod;
+    }
+
+    public DataSize getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(DataSize chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public DataSize getMaxChunkedFileSize() {
+        return maxChunkedFileSize;
+    }
+
+    public void setMaxChunkedFileSize(DataSize maxChunkedFileSize) {
+        this.maxChunkedFileSize = maxChunkedFileSize;
+    }
+
+    public Duration getUploadSessionTtl() {
+        return uploadSessionTtl;
+    }
+
+    public void setUploadSessionTtl(Duration uploadSessionTtl) {
+        this.uploadSessionTtl = uploadSessionTtl;
+    }
+
+    public int getMaxUploadSessions() {
+        return maxUploadSessions;
+    }
+
+    public void setMaxUploadSessions(int maxUploadSessions) {
+        this.maxUploadSessions = maxUploadSessions;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public void setStorage(Storage storage) {
+        this.storage = storage;
+    }
+
+    public DataSize getSegmentThreshold() {
+        return segmentThreshold;
+    }
+
+    public void setSegmentThreshold(DataSize segmentThreshold) {
+        this.segmentThreshold = segmentThreshold;
+    }
+
+    public DataSize getSegmentSize() {
+        return segmentSize;
+    }
+
+    public void setSegmentSize(DataSize segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    public double getSegmentCompactionRatio() {
+        return segmentCompactionRatio;
+    }
+
+    public void setSegmentCompactionRatio(double segmentCompactionRatio) {
+        this.segmentCompactionRatio = segmentCompactionRatio;
+    }
 }
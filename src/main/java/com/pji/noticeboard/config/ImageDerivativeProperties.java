@@ -0,0 +1,93 @@
+package com.pji.noticeboard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "file.upload.derivatives")
+public class ImageDerivativeProperties {
+
+    private boolean enabled = true;
+    private int threads = 2;
+    private int maxInFlight = 16;
+    private Duration lease = Duration.ofMinutes(5);
+    private int maxAttempts = 3;
+    private Duration retryBackoff = Duration.ofMinutes(1);
+    private long maxPixels = 50_000_000L;
+    private float jpegQuality = 0.85f;
+    private Duration cacheMaxAge = Duration.ofDays(365);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    public Duration getLease() {
+        return lease;
+    }
+
+    public void setLease(Duration lease) {
+        this.lease = lease;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getRetryBackoff() {
+        return retryBackoff;
+    }
+
+    public void setRetryBackoff(Duration retryBackoff) {
+        this.retryBackoff = retryBackoff;
+    }
+
+    public long getMaxPixels() {
+        return maxPixels;
+    }
+
+    public void setMaxPixels(long maxPixels) {
+        this.maxPixels = maxPixels;
+    }
+
+    public float getJpegQuality() {
+        return jpegQuality;
+    }
+
+    public void setJpegQuality(float jpegQuality) {
+        this.jpegQuality = jpegQuality;
+    }
+
+    public Duration getCacheMaxAge() {
+        return cacheMaxAge;
+    }
+
+    public void setCacheMaxAge(Duration cacheMaxAge) {
+        this.cacheMaxAge = cacheMaxAge;
+    }
+}
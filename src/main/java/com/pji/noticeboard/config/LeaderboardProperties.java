@@ -0,0 +1,43 @@
+package com.pji.noticeboard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "notice.leaderboard")
+public class LeaderboardProperties {
+
+    /**
+     * 설정할 수 있는 리더보드 크기의 상한입니다. 조회수 상위 공지사항 API의 limit 상한으로도 사용합니다.
+     */
+    public static final int MAX_CAPACITY = 100;
+
+    private int capacity = MAX_CAPACITY;
+
+    /**
+     * 가득 찬 리더보드에서 항목이 빠져도 DB를 조회하지 않고 채울 수 있도록 capacity 밖의 다음 순위를 이만큼 더 유지합니다.
+     */
+    private int reserve = 20;
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("notice.leaderboard.capacity must be between 1 and " + MAX_CAPACITY);
+        }
+        this.capacity = capacity;
+    }
+
+    public int getReserve() {
+        return reserve;
+    }
+
+    public void setReserve(int reserve) {
+        if (reserve < 0) {
+            throw new IllegalArgumentException("notice.leaderboard.reserve must not be negative");
+        }
+        this.reserve = reserve;
+    }
+}
@@ -0,0 +1,48 @@
+package com.pji.noticeboard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "notice.schedule")
+public class NoticeScheduleProperties {
+
+    private long tickInterval = 1000;
+    private int wheelSize = 512;
+    private Duration prewarmLead = Duration.ofSeconds(60);
+    private int batchSize = 5000;
+
+    public long getTickInterval() {
+        return tickInterval;
+    }
+
+    public void setTickInterval(long tickInterval) {
+        this.tickInterval = tickInterval;
+    }
+
+    public int getWheelSize() {
+        return wheelSize;
+    }
+
+    public void setWheelSize(int wheelSize) {
+        this.wheelSize = wheelSize;
+    }
+
+    public Duration getPrewarmLead() {
+        return prewarmLead;
+    }
+
+    public void setPrewarmLead(Duration prewarmLead) {
+        this.prewarmLead = prewarmLead;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+}
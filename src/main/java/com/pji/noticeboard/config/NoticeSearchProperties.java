@@ -0,0 +1,48 @@
+package com.pji.noticeboard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "notice.search")
+public class NoticeSearchProperties {
+
+    private String indexPath;
+    private int batchSize = 1000;
+    private int mergeThreshold = 10_000;
+    private Duration syncOverlap = Duration.ofSeconds(5);
+
+    public String getIndexPath() {
+        return indexPath;
+    }
+
+    public void setIndexPath(String indexPath) {
+        this.indexPath = indexPath;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMergeThreshold() {
+        return mergeThreshold;
+    }
+
+    public void setMergeThreshold(int mergeThreshold) {
+        this.mergeThreshold = mergeThreshold;
+    }
+
+    public Duration getSyncOverlap() {
+        return syncOverlap;
+    }
+
+    public void setSyncOverlap(Duration syncOverlap) {
+        this.syncOverlap = syncOverlap;
+    }
+}
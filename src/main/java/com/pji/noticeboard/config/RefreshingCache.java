@@ -0,0 +1,329 @@
+package com.pji.noticeboard.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 동시 적재를 하나로 합치고, 만료 전에 미리 갱신하며, 만료 직후에는 이전 값을 반환하면서 갱신하는 캐시입니다.
+ *
+ * 키마다 적재는 한 번만 실행되고 같은 키를 기다리는 요청은 그 결과를 함께 받습니다.
+ * 적재 후 refreshAfter가 지나면 값을 그대로 반환하면서 백그라운드에서 갱신하고,
+ * ttl이 지난 뒤에도 staleFor 동안은 이전 값을 반환하면서 갱신합니다. 그 이후에는 요청이 직접 적재를 기다립니다.
+ *
+ * 이 동작은 valueLoader를 받는 {@link #get(Object, Callable)}에서만 적용되므로 {@code @Cacheable(sync = true)}와 함께 사용합니다.
+ *
+ * 항목은 접근 순서로 보관하여 maxEntries에 도달하면 가장 오래 사용하지 않은 항목을 제거합니다(LRU).
+ * 무효화는 키마다 버전으로 추적하므로, 한 키의 evict가 다른 키의 진행 중인 적재 결과를 버리지 않습니다.
+ */
+@Slf4j
+public class RefreshingCache implements Cache {
+
+    private final String name;
+    private final RefreshingCacheProperties.Spec spec;
+    private final Executor refreshExecutor;
+    private final LongSupplier clock;
+
+    /**
+     * 접근 순서로 정렬된 항목입니다. 모든 접근은 이 객체로 동기화합니다.
+     */
+    private final Map<Object, Entry> entries;
+    private final Map<Object, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+
+    /**
+     * 적재가 진행 중인 동안 무효화된 키의 마지막 무효화 버전입니다. 적재는 시작할 때 본 버전과 끝날 때의 버전이 다르면 결과를 캐시에 넣지 않습니다.
+     * 버전은 nextVersion에서 받으므로 항목이 지워졌다 다시 생겨도 같은 값이 되지 않으며, 적재가 끝나면 지웁니다.
+     */
+    private final Map<Object, Long> versions = new ConcurrentHashMap<>();
+    private final AtomicLong nextVersion = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Counter loads;
+    private final Counter refreshes;
+    private final Counter coalescedLoads;
+
+    public RefreshingCache(String name, RefreshingCacheProperties.Spec spec, Executor refreshExecutor,
+                           MeterRegistry meterRegistry, LongSupplier clock) {
+        this.name = name;
+        this.spec = spec;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                return size() > spec.getMaxEntries();
+            }
+        };
+
+        this.hits = requestCounter(meterRegistry, "hit");
+        this.staleHits = requestCounter(meterRegistry, "stale");
+        this.misses = requestCounter(meterRegistry, "miss");
+        this.loads = loadCounter(meterRegistry, "load");
+        this.refreshes = loadCounter(meterRegistry, "refresh");
+        this.coalescedLoads = loadCounter(meterRegistry, "coalesced");
+        Gauge.builder("notice.cache.loads.in-flight", loading, Map::size)
+                .tag("cache", name)
+                .register(meterRegistry);
+        Gauge.builder("notice.cache.size", entries, Map::size)
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return entries;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Entry entry = entry(key);
+        if (entry == null || age(entry) >= spec.getTtl().toMillis()) {
+            return null;
+        }
+        return new SimpleValueWrapper(entry.value());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (type != null && value != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Entry entry = entry(key);
+        if (entry != null) {
+            long age = age(entry);
+            if (age < spec.getRefreshAfter().toMillis()) {
+                hits.increment();
+                return (T) entry.value();
+            }
+            if (age < spec.getTtl().toMillis()) {
+                hits.increment();
+                refreshAsync(key, valueLoader);
+                return (T) entry.value();
+            }
+            if (age < spec.getTtl().plus(spec.getStaleFor()).toMillis()) {
+                staleHits.increment();
+                refreshAsync(key, valueLoader);
+                return (T) entry.value();
+            }
+        }
+
+        misses.increment();
+        return (T) load(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        synchronized (entries) {
+            if (value == null) {
+                entries.remove(key);
+            } else {
+                entries.put(key, new Entry(value, clock.getAsLong()));
+            }
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        invalidate(key);
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    @Override
+    public void clear() {
+        loading.keySet().forEach(this::invalidate);
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * 캐시된 모든 키를 백그라운드에서 다시 적재합니다. clear()와 달리 새 값이 적재될 때까지 이전 값을 계속 반환하므로 요청이 DB로 몰리지 않습니다.
+     * 호출 이전에 시작된 적재 결과는 캐시에 넣지 않고, 갱신을 시작하지 못한 키는 제거하여 다음 요청이 직접 적재하게 합니다.
+     *
+     * @param valueLoader 키로 새 값을 적재하는 함수
+     */
+    public void refreshAll(Function<Object, ?> valueLoader) {
+        loading.keySet().forEach(this::invalidate);
+        List<Object> keys;
+        synchronized (entries) {
+            keys = List.copyOf(entries.keySet());
+        }
+        for (Object key : keys) {
+            if (loading.containsKey(key) || !refreshAsync(key, () -> valueLoader.apply(key))) {
+                synchronized (entries) {
+                    entries.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * 값을 직접 적재합니다. 같은 키의 적재가 이미 진행 중이면 새로 실행하지 않고 그 결과를 기다립니다.
+     */
+    private Object load(Object key, Callable<?> valueLoader) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loading.putIfAbsent(key, future);
+        if (inFlight != null) {
+            coalescedLoads.increment();
+            try {
+                return inFlight.join();
+            } catch (CompletionException e) {
+                throw new ValueRetrievalException(key, valueLoader, e.getCause());
+            } catch (CancellationException e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+        }
+
+        loads.increment();
+        Long startVersion = versions.get(key);
+        try {
+            Object value = valueLoader.call();
+            putIfNotInvalidated(key, value, startVersion);
+            future.complete(value);
+            return value;
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            finishLoading(key, future);
+        }
+    }
+
+    /**
+     * 이전 값을 반환하는 동안 백그라운드에서 값을 갱신합니다. 같은 키의 적재가 진행 중이면 건너뜁니다.
+     *
+     * @return 대기열이 가득 차서 갱신을 시작하지 못했으면 false
+     */
+    private boolean refreshAsync(Object key, Callable<?> valueLoader) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        if (loading.putIfAbsent(key, future) != null) {
+            return true;
+        }
+
+        Long startVersion = versions.get(key);
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    Object value = valueLoader.call();
+                    putIfNotInvalidated(key, value, startVersion);
+                    refreshes.increment();
+                    future.complete(value);
+                } catch (Throwable e) {
+                    log.warn("Failed to refresh cache {} for key {}", name, key, e);
+                    future.completeExceptionally(e);
+                } finally {
+                    finishLoading(key, future);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.debug("Refresh queue full, skipping refresh of cache {} for key {}", name, key);
+            finishLoading(key, future);
+            future.cancel(false);
+            return false;
+        }
+    }
+
+    /**
+     * 적재 중인 키를 무효화합니다. 적재 중이 아니면 이후에 시작하는 적재가 무효화 이후의 값을 읽으므로 기록하지 않습니다.
+     */
+    private void invalidate(Object key) {
+        if (loading.containsKey(key)) {
+            versions.put(key, nextVersion.incrementAndGet());
+        }
+    }
+
+    private void putIfNotInvalidated(Object key, Object value, Long startVersion) {
+        if (!Objects.equals(versions.get(key), startVersion)) {
+            return;
+        }
+        if (value == null) {
+            put(key, null);
+            return;
+        }
+        Entry entry = new Entry(value, clock.getAsLong());
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+        // 저장한 뒤에 다시 확인해야, 확인과 저장 사이에 무효화된 값이 남지 않습니다.
+        if (!Objects.equals(versions.get(key), startVersion)) {
+            synchronized (entries) {
+                entries.remove(key, entry);
+            }
+        }
+    }
+
+    /**
+     * 적재를 끝내고 무효화 버전을 지웁니다. 같은 키의 다음 적재가 버전을 읽기 전에 지우도록 적재 표시보다 먼저 지웁니다.
+     */
+    private void finishLoading(Object key, CompletableFuture<Object> future) {
+        versions.remove(key);
+        loading.remove(key, future);
+    }
+
+    private Entry entry(Object key) {
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    private long age(Entry entry) {
+        return clock.getAsLong() - entry.loadedAt();
+    }
+
+    private Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("notice.cache.requests")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter loadCounter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("notice.cache.loads")
+                .tag("cache", name)
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    private record Entry(Object value, long loadedAt) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.pji.noticeboard.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * notice.cache.refreshing에 설정된 이름으로 RefreshingCache를 만드는 CacheManager입니다.
+ * 백그라운드 갱신은 작은 전용 스레드 풀에서 실행되며, 대기열이 가득 차면 갱신을 건너뛰고 기존 값을 계속 사용합니다.
+ */
+public class RefreshingCacheManager extends AbstractTransactionSupportingCacheManager implements DisposableBean {
+
+    private final RefreshingCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor refreshExecutor;
+
+    public RefreshingCacheManager(RefreshingCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.refreshExecutor = new ThreadPoolExecutor(
+                properties.getRefreshThreads(), properties.getRefreshThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(100),
+                new CustomizableThreadFactory("cache-refresh-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return properties.getRefreshing().entrySet().stream()
+                .map(entry -> new RefreshingCache(entry.getKey(), entry.getValue(), refreshExecutor,
+                        meterRegistry, System::currentTimeMillis))
+                .toList();
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+}
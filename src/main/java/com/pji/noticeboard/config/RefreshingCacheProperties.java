@@ -0,0 +1,88 @@
+package com.pji.noticeboard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "notice.cache")
+public class RefreshingCacheProperties {
+
+    /**
+     * 캐시 이름별 RefreshingCache 설정입니다.
+     */
+    private Map<String, Spec> refreshing = new LinkedHashMap<>();
+
+    private int refreshThreads = 2;
+
+    public Map<String, Spec> getRefreshing() {
+        return refreshing;
+    }
+
+    public void setRefreshing(Map<String, Spec> refreshing) {
+        this.refreshing = refreshing;
+    }
+
+    public int getRefreshThreads() {
+        return refreshThreads;
+    }
+
+    public void setRefreshThreads(int refreshThreads) {
+        this.refreshThreads = refreshThreads;
+    }
+
+    public static class Spec {
+
+        /**
+         * 적재 후 이 시간이 지나면 값을 반환하면서 백그라운드에서 미리 갱신합니다.
+         */
+        private Duration refreshAfter = Duration.ofSeconds(20);
+
+        /**
+         * 값의 유효 기간입니다.
+         */
+        private Duration ttl = Duration.ofSeconds(30);
+
+        /**
+         * 유효 기간이 지난 뒤에도 이 시간 동안은 이전 값을 반환하면서 백그라운드에서 갱신합니다.
+         */
+        private Duration staleFor = Duration.ofSeconds(30);
+
+        private int maxEntries = 1000;
+
+        public Duration getRefreshAfter() {
+            return refreshAfter;
+        }
+
+        public void setRefreshAfter(Duration refreshAfter) {
+            this.refreshAfter = refreshAfter;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public Duration getStaleFor() {
+            return staleFor;
+        }
+
+        public void setStaleFor(Duration staleFor) {
+            this.staleFor = staleFor;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+    }
+}
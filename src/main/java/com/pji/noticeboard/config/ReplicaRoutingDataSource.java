@@ -0,0 +1,172 @@
+package com.pji.noticeboard.config;
+
+import com.pji.noticeboard.event.NoticeChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.WebUtils;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 그 외의 작업은 기본 DB로 보내는 라우팅 DataSource입니다.
+ *
+ * 트랜잭션의 읽기 전용 여부는 연결을 얻은 뒤에 정해지므로 LazyConnectionDataSourceProxy로 감싸 첫 쿼리 시점에 대상을 고릅니다.
+ * 공지사항을 변경한 요청에는 변경 시각을 담은 고정 쿠키를 내려주고, 그 쿠키를 보낸 요청은 stickyWindow 동안 기본 DB에서 읽어 자신의 변경을 바로 볼 수 있습니다.
+ * 공지사항 API는 대부분 익명으로 호출되므로 로그인 이름 대신 쿠키로 호출자를 구분합니다.
+ * 노드에 상태를 두지 않고 쿠키만으로 판단하므로, 로드 밸런서가 다음 읽기를 다른 노드로 보내도 기본 DB에서 읽습니다.
+ * 복제 지연이 maxLag을 넘은 복제본은 다음 검사에서 회복될 때까지 제외됩니다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+    static final String STICKY_COOKIE = "NOTICE_RW";
+
+    private static final String STICKY_ATTRIBUTE = ReplicaRoutingDataSource.class.getName() + ".STICKY";
+
+    private final Map<String, DataSource> replicas = new LinkedHashMap<>();
+    private final ReplicaRoutingProperties properties;
+
+    private final Set<String> laggingReplicas = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, ReplicaRoutingProperties properties) {
+        this.properties = properties;
+        for (int i = 0; i < replicas.size(); i++) {
+            this.replicas.put("replica-" + i, replicas.get(i));
+        }
+
+        Map<Object, Object> targets = new HashMap<>(this.replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || isSticky(currentWrittenAt())) {
+            return PRIMARY;
+        }
+
+        List<String> available = replicas.keySet().stream()
+                .filter(key -> !laggingReplicas.contains(key))
+                .toList();
+        if (available.isEmpty()) {
+            return PRIMARY;
+        }
+        return available.get(Math.floorMod(nextReplica.getAndIncrement(), available.size()));
+    }
+
+    /**
+     * 공지사항을 변경한 요청에 변경 시각을 담은 고정 쿠키를 내려주어 같은 호출자의 이후 읽기를 stickyWindow 동안 기본 DB로 고정합니다.
+     * 쿠키의 Max-Age도 stickyWindow이므로 기간이 지나면 브라우저가 쿠키를 보내지 않습니다.
+     * 요청 밖(스케줄러 등)에서 발생한 변경은 돌려받을 호출자가 없으므로 고정하지 않습니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+
+        long writtenAt = System.currentTimeMillis();
+        attributes.setAttribute(STICKY_ATTRIBUTE, writtenAt, RequestAttributes.SCOPE_REQUEST);
+
+        HttpServletResponse response = attributes.getResponse();
+        if (response != null && !response.isCommitted()) {
+            Cookie cookie = new Cookie(STICKY_COOKIE, Long.toString(writtenAt));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) properties.getStickyWindow().toSeconds());
+            response.addCookie(cookie);
+        }
+    }
+
+    /**
+     * 복제본마다 lagQuery로 복제 지연을 확인하여, maxLag을 넘거나 응답하지 않는 복제본을 읽기 대상에서 제외합니다.
+     */
+    @Scheduled(fixedDelayString = "${notice.datasource.routing.lag-check-interval:5000}")
+    public void checkReplicaLag() {
+        String lagQuery = properties.getLagQuery();
+        if (!StringUtils.hasText(lagQuery)) {
+            return;
+        }
+
+        replicas.forEach((key, replica) -> {
+            boolean healthy;
+            try {
+                Long lagSeconds = new JdbcTemplate(replica).queryForObject(lagQuery, Long.class);
+                healthy = lagSeconds != null && lagSeconds <= properties.getMaxLag().toSeconds();
+            } catch (DataAccessException e) {
+                log.warn("Failed to check replication lag of {}", key, e);
+                healthy = false;
+            }
+
+            if (healthy && laggingReplicas.remove(key)) {
+                log.info("Replica {} caught up, routing reads to it again", key);
+            } else if (!healthy && laggingReplicas.add(key)) {
+                log.warn("Replica {} is lagging, routing its reads to the primary", key);
+            }
+        });
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    /**
+     * 변경 시각이 stickyWindow 안에 있으면 고정합니다. 쿠키를 만료시키지 않는 클라이언트나 미래 시각으로 바꾼 쿠키는 고정하지 않습니다.
+     */
+    private boolean isSticky(Long writtenAt) {
+        if (writtenAt == null) {
+            return false;
+        }
+        long elapsed = System.currentTimeMillis() - writtenAt;
+        return elapsed >= 0 && elapsed < properties.getStickyWindow().toMillis();
+    }
+
+    /**
+     * 같은 요청에서 이미 변경했으면 그 시각을, 없으면 요청에 실려 온 고정 쿠키의 변경 시각을 반환합니다.
+     */
+    private static Long currentWrittenAt() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return null;
+        }
+        if (attributes.getAttribute(STICKY_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Long writtenAt) {
+            return writtenAt;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        Cookie cookie = WebUtils.getCookie(request, STICKY_COOKIE);
+        if (cookie == null || !StringUtils.hasText(cookie.getValue())) {
+            return null;
+        }
+        try {
+            return Long.parseLong(cookie.getValue());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.pji.noticeboard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "notice.datasource.routing")
+public class ReplicaRoutingProperties {
+
+    private boolean enabled;
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * 공지사항을 변경한 호출자가 이후 이 시간 동안 기본 DB에서 읽도록 고정합니다.
+     */
+    private Duration stickyWindow = Duration.ofSeconds(5);
+
+    /**
+     * 복제 지연이 이 값을 넘는 복제본은 읽기 대상에서 제외합니다.
+     */
+    private Duration maxLag = Duration.ofSeconds(10);
+
+    /**
+     * 복제본에서 실행하여 복제 지연(초)을 반환하는 쿼리입니다. 비어 있으면 지연을 검사하지 않습니다.
+     */
+    private String lagQuery;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public void setReplicas(List<Replica> replicas) {
+        this.replicas = replicas;
+    }
+
+    public Duration getStickyWindow() {
+        return stickyWindow;
+    }
+
+    public void setStickyWindow(Duration stickyWindow) {
+        this.stickyWindow = stickyWindow;
+    }
+
+    public Duration getMaxLag() {
+        return maxLag;
+    }
+
+    public void setMaxLag(Duration maxLag) {
+        this.maxLag = maxLag;
+    }
+
+    public String getLagQuery() {
+        return lagQuery;
+    }
+
+    public void setLagQuery(String lagQuery) {
+        this.lagQuery = lagQuery;
+    }
+
+    public static class Replica {
+
+        private String url;
+        private String username;
+        private String password;
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+    }
+}
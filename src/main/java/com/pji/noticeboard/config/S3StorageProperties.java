@@ -0,0 +1,125 @@
+package com.pji.noticeboard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * file.upload.storage가 s3일 때 사용하는 S3 호환 저장소 설정입니다.
+ * endpoint를 지정하면 MinIO 같은 S3 호환 서버를 사용할 수 있으며, 인증 정보가 없으면 AWS 기본 인증 정보 체인을 사용합니다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "file.upload.s3")
+public class S3StorageProperties {
+
+    private String bucket;
+    private String region = "ap-northeast-2";
+    private String endpoint;
+    private boolean pathStyleAccess;
+    private String accessKey;
+    private String secretKey;
+    private String keyPrefix = "";
+    private DataSize multipartThreshold = DataSize.ofMegabytes(16);
+    private DataSize partSize = DataSize.ofMegabytes(8);
+    private int transferThreads = 4;
+    private boolean presignDownloads = true;
+    private Duration presignTtl = Duration.ofMinutes(10);
+
+    public String getBucket() {
+        return bucket;
+    }
+
+    public void setBucket(String bucket) {
+        this.bucket = bucket;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public boolean isPathStyleAccess() {
+        return pathStyleAccess;
+    }
+
+    public void setPathStyleAccess(boolean pathStyleAccess) {
+        this.pathStyleAccess = pathStyleAccess;
+    }
+
+    public String getAccessKey() {
+        return accessKey;
+    }
+
+    public void setAccessKey(String accessKey) {
+        this.accessKey = accessKey;
+    }
+
+    public String getSecretKey() {
+        return secretKey;
+    }
+
+    public void setSecretKey(String secretKey) {
+        this.secretKey = secretKey;
+    }
+
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    public void setKeyPrefix(String keyPrefix) {
+        this.keyPrefix = keyPrefix;
+    }
+
+    public DataSize getMultipartThreshold() {
+        return multipartThreshold;
+    }
+
+    public void setMultipartThreshold(DataSize multipartThreshold) {
+        this.multipartThreshold = multipartThreshold;
+    }
+
+    public DataSize getPartSize() {
+        return partSize;
+    }
+
+    public void setPartSize(DataSize partSize) {
+        this.partSize = partSize;
+    }
+
+    public int getTransferThreads() {
+        return transferThreads;
+    }
+
+    public void setTransferThreads(int transferThreads) {
+        this.transferThreads = transferThreads;
+    }
+
+    public boolean isPresignDownloads() {
+        return presignDownloads;
+    }
+
+    public void setPresignDownloads(boolean presignDownloads) {
+        this.presignDownloads = presignDownloads;
+    }
+
+    public Duration getPresignTtl() {
+        return presignTtl;
+    }
+
+    public void setPresignTtl(Duration presignTtl) {
+        this.presignTtl = presignTtl;
+    }
+}
@@ -0,0 +1,33 @@
+package com.pji.noticeboard.config;
+
+import com.pji.noticeboard.service.NoticeSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 공지사항 검색 색인 상태를 /actuator/searchindex로 노출합니다.
+ * POST 요청은 백그라운드에서 전체 재색인을 시작합니다.
+ */
+@Component
+@Endpoint(id = "searchindex")
+@RequiredArgsConstructor
+public class SearchIndexEndpoint {
+
+    private final NoticeSearchService noticeSearchService;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return noticeSearchService.getStatus();
+    }
+
+    @WriteOperation
+    public Map<String, Object> rebuild() {
+        noticeSearchService.rebuildInBackground();
+        return noticeSearchService.getStatus();
+    }
+}
@@ -24,6 +24,7 @@ public class SecurityConfig {
                 .authorizeHttpRequests(authorizeRequests ->
                         authorizeRequests
                                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").authenticated()
+                                .requestMatchers("/actuator/attachmentgc/**", "/actuator/searchindex/**").authenticated()
                                 .requestMatchers("/h2-console/**").permitAll()
                                 .anyRequest().permitAll()
                 )
@@ -0,0 +1,28 @@
+package com.pji.noticeboard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "notice.suggest")
+public class SuggestProperties {
+
+    private int batchSize = 5000;
+    private int maxOverlay = 1000;
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxOverlay() {
+        return maxOverlay;
+    }
+
+    public void setMaxOverlay(int maxOverlay) {
+        this.maxOverlay = maxOverlay;
+    }
+}
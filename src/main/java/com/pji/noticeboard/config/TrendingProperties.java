@@ -0,0 +1,45 @@
+package com.pji.noticeboard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "notice.trending")
+public class TrendingProperties {
+
+    /**
+     * 설정할 수 있는 기간별 순위 크기의 상한입니다. 인기 급상승 공지사항 API의 limit 상한으로도 사용합니다.
+     */
+    public static final int MAX_CAPACITY = 100;
+
+    private int capacity = MAX_CAPACITY;
+    private int maxTracked = 500_000;
+    private int persistBatchSize = 500;
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("notice.trending.capacity must be between 1 and " + MAX_CAPACITY);
+        }
+        this.capacity = capacity;
+    }
+
+    public int getMaxTracked() {
+        return maxTracked;
+    }
+
+    public void setMaxTracked(int maxTracked) {
+        this.maxTracked = maxTracked;
+    }
+
+    public int getPersistBatchSize() {
+        return persistBatchSize;
+    }
+
+    public void setPersistBatchSize(int persistBatchSize) {
+        this.persistBatchSize = persistBatchSize;
+    }
+}
@@ -0,0 +1,25 @@
+package com.pji.noticeboard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "notice.view-count")
+public class ViewCountProperties {
+
+    /**
+     * 이 시간 동안 조회되지 않고 반영할 증가분도 없는 카운터는 flush 후 제거합니다.
+     * 제거된 뒤에는 noticeDetail 캐시의 조회수에서 다시 시작하므로 캐시 TTL보다 길어야 합니다.
+     */
+    private Duration idleTimeout = Duration.ofMinutes(30);
+
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public void setIdleTimeout(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+}
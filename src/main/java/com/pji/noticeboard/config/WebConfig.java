@@ -1,7 +1,11 @@
 package com.pji.noticeboard.config;
 
+import com.pji.noticeboard.dto.NoticeCursor;
+import com.pji.noticeboard.service.ImageVariant;
+import com.pji.noticeboard.service.TrendingWindow;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -20,4 +24,11 @@ public class WebConfig implements WebMvcConfigurer {
     public void configureMessageConverters(List<HttpMessageConverter<?>> converters) {
         converters.add(octetStreamReadMsgConverter);
     }
+
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        registry.addConverter(String.class, TrendingWindow.class, TrendingWindow::from);
+        registry.addConverter(String.class, NoticeCursor.SortKey.class, NoticeCursor.SortKey::from);
+        registry.addConverter(String.class, ImageVariant.class, ImageVariant::from);
+    }
 }
@@ -0,0 +1,182 @@
+package com.pji.noticeboard.controller;
+
+import com.pji.noticeboard.dto.AttachmentDto;
+import com.pji.noticeboard.dto.UploadSessionDto;
+import com.pji.noticeboard.entity.Notice;
+import com.pji.noticeboard.exception.ErrorResponse;
+import com.pji.noticeboard.service.ChunkedUploadService;
+import com.pji.noticeboard.service.NoticeService;
+import com.pji.noticeboard.util.FileDownloadUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/notices/{id}/attachments")
+@Tag(name = "Attachment Controller", description = "공지사항 첨부파일 API")
+public class AttachmentController {
+
+    private final NoticeService noticeService;
+    private final ChunkedUploadService chunkedUploadService;
+    private final FileDownloadUtil fileDownloadUtil;
+
+    /**
+     * 요청 본문 전체를 첨부파일 하나로 받아 공지사항에 추가합니다.
+     *
+     * multipart 요청과 달리 서블릿 컨테이너가 파일을 메모리나 임시 파일에 모으지 않고,
+     * 본문을 읽는 즉시 저장 위치에 기록하므로 파일 크기와 관계없이 업로드당 메모리 사용량이 일정합니다.
+     *
+     * @param id 첨부파일을 추가할 공지사항 ID
+     * @param filename 원본 파일 이름 (확장자로 파일 형식을 검사합니다)
+     * @param contentLength 요청 본문 길이
+     * @param body 파일 내용
+     * @return 첨부파일이 추가된 공지사항
+     */
+    @Operation(summary = "첨부파일 스트리밍 업로드", description = "요청 본문을 첨부파일 하나로 저장하여 공지사항에 추가합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "첨부파일이 성공적으로 추가됨", content = @Content(schema = @Schema(implementation = Notice.class))),
+                    @ApiResponse(responseCode = "400", description = "잘못된 파일이거나 첨부파일 개수 초과", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "413", description = "파일 크기 초과", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "500", description = "서버 에러", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    @PostMapping(consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<Notice> uploadAttachment(
+            @PathVariable Long id,
+            @Parameter(description = "원본 파일 이름", example = "report.pdf") @RequestParam String filename,
+            @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false, defaultValue = "-1") long contentLength,
+            InputStream body) {
+
+        Notice notice = noticeService.addAttachment(id, body, filename, contentLength);
+        return ResponseEntity.ok(notice);
+    }
+
+    /**
+     * 공지사항의 첨부파일을 내려받습니다.
+     *
+     * 파일 내용은 힙을 거치지 않고 sendfile(또는 FileChannel.transferTo)로 전송되며,
+     * Range/If-Range로 일부 구간만 받거나 이어받을 수 있고, ETag/Last-Modified로 조건부 요청을 할 수 있습니다.
+     *
+     * @param id 공지사항 ID
+     * @param index 첨부파일 순서 (0부터 시작)
+     */
+    @Operation(summary = "첨부파일 다운로드", description = "공지사항의 n번째(0부터 시작) 첨부파일을 내려받습니다. Range 요청을 지원합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "첨부파일 전체"),
+                    @ApiResponse(responseCode = "206", description = "요청한 구간"),
+                    @ApiResponse(responseCode = "304", description = "변경되지 않음"),
+                    @ApiResponse(responseCode = "404", description = "첨부파일이 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "416", description = "만족할 수 없는 구간")
+            })
+    @GetMapping("/{index}")
+    public void downloadAttachment(@PathVariable Long id, @PathVariable int index,
+                                   HttpServletRequest request, HttpServletResponse response) throws IOException {
+        AttachmentDto attachment = noticeService.getAttachment(id, index);
+        fileDownloadUtil.send(attachment.getPath(), attachment.getFilename(), request, response);
+    }
+
+    /**
+     * 분할 업로드 세션을 시작합니다. 응답의 chunkSize 단위로 파일을 나누어 조각 번호와 함께 올립니다.
+     *
+     * @param id 첨부파일을 추가할 공지사항 ID
+     * @param filename 원본 파일 이름
+     * @param size 전체 파일 크기
+     * @return 업로드 세션 정보
+     */
+    @Operation(summary = "분할 업로드 시작", description = "큰 첨부파일을 여러 조각으로 나누어 올리는 업로드 세션을 시작합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "세션이 시작됨", content = @Content(schema = @Schema(implementation = UploadSessionDto.class))),
+                    @ApiResponse(responseCode = "400", description = "잘못된 파일이거나 첨부파일 개수 초과", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "413", description = "파일 크기 초과", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "429", description = "진행 중인 업로드 세션이 너무 많음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    @PostMapping("/uploads")
+    public ResponseEntity<UploadSessionDto> initiateUpload(
+            @PathVariable Long id,
+            @Parameter(description = "원본 파일 이름", example = "archive.zip") @RequestParam String filename,
+            @Parameter(description = "전체 파일 크기(바이트)") @RequestParam long size) {
+
+        return ResponseEntity.ok(chunkedUploadService.initiate(id, filename, size));
+    }
+
+    /**
+     * 분할 업로드 세션의 진행 상황을 조회합니다. 이어 올릴 때 missingChunks의 조각만 다시 보내면 됩니다.
+     *
+     * @param id 공지사항 ID
+     * @param uploadId 업로드 세션 ID
+     * @return 업로드 세션 정보
+     */
+    @Operation(summary = "분할 업로드 상태 조회", description = "받은 조각과 빠진 조각을 조회합니다.")
+    @GetMapping("/uploads/{uploadId}")
+    public ResponseEntity<UploadSessionDto> getUpload(@PathVariable Long id, @PathVariable String uploadId) {
+        return ResponseEntity.ok(chunkedUploadService.getSession(id, uploadId));
+    }
+
+    /**
+     * 조각 하나를 올립니다. 조각은 순서와 관계없이 동시에 올릴 수 있고, 같은 조각을 다시 올리면 덮어씁니다.
+     *
+     * @param id 공지사항 ID
+     * @param uploadId 업로드 세션 ID
+     * @param index 조각 번호 (0부터 시작)
+     * @param body 조각 내용
+     * @return 업로드 세션 정보
+     */
+    @Operation(summary = "분할 업로드 조각 전송", description = "조각 하나를 요청 본문으로 올립니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조각이 기록됨", content = @Content(schema = @Schema(implementation = UploadSessionDto.class))),
+                    @ApiResponse(responseCode = "400", description = "잘못된 조각 번호 또는 크기", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "업로드 세션이 없거나 만료됨", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "409", description = "완료 요청으로 이미 조립된 세션", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    @PutMapping(value = "/uploads/{uploadId}/chunks/{index}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<UploadSessionDto> uploadChunk(@PathVariable Long id, @PathVariable String uploadId,
+                                                        @PathVariable int index, InputStream body) {
+        return ResponseEntity.ok(chunkedUploadService.uploadChunk(id, uploadId, index, body));
+    }
+
+    /**
+     * 모든 조각을 올린 세션을 마치고 조립된 파일을 공지사항에 첨부합니다.
+     *
+     * @param id 공지사항 ID
+     * @param uploadId 업로드 세션 ID
+     * @return 첨부파일이 추가된 공지사항
+     */
+    @Operation(summary = "분할 업로드 완료", description = "조립된 파일을 공지사항에 첨부합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "첨부파일이 추가됨", content = @Content(schema = @Schema(implementation = Notice.class))),
+                    @ApiResponse(responseCode = "404", description = "업로드 세션이 없거나 만료됨", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "409", description = "받지 못한 조각이 있음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    @PostMapping("/uploads/{uploadId}/complete")
+    public ResponseEntity<Notice> completeUpload(@PathVariable Long id, @PathVariable String uploadId) {
+        return ResponseEntity.ok(chunkedUploadService.complete(id, uploadId));
+    }
+
+    /**
+     * 분할 업로드 세션을 취소합니다.
+     *
+     * @param id 공지사항 ID
+     * @param uploadId 업로드 세션 ID
+     */
+    @Operation(summary = "분할 업로드 취소", description = "업로드 세션과 지금까지 올린 조각을 삭제합니다.")
+    @DeleteMapping("/uploads/{uploadId}")
+    public ResponseEntity<Void> abortUpload(@PathVariable Long id, @PathVariable String uploadId) {
+        chunkedUploadService.abort(id, uploadId);
+        return ResponseEntity.noContent().build();
+    }
+}
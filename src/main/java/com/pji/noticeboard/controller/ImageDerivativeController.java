@@ -0,0 +1,62 @@
+package com.pji.noticeboard.controller;
+
+import com.pji.noticeboard.config.ImageDerivativeProperties;
+import com.pji.noticeboard.exception.ErrorResponse;
+import com.pji.noticeboard.service.ImageDerivativeService;
+import com.pji.noticeboard.service.ImageVariant;
+import com.pji.noticeboard.util.FileDownloadUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/attachments")
+@Tag(name = "Image Derivative Controller", description = "이미지 첨부파일 축소본 API")
+public class ImageDerivativeController {
+
+    private final ImageDerivativeService imageDerivativeService;
+    private final ImageDerivativeProperties imageDerivativeProperties;
+    private final FileDownloadUtil fileDownloadUtil;
+
+    /**
+     * 이미지 첨부파일의 썸네일 또는 미리보기를 내려받습니다.
+     *
+     * 주소에 원본의 해시가 들어 있어 같은 주소의 내용은 바뀌지 않으므로 immutable과 긴 max-age로 응답합니다.
+     * 축소본이 아직 만들어지지 않았으면 404(DERIVATIVE_NOT_READY)를 응답하며, 클라이언트는 원본을 대신 사용할 수 있습니다.
+     *
+     * @param variant 축소본 종류 (thumbnail, preview)
+     * @param filename 첨부파일 경로의 파일 이름 ({해시}.{확장자})
+     */
+    @Operation(summary = "이미지 축소본 다운로드", description = "첨부파일 경로의 파일 이름으로 썸네일(200px) 또는 미리보기(1024px)를 내려받습니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "축소본"),
+                    @ApiResponse(responseCode = "304", description = "변경되지 않음"),
+                    @ApiResponse(responseCode = "404", description = "이미지가 없거나 축소본이 아직 만들어지지 않음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    @GetMapping("/{variant}/{filename:.+}")
+    public void downloadDerivative(
+            @Parameter(description = "축소본 종류", example = "thumbnail") @PathVariable ImageVariant variant,
+            @PathVariable String filename,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+        String path = imageDerivativeService.getDerivativePath(variant, filename);
+        CacheControl cacheControl = CacheControl.maxAge(imageDerivativeProperties.getCacheMaxAge())
+                .cachePublic()
+                .immutable();
+        fileDownloadUtil.sendInline(path, cacheControl, request, response);
+    }
+}
@@ -1,12 +1,22 @@
 package com.pji.noticeboard.controller;
 
+import com.pji.noticeboard.config.LeaderboardProperties;
+import com.pji.noticeboard.config.TrendingProperties;
+import com.pji.noticeboard.dto.ActiveNoticeDto;
+import com.pji.noticeboard.dto.CursorPageDto;
 import com.pji.noticeboard.dto.NoticeCreateDto;
+import com.pji.noticeboard.dto.NoticeCursor;
 import com.pji.noticeboard.dto.NoticeDto;
 import com.pji.noticeboard.dto.NoticeResponseDto;
+import com.pji.noticeboard.dto.NoticeSuggestionDto;
+import com.pji.noticeboard.dto.NoticeSummaryDto;
 import com.pji.noticeboard.dto.NoticeUpdateDto;
+import com.pji.noticeboard.dto.TrendingNoticeDto;
 import com.pji.noticeboard.entity.Notice;
 import com.pji.noticeboard.exception.ErrorResponse;
+import com.pji.noticeboard.service.ActiveNoticeService;
 import com.pji.noticeboard.service.NoticeService;
+import com.pji.noticeboard.service.TrendingWindow;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -15,6 +25,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -136,29 +150,148 @@ public class NoticeController {
                     @ApiResponse(responseCode = "500", description = "서버 에러", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
             })
     @GetMapping
-    public ResponseEntity<Page<NoticeResponseDto>> getAllNotices(
+    public ResponseEntity<Page<NoticeSummaryDto>> getAllNotices(
             @Parameter(description = "페이징 및 정렬 정보. 예시: ?page=0&size=10&sort=createdDate,desc",
                     example = "{\"page\":0,\"size\":10,\"sort\":[\"createdDate,desc\"]}")
             @PageableDefault(size = 10) Pageable pageable) {
-        Page<NoticeResponseDto> notices = noticeService.getAllNotices(pageable);
+        Page<NoticeSummaryDto> notices = noticeService.getAllNotices(pageable);
         return ResponseEntity.ok(notices);
     }
 
     /**
-     * 조회수 상위 5개 공지사항을 조회합니다.
-     * 이 엔드포인트는 조회수가 가장 높은 5개의 공지사항을 반환합니다.
+     * 커서 기반으로 공지사항 목록을 조회합니다.
+     * 전체 개수를 세지 않고 다음 페이지 커서만 반환하므로 깊은 페이지도 첫 페이지와 같은 비용으로 조회됩니다.
+     *
+     * @param after 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 조회할 공지사항 개수 (기본값 10, 최대 100)
+     * @param sort 정렬 기준 (createdDate, viewCount)
+     * @return 공지사항 목록과 다음 페이지 커서
+     */
+    @Operation(summary = "공지사항 커서 목록 조회", description = "커서(after)를 기준으로 다음 공지사항 목록을 조회합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "공지사항 목록 조회 성공", content = @Content(schema = @Schema(implementation = CursorPageDto.class))),
+                    @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "500", description = "서버 에러", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDto<NoticeSummaryDto>> getNoticesByCursor(
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String after,
+            @Parameter(description = "조회할 공지사항 개수", example = "10") @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size,
+            @Parameter(description = "정렬 기준 (createdDate, viewCount)", example = "createdDate", schema = @Schema(type = "string", allowableValues = {"createdDate", "viewCount"}))
+            @RequestParam(defaultValue = "createdDate") NoticeCursor.SortKey sort) {
+        CursorPageDto<NoticeSummaryDto> notices = noticeService.getNoticesByCursor(after, size, sort);
+        return ResponseEntity.ok(notices);
+    }
+
+    /**
+     * 제목과 본문으로 공지사항을 검색합니다.
+     * 검색어의 단어마다 그 단어를 두 글자 단위로 나눈 조각의 절반 이상을 포함하는 공지사항을 BM25 관련도 순으로 반환합니다.
+     * 단어 전체가 일치하지 않아도 찾으므로 조사가 붙은 단어도 검색되며, 더 많은 조각이 일치한 공지사항이 앞에 옵니다.
+     *
+     * @param q 검색어 (최대 100자)
+     * @param size 조회할 공지사항 개수 (기본값 10, 최대 100)
+     * @return 관련도 순으로 정렬된 공지사항 목록
+     */
+    @Operation(summary = "공지사항 검색", description = "제목과 본문에 검색어의 단어마다 두 글자 단위 조각의 절반 이상이 포함된 공지사항을 관련도 순으로 조회합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "공지사항 검색 성공", content = @Content(array = @ArraySchema(schema = @Schema(implementation = NoticeSummaryDto.class)))),
+                    @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "503", description = "검색 색인 준비 중", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    @GetMapping("/search")
+    public ResponseEntity<List<NoticeSummaryDto>> searchNotices(
+            @Parameter(description = "검색어", example = "공지사항") @RequestParam @NotBlank @Size(max = 100) String q,
+            @Parameter(description = "조회할 공지사항 개수", example = "10") @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size) {
+        List<NoticeSummaryDto> notices = noticeService.searchNotices(q, size);
+        return ResponseEntity.ok(notices);
+    }
+
+    /**
+     * 입력 중인 접두어로 시작하는 공지사항 제목을 추천합니다.
+     * 한글은 자모 단위로 비교하므로 조합 중인 글자("공ㅈ")로도 추천받을 수 있습니다.
+     *
+     * @param prefix 입력 중인 접두어 (최대 50자)
+     * @param size 추천할 제목 개수 (기본값 10, 최대 20)
+     * @return 조회수 순으로 정렬된 제목 목록
+     */
+    @Operation(summary = "공지사항 제목 자동완성", description = "입력 중인 접두어로 시작하는 공지사항 제목을 조회수 순으로 추천합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "제목 추천 성공", content = @Content(array = @ArraySchema(schema = @Schema(implementation = NoticeSuggestionDto.class)))),
+                    @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    @GetMapping("/suggest")
+    public ResponseEntity<List<NoticeSuggestionDto>> suggestTitles(
+            @Parameter(description = "입력 중인 접두어", example = "공지") @RequestParam @NotBlank @Size(max = 50) String prefix,
+            @Parameter(description = "추천할 제목 개수", example = "10") @RequestParam(defaultValue = "10") @Min(1) @Max(20) int size) {
+        List<NoticeSuggestionDto> suggestions = noticeService.suggestTitles(prefix, size);
+        return ResponseEntity.ok(suggestions);
+    }
+
+    /**
+     * 조회수 상위 공지사항을 조회합니다.
+     * 이 엔드포인트는 조회수가 가장 높은 공지사항을 limit 개수만큼 반환합니다.
      * 공지사항은 조회수 기준으로 내림차순 정렬되어 반환됩니다.
+     * limit이 리더보드 크기보다 크면 400을 반환합니다.
      *
-     * @return 조회수 상위 5개 공지사항 목록
+     * @param limit 조회할 공지사항 개수 (기본값 5, 최대 리더보드 크기)
+     * @return 조회수 상위 공지사항 목록
      */
-    @Operation(summary = "조회수 상위 5개 공지사항 조회", description = "조회수가 가장 높은 5개의 공지사항을 조회합니다.",
+    @Operation(summary = "조회수 상위 공지사항 조회", description = "조회수가 가장 높은 공지사항을 limit 개수만큼 조회합니다.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "조회수 상위 공지사항 목록 조회 성공", content = @Content(array = @ArraySchema(schema = @Schema(implementation = NoticeResponseDto.class)))),
+                    @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
                     @ApiResponse(responseCode = "500", description = "서버 에러", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
             })
     @GetMapping("/top")
-    public ResponseEntity<List<NoticeResponseDto>> getTopNotices() {
-        List<NoticeResponseDto> topNotices = noticeService.getTopNotices();
+    public ResponseEntity<List<NoticeResponseDto>> getTopNotices(
+            @Parameter(description = "조회할 공지사항 개수", example = "5")
+            @RequestParam(defaultValue = "5") @Min(1) @Max(LeaderboardProperties.MAX_CAPACITY) int limit) {
+        List<NoticeResponseDto> topNotices = noticeService.getTopNotices(limit);
         return ResponseEntity.ok(topNotices);
     }
+
+    /**
+     * 현재 게시 기간 중인 공지사항을 조회합니다.
+     * 시작 일시가 지났고 종료 일시가 지나지 않은 공지사항을 최근에 게시가 시작된 순으로 반환합니다.
+     *
+     * @param limit 조회할 공지사항 개수 (기본값 100, 최대 100)
+     * @return 게시 중인 공지사항 목록
+     */
+    @Operation(summary = "게시 중인 공지사항 조회", description = "현재 게시 기간 중인 공지사항을 최근 게시 시작 순으로 조회합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "게시 중인 공지사항 목록 조회 성공", content = @Content(array = @ArraySchema(schema = @Schema(implementation = ActiveNoticeDto.class)))),
+                    @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    @GetMapping("/active")
+    public ResponseEntity<List<ActiveNoticeDto>> getActiveNotices(
+            @Parameter(description = "조회할 공지사항 개수", example = "100")
+            @RequestParam(defaultValue = "100") @Min(1) @Max(ActiveNoticeService.MAX_LIMIT) int limit) {
+        List<ActiveNoticeDto> activeNotices = noticeService.getActiveNotices(limit);
+        return ResponseEntity.ok(activeNotices);
+    }
+
+    /**
+     * 기간별 인기 급상승 공지사항을 조회합니다.
+     * 누적 조회수가 아닌 최근 1시간, 24시간, 7일 동안의 조회수를 기준으로 정렬하여 반환합니다.
+     * limit이 기간별 순위 크기보다 크면 400을 반환합니다.
+     *
+     * @param window 집계 기간 (1h, 24h, 7d)
+     * @param limit 조회할 공지사항 개수 (기본값 10, 최대 기간별 순위 크기)
+     * @return 인기 급상승 공지사항 목록
+     */
+    @Operation(summary = "인기 급상승 공지사항 조회", description = "최근 1시간, 24시간, 7일 동안 조회수가 높은 공지사항을 조회합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "인기 급상승 공지사항 목록 조회 성공", content = @Content(array = @ArraySchema(schema = @Schema(implementation = TrendingNoticeDto.class)))),
+                    @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "500", description = "서버 에러", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingNoticeDto>> getTrendingNotices(
+            @Parameter(description = "집계 기간 (1h, 24h, 7d)", example = "24h", schema = @Schema(type = "string", allowableValues = {"1h", "24h", "7d"}))
+            @RequestParam(defaultValue = "24h") TrendingWindow window,
+            @Parameter(description = "조회할 공지사항 개수", example = "10")
+            @RequestParam(defaultValue = "10") @Min(1) @Max(TrendingProperties.MAX_CAPACITY) int limit) {
+        List<TrendingNoticeDto> trendingNotices = noticeService.getTrendingNotices(window, limit);
+        return ResponseEntity.ok(trendingNotices);
+    }
 }
@@ -0,0 +1,21 @@
+package com.pji.noticeboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시 기간 중인 공지사항입니다. 시작 일시가 없으면 등록 즉시, 종료 일시가 없으면 삭제될 때까지 게시 중입니다.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class ActiveNoticeDto {
+    private Long id;
+    private String title;
+    private String author;
+    private LocalDateTime startDateTime;
+    private LocalDateTime endDateTime;
+}
@@ -0,0 +1,16 @@
+package com.pji.noticeboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 내려받을 첨부파일의 저장 경로와 업로드한 원본 파일 이름입니다.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class AttachmentDto {
+    private String path;
+    private String filename;
+}
@@ -0,0 +1,96 @@
+package com.pji.noticeboard.dto;
+
+import com.pji.noticeboard.exception.InvalidNoticeException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 커서 기반 목록 조회에서 마지막으로 반환한 공지사항의 위치를 나타냅니다.
+ * 정렬 기준 값과 ID를 Base64(URL-safe)로 인코딩한 불투명 문자열로 클라이언트에 전달됩니다.
+ */
+@Getter
+public class NoticeCursor {
+
+    private static final String SEPARATOR = "|";
+
+    public enum SortKey {
+        CREATED_DATE("createdDate"),
+        VIEW_COUNT("viewCount");
+
+        private final String label;
+
+        SortKey(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public static SortKey from(String value) {
+            return Arrays.stream(values())
+                    .filter(key -> key.label.equalsIgnoreCase(value) || key.name().equalsIgnoreCase(value))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unsupported sort key: " + value));
+        }
+    }
+
+    private final SortKey sortKey;
+    private final LocalDateTime createdDate;
+    private final int viewCount;
+    private final Long id;
+
+    private NoticeCursor(SortKey sortKey, LocalDateTime createdDate, int viewCount, Long id) {
+        this.sortKey = sortKey;
+        this.createdDate = createdDate;
+        this.viewCount = viewCount;
+        this.id = id;
+    }
+
+    public static NoticeCursor ofCreatedDate(LocalDateTime createdDate, Long id) {
+        return new NoticeCursor(SortKey.CREATED_DATE, createdDate, 0, id);
+    }
+
+    public static NoticeCursor ofViewCount(int viewCount, Long id) {
+        return new NoticeCursor(SortKey.VIEW_COUNT, null, viewCount, id);
+    }
+
+    /**
+     * 커서를 불투명 문자열로 인코딩합니다.
+     *
+     * @return 인코딩된 커서
+     */
+    public String encode() {
+        String value = sortKey == SortKey.CREATED_DATE ? createdDate.toString() : String.valueOf(viewCount);
+        String raw = sortKey.getLabel() + SEPARATOR + value + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 인코딩된 커서를 해석합니다.
+     *
+     * @param encoded 인코딩된 커서
+     * @return 커서
+     * @throws InvalidNoticeException 커서 형식이 올바르지 않은 경우
+     */
+    public static NoticeCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            SortKey sortKey = SortKey.from(parts[0]);
+            Long id = Long.valueOf(parts[2]);
+            return sortKey == SortKey.CREATED_DATE
+                    ? ofCreatedDate(LocalDateTime.parse(parts[1]), id)
+                    : ofViewCount(Integer.parseInt(parts[1]), id);
+        } catch (RuntimeException e) {
+            throw new InvalidNoticeException("Invalid cursor: " + encoded);
+        }
+    }
+}
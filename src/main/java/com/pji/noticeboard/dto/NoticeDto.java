@@ -6,10 +6,11 @@ import lombok.Setter;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 public class NoticeDto {
 
     private Long id;
@@ -18,6 +19,7 @@ public class NoticeDto {
     private LocalDateTime startDateTime;
     private LocalDateTime endDateTime;
     private List<String> attachmentPaths;
+    private Map<String, String> attachmentNames;
     private LocalDateTime createdDate;
     private int viewCount;
     private String author;
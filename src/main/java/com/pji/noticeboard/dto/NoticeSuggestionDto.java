@@ -0,0 +1,17 @@
+package com.pji.noticeboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 제목 자동완성 결과입니다. 조회수가 높은 제목이 먼저 추천됩니다.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class NoticeSuggestionDto {
+    private Long id;
+    private String title;
+    private int viewCount;
+}
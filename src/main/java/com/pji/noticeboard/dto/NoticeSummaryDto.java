@@ -0,0 +1,26 @@
+package com.pji.noticeboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 조회용 공지사항 요약입니다.
+ * 본문은 DB에서 PREVIEW_LENGTH 글자까지만 잘라서 가져오며, 첨부파일 목록은 포함하지 않습니다.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class NoticeSummaryDto {
+
+    public static final int PREVIEW_LENGTH = 100;
+
+    private Long id;
+    private String title;
+    private String contentPreview;
+    private LocalDateTime createdDate;
+    private int viewCount;
+    private String author;
+}
@@ -0,0 +1,19 @@
+package com.pji.noticeboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class TrendingNoticeDto {
+    private Long id;
+    private String title;
+    private LocalDateTime createdDate;
+    private int viewCount;
+    private long recentViewCount;
+    private String author;
+}
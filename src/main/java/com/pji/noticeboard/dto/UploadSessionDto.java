@@ -0,0 +1,23 @@
+package com.pji.noticeboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class UploadSessionDto {
+    private String uploadId;
+    private Long noticeId;
+    private String filename;
+    private long size;
+    private long chunkSize;
+    private int totalChunks;
+    private int receivedChunks;
+    private List<Integer> missingChunks;
+    private LocalDateTime expiresAt;
+}
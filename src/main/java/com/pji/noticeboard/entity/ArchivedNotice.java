@@ -0,0 +1,62 @@
+package com.pji.noticeboard.entity;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapKeyColumn;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시 종료 후 보관 기간이 지나 notice 테이블에서 옮겨진 공지사항입니다.
+ * NoticeArchiver가 INSERT ... SELECT로 행을 옮기므로 ID는 원래 공지사항의 ID를 그대로 사용합니다.
+ */
+@Entity
+@Table(name = "notice_archive")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedNotice {
+
+    @Id
+    private Long id;
+
+    private String title;
+    private String content;
+    private LocalDateTime startDateTime;
+    private LocalDateTime endDateTime;
+
+    @ElementCollection
+    @CollectionTable(name = "notice_archive_attachment_paths",
+            joinColumns = @JoinColumn(name = "notice_id"),
+            indexes = @Index(name = "idx_notice_archive_attachment_paths_path", columnList = "attachment_paths"))
+    private List<String> attachmentPaths;
+
+    @ElementCollection
+    @CollectionTable(name = "notice_archive_attachment_names", joinColumns = @JoinColumn(name = "notice_id"))
+    @MapKeyColumn(name = "attachment_path")
+    @Column(name = "original_filename")
+    private Map<String, String> attachmentNames;
+
+    private LocalDateTime createdDate;
+    private LocalDateTime modifiedDate;
+    private int viewCount;
+    private String author;
+
+    /**
+     * 보관 테이블로 옮겨진 시각입니다.
+     */
+    private LocalDateTime archivedDate;
+}
@@ -0,0 +1,60 @@
+package com.pji.noticeboard.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이미지 첨부파일의 축소본 생성 작업입니다.
+ *
+ * 작업은 DB에 보관되므로 재시작 후에도 이어서 처리됩니다.
+ * 작업자는 availableAt이 지난 작업을 RUNNING으로 바꾸며 availableAt을 임대 만료 시각으로 미루고,
+ * 처리 중에 서버가 종료되어 임대가 만료된 RUNNING 작업은 다시 가져갈 수 있습니다.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_image_derivative_job_status_available_at", columnList = "status, available_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class ImageDerivativeJob {
+
+    public enum Status {
+        PENDING,
+        RUNNING,
+        DONE,
+        FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String sourcePath;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public ImageDerivativeJob(String sourcePath, LocalDateTime now) {
+        this.sourcePath = sourcePath;
+        this.status = Status.PENDING;
+        this.availableAt = now;
+        this.createdAt = now;
+        this.updatedAt = now;
+    }
+}
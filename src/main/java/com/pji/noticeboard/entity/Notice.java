@@ -4,11 +4,19 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_notice_created_date_id", columnList = "created_date, id"),
+        @Index(name = "idx_notice_view_count_id", columnList = "view_count, id"),
+        @Index(name = "idx_notice_modified_date_id", columnList = "modified_date, id"),
+        @Index(name = "idx_notice_end_date_time", columnList = "end_date_time")
+})
 @Getter
 @Setter
 @Builder(toBuilder = true)
@@ -24,23 +32,50 @@ public class Notice {
     private LocalDateTime endDateTime;
 
     @ElementCollection
+    @CollectionTable(name = "notice_attachment_paths",
+            indexes = @Index(name = "idx_notice_attachment_paths_path", columnList = "attachment_paths"))
+    @BatchSize(size = 100)
     private List<String> attachmentPaths;
 
+    /**
+     * 첨부파일 경로별 업로드한 원본 파일 이름입니다. 경로는 내용의 해시이므로 내려받을 때 이 이름을 Content-Disposition에 사용합니다.
+     * 같은 내용을 다른 이름으로 다시 첨부하면 마지막 이름이 남습니다.
+     */
+    @ElementCollection
+    @CollectionTable(name = "notice_attachment_names", joinColumns = @JoinColumn(name = "notice_id"))
+    @MapKeyColumn(name = "attachment_path")
+    @Column(name = "original_filename")
+    @BatchSize(size = 100)
+    private Map<String, String> attachmentNames;
+
     private LocalDateTime createdDate;
+
+    /**
+     * 제목이나 본문이 마지막으로 바뀐 시각입니다. 검색 색인이 다른 서버의 변경을 따라잡을 때 사용합니다.
+     */
+    private LocalDateTime modifiedDate;
+
+    /**
+     * 조회수는 ViewCountService가 증가분만 UPDATE 문으로 반영합니다.
+     * 엔티티를 저장할 때 읽어 둔 조회수로 덮어쓰지 않도록 UPDATE 대상에서 제외합니다.
+     */
+    @Column(updatable = false)
     private int viewCount;
     private String author;
 
     public Notice() {}
 
     public Notice(Long id, String title, String content, LocalDateTime startDateTime, LocalDateTime endDateTime,
-                  List<String> attachmentPaths, LocalDateTime createdDate, int viewCount, String author) {
+                  List<String> attachmentPaths, Map<String, String> attachmentNames, LocalDateTime createdDate, LocalDateTime modifiedDate, int viewCount, String author) {
         this.id = id;
         this.title = title;
         this.content = content;
         this.startDateTime = startDateTime;
         this.endDateTime = endDateTime;
         this.attachmentPaths = attachmentPaths;
+        this.attachmentNames = attachmentNames;
         this.createdDate = createdDate != null ? createdDate : LocalDateTime.now();
+        this.modifiedDate = modifiedDate != null ? modifiedDate : this.createdDate;
         this.viewCount = viewCount;
         this.author = author;
     }
@@ -0,0 +1,31 @@
+package com.pji.noticeboard.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공지사항별 기간 조회수 버킷의 스냅샷입니다.
+ * 재시작 후에도 인기 급상승 집계가 초기화되지 않도록 주기적으로 저장합니다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NoticeTrend {
+
+    @Id
+    private Long noticeId;
+
+    @Column(length = 512)
+    private byte[] buckets;
+
+    private LocalDateTime updatedAt;
+}
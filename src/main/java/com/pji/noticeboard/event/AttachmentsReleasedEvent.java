@@ -0,0 +1,17 @@
+package com.pji.noticeboard.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 공지사항이 삭제되거나 첨부파일이 교체되어 더 이상 해당 공지사항이 참조하지 않는 첨부파일 경로를 알리는 이벤트입니다.
+ * 같은 내용의 파일을 다른 공지사항이 공유할 수 있으므로, 리스너는 참조 수를 확인한 뒤에만 파일을 삭제해야 합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class AttachmentsReleasedEvent {
+
+    private final List<String> paths;
+}
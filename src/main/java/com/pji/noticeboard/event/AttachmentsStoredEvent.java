@@ -0,0 +1,17 @@
+package com.pji.noticeboard.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 새로 저장된 첨부파일이 공지사항에 연결되었음을 알리는 이벤트입니다.
+ * 리스너는 커밋 이후에 실행되므로 공지사항 저장에 실패한 첨부파일은 전달되지 않습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class AttachmentsStoredEvent {
+
+    private final List<String> paths;
+}
@@ -0,0 +1,37 @@
+package com.pji.noticeboard.event;
+
+import com.pji.noticeboard.entity.Notice;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 공지사항이 등록, 수정, 삭제되었거나 보관 테이블로 옮겨졌을 때 발행되는 이벤트입니다.
+ * NoticeArchiver는 옮긴 공지사항이 메모리 색인과 순위에서 빠지도록 ID만 채운 공지사항으로 ARCHIVED를 발행합니다.
+ * 보관된 공지사항은 같은 ID로 계속 조회되고 조회수도 보관 테이블에 반영되므로, 조회수처럼 공지사항이 남아 있는 동안 유지해야 하는 상태는 DELETED에서만 정리합니다.
+ * 리스너는 트랜잭션 커밋 이후에 실행되므로 지연 로딩 대상이 아닌 필드만 사용해야 합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class NoticeChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        ARCHIVED
+    }
+
+    private final Type type;
+    private final Notice notice;
+
+    /**
+     * 공지사항이 notice 테이블에서 빠졌는지 여부입니다. 삭제와 보관 모두 해당합니다.
+     */
+    public boolean isRemoval() {
+        return type == Type.DELETED || type == Type.ARCHIVED;
+    }
+
+    public Long getNoticeId() {
+        return notice.getId();
+    }
+}
@@ -0,0 +1,21 @@
+package com.pji.noticeboard.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 공지사항의 게시 시작 일시나 종료 일시가 되었을 때 발행되는 이벤트입니다.
+ * NoticeLifecycleScheduler의 틱 스레드에서 트랜잭션 없이 발행됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class NoticeScheduleEvent {
+
+    public enum Type {
+        ACTIVATED,
+        EXPIRED
+    }
+
+    private final Type type;
+    private final Long noticeId;
+}
@@ -14,7 +14,16 @@ public enum ErrorCode {
     NOTICE_DELETION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to delete notice"),
     SAVE_FILE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to save file"),
     INVALID_FILE_PROVIDED(HttpStatus.BAD_REQUEST, "Invalid file provided"),
-    MAX_FILE_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "Max file limit exceeded");
+    MAX_FILE_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "Max file limit exceeded"),
+    FILE_SIZE_LIMIT_EXCEEDED(HttpStatus.PAYLOAD_TOO_LARGE, "File size limit exceeded"),
+    ATTACHMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "Attachment not found"),
+    UPLOAD_SESSION_NOT_FOUND(HttpStatus.NOT_FOUND, "Upload session not found"),
+    UPLOAD_SESSION_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "Too many upload sessions"),
+    UPLOAD_INCOMPLETE(HttpStatus.CONFLICT, "Upload is incomplete"),
+    UPLOAD_ALREADY_ASSEMBLED(HttpStatus.CONFLICT, "Upload is already assembled"),
+    DERIVATIVE_NOT_READY(HttpStatus.NOT_FOUND, "Derivative is not ready"),
+    SEARCH_INDEX_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "Search index is not ready"),
+    UPLOAD_BUFFER_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "Upload buffers are exhausted");
 
     private final HttpStatus status;
     private final String message;
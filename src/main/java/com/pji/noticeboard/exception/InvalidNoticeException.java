@@ -9,6 +9,11 @@ public class InvalidNoticeException extends RuntimeException {
         this.errorCode = ErrorCode.INVALID_PARAMETER;
     }
 
+    public InvalidNoticeException(String message, ErrorCode errorCode) {
+        super(message);
+        this.errorCode = errorCode;
+    }
+
     public ErrorCode getErrorCode() {
         return errorCode;
     }
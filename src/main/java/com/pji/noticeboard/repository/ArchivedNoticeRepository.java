@@ -0,0 +1,57 @@
+package com.pji.noticeboard.repository;
+
+import com.pji.noticeboard.entity.ArchivedNotice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+public interface ArchivedNoticeRepository extends JpaRepository<ArchivedNotice, Long> {
+
+    @EntityGraph(attributePaths = "attachmentPaths")
+    Optional<ArchivedNotice> findWithAttachmentsById(Long id);
+
+    @Query("SELECT COUNT(a) FROM ArchivedNotice a JOIN a.attachmentPaths p WHERE p = :path")
+    long countByAttachmentPath(String path);
+
+    /**
+     * notice 테이블의 공지사항 행을 보관 테이블로 복사합니다.
+     *
+     * @param ids 옮길 공지사항 ID
+     * @param archivedDate 보관 시각
+     * @return 복사된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO notice_archive (id, title, content, start_date_time, end_date_time, created_date, " +
+            "modified_date, view_count, author, archived_date) " +
+            "SELECT id, title, content, start_date_time, end_date_time, created_date, modified_date, view_count, author, :archivedDate " +
+            "FROM notice WHERE id IN (:ids)", nativeQuery = true)
+    int copyFromNotices(Collection<Long> ids, LocalDateTime archivedDate);
+
+    /**
+     * 공지사항의 첨부파일 경로 행을 보관 테이블로 복사합니다.
+     *
+     * @param ids 옮길 공지사항 ID
+     * @return 복사된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO notice_archive_attachment_paths (notice_id, attachment_paths) " +
+            "SELECT notice_id, attachment_paths FROM notice_attachment_paths WHERE notice_id IN (:ids)", nativeQuery = true)
+    int copyAttachmentPathsFromNotices(Collection<Long> ids);
+
+    /**
+     * 공지사항의 첨부파일 원본 이름 행을 보관 테이블로 복사합니다.
+     *
+     * @param ids 옮길 공지사항 ID
+     * @return 복사된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO notice_archive_attachment_names (notice_id, attachment_path, original_filename) " +
+            "SELECT notice_id, attachment_path, original_filename FROM notice_attachment_names WHERE notice_id IN (:ids)",
+            nativeQuery = true)
+    int copyAttachmentNamesFromNotices(Collection<Long> ids);
+}
@@ -0,0 +1,36 @@
+package com.pji.noticeboard.repository;
+
+import com.pji.noticeboard.entity.ImageDerivativeJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ImageDerivativeJobRepository extends JpaRepository<ImageDerivativeJob, Long> {
+
+    Optional<ImageDerivativeJob> findBySourcePath(String sourcePath);
+
+    @Query("SELECT j FROM ImageDerivativeJob j WHERE j.status IN :statuses AND j.availableAt <= :now ORDER BY j.availableAt, j.id")
+    List<ImageDerivativeJob> findAvailable(Collection<ImageDerivativeJob.Status> statuses, LocalDateTime now, Pageable pageable);
+
+    /**
+     * 조회한 뒤 다른 작업자가 먼저 가져가지 않았을 때만 작업을 RUNNING으로 바꿉니다.
+     *
+     * @return 가져간 작업 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("UPDATE ImageDerivativeJob j SET j.status = :running, j.availableAt = :leaseUntil, j.attempts = j.attempts + 1, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.status = :status AND j.availableAt = :availableAt")
+    int claim(Long id, ImageDerivativeJob.Status status, LocalDateTime availableAt,
+              ImageDerivativeJob.Status running, LocalDateTime leaseUntil, LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE ImageDerivativeJob j SET j.status = :status, j.availableAt = :availableAt, j.lastError = :lastError, j.updatedAt = :now " +
+            "WHERE j.id = :id")
+    int finish(Long id, ImageDerivativeJob.Status status, LocalDateTime availableAt, String lastError, LocalDateTime now);
+}
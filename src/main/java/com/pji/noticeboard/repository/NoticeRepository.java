@@ -1,23 +1,115 @@
 package com.pji.noticeboard.repository;
 
+import com.pji.noticeboard.dto.ActiveNoticeDto;
+import com.pji.noticeboard.dto.NoticeSuggestionDto;
+import com.pji.noticeboard.dto.NoticeSummaryDto;
 import com.pji.noticeboard.entity.Notice;
 import io.micrometer.common.lang.NonNull;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface NoticeRepository extends JpaRepository<Notice, Long> {
 
-    @Query("SELECT n FROM Notice n ORDER BY n.viewCount DESC")
-    List<Notice> findTop5ByOrderByViewCountDesc(Pageable pageable);
+    String SUMMARY_SELECT = "SELECT new com.pji.noticeboard.dto.NoticeSummaryDto(n.id, n.title, " +
+            "SUBSTRING(n.content, 1, " + NoticeSummaryDto.PREVIEW_LENGTH + "), n.createdDate, n.viewCount, n.author) " +
+            "FROM Notice n";
+
+    /**
+     * 게시 시작 일시가 지난 공지사항만 남기는 조건입니다. 시작 전인 공지사항은 목록, 검색, 리더보드에 나타나지 않습니다.
+     */
+    String STARTED = "(n.startDateTime IS NULL OR n.startDateTime <= :now)";
+
+    @EntityGraph(attributePaths = "attachmentPaths")
+    Optional<Notice> findWithAttachmentsById(Long id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT n FROM Notice n WHERE " + STARTED + " AND (n.endDateTime IS NULL OR n.endDateTime > :now) " +
+            "ORDER BY n.viewCount DESC, n.id DESC")
+    List<Notice> findPublishedOrderByViewCountDesc(LocalDateTime now, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Notice> findByIdIn(Collection<Long> ids);
+
     @NonNull
     Page<Notice> findAll(@NonNull Pageable pageable);
 
+    @Query(value = SUMMARY_SELECT + " WHERE " + STARTED,
+            countQuery = "SELECT COUNT(n) FROM Notice n WHERE " + STARTED)
+    Page<NoticeSummaryDto> findAllSummaries(LocalDateTime now, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE " + STARTED + " ORDER BY n.createdDate DESC, n.id DESC")
+    List<NoticeSummaryDto> findFirstPageOrderByCreatedDate(LocalDateTime now, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE " + STARTED + " AND (n.createdDate < :createdDate OR (n.createdDate = :createdDate AND n.id < :id)) " +
+            "ORDER BY n.createdDate DESC, n.id DESC")
+    List<NoticeSummaryDto> findNextPageOrderByCreatedDate(LocalDateTime createdDate, Long id, LocalDateTime now, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE " + STARTED + " ORDER BY n.viewCount DESC, n.id DESC")
+    List<NoticeSummaryDto> findFirstPageOrderByViewCount(LocalDateTime now, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE " + STARTED + " AND (n.viewCount < :viewCount OR (n.viewCount = :viewCount AND n.id < :id)) " +
+            "ORDER BY n.viewCount DESC, n.id DESC")
+    List<NoticeSummaryDto> findNextPageOrderByViewCount(int viewCount, Long id, LocalDateTime now, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE " + STARTED + " AND n.id IN :ids")
+    List<NoticeSummaryDto> findSummariesByIdIn(Collection<Long> ids, LocalDateTime now);
+
+    @Query("SELECT new com.pji.noticeboard.dto.ActiveNoticeDto(n.id, n.title, n.author, n.startDateTime, n.endDateTime) " +
+            "FROM Notice n WHERE n.id > :id AND (n.endDateTime IS NULL OR n.endDateTime > :now) ORDER BY n.id")
+    List<ActiveNoticeDto> findUnexpiredAfter(Long id, LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT new com.pji.noticeboard.dto.NoticeSuggestionDto(n.id, n.title, n.viewCount) FROM Notice n " +
+            "WHERE n.id > :id AND " + STARTED + " AND (n.endDateTime IS NULL OR n.endDateTime > :now) ORDER BY n.id")
+    List<NoticeSuggestionDto> findSuggestionsAfter(Long id, LocalDateTime now, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Notice> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT n FROM Notice n WHERE n.modifiedDate > :modifiedDate OR (n.modifiedDate = :modifiedDate AND n.id > :id) " +
+            "ORDER BY n.modifiedDate, n.id")
+    List<Notice> findModifiedAfter(LocalDateTime modifiedDate, Long id, Pageable pageable);
+
+    @Query("SELECT COUNT(n) FROM Notice n JOIN n.attachmentPaths p WHERE p = :path")
+    long countByAttachmentPath(String path);
+
+    /**
+     * 주어진 경로 중 공지사항이나 보관된 공지사항이 참조하는 경로를 반환합니다.
+     */
+    @Query("SELECT p FROM Notice n JOIN n.attachmentPaths p WHERE p IN :paths " +
+            "UNION SELECT ap FROM ArchivedNotice a JOIN a.attachmentPaths ap WHERE ap IN :paths")
+    List<String> findReferencedAttachmentPaths(Collection<String> paths);
+
+    /**
+     * 종료 일시가 cutoff 이전인 공지사항 ID를 종료 일시 순으로 조회하고, 보관하는 동안 조회수 반영이 끼어들지 않도록 행을 잠급니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT n.id FROM Notice n WHERE n.endDateTime < :cutoff ORDER BY n.endDateTime, n.id")
+    List<Long> findIdsExpiredBeforeForUpdate(LocalDateTime cutoff, Pageable pageable);
+
     @Modifying
-    @Query("UPDATE Notice n SET n.viewCount = n.viewCount + 1 WHERE n.id = :id")
-    void incrementViewCount(Long id);
+    @Query(value = "DELETE FROM notice_attachment_paths WHERE notice_id IN (:ids)", nativeQuery = true)
+    int deleteAttachmentPathsByNoticeIdIn(Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM notice_attachment_names WHERE notice_id IN (:ids)", nativeQuery = true)
+    int deleteAttachmentNamesByNoticeIdIn(Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Notice n WHERE n.id IN :ids")
+    int deleteByIdIn(Collection<Long> ids);
 }
@@ -0,0 +1,11 @@
+package com.pji.noticeboard.repository;
+
+import com.pji.noticeboard.entity.NoticeTrend;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface NoticeTrendRepository extends JpaRepository<NoticeTrend, Long> {
+
+    List<NoticeTrend> findTop1000ByNoticeIdGreaterThanOrderByNoticeIdAsc(Long noticeId);
+}
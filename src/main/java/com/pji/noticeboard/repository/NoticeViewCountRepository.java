@@ -0,0 +1,48 @@
+package com.pji.noticeboard.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class NoticeViewCountRepository {
+
+    private static final String ADD_VIEW_COUNT_SQL = "UPDATE notice SET view_count = view_count + ? WHERE id = ?";
+    private static final String ADD_ARCHIVED_VIEW_COUNT_SQL = "UPDATE notice_archive SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 공지사항별 누적 조회수 증가분을 하나의 JDBC 배치로 반영합니다.
+     * 변경된 공지사항마다 UPDATE 한 건씩 실행됩니다.
+     * notice 테이블에 없는 공지사항은 보관된 공지사항이므로 notice_archive에 한 번 더 배치로 반영합니다.
+     *
+     * @param deltas 공지사항 ID별 조회수 증가분
+     * @return 각 UPDATE 문이 반영한 행 수 (deltas 순회 순서와 동일)
+     */
+    public int[] addViewCounts(Map<Long, Long> deltas) {
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        deltas.forEach((id, delta) -> batchArgs.add(new Object[]{delta, id}));
+        int[] updated = jdbcTemplate.batchUpdate(ADD_VIEW_COUNT_SQL, batchArgs);
+
+        List<Integer> missing = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                missing.add(i);
+            }
+        }
+        if (!missing.isEmpty()) {
+            int[] archived = jdbcTemplate.batchUpdate(ADD_ARCHIVED_VIEW_COUNT_SQL,
+                    missing.stream().map(batchArgs::get).toList());
+            for (int i = 0; i < archived.length; i++) {
+                updated[missing.get(i)] = archived[i];
+            }
+        }
+        return updated;
+    }
+}
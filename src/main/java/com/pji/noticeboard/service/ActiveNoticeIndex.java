@@ -0,0 +1,205 @@
+package com.pji.noticeboard.service;
+
+import com.pji.noticeboard.dto.ActiveNoticeDto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 공지사항의 게시 기간(startDateTime ~ endDateTime)을 메모리에서 추적하는 색인입니다.
+ *
+ * 시작 전인 공지사항은 시작 일시 순으로, 게시 중인 공지사항은 종료 일시 순으로 정렬해 두고,
+ * advance()가 주어진 시각까지 경계를 지난 항목만 앞에서부터 꺼내 옮깁니다.
+ * 게시 중인 목록은 바뀔 때마다 앞에서부터 ActiveNoticeService.MAX_LIMIT개만 불변 목록으로 만들어 두므로,
+ * 게시 중인 공지사항이 많아도 갱신 비용이 일정하고 조회는 잠금 없이 필요한 개수만 잘라 반환합니다.
+ * 종료 일시가 지난 공지사항은 색인에서 제거됩니다.
+ */
+final class ActiveNoticeIndex {
+
+    private static final Comparator<ActiveNoticeDto> BY_START = Comparator
+            .comparing(ActiveNoticeDto::getStartDateTime, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(ActiveNoticeDto::getId);
+    private static final Comparator<ActiveNoticeDto> BY_END = Comparator
+            .comparing(ActiveNoticeDto::getEndDateTime, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(ActiveNoticeDto::getId);
+
+    /**
+     * 게시 중인 목록의 순서입니다. 최근에 게시가 시작된 공지사항이 앞에 옵니다.
+     */
+    private static final Comparator<ActiveNoticeDto> LATEST_FIRST = BY_START.reversed();
+
+    private final Map<Long, ActiveNoticeDto> entries = new HashMap<>();
+    private final TreeSet<ActiveNoticeDto> pending = new TreeSet<>(BY_START);
+    private final TreeSet<ActiveNoticeDto> expiring = new TreeSet<>(BY_END);
+    private final TreeSet<ActiveNoticeDto> active = new TreeSet<>(LATEST_FIRST);
+
+    /**
+     * 게시 중인 목록의 앞부분(최대 ActiveNoticeService.MAX_LIMIT개)입니다.
+     */
+    private volatile List<ActiveNoticeDto> snapshot = List.of();
+    private volatile int activeCount;
+
+    /**
+     * 다음에 시작하거나 종료되는 공지사항의 경계 시각입니다. 없으면 null입니다.
+     */
+    private volatile LocalDateTime nextBoundary;
+
+    ActiveNoticeIndex() {
+    }
+
+    /**
+     * 공지사항 목록으로 색인을 만듭니다. 이미 종료된 공지사항은 제외됩니다.
+     */
+    ActiveNoticeIndex(Collection<ActiveNoticeDto> notices, LocalDateTime now) {
+        for (ActiveNoticeDto notice : notices) {
+            add(notice, now);
+        }
+        refresh();
+    }
+
+    /**
+     * 공지사항의 게시 기간을 색인하거나 갱신합니다.
+     */
+    synchronized void put(ActiveNoticeDto notice, LocalDateTime now) {
+        removeEntry(notice.getId());
+        add(notice, now);
+        advanceLocked(now);
+        refresh();
+    }
+
+    /**
+     * 공지사항을 색인에서 제거합니다.
+     */
+    synchronized void remove(Long id) {
+        if (removeEntry(id)) {
+            refresh();
+        }
+    }
+
+    /**
+     * 주어진 시각까지 시작 일시가 된 공지사항을 게시하고 종료 일시가 된 공지사항을 제거합니다.
+     * 지난 경계가 없으면 잠금 없이 바로 반환합니다.
+     *
+     * @param now 기준 시각
+     * @return 게시 중인 목록이 바뀌었으면 true
+     */
+    boolean advance(LocalDateTime now) {
+        LocalDateTime boundary = nextBoundary;
+        if (boundary == null || now.isBefore(boundary)) {
+            return false;
+        }
+        synchronized (this) {
+            boolean changed = advanceLocked(now);
+            if (changed) {
+                refresh();
+            }
+            return changed;
+        }
+    }
+
+    /**
+     * 게시 중인 공지사항을 최근 시작 순으로 limit개까지 반환합니다. ActiveNoticeService.MAX_LIMIT개보다 많이 반환하지 않습니다.
+     * 호출 전에 advance()로 시각을 맞춰야 합니다.
+     */
+    List<ActiveNoticeDto> getActive(int limit) {
+        List<ActiveNoticeDto> current = snapshot;
+        return current.size() <= limit ? current : current.subList(0, limit);
+    }
+
+    /**
+     * 게시 중인 공지사항 수를 반환합니다.
+     */
+    int activeCount() {
+        return activeCount;
+    }
+
+    /**
+     * 시작을 기다리는 공지사항 수를 반환합니다.
+     */
+    synchronized int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 다음 경계 시각을 반환합니다. 시작하거나 종료될 공지사항이 없으면 null입니다.
+     */
+    LocalDateTime getNextBoundary() {
+        return nextBoundary;
+    }
+
+    private void add(ActiveNoticeDto notice, LocalDateTime now) {
+        if (notice.getEndDateTime() != null && !now.isBefore(notice.getEndDateTime())) {
+            return;
+        }
+        entries.put(notice.getId(), notice);
+        if (notice.getStartDateTime() != null && now.isBefore(notice.getStartDateTime())) {
+            pending.add(notice);
+        } else {
+            activate(notice);
+        }
+    }
+
+    private boolean removeEntry(Long id) {
+        ActiveNoticeDto previous = entries.remove(id);
+        if (previous == null) {
+            return false;
+        }
+        pending.remove(previous);
+        active.remove(previous);
+        expiring.remove(previous);
+        return true;
+    }
+
+    private void activate(ActiveNoticeDto notice) {
+        active.add(notice);
+        if (notice.getEndDateTime() != null) {
+            expiring.add(notice);
+        }
+    }
+
+    private boolean advanceLocked(LocalDateTime now) {
+        boolean changed = false;
+        while (!pending.isEmpty() && !now.isBefore(pending.first().getStartDateTime())) {
+            ActiveNoticeDto notice = pending.pollFirst();
+            if (notice.getEndDateTime() != null && !now.isBefore(notice.getEndDateTime())) {
+                entries.remove(notice.getId());
+            } else {
+                activate(notice);
+            }
+            changed = true;
+        }
+        while (!expiring.isEmpty() && !now.isBefore(expiring.first().getEndDateTime())) {
+            ActiveNoticeDto notice = expiring.pollFirst();
+            active.remove(notice);
+            entries.remove(notice.getId());
+            changed = true;
+        }
+        return changed;
+    }
+
+    private void refresh() {
+        List<ActiveNoticeDto> head = new ArrayList<>(Math.min(active.size(), ActiveNoticeService.MAX_LIMIT));
+        for (ActiveNoticeDto notice : active) {
+            if (head.size() == ActiveNoticeService.MAX_LIMIT) {
+                break;
+            }
+            head.add(notice);
+        }
+        snapshot = Collections.unmodifiableList(head);
+        activeCount = active.size();
+        LocalDateTime nextStart = pending.isEmpty() ? null : pending.first().getStartDateTime();
+        LocalDateTime nextEnd = expiring.isEmpty() ? null : expiring.first().getEndDateTime();
+        if (nextStart == null || (nextEnd != null && nextEnd.isBefore(nextStart))) {
+            nextBoundary = nextEnd;
+        } else {
+            nextBoundary = nextStart;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.pji.noticeboard.service;
+
+import com.pji.noticeboard.config.ActiveNoticeProperties;
+import com.pji.noticeboard.dto.ActiveNoticeDto;
+import com.pji.noticeboard.entity.Notice;
+import com.pji.noticeboard.event.NoticeChangedEvent;
+import com.pji.noticeboard.event.NoticeScheduleEvent;
+import com.pji.noticeboard.repository.NoticeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시 기간 중인 공지사항 목록을 담당합니다.
+ *
+ * 애플리케이션 시작 시 종료되지 않은 공지사항을 ActiveNoticeIndex에 적재하고, 등록/수정/삭제 이벤트마다 갱신합니다.
+ * 조회할 때마다 현재 시각까지 지난 경계를 반영하므로 시작/종료 일시가 되는 즉시 목록에 나타나거나 빠집니다.
+ * 다른 노드에서 일어난 변경은 주기적인 재적재로 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActiveNoticeService {
+
+    /**
+     * 한 번에 조회할 수 있는 게시 중인 공지사항 수의 상한입니다.
+     */
+    public static final int MAX_LIMIT = 100;
+
+    private final NoticeRepository noticeRepository;
+    private final ActiveNoticeProperties activeNoticeProperties;
+
+    private volatile ActiveNoticeIndex index = new ActiveNoticeIndex();
+
+    /**
+     * 재적재 중에 들어온 변경은 기존 색인에 바로 반영하고, 적재가 끝나면 새 색인에도 다시 적용합니다.
+     * 삭제는 제목과 기간이 없는 항목으로 기록합니다.
+     */
+    private final KeysetReloader<ActiveNoticeDto> reloader = new KeysetReloader<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * DB에서 종료되지 않은 공지사항을 모두 읽어 색인을 다시 만듭니다.
+     */
+    @Scheduled(fixedDelayString = "${notice.active.reload-interval:600000}",
+            initialDelayString = "${notice.active.reload-interval:600000}")
+    public void reload() {
+        LocalDateTime now = LocalDateTime.now();
+        ActiveNoticeIndex loaded = reloader.reload(
+                (lastId, pageable) -> noticeRepository.findUnexpiredAfter(lastId, now, pageable),
+                ActiveNoticeDto::getId, activeNoticeProperties.getBatchSize(),
+                notices -> new ActiveNoticeIndex(notices, now),
+                (built, changes) -> {
+                    changes.values().forEach(change -> apply(built, change));
+                    index = built;
+                });
+        log.info("Active notices loaded: {} active, {} pending", loaded.activeCount(), loaded.pendingCount());
+    }
+
+    /**
+     * 현재 게시 기간 중인 공지사항을 최근 시작 순으로 반환합니다.
+     *
+     * @param limit 반환할 최대 개수 (MAX_LIMIT 이하)
+     * @return 게시 중인 공지사항 목록
+     */
+    public List<ActiveNoticeDto> getActive(int limit) {
+        ActiveNoticeIndex current = index;
+        current.advance(LocalDateTime.now());
+        return current.getActive(limit);
+    }
+
+    /**
+     * 게시 시작/종료 시각이 되면 조회가 없어도 경계를 반영하여 종료된 공지사항이 메모리에 남지 않게 합니다.
+     */
+    @EventListener
+    public void onNoticeScheduled(NoticeScheduleEvent event) {
+        index.advance(LocalDateTime.now());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        Notice notice = event.getNotice();
+        ActiveNoticeDto change = event.isRemoval()
+                ? ActiveNoticeDto.builder().id(notice.getId()).build()
+                : toEntry(notice);
+
+        reloader.record(change.getId(), change);
+        apply(index, change);
+    }
+
+    private static void apply(ActiveNoticeIndex target, ActiveNoticeDto change) {
+        if (change.getTitle() == null) {
+            target.remove(change.getId());
+        } else {
+            target.put(change, LocalDateTime.now());
+        }
+    }
+
+    private static ActiveNoticeDto toEntry(Notice notice) {
+        return ActiveNoticeDto.builder()
+                .id(notice.getId())
+                .title(notice.getTitle())
+                .author(notice.getAuthor())
+                .startDateTime(notice.getStartDateTime())
+                .endDateTime(notice.getEndDateTime())
+                .build();
+    }
+}
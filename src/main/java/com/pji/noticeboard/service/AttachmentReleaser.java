@@ -0,0 +1,43 @@
+package com.pji.noticeboard.service;
+
+import com.pji.noticeboard.event.AttachmentsReleasedEvent;
+import com.pji.noticeboard.repository.ArchivedNoticeRepository;
+import com.pji.noticeboard.repository.NoticeRepository;
+import com.pji.noticeboard.util.FileUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashSet;
+
+/**
+ * 참조가 해제된 첨부파일을 정리합니다.
+ *
+ * 첨부파일은 내용 주소로 저장되어 여러 공지사항이 같은 파일을 공유하므로,
+ * 커밋 이후 notice_attachment_paths와 notice_archive_attachment_paths에서 경로를 참조하는 공지사항 수를 세어 0인 파일만 삭제합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttachmentReleaser {
+
+    private final NoticeRepository noticeRepository;
+    private final ArchivedNoticeRepository archivedNoticeRepository;
+    private final FileUtil fileUtil;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAttachmentsReleased(AttachmentsReleasedEvent event) {
+        for (String path : new LinkedHashSet<>(event.getPaths())) {
+            try {
+                if (noticeRepository.countByAttachmentPath(path) == 0
+                        && archivedNoticeRepository.countByAttachmentPath(path) == 0
+                        && fileUtil.deleteIfStale(path)) {
+                    log.debug("Deleted unreferenced attachment {}", path);
+                }
+            } catch (Exception e) {
+                log.warn("Failed to release attachment {}", path, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,373 @@
+package com.pji.noticeboard.service;
+
+import com.pji.noticeboard.config.FileUploadProperties;
+import com.pji.noticeboard.dto.UploadSessionDto;
+import com.pji.noticeboard.entity.Notice;
+import com.pji.noticeboard.exception.ErrorCode;
+import com.pji.noticeboard.exception.InvalidNoticeException;
+import com.pji.noticeboard.exception.ServiceException;
+import com.pji.noticeboard.util.FileUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 큰 첨부파일을 여러 조각으로 나누어 받는 분할 업로드 세션을 관리합니다.
+ *
+ * 세션을 시작하면 저장소와 같은 파일 시스템에 임시 파일을 만들고, 각 조각은 (조각 번호 × 조각 크기) 위치에 바로 기록합니다.
+ * 조각은 순서와 관계없이, 동시에 보내도 되며, 같은 조각을 다시 보내면 덮어씁니다.
+ * 모든 조각을 받은 뒤 완료하면 임시 파일을 내용 주소로 저장하고 공지사항에 첨부합니다. 저장이나 첨부에 실패하면 세션을 남겨 두어 완료를 다시 요청할 수 있습니다.
+ * 기록에 실패한 조각은 받지 않은 것으로 되돌리므로, 완료 전에 다시 보내야 합니다.
+ * 마지막 조각 이후 upload-session-ttl 동안 아무 요청이 없던 세션은 임시 파일과 함께 정리됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChunkedUploadService {
+
+    private final NoticeService noticeService;
+    private final FileUtil fileUtil;
+    private final FileUploadProperties fileUploadProperties;
+
+    private final Map<String, UploadSession> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * 분할 업로드 세션을 시작합니다.
+     *
+     * @param noticeId 첨부파일을 추가할 공지사항 ID
+     * @param filename 원본 파일 이름
+     * @param size 전체 파일 크기
+     * @return 조각 크기와 조각 수를 담은 세션 정보
+     */
+    public UploadSessionDto initiate(Long noticeId, String filename, long size) {
+        fileUtil.checkFilename(filename);
+        if (size <= 0) {
+            throw new InvalidNoticeException("File must not be empty", ErrorCode.INVALID_FILE_PROVIDED);
+        }
+        long maxFileSize = fileUploadProperties.getMaxChunkedFileSize().toBytes();
+        if (size > maxFileSize) {
+            throw new InvalidNoticeException("File must not exceed " + maxFileSize + " bytes", ErrorCode.FILE_SIZE_LIMIT_EXCEEDED);
+        }
+        if (sessions.size() >= fileUploadProperties.getMaxUploadSessions()) {
+            throw new InvalidNoticeException("Too many upload sessions in progress", ErrorCode.UPLOAD_SESSION_LIMIT_EXCEEDED);
+        }
+        noticeService.checkAttachmentAllowed(noticeId);
+
+        Path stagingFile = null;
+        UploadSession session;
+        try {
+            stagingFile = fileUtil.createStagingFile();
+            FileChannel channel = FileChannel.open(stagingFile, StandardOpenOption.WRITE);
+            session = new UploadSession(UUID.randomUUID().toString(), noticeId, filename, size,
+                    fileUploadProperties.getChunkSize().toBytes(), stagingFile, channel);
+        } catch (IOException e) {
+            deleteQuietly(stagingFile);
+            log.error("Failed to start upload session for notice {}", noticeId, e);
+            throw new ServiceException("Failed to start upload session", ErrorCode.SAVE_FILE_FAILED, e);
+        }
+
+        sessions.put(session.uploadId, session);
+        log.info("Started upload session {} for notice {} ({} bytes, {} chunks)",
+                session.uploadId, noticeId, size, session.totalChunks);
+        return toDto(session);
+    }
+
+    /**
+     * 업로드 세션의 진행 상황을 조회합니다. 연결이 끊긴 뒤 이어 올릴 때 빠진 조각을 확인하는 데 사용합니다.
+     *
+     * @param noticeId 공지사항 ID
+     * @param uploadId 업로드 세션 ID
+     * @return 세션 정보
+     */
+    public UploadSessionDto getSession(Long noticeId, String uploadId) {
+        return toDto(findSession(noticeId, uploadId));
+    }
+
+    /**
+     * 조각 하나를 임시 파일의 해당 위치에 기록합니다.
+     * 마지막 조각을 제외한 모든 조각은 정확히 조각 크기여야 합니다.
+     * 기록하는 동안과 기록에 실패한 뒤에는 이전에 받은 적이 있더라도 받지 않은 조각으로 표시합니다.
+     *
+     * @param noticeId 공지사항 ID
+     * @param uploadId 업로드 세션 ID
+     * @param index 조각 번호 (0부터 시작)
+     * @param content 조각 내용을 담은 요청 본문
+     * @return 세션 정보
+     */
+    public UploadSessionDto uploadChunk(Long noticeId, String uploadId, int index, InputStream content) {
+        UploadSession session = findSession(noticeId, uploadId);
+        if (index < 0 || index >= session.totalChunks) {
+            throw new InvalidNoticeException("Chunk index must be between 0 and " + (session.totalChunks - 1), ErrorCode.INVALID_PARAMETER);
+        }
+        long offset = index * session.chunkSize;
+        long expectedLength = Math.min(session.chunkSize, session.size - offset);
+
+        session.lock.readLock().lock();
+        boolean received = false;
+        try {
+            if (session.closed) {
+                throw new InvalidNoticeException("Upload session not found", ErrorCode.UPLOAD_SESSION_NOT_FOUND);
+            }
+            if (session.assembled) {
+                throw new InvalidNoticeException("Upload is already assembled", ErrorCode.UPLOAD_ALREADY_ASSEMBLED);
+            }
+            session.touch();
+            session.markMissing(index);
+            long written = fileUtil.writeAt(content, session.channel, offset, expectedLength);
+            if (written != expectedLength) {
+                throw new InvalidNoticeException("Chunk " + index + " must be " + expectedLength + " bytes", ErrorCode.INVALID_FILE_PROVIDED);
+            }
+            session.markReceived(index);
+            received = true;
+            session.touch();
+        } catch (IOException e) {
+            log.error("Failed to write chunk {} of upload session {}", index, uploadId, e);
+            throw new ServiceException("Failed to save file", ErrorCode.SAVE_FILE_FAILED, e);
+        } finally {
+            if (!received && !session.assembled) {
+                session.markMissing(index);
+            }
+            session.lock.readLock().unlock();
+        }
+        return toDto(session);
+    }
+
+    /**
+     * 모든 조각을 받은 세션을 마치고, 조립된 파일을 공지사항에 첨부합니다.
+     * 세션은 첨부에 성공한 뒤에 닫으므로, 저장이나 첨부에 실패하면 같은 세션으로 다시 요청할 수 있습니다.
+     * 조립을 시작한 세션은 더 이상 조각을 받지 않고, 이미 저장된 내용은 다시 저장하지 않습니다.
+     *
+     * @param noticeId 공지사항 ID
+     * @param uploadId 업로드 세션 ID
+     * @return 첨부파일이 추가된 공지사항
+     */
+    public Notice complete(Long noticeId, String uploadId) {
+        UploadSession session = findSession(noticeId, uploadId);
+
+        session.lock.writeLock().lock();
+        try {
+            if (session.closed) {
+                throw new InvalidNoticeException("Upload session not found", ErrorCode.UPLOAD_SESSION_NOT_FOUND);
+            }
+            session.touch();
+            if (session.storedPath == null) {
+                List<Integer> missingChunks = session.missingChunks();
+                if (!missingChunks.isEmpty()) {
+                    throw new InvalidNoticeException(missingChunks.size() + " chunks are missing", ErrorCode.UPLOAD_INCOMPLETE);
+                }
+                noticeService.checkAttachmentAllowed(noticeId);
+                if (!session.assembled) {
+                    session.channel.close();
+                    session.assembled = true;
+                }
+                session.storedPath = fileUtil.storeStagedFile(session.stagingFile, session.filename);
+            }
+
+            Notice notice = noticeService.attachStoredFile(noticeId, session.storedPath, session.filename);
+            session.closed = true;
+            sessions.remove(uploadId);
+            log.info("Completed upload session {} for notice {}", uploadId, noticeId);
+            return notice;
+        } catch (IOException e) {
+            log.error("Failed to close upload session {}", uploadId, e);
+            throw new ServiceException("Failed to save file", ErrorCode.SAVE_FILE_FAILED, e);
+        } finally {
+            session.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 업로드 세션을 취소하고 임시 파일을 삭제합니다.
+     *
+     * @param noticeId 공지사항 ID
+     * @param uploadId 업로드 세션 ID
+     */
+    public void abort(Long noticeId, String uploadId) {
+        UploadSession session = findSession(noticeId, uploadId);
+        session.lock.writeLock().lock();
+        try {
+            discard(session);
+        } finally {
+            session.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 마지막 요청 이후 upload-session-ttl이 지난 세션을 정리합니다. 조각을 기록 중인 세션은 다음 주기로 미룹니다.
+     */
+    @Scheduled(fixedDelayString = "${file.upload.upload-session-check-interval:60000}")
+    public void expireSessions() {
+        long deadline = System.currentTimeMillis() - fileUploadProperties.getUploadSessionTtl().toMillis();
+        int expired = 0;
+        for (UploadSession session : sessions.values()) {
+            if (session.lastAccess > deadline || !session.lock.writeLock().tryLock()) {
+                continue;
+            }
+            try {
+                if (!session.closed) {
+                    discard(session);
+                    expired++;
+                }
+            } finally {
+                session.lock.writeLock().unlock();
+            }
+        }
+        if (expired > 0) {
+            log.info("Expired {} abandoned upload sessions", expired);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sessions.values().forEach(session -> {
+            session.lock.writeLock().lock();
+            try {
+                discard(session);
+            } finally {
+                session.lock.writeLock().unlock();
+            }
+        });
+    }
+
+    private UploadSession findSession(Long noticeId, String uploadId) {
+        UploadSession session = sessions.get(uploadId);
+        if (session == null || !session.noticeId.equals(noticeId)) {
+            throw new InvalidNoticeException("Upload session not found", ErrorCode.UPLOAD_SESSION_NOT_FOUND);
+        }
+        return session;
+    }
+
+    /**
+     * 세션을 닫고 임시 파일을 삭제합니다. 호출하는 쪽에서 쓰기 잠금을 잡고 있어야 합니다.
+     */
+    private void discard(UploadSession session) {
+        if (session.closed) {
+            return;
+        }
+        session.closed = true;
+        sessions.remove(session.uploadId);
+        try {
+            session.channel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close upload session {}", session.uploadId, e);
+        }
+        deleteQuietly(session.stagingFile);
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete file {}", path, e);
+        }
+    }
+
+    private UploadSessionDto toDto(UploadSession session) {
+        List<Integer> missingChunks = session.missingChunks();
+        return UploadSessionDto.builder()
+                .uploadId(session.uploadId)
+                .noticeId(session.noticeId)
+                .filename(session.filename)
+                .size(session.size)
+                .chunkSize(session.chunkSize)
+                .totalChunks(session.totalChunks)
+                .receivedChunks(session.totalChunks - missingChunks.size())
+                .missingChunks(missingChunks)
+                .expiresAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(session.lastAccess)
+                        .plus(fileUploadProperties.getUploadSessionTtl()), ZoneId.systemDefault()))
+                .build();
+    }
+
+    /**
+     * 분할 업로드 세션 하나의 상태입니다.
+     * 조각 기록은 읽기 잠금을 잡고 동시에 진행하며, 완료/취소/만료는 쓰기 잠금을 잡아 기록 중인 조각이 없을 때만 세션을 닫습니다.
+     */
+    private static class UploadSession {
+
+        private final String uploadId;
+        private final Long noticeId;
+        private final String filename;
+        private final long size;
+        private final long chunkSize;
+        private final int totalChunks;
+        private final Path stagingFile;
+        private final FileChannel channel;
+        private final BitSet received;
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        private volatile long lastAccess = System.currentTimeMillis();
+        private volatile boolean closed;
+
+        /**
+         * 모든 조각을 받아 기록을 마친 상태입니다. 완료 요청이 채널을 닫은 뒤에는 조각을 받지 않습니다.
+         */
+        private volatile boolean assembled;
+
+        /**
+         * 내용 주소로 저장된 경로입니다. 첨부에 실패한 뒤 다시 완료할 때 저장을 건너뜁니다.
+         */
+        private volatile String storedPath;
+
+        UploadSession(String uploadId, Long noticeId, String filename, long size, long chunkSize,
+                      Path stagingFile, FileChannel channel) {
+            this.uploadId = uploadId;
+            this.noticeId = noticeId;
+            this.filename = filename;
+            this.size = size;
+            this.chunkSize = chunkSize;
+            this.totalChunks = Math.toIntExact((size + chunkSize - 1) / chunkSize);
+            this.stagingFile = stagingFile;
+            this.channel = channel;
+            this.received = new BitSet(totalChunks);
+        }
+
+        void touch() {
+            lastAccess = System.currentTimeMillis();
+        }
+
+        void markReceived(int index) {
+            synchronized (received) {
+                received.set(index);
+            }
+        }
+
+        void markMissing(int index) {
+            synchronized (received) {
+                received.clear(index);
+            }
+        }
+
+        List<Integer> missingChunks() {
+            List<Integer> missing = new ArrayList<>();
+            synchronized (received) {
+                for (int index = received.nextClearBit(0); index < totalChunks; index = received.nextClearBit(index + 1)) {
+                    missing.add(index);
+                }
+            }
+            return missing;
+        }
+    }
+}
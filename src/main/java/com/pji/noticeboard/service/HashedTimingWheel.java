@@ -0,0 +1,149 @@
+package com.pji.noticeboard.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 많은 예약 작업을 적은 비용으로 관리하는 해시 타이밍 휠입니다.
+ *
+ * 시간을 tickMillis 단위의 틱으로 나누고, 예약 작업을 마감 틱을 wheelSize로 나눈 나머지 칸에 넣습니다.
+ * 휠 한 바퀴보다 먼 작업은 남은 바퀴 수(remainingRounds)를 함께 기록해 두고, 칸을 지날 때마다 하나씩 줄입니다.
+ * 예약과 취소는 O(1)이고, 틱마다 해당 칸의 작업만 확인하므로 예약 작업 수와 관계없이 시간이 흐르는 비용이 일정합니다.
+ * 마감은 틱 단위로 올림되므로 작업은 마감 이후 최대 한 틱 안에 실행됩니다.
+ *
+ * @param <T> 예약 작업 타입
+ */
+final class HashedTimingWheel<T> {
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final Timeout<T>[] wheel;
+    private final int mask;
+
+    /**
+     * 다음에 처리할 틱 번호입니다. startMillis + tick * tickMillis가 지나면 처리합니다.
+     */
+    private long tick;
+    private int size;
+
+    /**
+     * @param tickMillis 틱 길이 (밀리초)
+     * @param wheelSize 칸 수 (2의 거듭제곱으로 올림됩니다)
+     * @param startMillis 휠의 기준 시각 (밀리초)
+     */
+    @SuppressWarnings("unchecked")
+    HashedTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMillis and wheelSize must be positive");
+        }
+        int buckets = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.wheel = new Timeout[buckets];
+        this.mask = buckets - 1;
+    }
+
+    /**
+     * 작업을 예약합니다. 이미 지난 마감은 다음 틱에 실행됩니다.
+     *
+     * @param task 예약할 작업
+     * @param deadlineMillis 마감 시각 (밀리초)
+     * @return 취소할 때 사용하는 예약
+     */
+    synchronized Timeout<T> schedule(T task, long deadlineMillis) {
+        long deadlineTick = Math.max(tick, -Math.floorDiv(startMillis - deadlineMillis, tickMillis));
+        Timeout<T> timeout = new Timeout<>(this, task, (deadlineTick - tick) / wheel.length);
+        int bucket = (int) (deadlineTick & mask);
+        timeout.bucket = bucket;
+        timeout.next = wheel[bucket];
+        if (wheel[bucket] != null) {
+            wheel[bucket].prev = timeout;
+        }
+        wheel[bucket] = timeout;
+        size++;
+        return timeout;
+    }
+
+    /**
+     * 주어진 시각까지 지난 틱을 모두 처리하고 마감된 작업을 반환합니다.
+     *
+     * @param nowMillis 현재 시각 (밀리초)
+     * @return 마감된 작업 목록 (예약한 순서와 무관합니다)
+     */
+    synchronized List<T> advance(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        while (startMillis + tick * tickMillis <= nowMillis) {
+            Timeout<T> timeout = wheel[(int) (tick & mask)];
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    unlink(timeout);
+                    expired.add(timeout.task);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+            tick++;
+        }
+        return expired;
+    }
+
+    /**
+     * 예약된 작업 수를 반환합니다.
+     */
+    synchronized int size() {
+        return size;
+    }
+
+    private void unlink(Timeout<T> timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            wheel[timeout.bucket] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.bucket = -1;
+        size--;
+    }
+
+    /**
+     * 휠에 예약된 작업입니다. 같은 칸의 작업끼리 양방향 연결 리스트로 이어집니다.
+     */
+    static final class Timeout<T> {
+
+        private final HashedTimingWheel<T> owner;
+        private final T task;
+        private long remainingRounds;
+        private int bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(HashedTimingWheel<T> owner, T task, long remainingRounds) {
+            this.owner = owner;
+            this.task = task;
+            this.remainingRounds = remainingRounds;
+        }
+
+        T getTask() {
+            return task;
+        }
+
+        /**
+         * 예약을 취소합니다. 이미 실행되었거나 취소된 예약이면 false를 반환합니다.
+         */
+        boolean cancel() {
+            synchronized (owner) {
+                if (bucket < 0) {
+                    return false;
+                }
+                owner.unlink(this);
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,401 @@
+package com.pji.noticeboard.service;
+
+import com.pji.noticeboard.config.ImageDerivativeProperties;
+import com.pji.noticeboard.entity.ImageDerivativeJob;
+import com.pji.noticeboard.event.AttachmentsStoredEvent;
+import com.pji.noticeboard.exception.ErrorCode;
+import com.pji.noticeboard.exception.InvalidNoticeException;
+import com.pji.noticeboard.repository.ImageDerivativeJobRepository;
+import com.pji.noticeboard.util.AttachmentContent;
+import com.pji.noticeboard.util.AttachmentStorage;
+import com.pji.noticeboard.util.FileUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이미지 첨부파일의 썸네일과 미리보기 축소본을 비동기로 만듭니다.
+ *
+ * 이미지가 공지사항에 첨부되어 커밋되면 image_derivative_job에 작업을 기록하고,
+ * 주기적으로 처리할 수 있는 작업을 가져가 크기가 고정된 작업자 스레드 풀에서 처리합니다.
+ * 작업은 DB에 남아 있으므로 재시작 후에도 이어서 처리되며, 실패한 작업은 max-attempts번까지 간격을 두고 다시 시도합니다.
+ * 축소본은 원본의 해시로 저장되므로 같은 이미지는 한 번만 만들어지고, 내용이 바뀌지 않아 오래 캐시할 수 있습니다.
+ */
+@Slf4j
+@Service
+public class ImageDerivativeService {
+
+    private static final Set<String> IMAGE_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif", "bmp", "webp");
+    private static final List<ImageVariant> LARGEST_FIRST = Arrays.stream(ImageVariant.values())
+            .sorted(Comparator.comparingInt(ImageVariant::getSize).reversed())
+            .toList();
+
+    private final ImageDerivativeJobRepository jobRepository;
+    private final FileUtil fileUtil;
+    private final AttachmentStorage attachmentStorage;
+    private final ImageDerivativeProperties imageDerivativeProperties;
+    private final TransactionTemplate requiresNewTemplate;
+
+    private final ThreadPoolExecutor executor;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Timer generateTimer;
+    private final Counter completedJobs;
+    private final Counter retriedJobs;
+    private final Counter failedJobs;
+
+    public ImageDerivativeService(ImageDerivativeJobRepository jobRepository, FileUtil fileUtil, AttachmentStorage attachmentStorage,
+                                  ImageDerivativeProperties imageDerivativeProperties,
+                                  PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.jobRepository = jobRepository;
+        this.fileUtil = fileUtil;
+        this.attachmentStorage = attachmentStorage;
+        this.imageDerivativeProperties = imageDerivativeProperties;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        int threads = imageDerivativeProperties.getThreads();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("image-derivative-");
+        threadFactory.setThreadPriority(Thread.NORM_PRIORITY - 1);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), threadFactory);
+
+        Gauge.builder("image.derivative.in-flight", inFlight, AtomicInteger::get)
+                .register(meterRegistry);
+        this.generateTimer = Timer.builder("image.derivative.generate")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.completedJobs = Counter.builder("image.derivative.jobs").tag("result", "done").register(meterRegistry);
+        this.retriedJobs = Counter.builder("image.derivative.jobs").tag("result", "retry").register(meterRegistry);
+        this.failedJobs = Counter.builder("image.derivative.jobs").tag("result", "failed").register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAttachmentsStored(AttachmentsStoredEvent event) {
+        enqueue(event.getPaths());
+    }
+
+    /**
+     * 이미지 첨부파일의 축소본 생성 작업을 기록합니다.
+     * 이미 작업이 있으면 새로 만들지 않고, 완료된 작업의 축소본이 지워진 경우에만 다시 대기 상태로 돌립니다.
+     *
+     * @param paths 저장된 첨부파일 경로 목록
+     */
+    public void enqueue(List<String> paths) {
+        for (String path : new LinkedHashSet<>(paths)) {
+            if (!isImage(path) || fileUtil.derivativePath(path, ImageVariant.THUMBNAIL.getLabel()) == null) {
+                continue;
+            }
+            try {
+                requiresNewTemplate.executeWithoutResult(status -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    jobRepository.findBySourcePath(path).ifPresentOrElse(job -> {
+                        if (job.getStatus() == ImageDerivativeJob.Status.DONE && !derivativesExist(path)) {
+                            job.setStatus(ImageDerivativeJob.Status.PENDING);
+                            job.setAttempts(0);
+                            job.setAvailableAt(now);
+                            job.setUpdatedAt(now);
+                        }
+                    }, () -> jobRepository.save(new ImageDerivativeJob(path, now)));
+                });
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Derivative job for {} was enqueued concurrently", path);
+            } catch (Exception e) {
+                log.warn("Failed to enqueue derivative job for {}", path, e);
+            }
+        }
+    }
+
+    /**
+     * 처리할 수 있는 작업을 가져가 작업자 스레드 풀에 맡깁니다.
+     * 처리 중인 작업이 max-in-flight개를 넘지 않도록 남은 자리만큼만 가져오며,
+     * 다른 인스턴스가 먼저 가져간 작업은 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${file.upload.derivatives.poll-interval:1000}")
+    public void poll() {
+        int available = imageDerivativeProperties.getMaxInFlight() - inFlight.get();
+        if (!imageDerivativeProperties.isEnabled() || available <= 0) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ImageDerivativeJob> jobs = jobRepository.findAvailable(
+                List.of(ImageDerivativeJob.Status.PENDING, ImageDerivativeJob.Status.RUNNING), now, PageRequest.of(0, available));
+
+        for (ImageDerivativeJob job : jobs) {
+            LocalDateTime leaseUntil = now.plus(imageDerivativeProperties.getLease());
+            Integer updated = requiresNewTemplate.execute(status -> jobRepository.claim(job.getId(), job.getStatus(),
+                    job.getAvailableAt(), ImageDerivativeJob.Status.RUNNING, leaseUntil, now));
+            if (updated == null || updated == 0) {
+                continue;
+            }
+            inFlight.incrementAndGet();
+            int attempt = job.getAttempts() + 1;
+            executor.execute(() -> {
+                try {
+                    process(job.getId(), job.getSourcePath(), attempt);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    /**
+     * 축소본의 저장 경로를 반환합니다.
+     * 아직 만들어지지 않았으면 작업을 다시 기록하고 DERIVATIVE_NOT_READY 예외를 던집니다. 클라이언트는 원본을 대신 사용할 수 있습니다.
+     *
+     * @param variant 축소본 종류
+     * @param filename 원본 파일 이름 ({해시}.{확장자})
+     * @return 축소본의 상대 경로
+     */
+    public String getDerivativePath(ImageVariant variant, String filename) {
+        int dotIndex = filename.lastIndexOf(".");
+        if (dotIndex != 64 || !filename.substring(0, dotIndex).matches("[0-9a-f]{64}") || !isImage(filename)) {
+            throw new InvalidNoticeException("Attachment not found", ErrorCode.ATTACHMENT_NOT_FOUND);
+        }
+        String sourcePath = Paths.get(FileUtil.CAS_DIRECTORY, filename.substring(0, 2), filename).toString();
+        String derivativePath = fileUtil.derivativePath(sourcePath, variant.getLabel());
+        if (attachmentStorage.exists(derivativePath)) {
+            return derivativePath;
+        }
+        if (!attachmentStorage.exists(sourcePath)) {
+            throw new InvalidNoticeException("Attachment not found", ErrorCode.ATTACHMENT_NOT_FOUND);
+        }
+        enqueue(List.of(sourcePath));
+        throw new InvalidNoticeException("Derivative is not ready", ErrorCode.DERIVATIVE_NOT_READY);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Image derivative executor did not terminate in time, {} jobs will be retried after lease expiry",
+                    executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 작업 하나를 처리하고 결과를 기록합니다.
+     * 읽을 수 없는 이미지처럼 다시 시도해도 실패할 작업은 바로 FAILED로, 그 외의 실패는 시도 횟수에 비례한 간격 뒤에 다시 시도합니다.
+     */
+    private void process(Long jobId, String sourcePath, int attempt) {
+        ImageDerivativeJob.Status status = ImageDerivativeJob.Status.DONE;
+        LocalDateTime availableAt = LocalDateTime.now();
+        String lastError = null;
+        try {
+            generateTimer.recordCallable(() -> {
+                generate(sourcePath);
+                return null;
+            });
+            completedJobs.increment();
+        } catch (UnsupportedImageException e) {
+            log.warn("Skipping derivatives for {}: {}", sourcePath, e.getMessage());
+            status = ImageDerivativeJob.Status.FAILED;
+            lastError = e.getMessage();
+            failedJobs.increment();
+        } catch (Exception e) {
+            lastError = abbreviate(e.toString());
+            if (attempt >= imageDerivativeProperties.getMaxAttempts()) {
+                log.error("Failed to generate derivatives for {} after {} attempts", sourcePath, attempt, e);
+                status = ImageDerivativeJob.Status.FAILED;
+                failedJobs.increment();
+            } else {
+                log.warn("Failed to generate derivatives for {}, retrying", sourcePath, e);
+                status = ImageDerivativeJob.Status.PENDING;
+                availableAt = availableAt.plus(imageDerivativeProperties.getRetryBackoff().multipliedBy(attempt));
+                retriedJobs.increment();
+            }
+        }
+
+        ImageDerivativeJob.Status result = status;
+        LocalDateTime nextAvailableAt = availableAt;
+        String error = lastError;
+        try {
+            requiresNewTemplate.executeWithoutResult(tx -> jobRepository.finish(jobId, result, nextAvailableAt, error, LocalDateTime.now()));
+        } catch (Exception e) {
+            log.error("Failed to record result of derivative job {}, it will be retried after lease expiry", jobId, e);
+        }
+    }
+
+    /**
+     * 원본을 한 번만 디코딩하여 큰 축소본부터 차례로 만듭니다.
+     * 원본이 미리보기보다 훨씬 크면 디코딩할 때부터 픽셀을 건너뛰어 읽어 메모리와 시간을 줄이며,
+     * 작은 축소본은 원본 대신 바로 앞에서 만든 축소본을 다시 줄여서 만듭니다.
+     */
+    void generate(String sourcePath) throws IOException {
+        BufferedImage image = read(sourcePath);
+        boolean alpha = fileUtil.derivativePath(sourcePath, LARGEST_FIRST.get(0).getLabel()).endsWith(".png");
+
+        for (ImageVariant variant : LARGEST_FIRST) {
+            image = resize(image, variant.getSize(), alpha);
+            write(image, fileUtil.derivativePath(sourcePath, variant.getLabel()), alpha);
+        }
+    }
+
+    /**
+     * 원본을 저장소에서 읽습니다. 개별 파일로 저장된 원본은 파일에서 바로 읽고, 그 외에는 저장소가 제공하는 스트림으로 읽습니다.
+     */
+    private BufferedImage read(String sourcePath) throws IOException {
+        AttachmentContent content = attachmentStorage.open(sourcePath);
+        if (content == null) {
+            throw new UnsupportedImageException("Source file no longer exists");
+        }
+        Path file = content.file();
+        try (InputStream stream = file == null ? content.newInputStream() : null;
+             ImageInputStream input = ImageIO.createImageInputStream(file != null ? file.toFile() : stream)) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new UnsupportedImageException("No image reader for " + sourcePath);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > imageDerivativeProperties.getMaxPixels()) {
+                    throw new UnsupportedImageException("Image has too many pixels: " + width + "x" + height);
+                }
+
+                int target = LARGEST_FIRST.get(0).getSize();
+                int subsampling = Math.max(1, Math.max(width, height) / (target * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 비율을 유지하여 가로세로 모두 size 이하로 줄입니다.
+     * 한 번에 크게 줄이면 쌍선형 보간이 픽셀을 건너뛰어 계단 현상이 생기므로 절반씩 나누어 줄입니다.
+     */
+    private static BufferedImage resize(BufferedImage source, int size, boolean alpha) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, Math.min((double) size / width, (double) size / height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = source;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height, alpha);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height, boolean alpha) {
+        BufferedImage target = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            if (!alpha) {
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, width, height);
+            }
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * 업로드 임시 폴더의 파일에 다 쓴 뒤 저장소에 저장하여, 내려받는 쪽이 기록 중인 축소본을 읽지 않게 합니다.
+     * 축소본도 원본과 같은 저장소에 두어 어느 서버에서 만들었든 모든 서버가 같은 축소본을 응답합니다.
+     */
+    private void write(BufferedImage image, String derivativePath, boolean alpha) throws IOException {
+        Path temp = fileUtil.createStagingFile();
+        try {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName(alpha ? "png" : "jpeg").next();
+            try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+                writer.setOutput(output);
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                if (!alpha) {
+                    param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                    param.setCompressionQuality(imageDerivativeProperties.getJpegQuality());
+                }
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            attachmentStorage.store(derivativePath, temp, Files.size(temp));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private boolean derivativesExist(String sourcePath) {
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (!attachmentStorage.exists(fileUtil.derivativePath(sourcePath, variant.getLabel()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isImage(String path) {
+        int dotIndex = path.lastIndexOf(".");
+        return dotIndex != -1 && IMAGE_EXTENSIONS.contains(path.substring(dotIndex + 1).toLowerCase(Locale.ROOT));
+    }
+
+    private static String abbreviate(String message) {
+        return message.length() <= 500 ? message : message.substring(0, 500);
+    }
+
+    /**
+     * 다시 시도해도 축소본을 만들 수 없는 원본입니다. (읽을 수 없는 형식, 너무 큰 이미지, 삭제된 원본)
+     */
+    static class UnsupportedImageException extends IOException {
+        UnsupportedImageException(String message) {
+            super(message);
+        }
+    }
+}
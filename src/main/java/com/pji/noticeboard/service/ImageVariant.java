@@ -0,0 +1,42 @@
+package com.pji.noticeboard.service;
+
+import java.util.Arrays;
+
+/**
+ * 이미지 첨부파일에서 미리 만들어 두는 축소본의 종류입니다.
+ * 원본의 비율을 유지한 채 가로세로 모두 size 이하가 되도록 줄이며, 원본보다 크게 늘리지는 않습니다.
+ */
+public enum ImageVariant {
+    THUMBNAIL("thumbnail", 200),
+    PREVIEW("preview", 1024);
+
+    private final String label;
+    private final int size;
+
+    ImageVariant(String label, int size) {
+        this.label = label;
+        this.size = size;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * 요청 경로(thumbnail, preview)를 축소본 종류로 변환합니다.
+     *
+     * @param value 축소본 종류 문자열
+     * @return 축소본 종류
+     * @throws IllegalArgumentException 지원하지 않는 종류인 경우
+     */
+    public static ImageVariant from(String value) {
+        return Arrays.stream(values())
+                .filter(variant -> variant.label.equalsIgnoreCase(value) || variant.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported image variant: " + value));
+    }
+}
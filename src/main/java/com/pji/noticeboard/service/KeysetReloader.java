@@ -0,0 +1,109 @@
+package com.pji.noticeboard.service;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * 메모리 색인을 DB에서 다시 적재하는 과정을 담당합니다.
+ *
+ * 공지사항을 ID 순서로 batchSize씩 나누어 읽고(키셋 페이지네이션), 읽는 동안 이벤트로 들어온 변경은 공지사항 ID별로 모아 둡니다.
+ * 읽기가 끝나면 읽은 목록으로 만든 색인과 모아 둔 변경을 함께 넘기므로, 적재하는 쪽은 DB에서 읽은 이전 값이 그 사이의 변경을 덮어쓰지 않게 할 수 있습니다.
+ * 변경 기록과 적재 결과 반영은 같은 잠금 안에서 일어나므로, 반영이 끝난 뒤의 변경은 기록되지 않고 새 색인에 바로 적용됩니다.
+ *
+ * @param <C> 읽는 동안 기록할 변경 타입
+ */
+final class KeysetReloader<C> {
+
+    /**
+     * 마지막으로 읽은 ID 다음부터 한 묶음을 ID 오름차순으로 읽는 쿼리입니다.
+     */
+    @FunctionalInterface
+    interface BatchQuery<T> {
+        List<T> findAfter(long lastId, Pageable pageable);
+    }
+
+    private final Object lock;
+    private final Object reloading = new Object();
+
+    /**
+     * 재적재 중에 들어온 변경입니다. 재적재 중이 아니면 null입니다.
+     */
+    private Map<Long, C> changedWhileLoading;
+
+    KeysetReloader() {
+        this.lock = this;
+    }
+
+    /**
+     * @param lock 변경 기록과 적재 결과 반영에 쓸 잠금. 호출하는 쪽이 자기 상태를 지키는 잠금과 같게 하려면 넘깁니다.
+     */
+    KeysetReloader(Object lock) {
+        this.lock = lock;
+    }
+
+    /**
+     * 재적재 중이면 변경을 기록합니다. 같은 공지사항의 변경은 마지막 것만 남습니다.
+     * 호출하는 쪽은 기록과 별개로 현재 색인에도 변경을 반영해야 합니다.
+     *
+     * @param id 변경된 공지사항 ID
+     * @param change 변경 내용
+     */
+    void record(Long id, C change) {
+        synchronized (lock) {
+            if (changedWhileLoading != null) {
+                changedWhileLoading.put(id, change);
+            }
+        }
+    }
+
+    /**
+     * DB에서 모든 묶음을 읽어 잠금 밖에서 색인을 만든 뒤, 만든 색인과 읽는 동안 기록된 변경을 잠금 안에서 publish에 넘깁니다.
+     * 재적재는 한 번에 하나만 실행됩니다.
+     *
+     * @param query 묶음 쿼리
+     * @param idOf 항목의 ID (다음 묶음의 기준)
+     * @param batchSize 묶음 크기
+     * @param build 읽은 목록으로 색인을 만드는 함수
+     * @param publish 만든 색인에 읽는 동안의 변경을 적용하고 현재 색인으로 바꾸는 함수
+     * @return 만든 색인
+     */
+    <T, R> R reload(BatchQuery<T> query, ToLongFunction<T> idOf, int batchSize,
+                    Function<List<T>, R> build, BiConsumer<R, Map<Long, C>> publish) {
+        synchronized (reloading) {
+            synchronized (lock) {
+                changedWhileLoading = new HashMap<>();
+            }
+            try {
+                List<T> items = new ArrayList<>();
+                long lastId = 0;
+                while (true) {
+                    List<T> batch = query.findAfter(lastId, PageRequest.of(0, batchSize));
+                    items.addAll(batch);
+                    if (batch.size() < batchSize) {
+                        break;
+                    }
+                    lastId = idOf.applyAsLong(batch.get(batch.size() - 1));
+                }
+
+                R loaded = build.apply(items);
+                synchronized (lock) {
+                    publish.accept(loaded, changedWhileLoading);
+                    changedWhileLoading = null;
+                }
+                return loaded;
+            } finally {
+                synchronized (lock) {
+                    changedWhileLoading = null;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.pji.noticeboard.service;
+
+import com.pji.noticeboard.config.ArchiveProperties;
+import com.pji.noticeboard.entity.Notice;
+import com.pji.noticeboard.event.NoticeChangedEvent;
+import com.pji.noticeboard.repository.ArchivedNoticeRepository;
+import com.pji.noticeboard.repository.NoticeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시가 끝난 지 retention이 지난 공지사항을 보관 테이블로 옮겨 notice 테이블을 게시 중이거나 최근에 끝난 공지사항만큼으로 유지합니다.
+ *
+ * 한 배치마다 짧은 트랜잭션 안에서 대상 행을 잠그고, 공지사항과 첨부파일 경로, 원본 파일 이름을 INSERT ... SELECT로 notice_archive,
+ * notice_archive_attachment_paths, notice_archive_attachment_names에 복사한 뒤 원본을 삭제합니다. 한 번 실행할 때 max-batches-per-run개 배치까지만 옮기고 나머지는 다음 주기에 이어갑니다.
+ * 옮긴 공지사항은 NoticeDetailLoader가 보관 테이블에서 찾으므로 같은 ID로 계속 조회되며, 첨부파일도 계속 참조된 것으로 셉니다.
+ * 옮긴 공지사항은 ARCHIVED 이벤트로 메모리 색인과 순위에서만 빼고, 아직 DB에 반영되지 않은 조회수는 버리지 않고 보관 테이블에 반영되게 둡니다.
+ * 여러 노드가 동시에 실행해도 행 잠금으로 같은 공지사항을 두 번 옮기지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoticeArchiver {
+
+    private final NoticeRepository noticeRepository;
+    private final ArchivedNoticeRepository archivedNoticeRepository;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArchiveProperties archiveProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelayString = "${notice.archive.interval:600000}", initialDelayString = "${notice.archive.interval:600000}")
+    public void schedule() {
+        if (archiveProperties.isEnabled()) {
+            archive();
+        }
+    }
+
+    /**
+     * 보관 대상 공지사항을 배치 단위로 옮깁니다. 배치가 실패하면 해당 배치만 롤백하고 이번 실행을 멈춥니다.
+     *
+     * @return 옮긴 공지사항 수
+     */
+    public int archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(archiveProperties.getRetention());
+        int archived = 0;
+        for (int batch = 0; batch < archiveProperties.getMaxBatchesPerRun(); batch++) {
+            int moved;
+            try {
+                moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            } catch (RuntimeException e) {
+                log.warn("Failed to archive notices expired before {}", cutoff, e);
+                break;
+            }
+            archived += moved;
+            if (moved < archiveProperties.getBatchSize()) {
+                break;
+            }
+        }
+
+        if (archived > 0) {
+            Cache pagesCache = cacheManager.getCache(NoticeService.NOTICE_PAGES_CACHE);
+            if (pagesCache != null) {
+                pagesCache.clear();
+            }
+            log.info("Archived {} notices expired before {}", archived, cutoff);
+        }
+        return archived;
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Long> ids = noticeRepository.findIdsExpiredBeforeForUpdate(cutoff,
+                PageRequest.of(0, archiveProperties.getBatchSize()));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        archivedNoticeRepository.copyFromNotices(ids, LocalDateTime.now());
+        archivedNoticeRepository.copyAttachmentPathsFromNotices(ids);
+        archivedNoticeRepository.copyAttachmentNamesFromNotices(ids);
+        noticeRepository.deleteAttachmentPathsByNoticeIdIn(ids);
+        noticeRepository.deleteAttachmentNamesByNoticeIdIn(ids);
+        noticeRepository.deleteByIdIn(ids);
+
+        for (Long id : ids) {
+            eventPublisher.publishEvent(new NoticeChangedEvent(NoticeChangedEvent.Type.ARCHIVED,
+                    Notice.builder().id(id).build()));
+        }
+        return ids.size();
+    }
+}
@@ -0,0 +1,220 @@
+package com.pji.noticeboard.service;
+
+import com.pji.noticeboard.config.ReplicaRoutingProperties;
+import com.pji.noticeboard.dto.NoticeDto;
+import com.pji.noticeboard.entity.ArchivedNotice;
+import com.pji.noticeboard.entity.Notice;
+import com.pji.noticeboard.event.NoticeChangedEvent;
+import com.pji.noticeboard.exception.ErrorCode;
+import com.pji.noticeboard.exception.InvalidNoticeException;
+import com.pji.noticeboard.repository.ArchivedNoticeRepository;
+import com.pji.noticeboard.repository.NoticeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공지사항 상세 정보를 조회하여 noticeDetail 캐시에 보관합니다.
+ *
+ * 캐시된 조회수는 적재 시점의 DB 값이므로 응답할 때는 ViewCountService의 현재 값으로 덮어써야 합니다.
+ * 캐시된 객체는 여러 요청이 공유하므로 수정하지 말고 toBuilder()로 복사해서 사용합니다.
+ * notice 테이블에 없는 공지사항은 보관 테이블에서 찾으므로, NoticeArchiver가 옮긴 공지사항도 같은 ID로 조회됩니다.
+ * 어디에도 없으면 게시 시작 전인 공지사항과 같은 예외를 던져, 응답으로 둘을 구분할 수 없게 합니다.
+ *
+ * 캐시에 없을 때는 읽기 전용 트랜잭션으로 읽으므로 복제본 라우팅을 따릅니다. 같은 ID를 동시에 읽으려는 요청은 한 번의 조회 결과를 함께 받습니다.
+ * 읽는 도중 그 공지사항이 변경되어 캐시가 무효화되었다면, 읽은 값은 이미 지난 값일 수 있으므로 캐시에 남기지 않습니다.
+ * 변경된 지 복제 허용 지연(maxLag)이 지나지 않은 공지사항은 복제본에 아직 이전 값이 있을 수 있으므로, 읽은 값을 반환만 하고 캐시에 남기지 않습니다.
+ */
+@Slf4j
+@Component
+public class NoticeDetailLoader {
+
+    public static final String CACHE_NAME = "noticeDetail";
+
+    private final NoticeRepository noticeRepository;
+    private final ArchivedNoticeRepository archivedNoticeRepository;
+    private final CacheManager cacheManager;
+    private final ReplicaRoutingProperties replicaRoutingProperties;
+    private final TransactionTemplate readOnlyTemplate;
+
+    /**
+     * 최근에 변경된 공지사항의 마지막 변경입니다. 캐시 무효화는 변경 이벤트 이후에 실행되므로, 읽는 동안 이 값이 바뀌었으면 읽은 값을 캐시에서 지웁니다.
+     * 복제 허용 지연이 지난 항목은 pruneVersions가 정리합니다.
+     */
+    private final Map<Long, Version> versions = new ConcurrentHashMap<>();
+    private final AtomicLong nextVersion = new AtomicLong();
+
+    /**
+     * 캐시에 없어 DB에서 읽고 있는 공지사항입니다. 같은 ID를 읽으려는 요청은 새로 조회하지 않고 이 결과를 기다립니다.
+     */
+    private final Map<Long, Load> inFlight = new ConcurrentHashMap<>();
+
+    public NoticeDetailLoader(NoticeRepository noticeRepository, ArchivedNoticeRepository archivedNoticeRepository,
+                              CacheManager cacheManager, ReplicaRoutingProperties replicaRoutingProperties,
+                              PlatformTransactionManager transactionManager) {
+        this.noticeRepository = noticeRepository;
+        this.archivedNoticeRepository = archivedNoticeRepository;
+        this.cacheManager = cacheManager;
+        this.replicaRoutingProperties = replicaRoutingProperties;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 공지사항 상세 정보를 캐시에서 반환하고, 없으면 DB에서 조회하여 캐시에 저장합니다.
+     * notice 테이블에 없으면 보관 테이블에서 조회합니다.
+     *
+     * @param id 조회할 공지사항 ID
+     * @return 조회된 공지사항 (조회수는 적재 시점의 DB 값)
+     */
+    public NoticeDto load(Long id) {
+        Cache cache = detailCache();
+        if (cache != null) {
+            NoticeDto cached = cache.get(id, NoticeDto.class);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        Load pending = new Load(versions.get(id), new CompletableFuture<>());
+        Load running = inFlight.putIfAbsent(id, pending);
+        if (running != null) {
+            // 진행 중인 조회가 시작된 뒤에 변경되었다면 그 결과는 이전 값일 수 있으므로 직접 읽습니다.
+            return Objects.equals(running.observed(), pending.observed())
+                    ? await(running.result())
+                    : loadAndCache(id, cache, pending.observed());
+        }
+        try {
+            NoticeDto notice = loadAndCache(id, cache, pending.observed());
+            pending.result().complete(notice);
+            return notice;
+        } catch (RuntimeException e) {
+            pending.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(id, pending);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        versions.put(event.getNotice().getId(), new Version(nextVersion.incrementAndGet(), System.currentTimeMillis()));
+    }
+
+    /**
+     * 복제 허용 지연이 지난 변경 기록을 정리합니다. 기록이 없으면 읽은 값을 캐시에 남깁니다.
+     */
+    @Scheduled(fixedDelayString = "${notice.detail.version-prune-interval:60000}")
+    public void pruneVersions() {
+        long cutoff = System.currentTimeMillis() - replicaRoutingProperties.getMaxLag().toMillis();
+        versions.values().removeIf(version -> version.changedAt() < cutoff);
+    }
+
+    private NoticeDto loadAndCache(Long id, Cache cache, Version observed) {
+        NoticeDto notice = readOnlyTemplate.execute(status -> loadFromDatabase(id));
+        if (cache == null || mayBeStaleOnReplica(observed)) {
+            return notice;
+        }
+        // 저장한 뒤에 확인해야, 확인 이후에 커밋된 변경의 무효화가 저장한 값을 지웁니다.
+        cache.put(id, notice);
+        if (!Objects.equals(versions.get(id), observed)) {
+            cache.evict(id);
+        }
+        return notice;
+    }
+
+    private boolean mayBeStaleOnReplica(Version observed) {
+        return observed != null && replicaRoutingProperties.isEnabled()
+                && System.currentTimeMillis() - observed.changedAt() < replicaRoutingProperties.getMaxLag().toMillis();
+    }
+
+    /**
+     * 다른 요청이 읽고 있는 결과를 기다립니다. 조회가 실패했으면 같은 예외를 던집니다.
+     */
+    private static NoticeDto await(CompletableFuture<NoticeDto> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private NoticeDto loadFromDatabase(Long id) {
+        Notice notice = noticeRepository.findWithAttachmentsById(id).orElse(null);
+        if (notice == null) {
+            return loadArchived(id);
+        }
+
+        return NoticeDto.builder()
+                .id(notice.getId())
+                .title(notice.getTitle())
+                .content(notice.getContent())
+                .startDateTime(notice.getStartDateTime())
+                .endDateTime(notice.getEndDateTime())
+                .attachmentPaths(copyOf(notice.getAttachmentPaths()))
+                .attachmentNames(notice.getAttachmentNames() != null ? Map.copyOf(notice.getAttachmentNames()) : Map.of())
+                .createdDate(notice.getCreatedDate())
+                .viewCount(notice.getViewCount())
+                .author(notice.getAuthor())
+                .build();
+    }
+
+    private NoticeDto loadArchived(Long id) {
+        ArchivedNotice notice = archivedNoticeRepository.findWithAttachmentsById(id)
+                .orElseThrow(() -> {
+                    log.error("Notice not found with id {}", id);
+                    return new InvalidNoticeException("Notice not found with id " + id, ErrorCode.NOTICE_NOT_FOUND);
+                });
+
+        return NoticeDto.builder()
+                .id(notice.getId())
+                .title(notice.getTitle())
+                .content(notice.getContent())
+                .startDateTime(notice.getStartDateTime())
+                .endDateTime(notice.getEndDateTime())
+                .attachmentPaths(copyOf(notice.getAttachmentPaths()))
+                .attachmentNames(notice.getAttachmentNames() != null ? Map.copyOf(notice.getAttachmentNames()) : Map.of())
+                .createdDate(notice.getCreatedDate())
+                .viewCount(notice.getViewCount())
+                .author(notice.getAuthor())
+                .build();
+    }
+
+    /**
+     * 트랜잭션 범위에서 호출되어도 바로 저장되고 지워지도록 트랜잭션 인식 래퍼를 벗긴 캐시를 반환합니다.
+     */
+    private Cache detailCache() {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        return cache instanceof TransactionAwareCacheDecorator decorator ? decorator.getTargetCache() : cache;
+    }
+
+    private record Version(long sequence, long changedAt) {
+    }
+
+    /**
+     * 진행 중인 조회와, 조회를 시작할 때 본 마지막 변경입니다.
+     */
+    private record Load(Version observed, CompletableFuture<NoticeDto> result) {
+    }
+
+    private static List<String> copyOf(List<String> attachmentPaths) {
+        return attachmentPaths != null ? List.copyOf(attachmentPaths) : List.of();
+    }
+}
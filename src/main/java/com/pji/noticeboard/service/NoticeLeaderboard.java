@@ -0,0 +1,298 @@
+package com.pji.noticeboard.service;
+
+import com.pji.noticeboard.config.LeaderboardProperties;
+import com.pji.noticeboard.dto.NoticeResponseDto;
+import com.pji.noticeboard.entity.Notice;
+import com.pji.noticeboard.event.NoticeChangedEvent;
+import com.pji.noticeboard.event.NoticeScheduleEvent;
+import com.pji.noticeboard.repository.NoticeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조회수 상위 공지사항을 메모리에서 유지하는 리더보드입니다.
+ *
+ * 애플리케이션 시작 시 DB에서 한 번 적재한 뒤, 조회수 증가와 등록/수정/삭제 이벤트마다 갱신합니다.
+ * 게시 시작 전인 공지사항은 시작 이벤트를 받으면 진입하고, 게시 기간이 끝난 공지사항은 종료 이벤트를 받으면 제거합니다.
+ * 조회는 DB 접근 없이 상위 N개를 순회하여 반환합니다.
+ *
+ * capacity 밖의 다음 순위를 reserve만큼 더 유지하여, 항목이 빠지면 DB를 조회하지 않고 다음 순위로 채웁니다.
+ * 제거가 이어져 capacity보다 적어지면 제거한 스레드에서 조회하지 않고 다시 적재를 예약하며, 스케줄러 스레드가 DB에서 읽은 결과를 현재 리더보드에 합칩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoticeLeaderboard {
+
+    private static final Comparator<NoticeResponseDto> RANKING =
+            Comparator.comparingInt(NoticeResponseDto::getViewCount).reversed()
+                    .thenComparing(NoticeResponseDto::getId, Comparator.reverseOrder());
+
+    private final NoticeRepository noticeRepository;
+    private final ViewCountService viewCountService;
+    private final LeaderboardProperties leaderboardProperties;
+
+    private final TreeSet<NoticeResponseDto> ranking = new TreeSet<>(RANKING);
+    private final Map<Long, NoticeResponseDto> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 유지하는 항목이 가득 찼을 때 새로 진입하려면 넘어야 하는 조회수입니다. 가득 차지 않았으면 -1입니다.
+     */
+    private volatile int admissionFloor = -1;
+
+    /**
+     * 리더보드가 capacity보다 적어져 다음 스케줄에 DB에서 다시 적재해야 하는지 여부입니다.
+     */
+    private volatile boolean refillRequested;
+
+    /**
+     * 리더보드에 없는 게시 중인 공지사항이 DB에 더 있을 수 있는지 여부입니다. 없으면 capacity보다 적어도 다시 적재하지 않습니다.
+     */
+    private boolean moreInDatabase;
+
+    /**
+     * 적재 중에 제거된 공지사항 ID입니다. 적재는 이 공지사항들의 DB 값을 무시합니다.
+     */
+    private Set<Long> removedWhileLoading;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 리더보드를 비우고 DB의 조회수 상위 공지사항으로 다시 적재합니다. 게시 시작 전이거나 게시 기간이 끝난 공지사항은 제외합니다.
+     * 아직 DB에 반영되지 않은 조회수는 ViewCountService의 값으로 보정합니다.
+     */
+    public void rebuild() {
+        synchronized (this) {
+            ranking.clear();
+            entries.clear();
+            updateAdmissionFloor();
+        }
+        load();
+    }
+
+    /**
+     * 제거로 capacity보다 적어진 리더보드를 DB에서 다시 채웁니다.
+     */
+    @Scheduled(fixedDelayString = "${notice.leaderboard.refill-interval:1000}")
+    public void refillIfRequested() {
+        if (!refillRequested) {
+            return;
+        }
+        try {
+            load();
+        } catch (RuntimeException e) {
+            log.warn("Failed to refill notice leaderboard", e);
+        }
+    }
+
+    /**
+     * DB의 조회수 상위 공지사항을 읽어 현재 리더보드에 합칩니다.
+     * 읽는 동안 반영된 조회는 리더보드의 값을 유지하고, 읽는 동안 제거된 공지사항은 다시 넣지 않습니다.
+     */
+    private void load() {
+        int limit = trackedLimit();
+        synchronized (this) {
+            refillRequested = false;
+            removedWhileLoading = new HashSet<>();
+        }
+        try {
+            List<Notice> notices = noticeRepository.findPublishedOrderByViewCountDesc(LocalDateTime.now(), PageRequest.of(0, limit));
+
+            synchronized (this) {
+                for (Notice notice : notices) {
+                    if (entries.containsKey(notice.getId()) || removedWhileLoading.contains(notice.getId())) {
+                        continue;
+                    }
+                    long viewCount = viewCountService.getCurrentCount(notice.getId(), notice.getViewCount());
+                    put(toEntry(notice, viewCount));
+                }
+                boolean trimmed = trim();
+                moreInDatabase = trimmed || notices.size() == limit;
+                updateAdmissionFloor();
+            }
+            log.info("Notice leaderboard loaded {} entries", notices.size());
+        } catch (RuntimeException e) {
+            refillRequested = true;
+            throw e;
+        } finally {
+            synchronized (this) {
+                removedWhileLoading = null;
+            }
+        }
+    }
+
+    /**
+     * 공지사항의 최신 상태를 리더보드에 반영합니다.
+     * 리더보드에 없는 공지사항은 최하위 항목보다 순위가 높을 때만 진입합니다.
+     *
+     * @param notice 최신 조회수가 반영된 공지사항
+     */
+    public void offer(NoticeResponseDto notice) {
+        int floor = admissionFloor;
+        if (floor >= 0 && notice.getViewCount() < floor && !entries.containsKey(notice.getId())) {
+            return;
+        }
+
+        synchronized (this) {
+            NoticeResponseDto previous = entries.remove(notice.getId());
+            if (previous != null) {
+                ranking.remove(previous);
+            }
+
+            NoticeResponseDto entry = copyOf(notice);
+            if (previous != null || ranking.size() < trackedLimit() || RANKING.compare(entry, ranking.last()) < 0) {
+                put(entry);
+                if (trim()) {
+                    moreInDatabase = true;
+                }
+            }
+            updateAdmissionFloor();
+        }
+    }
+
+    /**
+     * 공지사항을 리더보드에서 제거합니다. 빠진 자리는 유지하던 다음 순위가 채웁니다.
+     * 다음 순위가 모자라 capacity보다 적어지고 DB에 공지사항이 더 있을 수 있으면, 다시 적재를 예약하고 바로 반환합니다.
+     *
+     * @param id 제거할 공지사항 ID
+     */
+    public void remove(Long id) {
+        synchronized (this) {
+            if (removedWhileLoading != null) {
+                removedWhileLoading.add(id);
+            }
+            NoticeResponseDto previous = entries.remove(id);
+            if (previous == null) {
+                return;
+            }
+            ranking.remove(previous);
+            if (moreInDatabase && ranking.size() < leaderboardProperties.getCapacity()) {
+                refillRequested = true;
+            }
+            updateAdmissionFloor();
+        }
+    }
+
+    public int getCapacity() {
+        return leaderboardProperties.getCapacity();
+    }
+
+    /**
+     * 조회수 상위 공지사항을 반환합니다.
+     *
+     * @param limit 반환할 최대 개수 (리더보드 크기를 넘으면 리더보드 크기로 제한됩니다)
+     * @return 조회수 내림차순으로 정렬된 공지사항 목록
+     */
+    public synchronized List<NoticeResponseDto> getTop(int limit) {
+        int size = Math.min(Math.min(limit, leaderboardProperties.getCapacity()), ranking.size());
+        List<NoticeResponseDto> top = new ArrayList<>(size);
+        Iterator<NoticeResponseDto> iterator = ranking.iterator();
+        while (top.size() < size && iterator.hasNext()) {
+            top.add(copyOf(iterator.next()));
+        }
+        return top;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        Notice notice = event.getNotice();
+        if (!isPublished(notice, LocalDateTime.now())) {
+            remove(notice.getId());
+            return;
+        }
+        switch (event.getType()) {
+            case CREATED -> offer(toEntry(notice, notice.getViewCount()));
+            case UPDATED -> {
+                NoticeResponseDto current = entries.get(notice.getId());
+                if (current != null) {
+                    offer(toEntry(notice, current.getViewCount()));
+                }
+            }
+            case DELETED, ARCHIVED -> remove(notice.getId());
+        }
+    }
+
+    /**
+     * 게시가 시작된 공지사항을 리더보드에 진입시키고, 게시 기간이 끝난 공지사항을 제거합니다.
+     */
+    @EventListener
+    public void onNoticeScheduled(NoticeScheduleEvent event) {
+        switch (event.getType()) {
+            case ACTIVATED -> noticeRepository.findById(event.getNoticeId())
+                    .filter(notice -> isPublished(notice, LocalDateTime.now()))
+                    .ifPresent(notice -> offer(toEntry(notice,
+                            viewCountService.getCurrentCount(notice.getId(), notice.getViewCount()))));
+            case EXPIRED -> remove(event.getNoticeId());
+        }
+    }
+
+    private void put(NoticeResponseDto entry) {
+        ranking.add(entry);
+        entries.put(entry.getId(), entry);
+    }
+
+    /**
+     * 유지할 수 있는 개수를 넘는 최하위 항목을 내보냅니다. 잠금 안에서 호출해야 합니다.
+     *
+     * @return 내보낸 항목이 있으면 true
+     */
+    private boolean trim() {
+        boolean trimmed = false;
+        while (ranking.size() > trackedLimit()) {
+            entries.remove(ranking.pollLast().getId());
+            trimmed = true;
+        }
+        return trimmed;
+    }
+
+    private int trackedLimit() {
+        return leaderboardProperties.getCapacity() + leaderboardProperties.getReserve();
+    }
+
+    private void updateAdmissionFloor() {
+        admissionFloor = ranking.size() >= trackedLimit()
+                ? ranking.last().getViewCount()
+                : -1;
+    }
+
+    private static boolean isPublished(Notice notice, LocalDateTime now) {
+        return (notice.getStartDateTime() == null || !now.isBefore(notice.getStartDateTime()))
+                && (notice.getEndDateTime() == null || now.isBefore(notice.getEndDateTime()));
+    }
+
+    private static NoticeResponseDto toEntry(Notice notice, long viewCount) {
+        return NoticeResponseDto.builder()
+                .id(notice.getId())
+                .title(notice.getTitle())
+                .content(notice.getContent())
+                .createdDate(notice.getCreatedDate())
+                .viewCount((int) viewCount)
+                .author(notice.getAuthor())
+                .build();
+    }
+
+    private static NoticeResponseDto copyOf(NoticeResponseDto notice) {
+        return new NoticeResponseDto(notice.getId(), notice.getTitle(), notice.getContent(),
+                notice.getCreatedDate(), notice.getViewCount(), notice.getAuthor());
+    }
+}
@@ -0,0 +1,230 @@
+package com.pji.noticeboard.service;
+
+import com.pji.noticeboard.config.NoticeScheduleProperties;
+import com.pji.noticeboard.config.RefreshingCache;
+import com.pji.noticeboard.dto.ActiveNoticeDto;
+import com.pji.noticeboard.entity.Notice;
+import com.pji.noticeboard.event.NoticeChangedEvent;
+import com.pji.noticeboard.event.NoticeScheduleEvent;
+import com.pji.noticeboard.exception.InvalidNoticeException;
+import com.pji.noticeboard.repository.NoticeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공지사항의 게시 시작/종료 일시에 맞춰 작업을 실행합니다.
+ *
+ * 공지사항마다 캐시 예열, 게시 시작, 게시 종료 세 가지 예약을 HashedTimingWheel에 넣고, 틱마다 마감된 예약을 실행합니다.
+ * 게시 시작 prewarm-lead 전에 상세 정보를 noticeDetail 캐시에 미리 적재하여 게시 직후 몰리는 요청이 DB로 가지 않게 합니다.
+ * 게시 시작 전에는 NoticeService가 상세 조회를 거부하고 목록에서도 제외하므로, 미리 적재한 내용은 시작 시각부터 제공됩니다.
+ * 게시가 시작되면 캐시된 noticePages 목록을 백그라운드에서 다시 적재하여 목록에 나타나게 합니다. 비우지 않고 이전 목록을 반환하는 동안 갱신하므로
+ * 게시 직후 목록 요청이 한꺼번에 DB로 가지 않습니다. 시작과 종료 시에 NoticeScheduleEvent를 발행하며, 종료된 공지사항은 noticeDetail 캐시에서 제거합니다.
+ *
+ * 애플리케이션 시작 시 종료되지 않은 공지사항으로 예약을 다시 만들고, 등록/수정/삭제 이벤트마다 해당 공지사항의 예약을 바꿉니다.
+ * 캐시와 리더보드는 노드마다 있으므로 모든 노드가 각자 예약을 실행하며, 다른 노드에서 일어난 변경은 주기적인 재적재로 반영합니다.
+ */
+@Slf4j
+@Component
+public class NoticeLifecycleScheduler {
+
+    enum Phase {
+        PREWARM,
+        ACTIVATE,
+        EXPIRE
+    }
+
+    record Task(Long noticeId, Phase phase) {
+    }
+
+    private final NoticeRepository noticeRepository;
+    private final NoticeDetailLoader noticeDetailLoader;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NoticeScheduleProperties noticeScheduleProperties;
+
+    private final HashedTimingWheel<Task> wheel;
+    private final Map<Long, List<HashedTimingWheel.Timeout<Task>>> timeouts = new HashMap<>();
+
+    /**
+     * 재적재 중에 등록/수정/삭제 이벤트로 예약이 바뀐 공지사항을 기록합니다. 재적재는 이 공지사항들의 DB 값을 무시합니다.
+     * 예약과 같은 잠금(timeouts)을 씁니다.
+     */
+    private final KeysetReloader<Notice> reloader = new KeysetReloader<>(timeouts);
+
+    public NoticeLifecycleScheduler(NoticeRepository noticeRepository, NoticeDetailLoader noticeDetailLoader,
+                                    CacheManager cacheManager, ApplicationEventPublisher eventPublisher,
+                                    NoticeScheduleProperties noticeScheduleProperties) {
+        this.noticeRepository = noticeRepository;
+        this.noticeDetailLoader = noticeDetailLoader;
+        this.cacheManager = cacheManager;
+        this.eventPublisher = eventPublisher;
+        this.noticeScheduleProperties = noticeScheduleProperties;
+        this.wheel = new HashedTimingWheel<>(noticeScheduleProperties.getTickInterval(),
+                noticeScheduleProperties.getWheelSize(), System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * DB에서 종료되지 않은 공지사항을 모두 읽어 예약을 다시 만듭니다.
+     * DB에 더 이상 없는 공지사항의 예약은 취소합니다.
+     */
+    @Scheduled(fixedDelayString = "${notice.schedule.reload-interval:600000}",
+            initialDelayString = "${notice.schedule.reload-interval:600000}")
+    public void reload() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, ActiveNoticeDto> notices = reloader.reload(
+                (lastId, pageable) -> noticeRepository.findUnexpiredAfter(lastId, now, pageable),
+                ActiveNoticeDto::getId, noticeScheduleProperties.getBatchSize(),
+                loaded -> {
+                    Map<Long, ActiveNoticeDto> byId = new HashMap<>();
+                    loaded.forEach(notice -> byId.put(notice.getId(), notice));
+                    return byId;
+                },
+                (byId, changes) -> {
+                    for (Long id : new ArrayList<>(timeouts.keySet())) {
+                        if (!byId.containsKey(id) && !changes.containsKey(id)) {
+                            cancel(id);
+                        }
+                    }
+                    for (ActiveNoticeDto notice : byId.values()) {
+                        if (!changes.containsKey(notice.getId())) {
+                            schedule(notice.getId(), notice.getStartDateTime(), notice.getEndDateTime());
+                        }
+                    }
+                });
+        log.info("Notice lifecycle timers loaded for {} notices ({} timers)", notices.size(), wheel.size());
+    }
+
+    /**
+     * 마감된 예약을 실행합니다. 한 예약이 실패해도 나머지 예약은 계속 실행합니다.
+     */
+    @Scheduled(fixedDelayString = "${notice.schedule.tick-interval:1000}")
+    public void tick() {
+        List<Task> tasks = wheel.advance(System.currentTimeMillis());
+        for (Task task : tasks) {
+            synchronized (timeouts) {
+                List<HashedTimingWheel.Timeout<Task>> pending = timeouts.get(task.noticeId());
+                if (pending != null) {
+                    pending.removeIf(timeout -> timeout.getTask() == task);
+                    if (pending.isEmpty()) {
+                        timeouts.remove(task.noticeId());
+                    }
+                }
+            }
+            try {
+                run(task);
+            } catch (RuntimeException e) {
+                log.warn("Notice lifecycle task {} failed for notice {}", task.phase(), task.noticeId(), e);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        Notice notice = event.getNotice();
+        synchronized (timeouts) {
+            reloader.record(notice.getId(), notice);
+            if (event.isRemoval()) {
+                cancel(notice.getId());
+            } else {
+                schedule(notice.getId(), notice.getStartDateTime(), notice.getEndDateTime());
+            }
+        }
+    }
+
+    private void run(Task task) {
+        switch (task.phase()) {
+            case PREWARM -> prewarm(task.noticeId());
+            case ACTIVATE -> {
+                eventPublisher.publishEvent(new NoticeScheduleEvent(NoticeScheduleEvent.Type.ACTIVATED, task.noticeId()));
+                refreshPages();
+            }
+            case EXPIRE -> {
+                Cache detailCache = cacheManager.getCache(NoticeDetailLoader.CACHE_NAME);
+                if (detailCache != null) {
+                    detailCache.evict(task.noticeId());
+                }
+                eventPublisher.publishEvent(new NoticeScheduleEvent(NoticeScheduleEvent.Type.EXPIRED, task.noticeId()));
+            }
+        }
+    }
+
+    /**
+     * 캐시된 목록 페이지를 모두 다시 적재합니다. RefreshingCache가 아니면 캐시를 비웁니다.
+     */
+    private void refreshPages() {
+        Cache pagesCache = cacheManager.getCache(NoticeService.NOTICE_PAGES_CACHE);
+        Cache target = pagesCache instanceof TransactionAwareCacheDecorator decorator ? decorator.getTargetCache() : pagesCache;
+        if (target instanceof RefreshingCache refreshingCache) {
+            refreshingCache.refreshAll(key -> noticeRepository.findAllSummaries(LocalDateTime.now(), (Pageable) key));
+        } else if (pagesCache != null) {
+            pagesCache.clear();
+        }
+    }
+
+    private void prewarm(Long id) {
+        try {
+            noticeDetailLoader.load(id);
+            log.debug("Prewarmed notice {} before activation", id);
+        } catch (InvalidNoticeException e) {
+            log.debug("Skipped prewarming notice {}: {}", id, e.getMessage());
+        }
+    }
+
+    /**
+     * 공지사항의 기존 예약을 취소하고 게시 기간에 맞춰 다시 예약합니다. timeouts 잠금 안에서 호출해야 합니다.
+     */
+    private void schedule(Long id, LocalDateTime start, LocalDateTime end) {
+        cancel(id);
+        long now = System.currentTimeMillis();
+        List<HashedTimingWheel.Timeout<Task>> scheduled = new ArrayList<>(3);
+        if (start != null) {
+            long startMillis = toMillis(start);
+            if (startMillis > now) {
+                long prewarmAt = Math.max(now, startMillis - noticeScheduleProperties.getPrewarmLead().toMillis());
+                scheduled.add(wheel.schedule(new Task(id, Phase.PREWARM), prewarmAt));
+                scheduled.add(wheel.schedule(new Task(id, Phase.ACTIVATE), startMillis));
+            }
+        }
+        if (end != null) {
+            long endMillis = toMillis(end);
+            if (endMillis > now) {
+                scheduled.add(wheel.schedule(new Task(id, Phase.EXPIRE), endMillis));
+            }
+        }
+        if (!scheduled.isEmpty()) {
+            timeouts.put(id, scheduled);
+        }
+    }
+
+    private void cancel(Long id) {
+        List<HashedTimingWheel.Timeout<Task>> previous = timeouts.remove(id);
+        if (previous != null) {
+            previous.forEach(HashedTimingWheel.Timeout::cancel);
+        }
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,882 @@
+package com.pji.noticeboard.service;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 공지사항 제목과 본문의 메모리 역색인입니다. 검색어의 어절마다 색인어의 절반 이상을 포함하는 공지사항을 BM25 점수 순으로 찾습니다.
+ * 어절의 모든 바이그램을 요구하지 않으므로 조사가 붙은 검색어("공지사항을")나 띄어쓰기가 다른 본문("공지 사항")도 찾고,
+ * 더 많은 색인어가 일치한 공지사항이 앞에 옵니다.
+ *
+ * 색인은 압축된 세그먼트 하나와 최근 변경을 담는 델타로 이루어집니다.
+ * 세그먼트의 포스팅은 공지사항 ID 순서의 문서 번호를 차이값 varint로 기록하고, 128개 단위 블록마다 마지막 문서 번호와 위치를 두어
+ * 반드시 일치해야 하는 색인어의 포스팅을 따라갈 때 필요 없는 블록을 건너뜁니다.
+ * 공지사항이 추가되거나 수정되면 세그먼트의 기존 문서에 삭제 표시를 하고 델타에 추가하며, merge()가 델타를 세그먼트로 합칩니다.
+ * 조회는 잠금 없이 현재 상태를 읽고, 변경은 writeLock 안에서만 일어납니다.
+ */
+final class NoticeSearchIndex {
+
+    /**
+     * 제목에 나온 색인어는 본문에 나온 것보다 이만큼 더 여러 번 나온 것으로 셉니다.
+     */
+    static final int TITLE_WEIGHT = 2;
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int BLOCK_SIZE = 128;
+    private static final int MAGIC = 0x4E425358;
+    private static final int VERSION = 1;
+    private static final Comparator<Hit> BY_SCORE = Comparator.comparingDouble(Hit::score).thenComparingLong(Hit::id);
+
+    private final Object writeLock = new Object();
+    private final Object mergeLock = new Object();
+
+    private volatile State state;
+
+    NoticeSearchIndex() {
+        this(Segment.empty());
+    }
+
+    private NoticeSearchIndex(Segment segment) {
+        this.state = new State(segment, null, new Delta(), null);
+    }
+
+    /**
+     * 공지사항을 색인합니다. 이미 색인된 공지사항이면 새 내용으로 바꿉니다.
+     */
+    void add(long id, String title, String content) {
+        Document document = Document.of(title, content);
+        synchronized (writeLock) {
+            removeLocked(id);
+            state.active().add(id, document);
+        }
+    }
+
+    /**
+     * 공지사항을 색인에서 제거합니다.
+     *
+     * @return 색인되어 있었으면 true
+     */
+    boolean remove(long id) {
+        synchronized (writeLock) {
+            return removeLocked(id);
+        }
+    }
+
+    /**
+     * 검색어의 어절마다 색인어를 절반 이상 포함하는 공지사항을 점수가 높은 순으로 반환합니다. 점수가 같으면 최근 공지사항이 앞에 옵니다.
+     *
+     * @param query 검색어
+     * @param limit 반환할 최대 개수
+     * @return 공지사항 ID와 점수 목록
+     */
+    List<Hit> search(String query, int limit) {
+        Query parsed = Query.of(NoticeTokenizer.queryWords(query));
+        List<String> terms = parsed.terms();
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        State current = state;
+        Delta frozen = current.frozen();
+        long docCount = current.segment().liveDocs() + current.active().size() + (frozen != null ? frozen.size() : 0);
+        if (docCount == 0) {
+            return List.of();
+        }
+        long totalLength = current.segment().liveLength() + current.active().totalLength()
+                + (frozen != null ? frozen.totalLength() : 0);
+        double avgLength = Math.max(1.0, (double) totalLength / docCount);
+
+        float[] idf = new float[terms.size()];
+        for (int i = 0; i < terms.size(); i++) {
+            String term = terms.get(i);
+            long docFreq = current.segment().docFreq(term) + current.active().docFreq(term)
+                    + (frozen != null ? frozen.docFreq(term) : 0);
+            if (docFreq == 0) {
+                if (parsed.required()[i]) {
+                    return List.of();
+                }
+                continue;
+            }
+            idf[i] = (float) Math.log(1 + Math.max(0, docCount - docFreq + 0.5) / (docFreq + 0.5));
+        }
+
+        TopHits top = new TopHits(limit);
+        current.segment().collect(parsed, idf, avgLength, top);
+        if (frozen != null) {
+            frozen.collect(parsed, idf, avgLength, top, current.removedWhileMerging());
+        }
+        current.active().collect(parsed, idf, avgLength, top, Set.of());
+        return top.toList();
+    }
+
+    /**
+     * 델타와 삭제 표시를 세그먼트에 합칩니다.
+     * 병합하는 동안 들어온 변경은 새 델타에 쌓이고, 병합 중에 제거된 공지사항은 병합이 끝난 세그먼트에 다시 삭제 표시를 합니다.
+     *
+     * @return 병합했으면 true, 합칠 변경이 없으면 false
+     */
+    boolean merge() {
+        synchronized (mergeLock) {
+            State current;
+            synchronized (writeLock) {
+                current = state;
+                if (current.active().size() == 0 && current.segment().deletedDocs() == 0) {
+                    return false;
+                }
+                state = new State(current.segment(), current.active(), new Delta(), ConcurrentHashMap.newKeySet());
+            }
+
+            Segment merged = null;
+            try {
+                merged = Segment.merge(current.segment(), current.active());
+            } finally {
+                synchronized (writeLock) {
+                    State latest = state;
+                    if (merged != null) {
+                        latest.removedWhileMerging().forEach(merged::delete);
+                        state = new State(merged, null, latest.active(), null);
+                    } else {
+                        current.active().documents.forEach((id, document) -> {
+                            if (!latest.removedWhileMerging().contains(id) && !latest.active().contains(id)) {
+                                latest.active().add(id, document);
+                            }
+                        });
+                        state = new State(latest.segment(), null, latest.active(), null);
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 색인된 공지사항 수를 반환합니다.
+     */
+    long documentCount() {
+        State current = state;
+        Delta frozen = current.frozen();
+        return current.segment().liveDocs() + current.active().size() + (frozen != null ? frozen.size() : 0);
+    }
+
+    /**
+     * 세그먼트에 아직 합쳐지지 않은 변경 수를 반환합니다.
+     */
+    long pendingChanges() {
+        State current = state;
+        return current.active().size() + current.segment().deletedDocs();
+    }
+
+    /**
+     * 세그먼트를 기록합니다. 아직 합쳐지지 않은 델타는 포함하지 않으므로 필요하면 먼저 merge()를 호출합니다.
+     */
+    void writeTo(DataOutputStream output) throws IOException {
+        Segment segment = state.segment();
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeInt(segment.ids.length);
+        for (int ordinal = 0; ordinal < segment.ids.length; ordinal++) {
+            output.writeLong(segment.ids[ordinal]);
+            output.writeInt(segment.lengths[ordinal]);
+        }
+        for (int word = 0; word < segment.deleted.length(); word++) {
+            output.writeLong(segment.deleted.get(word));
+        }
+
+        output.writeInt(segment.postings.size());
+        for (Map.Entry<String, Postings> entry : segment.postings.entrySet()) {
+            Postings postings = entry.getValue();
+            output.writeUTF(entry.getKey());
+            output.writeInt(postings.docFreq());
+            output.writeInt(postings.blockLastDocs().length);
+            for (int block = 0; block < postings.blockLastDocs().length; block++) {
+                output.writeInt(postings.blockLastDocs()[block]);
+                output.writeInt(postings.blockOffsets()[block]);
+            }
+            output.writeInt(postings.data().length);
+            output.write(postings.data());
+        }
+    }
+
+    /**
+     * writeTo()로 기록한 세그먼트를 읽어 색인을 만듭니다.
+     *
+     * @throws IOException 형식이 다르거나 내용이 잘린 경우
+     */
+    static NoticeSearchIndex readFrom(DataInputStream input) throws IOException {
+        if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+            throw new IOException("Unsupported search index format");
+        }
+        int docCount = input.readInt();
+        long[] ids = new long[docCount];
+        int[] lengths = new int[docCount];
+        for (int ordinal = 0; ordinal < docCount; ordinal++) {
+            ids[ordinal] = input.readLong();
+            lengths[ordinal] = input.readInt();
+        }
+        long[] deletedWords = new long[wordCount(docCount)];
+        for (int word = 0; word < deletedWords.length; word++) {
+            deletedWords[word] = input.readLong();
+        }
+
+        int termCount = input.readInt();
+        Map<String, Postings> postings = new HashMap<>(Math.max(16, termCount * 4 / 3));
+        for (int i = 0; i < termCount; i++) {
+            String term = input.readUTF();
+            int docFreq = input.readInt();
+            int blockCount = input.readInt();
+            int[] blockLastDocs = new int[blockCount];
+            int[] blockOffsets = new int[blockCount];
+            for (int block = 0; block < blockCount; block++) {
+                blockLastDocs[block] = input.readInt();
+                blockOffsets[block] = input.readInt();
+            }
+            byte[] data = new byte[input.readInt()];
+            input.readFully(data);
+            postings.put(term, new Postings(docFreq, data, blockLastDocs, blockOffsets));
+        }
+
+        Segment segment = new Segment(ids, lengths, postings);
+        for (int ordinal = 0; ordinal < docCount; ordinal++) {
+            if ((deletedWords[ordinal >>> 6] & (1L << ordinal)) != 0) {
+                segment.deleteOrdinal(ordinal);
+            }
+        }
+        return new NoticeSearchIndex(segment);
+    }
+
+    private boolean removeLocked(long id) {
+        State current = state;
+        boolean removed = current.segment().delete(id);
+        if (current.frozen() != null) {
+            removed |= current.removedWhileMerging().add(id) && current.frozen().contains(id);
+        }
+        removed |= current.active().remove(id);
+        return removed;
+    }
+
+    private static float score(int frequency, int length, float idf, double avgLength) {
+        return (float) (idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / avgLength)));
+    }
+
+    private static int wordCount(int docCount) {
+        return (docCount + 63) >>> 6;
+    }
+
+    /**
+     * 어절의 색인어 중 일치해야 하는 최소 개수입니다. 바이그램이 두 개 이하인 어절은 하나만 일치해도 됩니다.
+     */
+    static int minimumMatch(int termCount) {
+        return (termCount + 1) / 2;
+    }
+
+    /**
+     * 검색 결과 한 건입니다.
+     */
+    record Hit(long id, float score) {
+    }
+
+    /**
+     * 공지사항 ID 순서로 공지사항을 추가하여 세그먼트 하나로 된 색인을 만듭니다. 전체 재색인에 사용합니다.
+     */
+    static final class Builder {
+
+        private long[] ids = new long[1024];
+        private int[] lengths = new int[1024];
+        private int count;
+        private final Map<String, PostingsWriter> writers = new HashMap<>();
+
+        void add(long id, String title, String content) {
+            if (count > 0 && id <= ids[count - 1]) {
+                throw new IllegalArgumentException("Notices must be added in ascending id order");
+            }
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, count * 2);
+                lengths = Arrays.copyOf(lengths, count * 2);
+            }
+            Document document = Document.of(title, content);
+            int ordinal = count++;
+            ids[ordinal] = id;
+            lengths[ordinal] = document.length();
+            document.frequencies().forEach((term, frequency) ->
+                    writers.computeIfAbsent(term, key -> new PostingsWriter()).add(ordinal, frequency));
+        }
+
+        NoticeSearchIndex build() {
+            Map<String, Postings> postings = new HashMap<>(Math.max(16, writers.size() * 4 / 3));
+            writers.forEach((term, writer) -> postings.put(term, writer.toPostings()));
+            return new NoticeSearchIndex(new Segment(Arrays.copyOf(ids, count), Arrays.copyOf(lengths, count), postings));
+        }
+    }
+
+    /**
+     * 조회가 읽는 색인 상태입니다. 병합 중에는 병합 대상 델타(frozen)와 병합 중에 제거된 공지사항 ID를 함께 가집니다.
+     */
+    private record State(Segment segment, Delta frozen, Delta active, Set<Long> removedWhileMerging) {
+    }
+
+    /**
+     * 어절별로 나눈 검색어입니다. terms는 중복 없는 색인어, words는 어절마다 속한 색인어 번호, minimums는 어절마다 일치해야 하는 색인어 수입니다.
+     * required는 어절의 색인어가 모두 일치해야 해서 반드시 포함되어야 하는 색인어입니다.
+     */
+    private record Query(List<String> terms, int[][] words, int[] minimums, boolean[] required) {
+
+        static Query of(List<List<String>> queryWords) {
+            List<String> terms = new ArrayList<>();
+            Map<String, Integer> indexes = new HashMap<>();
+            int[][] words = new int[queryWords.size()][];
+            int[] minimums = new int[queryWords.size()];
+            for (int w = 0; w < queryWords.size(); w++) {
+                List<String> word = queryWords.get(w);
+                words[w] = new int[word.size()];
+                for (int t = 0; t < word.size(); t++) {
+                    words[w][t] = indexes.computeIfAbsent(word.get(t), term -> {
+                        terms.add(term);
+                        return terms.size() - 1;
+                    });
+                }
+                minimums[w] = minimumMatch(word.size());
+            }
+
+            boolean[] required = new boolean[terms.size()];
+            for (int w = 0; w < words.length; w++) {
+                if (minimums[w] == words[w].length) {
+                    for (int index : words[w]) {
+                        required[index] = true;
+                    }
+                }
+            }
+            return new Query(terms, words, minimums, required);
+        }
+
+        /**
+         * 색인어별 출현 횟수가 모든 어절의 최소 일치 개수를 채우는지 확인합니다.
+         */
+        boolean matches(int[] frequencies) {
+            for (int w = 0; w < words.length; w++) {
+                int matched = 0;
+                for (int index : words[w]) {
+                    if (frequencies[index] > 0) {
+                        matched++;
+                    }
+                }
+                if (matched < minimums[w]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private record Document(int length, Map<String, Integer> frequencies) {
+
+        static Document of(String title, String content) {
+            Map<String, Integer> frequencies = new HashMap<>();
+            int length = NoticeTokenizer.countTerms(title, TITLE_WEIGHT, frequencies)
+                    + NoticeTokenizer.countTerms(content, 1, frequencies);
+            return new Document(length, frequencies);
+        }
+    }
+
+    /**
+     * 압축된 포스팅 목록입니다. blockLastDocs[i]는 i번째 블록의 마지막 문서 번호, blockOffsets[i]는 블록의 시작 위치입니다.
+     */
+    private record Postings(int docFreq, byte[] data, int[] blockLastDocs, int[] blockOffsets) {
+    }
+
+    /**
+     * 변경할 수 없는 압축 세그먼트입니다. 문서 번호는 공지사항 ID 오름차순이며, 삭제 표시만 나중에 바뀝니다.
+     */
+    private static final class Segment {
+
+        private final long[] ids;
+        private final int[] lengths;
+        private final Map<String, Postings> postings;
+        private final AtomicLongArray deleted;
+        private final long totalLength;
+        private final AtomicInteger deletedDocs = new AtomicInteger();
+        private final AtomicLong deletedLength = new AtomicLong();
+
+        private Segment(long[] ids, int[] lengths, Map<String, Postings> postings) {
+            this.ids = ids;
+            this.lengths = lengths;
+            this.postings = postings;
+            this.deleted = new AtomicLongArray(wordCount(ids.length));
+            long total = 0;
+            for (int length : lengths) {
+                total += length;
+            }
+            this.totalLength = total;
+        }
+
+        static Segment empty() {
+            return new Segment(new long[0], new int[0], Map.of());
+        }
+
+        boolean delete(long id) {
+            int ordinal = Arrays.binarySearch(ids, id);
+            return ordinal >= 0 && deleteOrdinal(ordinal);
+        }
+
+        boolean deleteOrdinal(int ordinal) {
+            int word = ordinal >>> 6;
+            long mask = 1L << ordinal;
+            long bits;
+            do {
+                bits = deleted.get(word);
+                if ((bits & mask) != 0) {
+                    return false;
+                }
+            } while (!deleted.compareAndSet(word, bits, bits | mask));
+            deletedDocs.incrementAndGet();
+            deletedLength.addAndGet(lengths[ordinal]);
+            return true;
+        }
+
+        boolean isDeleted(int ordinal) {
+            return (deleted.get(ordinal >>> 6) & (1L << ordinal)) != 0;
+        }
+
+        int liveDocs() {
+            return ids.length - deletedDocs.get();
+        }
+
+        int deletedDocs() {
+            return deletedDocs.get();
+        }
+
+        long liveLength() {
+            return totalLength - deletedLength.get();
+        }
+
+        int docFreq(String term) {
+            Postings termPostings = postings.get(term);
+            return termPostings != null ? termPostings.docFreq() : 0;
+        }
+
+        /**
+         * 반드시 일치해야 하는 색인어가 있으면 그 포스팅들이 모두 가리키는 문서로 블록을 건너뛰며 이동하고,
+         * 없으면 색인어 포스팅의 합집합을 문서 번호 순으로 훑습니다. 나머지 색인어는 후보 문서까지만 읽습니다.
+         */
+        void collect(Query query, float[] idf, double avgLength, TopHits top) {
+            List<String> terms = query.terms();
+            int termCount = terms.size();
+            PostingsCursor[] cursors = new PostingsCursor[termCount];
+            boolean hasRequired = false;
+            for (int i = 0; i < termCount; i++) {
+                Postings termPostings = postings.get(terms.get(i));
+                if (termPostings == null) {
+                    if (query.required()[i]) {
+                        return;
+                    }
+                    continue;
+                }
+                cursors[i] = new PostingsCursor(termPostings);
+                hasRequired |= query.required()[i];
+            }
+
+            int[] frequencies = new int[termCount];
+            int target = 0;
+            while (true) {
+                int doc = hasRequired ? alignRequired(query, cursors, target) : nextOptional(cursors, target);
+                if (doc < 0) {
+                    return;
+                }
+                target = doc + 1;
+
+                for (int i = 0; i < termCount; i++) {
+                    PostingsCursor cursor = cursors[i];
+                    frequencies[i] = cursor != null && cursor.advance(doc) && cursor.doc == doc ? cursor.frequency : 0;
+                }
+                if (isDeleted(doc) || !query.matches(frequencies)) {
+                    continue;
+                }
+
+                float score = 0;
+                for (int i = 0; i < termCount; i++) {
+                    if (frequencies[i] > 0) {
+                        score += score(frequencies[i], lengths[doc], idf[i], avgLength);
+                    }
+                }
+                top.offer(ids[doc], score);
+            }
+        }
+
+        /**
+         * 반드시 일치해야 하는 색인어의 포스팅이 모두 가리키는 target 이상의 첫 문서를 찾습니다.
+         *
+         * @return 문서 번호, 없으면 -1
+         */
+        private static int alignRequired(Query query, PostingsCursor[] cursors, int target) {
+            boolean aligned = false;
+            while (!aligned) {
+                aligned = true;
+                for (int i = 0; i < cursors.length; i++) {
+                    if (!query.required()[i]) {
+                        continue;
+                    }
+                    if (!cursors[i].advance(target)) {
+                        return -1;
+                    }
+                    if (cursors[i].doc != target) {
+                        target = cursors[i].doc;
+                        aligned = false;
+                    }
+                }
+            }
+            return target;
+        }
+
+        /**
+         * 색인어 포스팅 중 하나라도 가리키는 target 이상의 첫 문서를 찾습니다.
+         *
+         * @return 문서 번호, 없으면 -1
+         */
+        private static int nextOptional(PostingsCursor[] cursors, int target) {
+            int doc = Integer.MAX_VALUE;
+            for (PostingsCursor cursor : cursors) {
+                if (cursor != null && cursor.advance(target)) {
+                    doc = Math.min(doc, cursor.doc);
+                }
+            }
+            return doc == Integer.MAX_VALUE ? -1 : doc;
+        }
+
+        /**
+         * 세그먼트의 살아 있는 문서와 델타의 문서를 합쳐 새 세그먼트를 만듭니다.
+         * 두 쪽 모두 ID 순서로 문서 번호를 다시 매기므로 색인어마다 두 포스팅을 한 번씩 훑어 합칠 수 있습니다.
+         */
+        static Segment merge(Segment base, Delta delta) {
+            long[] deltaIds = delta.documents.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            int baseCount = base.ids.length;
+            long[] ids = new long[baseCount + deltaIds.length];
+            int[] lengths = new int[ids.length];
+            int[] remap = new int[baseCount];
+            int[] deltaOrdinals = new int[deltaIds.length];
+
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < baseCount || j < deltaIds.length) {
+                if (i < baseCount && base.isDeleted(i)) {
+                    remap[i++] = -1;
+                } else if (j == deltaIds.length || (i < baseCount && base.ids[i] < deltaIds[j])) {
+                    ids[count] = base.ids[i];
+                    lengths[count] = base.lengths[i];
+                    remap[i++] = count++;
+                } else {
+                    if (i < baseCount && base.ids[i] == deltaIds[j]) {
+                        remap[i++] = -1;
+                    }
+                    ids[count] = deltaIds[j];
+                    lengths[count] = delta.documents.get(deltaIds[j]).length();
+                    deltaOrdinals[j++] = count++;
+                }
+            }
+
+            Map<String, PostingsWriter> deltaWriters = new HashMap<>();
+            for (j = 0; j < deltaIds.length; j++) {
+                int ordinal = deltaOrdinals[j];
+                delta.documents.get(deltaIds[j]).frequencies().forEach((term, frequency) ->
+                        deltaWriters.computeIfAbsent(term, key -> new PostingsWriter()).add(ordinal, frequency));
+            }
+
+            Set<String> terms = new HashSet<>(base.postings.keySet());
+            terms.addAll(deltaWriters.keySet());
+            Map<String, Postings> postings = new HashMap<>(Math.max(16, terms.size() * 4 / 3));
+            for (String term : terms) {
+                Postings basePostings = base.postings.get(term);
+                PostingsWriter deltaWriter = deltaWriters.get(term);
+                PostingsCursor baseCursor = basePostings != null ? new PostingsCursor(basePostings) : null;
+                PostingsCursor deltaCursor = deltaWriter != null ? new PostingsCursor(deltaWriter.toPostings()) : null;
+
+                PostingsWriter writer = new PostingsWriter();
+                boolean hasBase = nextLive(baseCursor, remap);
+                boolean hasDelta = deltaCursor != null && deltaCursor.next();
+                while (hasBase || hasDelta) {
+                    if (hasBase && (!hasDelta || remap[baseCursor.doc] < deltaCursor.doc)) {
+                        writer.add(remap[baseCursor.doc], baseCursor.frequency);
+                        hasBase = nextLive(baseCursor, remap);
+                    } else {
+                        writer.add(deltaCursor.doc, deltaCursor.frequency);
+                        hasDelta = deltaCursor.next();
+                    }
+                }
+                if (writer.docFreq > 0) {
+                    postings.put(term, writer.toPostings());
+                }
+            }
+            return new Segment(Arrays.copyOf(ids, count), Arrays.copyOf(lengths, count), postings);
+        }
+
+        private static boolean nextLive(PostingsCursor cursor, int[] remap) {
+            while (cursor != null && cursor.next()) {
+                if (remap[cursor.doc] >= 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 마지막 병합 이후에 추가된 공지사항입니다. 색인어별 공지사항 ID 집합으로 찾고 출현 횟수는 문서에서 읽습니다.
+     */
+    private static final class Delta {
+
+        private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+        private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+        private final AtomicLong totalLength = new AtomicLong();
+
+        void add(long id, Document document) {
+            documents.put(id, document);
+            totalLength.addAndGet(document.length());
+            document.frequencies().keySet().forEach(term ->
+                    postings.computeIfAbsent(term, key -> ConcurrentHashMap.newKeySet()).add(id));
+        }
+
+        boolean remove(long id) {
+            Document document = documents.remove(id);
+            if (document == null) {
+                return false;
+            }
+            totalLength.addAndGet(-document.length());
+            document.frequencies().keySet().forEach(term -> {
+                Set<Long> ids = postings.get(term);
+                if (ids != null) {
+                    ids.remove(id);
+                }
+            });
+            return true;
+        }
+
+        boolean contains(long id) {
+            return documents.containsKey(id);
+        }
+
+        int size() {
+            return documents.size();
+        }
+
+        long totalLength() {
+            return totalLength.get();
+        }
+
+        int docFreq(String term) {
+            Set<Long> ids = postings.get(term);
+            return ids != null ? ids.size() : 0;
+        }
+
+        /**
+         * 반드시 일치해야 하는 색인어가 있으면 그중 가장 적은 공지사항을 가진 색인어의 공지사항만, 없으면 색인어별 공지사항을 모두 후보로 봅니다.
+         */
+        void collect(Query query, float[] idf, double avgLength, TopHits top, Set<Long> excluded) {
+            List<String> terms = query.terms();
+            Set<Long> required = null;
+            Set<Long> candidates = new HashSet<>();
+            for (int i = 0; i < terms.size(); i++) {
+                Set<Long> ids = postings.get(terms.get(i));
+                boolean empty = ids == null || ids.isEmpty();
+                if (query.required()[i]) {
+                    if (empty) {
+                        return;
+                    }
+                    if (required == null || ids.size() < required.size()) {
+                        required = ids;
+                    }
+                } else if (!empty) {
+                    candidates.addAll(ids);
+                }
+            }
+            if (required != null) {
+                candidates = required;
+            }
+
+            int[] frequencies = new int[terms.size()];
+            for (Long id : candidates) {
+                Document document = documents.get(id);
+                if (document == null || excluded.contains(id)) {
+                    continue;
+                }
+                for (int i = 0; i < terms.size(); i++) {
+                    frequencies[i] = document.frequencies().getOrDefault(terms.get(i), 0);
+                }
+                if (!query.matches(frequencies)) {
+                    continue;
+                }
+                float score = 0;
+                for (int i = 0; i < terms.size(); i++) {
+                    if (frequencies[i] > 0) {
+                        score += score(frequencies[i], document.length(), idf[i], avgLength);
+                    }
+                }
+                top.offer(id, score);
+            }
+        }
+    }
+
+    /**
+     * 포스팅을 블록 단위로 압축하여 기록합니다. 문서 번호는 오름차순으로 추가해야 합니다.
+     */
+    private static final class PostingsWriter {
+
+        private byte[] data = new byte[16];
+        private int size;
+        private int docFreq;
+        private int lastDoc = -1;
+        private int[] blockLastDocs = new int[1];
+        private int[] blockOffsets = new int[1];
+
+        void add(int doc, int frequency) {
+            int block = docFreq / BLOCK_SIZE;
+            if (docFreq % BLOCK_SIZE == 0) {
+                if (block == blockOffsets.length) {
+                    blockLastDocs = Arrays.copyOf(blockLastDocs, block * 2);
+                    blockOffsets = Arrays.copyOf(blockOffsets, block * 2);
+                }
+                blockOffsets[block] = size;
+            }
+            writeVarInt(doc - lastDoc);
+            writeVarInt(frequency);
+            blockLastDocs[block] = doc;
+            lastDoc = doc;
+            docFreq++;
+        }
+
+        Postings toPostings() {
+            int blockCount = (docFreq + BLOCK_SIZE - 1) / BLOCK_SIZE;
+            return new Postings(docFreq, Arrays.copyOf(data, size),
+                    Arrays.copyOf(blockLastDocs, blockCount), Arrays.copyOf(blockOffsets, blockCount));
+        }
+
+        private void writeVarInt(int value) {
+            if (size + 5 > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, size + 5));
+            }
+            while ((value & ~0x7F) != 0) {
+                data[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            data[size++] = (byte) value;
+        }
+    }
+
+    /**
+     * 압축된 포스팅을 순서대로 읽습니다. advance()는 대상 문서 번호가 있는 블록으로 바로 이동합니다.
+     */
+    private static final class PostingsCursor {
+
+        private final Postings postings;
+        private int read;
+        private int offset;
+        private int doc = -1;
+        private int frequency;
+        private boolean exhausted;
+
+        PostingsCursor(Postings postings) {
+            this.postings = postings;
+        }
+
+        boolean next() {
+            if (read == postings.docFreq()) {
+                exhausted = true;
+                return false;
+            }
+            doc += readVarInt();
+            frequency = readVarInt();
+            read++;
+            return true;
+        }
+
+        /**
+         * target 이상인 첫 문서로 이동합니다.
+         *
+         * @return 그런 문서가 있으면 true
+         */
+        boolean advance(int target) {
+            if (exhausted) {
+                return false;
+            }
+            if (doc >= target) {
+                return true;
+            }
+
+            int[] blockLastDocs = postings.blockLastDocs();
+            int block = read == 0 ? 0 : (read - 1) / BLOCK_SIZE;
+            if (blockLastDocs[block] < target) {
+                int found = Arrays.binarySearch(blockLastDocs, block + 1, blockLastDocs.length, target);
+                int next = found >= 0 ? found : -found - 1;
+                if (next == blockLastDocs.length) {
+                    exhausted = true;
+                    return false;
+                }
+                offset = postings.blockOffsets()[next];
+                doc = blockLastDocs[next - 1];
+                read = next * BLOCK_SIZE;
+            }
+            while (next()) {
+                if (doc >= target) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int readVarInt() {
+            byte[] data = postings.data();
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[offset++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+
+    /**
+     * 점수가 높은 limit개의 결과를 크기가 limit인 최소 힙으로 고릅니다.
+     */
+    private static final class TopHits {
+
+        private final int limit;
+        private final PriorityQueue<Hit> heap;
+
+        TopHits(int limit) {
+            this.limit = limit;
+            this.heap = new PriorityQueue<>(limit, BY_SCORE);
+        }
+
+        void offer(long id, float score) {
+            Hit hit = new Hit(id, score);
+            if (heap.size() < limit) {
+                heap.add(hit);
+            } else if (BY_SCORE.compare(hit, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(hit);
+            }
+        }
+
+        List<Hit> toList() {
+            List<Hit> hits = new ArrayList<>(heap);
+            hits.sort(BY_SCORE.reversed());
+            return hits;
+        }
+    }
+}
@@ -0,0 +1,411 @@
+package com.pji.noticeboard.service;
+
+import com.pji.noticeboard.config.NoticeSearchProperties;
+import com.pji.noticeboard.entity.Notice;
+import com.pji.noticeboard.event.NoticeChangedEvent;
+import com.pji.noticeboard.exception.ErrorCode;
+import com.pji.noticeboard.exception.InvalidNoticeException;
+import com.pji.noticeboard.repository.NoticeRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 공지사항 제목과 본문을 메모리 역색인(NoticeSearchIndex)으로 검색합니다.
+ *
+ * 이 서버에서 일어난 변경은 커밋 직후 색인에 반영하고, 다른 서버에서 일어난 변경은 sync-interval마다
+ * modified_date 순서로 읽어 반영합니다. 색인은 persist-interval마다 index-path에 스냅숏으로 저장되어,
+ * 재시작할 때 스냅숏을 읽은 뒤 저장 시점 이후의 변경만 따라잡습니다. 스냅숏이 없거나 깨져 있으면 백그라운드에서 전체를 다시 색인하며,
+ * 그동안 검색은 503으로 응답합니다. 다른 서버에서 삭제된 공지사항은 검색 결과를 조회할 때 제외되고 다음 전체 재색인(rebuild-cron)에서 정리됩니다.
+ */
+@Slf4j
+@Service
+public class NoticeSearchService {
+
+    private static final String SNAPSHOT_FILE = "notices.idx";
+
+    private final NoticeRepository noticeRepository;
+    private final NoticeSearchProperties noticeSearchProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer searchTimer;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(workerThreadFactory());
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final Set<Long> deletedWhileRebuilding = ConcurrentHashMap.newKeySet();
+
+    private volatile NoticeSearchIndex index;
+    private volatile LocalDateTime syncedUntil;
+    private volatile boolean dirty;
+    private volatile LocalDateTime lastRebuiltAt;
+    private volatile LocalDateTime lastPersistedAt;
+
+    public NoticeSearchService(NoticeRepository noticeRepository, NoticeSearchProperties noticeSearchProperties,
+                               TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.noticeRepository = noticeRepository;
+        this.noticeSearchProperties = noticeSearchProperties;
+        this.transactionTemplate = transactionTemplate;
+        this.searchTimer = Timer.builder("notice.search.query")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("notice.search.documents", this, service -> {
+                    NoticeSearchIndex current = service.index;
+                    return current != null ? current.documentCount() : 0;
+                })
+                .register(meterRegistry);
+    }
+
+    /**
+     * 저장된 스냅숏을 읽고, 없거나 읽을 수 없으면 백그라운드에서 전체를 색인합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!load()) {
+            rebuildInBackground();
+        }
+    }
+
+    /**
+     * 검색어의 모든 색인어를 포함하는 공지사항 ID를 관련도 순으로 반환합니다.
+     *
+     * @param query 검색어
+     * @param limit 반환할 최대 개수
+     * @return 관련도 내림차순으로 정렬된 공지사항 ID 목록
+     * @throws InvalidNoticeException 첫 색인이 아직 끝나지 않은 경우
+     */
+    public List<Long> search(String query, int limit) {
+        NoticeSearchIndex current = index;
+        if (current == null) {
+            throw new InvalidNoticeException("Search index is not ready", ErrorCode.SEARCH_INDEX_NOT_READY);
+        }
+        return searchTimer.record(() -> current.search(query, limit)).stream()
+                .map(NoticeSearchIndex.Hit::id)
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        Notice notice = event.getNotice();
+        if (event.isRemoval()) {
+            if (rebuilding.get()) {
+                deletedWhileRebuilding.add(notice.getId());
+            }
+            NoticeSearchIndex current = index;
+            if (current != null) {
+                current.remove(notice.getId());
+            }
+        } else {
+            NoticeSearchIndex current = index;
+            if (current != null) {
+                current.add(notice.getId(), notice.getTitle(), notice.getContent());
+            }
+        }
+        dirty = true;
+    }
+
+    /**
+     * 마지막 동기화 이후에 수정된 공지사항을 색인에 반영하고, 쌓인 변경이 merge-threshold를 넘으면 세그먼트로 합칩니다.
+     * 커밋이 수정 시각보다 늦게 보이는 경우를 위해 sync-overlap만큼 이전부터 다시 읽습니다.
+     */
+    @Scheduled(fixedDelayString = "${notice.search.sync-interval:5000}", initialDelayString = "${notice.search.sync-interval:5000}")
+    public synchronized void sync() {
+        NoticeSearchIndex current = index;
+        if (current == null || rebuilding.get()) {
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        int synced = catchUp(current, syncedUntil);
+        LocalDateTime next = startedAt.minus(noticeSearchProperties.getSyncOverlap());
+        if (syncedUntil == null || next.isAfter(syncedUntil)) {
+            syncedUntil = next;
+        }
+        if (synced > 0) {
+            dirty = true;
+            log.debug("Synced {} modified notices into search index", synced);
+        }
+        if (current.pendingChanges() >= noticeSearchProperties.getMergeThreshold()) {
+            current.merge();
+        }
+    }
+
+    /**
+     * 변경이 있으면 색인을 병합하여 스냅숏으로 저장합니다. 임시 파일에 기록한 뒤 이름을 바꾸므로 저장 중에 종료되어도 이전 스냅숏이 남습니다.
+     */
+    @Scheduled(fixedDelayString = "${notice.search.persist-interval:300000}",
+            initialDelayString = "${notice.search.persist-interval:300000}")
+    public synchronized void persist() {
+        NoticeSearchIndex current = index;
+        if (current == null || !dirty || !StringUtils.hasText(noticeSearchProperties.getIndexPath())) {
+            return;
+        }
+        dirty = false;
+        LocalDateTime checkpoint = syncedUntil;
+        current.merge();
+        try {
+            write(current, checkpoint);
+            lastPersistedAt = LocalDateTime.now();
+        } catch (IOException | RuntimeException e) {
+            dirty = true;
+            log.error("Failed to persist search index", e);
+        }
+    }
+
+    /**
+     * 매일 전체를 다시 색인하여 다른 서버에서 삭제된 공지사항을 색인에서 정리합니다.
+     */
+    @Scheduled(cron = "${notice.search.rebuild-cron:0 0 4 * * *}")
+    public void scheduledRebuild() {
+        rebuildInBackground();
+    }
+
+    /**
+     * 전용 스레드에서 전체 공지사항을 다시 색인합니다. 완료될 때까지 기존 색인으로 검색합니다.
+     *
+     * @return 재색인을 시작했으면 true, 이미 진행 중이면 false
+     */
+    public boolean rebuildInBackground() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            worker.execute(this::rebuild);
+            return true;
+        } catch (RejectedExecutionException e) {
+            rebuilding.set(false);
+            return false;
+        }
+    }
+
+    /**
+     * 색인 상태를 반환합니다.
+     *
+     * @return 색인 상태
+     */
+    public Map<String, Object> getStatus() {
+        NoticeSearchIndex current = index;
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("ready", current != null);
+        status.put("rebuilding", rebuilding.get());
+        status.put("documents", current != null ? current.documentCount() : 0);
+        status.put("pendingChanges", current != null ? current.pendingChanges() : 0);
+        status.put("syncedUntil", syncedUntil);
+        status.put("lastRebuiltAt", lastRebuiltAt);
+        status.put("lastPersistedAt", lastPersistedAt);
+        return status;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+        if (!rebuilding.get()) {
+            persist();
+        }
+    }
+
+    private void rebuild() {
+        try {
+            long started = System.currentTimeMillis();
+            LocalDateTime startedAt = LocalDateTime.now();
+            int batchSize = noticeSearchProperties.getBatchSize();
+            NoticeSearchIndex.Builder builder = new NoticeSearchIndex.Builder();
+
+            int indexed = 0;
+            Long lastId = 0L;
+            List<Notice> page;
+            do {
+                Long cursor = lastId;
+                page = transactionTemplate.execute(status ->
+                        noticeRepository.findByIdGreaterThanOrderByIdAsc(cursor, PageRequest.of(0, batchSize)));
+                for (Notice notice : page) {
+                    builder.add(notice.getId(), notice.getTitle(), notice.getContent());
+                    lastId = notice.getId();
+                }
+                indexed += page.size();
+                if (Thread.currentThread().isInterrupted()) {
+                    log.info("Search index rebuild interrupted after {} notices", indexed);
+                    return;
+                }
+            } while (page.size() == batchSize);
+
+            NoticeSearchIndex built = builder.build();
+            synchronized (this) {
+                index = built;
+                syncedUntil = startedAt.minus(noticeSearchProperties.getSyncOverlap());
+                deletedWhileRebuilding.forEach(built::remove);
+                rebuilding.set(false);
+                lastRebuiltAt = LocalDateTime.now();
+                dirty = true;
+            }
+            log.info("Rebuilt search index with {} notices in {} ms", indexed, System.currentTimeMillis() - started);
+
+            sync();
+            persist();
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild search index", e);
+        } finally {
+            rebuilding.set(false);
+            deletedWhileRebuilding.clear();
+        }
+    }
+
+    /**
+     * (수정 시각, ID) 순서로 from 이후에 수정된 공지사항을 batch-size개씩 읽어 색인합니다.
+     * 다른 서버의 변경을 읽어야 하므로 복제본이 아닌 기본 DB를 읽는 트랜잭션을 사용합니다.
+     */
+    private int catchUp(NoticeSearchIndex target, LocalDateTime from) {
+        if (from == null) {
+            return 0;
+        }
+        int batchSize = noticeSearchProperties.getBatchSize();
+        LocalDateTime modifiedDate = from;
+        Long id = 0L;
+        int synced = 0;
+        List<Notice> page;
+        do {
+            LocalDateTime cursorDate = modifiedDate;
+            Long cursorId = id;
+            page = transactionTemplate.execute(status ->
+                    noticeRepository.findModifiedAfter(cursorDate, cursorId, PageRequest.of(0, batchSize)));
+            for (Notice notice : page) {
+                target.add(notice.getId(), notice.getTitle(), notice.getContent());
+                modifiedDate = notice.getModifiedDate();
+                id = notice.getId();
+            }
+            synced += page.size();
+        } while (page.size() == batchSize);
+        return synced;
+    }
+
+    /**
+     * 저장된 스냅숏을 읽고 저장 시점 이후의 변경을 따라잡습니다.
+     *
+     * @return 스냅숏을 읽었으면 true
+     */
+    private boolean load() {
+        if (!StringUtils.hasText(noticeSearchProperties.getIndexPath())) {
+            return false;
+        }
+        Path file = Paths.get(noticeSearchProperties.getIndexPath()).resolve(SNAPSHOT_FILE);
+        if (!Files.exists(file)) {
+            return false;
+        }
+
+        try {
+            verifyChecksum(file);
+            try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+                LocalDateTime checkpoint = LocalDateTime.parse(input.readUTF());
+                NoticeSearchIndex loaded = NoticeSearchIndex.readFrom(input);
+                synchronized (this) {
+                    syncedUntil = checkpoint;
+                    index = loaded;
+                }
+                log.info("Loaded search index with {} notices, catching up changes since {}", loaded.documentCount(), checkpoint);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable search index snapshot {}", file, e);
+            return false;
+        }
+
+        sync();
+        return true;
+    }
+
+    /**
+     * 수정 시각 기준점, 세그먼트, CRC32 순서로 스냅숏을 기록합니다.
+     */
+    private void write(NoticeSearchIndex current, LocalDateTime checkpoint) throws IOException {
+        Path directory = Paths.get(noticeSearchProperties.getIndexPath());
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, SNAPSHOT_FILE, ".tmp");
+        try {
+            CRC32 crc = new CRC32();
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                    new CheckedOutputStream(Files.newOutputStream(temp), crc), 1 << 16))) {
+                output.writeUTF(checkpoint.toString());
+                current.writeTo(output);
+                output.flush();
+                output.writeLong(crc.getValue());
+            }
+            Files.move(temp, directory.resolve(SNAPSHOT_FILE),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            log.debug("Persisted search index with {} notices", current.documentCount());
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void verifyChecksum(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long bodyLength = channel.size() - Long.BYTES;
+            if (bodyLength < 0) {
+                throw new EOFException("Search index snapshot is truncated");
+            }
+
+            CRC32 crc = new CRC32();
+            ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+            long position = 0;
+            while (position < bodyLength) {
+                buffer.clear().limit((int) Math.min(buffer.capacity(), bodyLength - position));
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    throw new EOFException("Search index snapshot is truncated");
+                }
+                crc.update(buffer.flip());
+                position += read;
+            }
+
+            ByteBuffer trailer = ByteBuffer.allocate(Long.BYTES);
+            while (trailer.hasRemaining()) {
+                if (channel.read(trailer, bodyLength + trailer.position()) < 0) {
+                    throw new EOFException("Search index snapshot is truncated");
+                }
+            }
+            if (trailer.flip().getLong() != crc.getValue()) {
+                throw new IOException("Search index snapshot checksum mismatch");
+            }
+        }
+    }
+
+    private static CustomizableThreadFactory workerThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("notice-search-");
+        threadFactory.setDaemon(true);
+        threadFactory.setThreadPriority(Thread.NORM_PRIORITY - 1);
+        return threadFactory;
+    }
+}
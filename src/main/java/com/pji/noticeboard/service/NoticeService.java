@@ -1,96 +1,185 @@
 package com.pji.noticeboard.service;
 
+import com.pji.noticeboard.dto.ActiveNoticeDto;
+import com.pji.noticeboard.dto.AttachmentDto;
+import com.pji.noticeboard.dto.CursorPageDto;
 import com.pji.noticeboard.dto.NoticeCreateDto;
+import com.pji.noticeboard.dto.NoticeCursor;
 import com.pji.noticeboard.dto.NoticeDto;
 import com.pji.noticeboard.dto.NoticeResponseDto;
+import com.pji.noticeboard.dto.NoticeSuggestionDto;
+import com.pji.noticeboard.dto.NoticeSummaryDto;
 import com.pji.noticeboard.dto.NoticeUpdateDto;
+import com.pji.noticeboard.dto.TrendingNoticeDto;
 import com.pji.noticeboard.entity.Notice;
+import com.pji.noticeboard.event.AttachmentsReleasedEvent;
+import com.pji.noticeboard.event.AttachmentsStoredEvent;
+import com.pji.noticeboard.event.NoticeChangedEvent;
 import com.pji.noticeboard.exception.ErrorCode;
+import com.pji.noticeboard.exception.InvalidNoticeException;
 import com.pji.noticeboard.exception.ServiceException;
 import com.pji.noticeboard.repository.NoticeRepository;
 import com.pji.noticeboard.util.FileUtil;
 import com.pji.noticeboard.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * 공지사항 등록, 수정, 삭제, 조회를 담당합니다.
+ *
+ * 트랜잭션은 메서드마다 지정합니다. 첨부파일을 기록하는 메서드는 트랜잭션 밖에서 파일을 먼저 저장하고,
+ * TransactionTemplate으로 메타데이터만 기록하는 짧은 트랜잭션을 열어 파일 I/O 동안 DB 연결을 잡지 않습니다.
+ */
 @Slf4j
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class NoticeService {
 
+    public static final String NOTICE_PAGES_CACHE = "noticePages";
+
+    /**
+     * 검색 결과를 채우기 위해 검색 색인에서 한 번에 가져오는 후보 수의 상한입니다.
+     */
+    static final int SEARCH_MAX_CANDIDATES = 1000;
+
     private final NoticeRepository noticeRepository;
+    private final NoticeDetailLoader noticeDetailLoader;
     private final FileUtil fileUtil;
+    private final ViewCountService viewCountService;
+    private final NoticeLeaderboard noticeLeaderboard;
+    private final TrendingService trendingService;
+    private final NoticeSearchService noticeSearchService;
+    private final TitleSuggester titleSuggester;
+    private final ActiveNoticeService activeNoticeService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 새로운 공지사항을 등록합니다.
+     * 첨부파일은 트랜잭션 밖에서 먼저 저장하고, DB 연결은 공지사항을 저장하는 짧은 트랜잭션 동안만 사용합니다.
+     * 저장에 실패하면 기록한 첨부파일의 참조를 해제합니다.
      *
      * @param noticeCreateDto 등록할 공지사항 정보
      * @return 등록된 공지사항
      */
+    @CacheEvict(cacheNames = NOTICE_PAGES_CACHE, allEntries = true)
     public Notice createNotice(NoticeCreateDto noticeCreateDto, List<MultipartFile> files) {
         List<String> attachmentPaths = files != null ? fileUtil.processFiles(files, noticeCreateDto.getTitle()) : List.of();
 
         String currentUserName = SecurityUtil.getCurrentUserName();
+        LocalDateTime now = LocalDateTime.now();
         Notice createdNotice = Notice.builder()
                 .title(noticeCreateDto.getTitle())
                 .content(noticeCreateDto.getContent())
                 .startDateTime(noticeCreateDto.getStartDateTime())
                 .endDateTime(noticeCreateDto.getEndDateTime())
                 .attachmentPaths(attachmentPaths)
-                .createdDate(LocalDateTime.now())
+                .attachmentNames(attachmentNamesOf(files, attachmentPaths))
+                .createdDate(now)
+                .modifiedDate(now)
                 .viewCount(0)
                 .author(currentUserName)
                 .build();
 
         try {
-            return noticeRepository.save(createdNotice);
-        } catch (Exception e) {
-            log.error("Failed to create notice", e);
-            throw new ServiceException("Failed to create notice", ErrorCode.NOTICE_CREATION_FAILED, e);
+            return transactionTemplate.execute(status -> {
+                Notice savedNotice;
+                try {
+                    savedNotice = noticeRepository.save(createdNotice);
+                } catch (Exception e) {
+                    log.error("Failed to create notice", e);
+                    throw new ServiceException("Failed to create notice", ErrorCode.NOTICE_CREATION_FAILED, e);
+                }
+
+                eventPublisher.publishEvent(new NoticeChangedEvent(NoticeChangedEvent.Type.CREATED, savedNotice));
+                publishStoredAttachments(attachmentPaths);
+                return savedNotice;
+            });
+        } catch (RuntimeException e) {
+            releaseAttachments(attachmentPaths);
+            throw e;
         }
     }
 
     /**
      * 기존 공지사항을 수정합니다.
+     * 존재 여부를 먼저 확인한 뒤 첨부파일은 트랜잭션 밖에서 저장하고,
+     * 공지사항을 다시 읽어 수정하는 짧은 트랜잭션 동안만 DB 연결을 사용합니다.
      *
      * @param id 수정할 공지사항 ID
      * @param noticeUpdateDto 수정할 공지사항 정보
      * @return 수정된 공지사항
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = NoticeDetailLoader.CACHE_NAME, key = "#id"),
+            @CacheEvict(cacheNames = NOTICE_PAGES_CACHE, allEntries = true)
+    })
     public Notice updateNotice(Long id, NoticeUpdateDto noticeUpdateDto, List<MultipartFile> files) {
-        Notice existingNotice = noticeRepository.findById(id)
-                .orElseThrow(() -> {
-                    log.error("Notice not found with id {}", id);
-                    return new ServiceException("Notice not found with id " + id, ErrorCode.NOTICE_NOT_FOUND);
-                });
+        findNoticeWithAttachments(id);
 
         List<String> attachmentPaths = files != null ? fileUtil.processFiles(files, noticeUpdateDto.getTitle()) : List.of();
 
-        Notice updatedNotice = existingNotice.toBuilder()
-                .title(noticeUpdateDto.getTitle())
-                .content(noticeUpdateDto.getContent())
-                .startDateTime(noticeUpdateDto.getStartDateTime())
-                .endDateTime(noticeUpdateDto.getEndDateTime())
-                .attachmentPaths(attachmentPaths)
-                .build();
-
         try {
-            return noticeRepository.save(updatedNotice);
-        } catch (Exception e) {
-            log.error("Failed to update notice with ID {}", id, e);
-            throw new ServiceException(String.format("Failed to update notice with ID %s", id), ErrorCode.NOTICE_UPDATE_FAILED, e);
+            return transactionTemplate.execute(status -> {
+                Notice existingNotice = findNoticeWithAttachments(id);
+                List<String> previousPaths = attachmentPathsOf(existingNotice);
+
+                Notice updatedNotice = existingNotice.toBuilder()
+                        .title(noticeUpdateDto.getTitle())
+                        .content(noticeUpdateDto.getContent())
+                        .startDateTime(noticeUpdateDto.getStartDateTime())
+                        .endDateTime(noticeUpdateDto.getEndDateTime())
+                        .attachmentPaths(attachmentPaths)
+                        .attachmentNames(attachmentNamesOf(files, attachmentPaths))
+                        .modifiedDate(LocalDateTime.now())
+                        .build();
+
+                Notice savedNotice;
+                try {
+                    savedNotice = noticeRepository.save(updatedNotice);
+                    Hibernate.initialize(savedNotice.getAttachmentPaths());
+                    Hibernate.initialize(savedNotice.getAttachmentNames());
+                } catch (Exception e) {
+                    log.error("Failed to update notice with ID {}", id, e);
+                    throw new ServiceException(String.format("Failed to update notice with ID %s", id), ErrorCode.NOTICE_UPDATE_FAILED, e);
+                }
+
+                eventPublisher.publishEvent(new NoticeChangedEvent(NoticeChangedEvent.Type.UPDATED, savedNotice));
+                eventPublisher.publishEvent(new AttachmentsReleasedEvent(previousPaths.stream()
+                        .filter(path -> !attachmentPaths.contains(path))
+                        .toList()));
+                publishStoredAttachments(attachmentPaths.stream()
+                        .filter(path -> !previousPaths.contains(path))
+                        .toList());
+                return savedNotice;
+            });
+        } catch (RuntimeException e) {
+            releaseAttachments(attachmentPaths);
+            throw e;
         }
     }
 
@@ -99,85 +188,378 @@ public class NoticeService {
      *
      * @param id 삭제할 공지사항 ID
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = NoticeDetailLoader.CACHE_NAME, key = "#id"),
+            @CacheEvict(cacheNames = NOTICE_PAGES_CACHE, allEntries = true)
+    })
+    @Transactional
     public void deleteNotice(Long id) {
         Notice notice = noticeRepository.findById(id)
                 .orElseThrow(() -> {
                     log.error("Notice not found with id {}", id);
                     return new ServiceException("Notice not found with id " + id, ErrorCode.NOTICE_NOT_FOUND);
                 });
+        List<String> releasedPaths = attachmentPathsOf(notice);
         try {
             noticeRepository.delete(notice);
         } catch (Exception e) {
             log.error("Failed to delete notice with ID {}", id, e);
             throw new ServiceException(String.format("Failed to delete notice with ID %s", id), ErrorCode.NOTICE_DELETION_FAILED, e);
         }
+
+        eventPublisher.publishEvent(new NoticeChangedEvent(NoticeChangedEvent.Type.DELETED, notice));
+        eventPublisher.publishEvent(new AttachmentsReleasedEvent(releasedPaths));
+    }
+
+    /**
+     * 요청 본문으로 받은 첨부파일 하나를 공지사항에 추가합니다.
+     * 파일을 기록하는 동안에는 트랜잭션과 DB 연결을 잡지 않고, 기록이 끝난 뒤 짧은 트랜잭션으로 경로만 추가합니다.
+     * 경로 추가에 실패하면 기록한 파일의 참조를 해제합니다. 같은 내용을 다른 공지사항이 참조하고 있으면 파일은 남습니다.
+     *
+     * @param id 첨부파일을 추가할 공지사항 ID
+     * @param content 파일 내용을 담은 요청 본문
+     * @param filename 원본 파일 이름
+     * @param contentLength 요청 본문 길이 (알 수 없으면 -1)
+     * @return 첨부파일이 추가된 공지사항
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = NoticeDetailLoader.CACHE_NAME, key = "#id"),
+            @CacheEvict(cacheNames = NOTICE_PAGES_CACHE, allEntries = true)
+    })
+    public Notice addAttachment(Long id, InputStream content, String filename, long contentLength) {
+        checkAttachmentLimit(findNoticeWithAttachments(id));
+
+        String path = fileUtil.saveStream(content, filename, contentLength);
+        return appendAttachment(id, path, filename);
+    }
+
+    /**
+     * 이미 저장소에 저장된 파일을 공지사항의 첨부파일로 추가합니다. 분할 업로드를 마칠 때 사용합니다.
+     * 경로 추가에 실패하면 파일의 참조를 해제합니다.
+     *
+     * @param id 첨부파일을 추가할 공지사항 ID
+     * @param path 저장된 파일 경로
+     * @param filename 업로드한 원본 파일 이름
+     * @return 첨부파일이 추가된 공지사항
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = NoticeDetailLoader.CACHE_NAME, key = "#id"),
+            @CacheEvict(cacheNames = NOTICE_PAGES_CACHE, allEntries = true)
+    })
+    public Notice attachStoredFile(Long id, String path, String filename) {
+        return appendAttachment(id, path, filename);
+    }
+
+    /**
+     * 공지사항이 존재하고 첨부파일을 하나 더 추가할 수 있는지 확인합니다.
+     *
+     * @param id 공지사항 ID
+     */
+    @Transactional(readOnly = true)
+    public void checkAttachmentAllowed(Long id) {
+        checkAttachmentLimit(findNoticeWithAttachments(id));
+    }
+
+    /**
+     * 공지사항의 n번째 첨부파일의 저장 경로와 원본 파일 이름을 조회합니다.
+     * 첨부파일 목록은 noticeDetail 캐시에서 가져오므로 캐시 적중 시 DB에 접근하지 않으며, 조회수도 올리지 않습니다.
+     * 원본 이름이 기록되지 않은 이전 첨부파일은 파일 이름이 null입니다.
+     *
+     * @param id 공지사항 ID
+     * @param index 첨부파일 순서 (0부터 시작)
+     * @return 저장된 파일 경로와 원본 파일 이름
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public AttachmentDto getAttachment(Long id, int index) {
+        NoticeDto notice = loadStarted(id);
+        List<String> attachmentPaths = notice.getAttachmentPaths();
+        if (index < 0 || index >= attachmentPaths.size()) {
+            throw new InvalidNoticeException("Attachment not found with index " + index, ErrorCode.ATTACHMENT_NOT_FOUND);
+        }
+        String path = attachmentPaths.get(index);
+        String filename = notice.getAttachmentNames() != null ? notice.getAttachmentNames().get(path) : null;
+        return new AttachmentDto(path, filename);
     }
 
     /**
      * 특정 공지사항을 상세조회합니다.
+     * 상세 정보는 noticeDetail 캐시에서 가져오고, 조회수만 ViewCountService의 현재 값으로 덮어씁니다.
+     * 게시가 시작되지 않은 공지사항은 없는 공지사항으로 취급하고, 게시 기간이 끝난 공지사항의 조회는 리더보드와 인기 급상승 집계에 반영하지 않습니다.
+     * 캐시 적중 시에는 DB에 접근하지 않으므로 트랜잭션을 시작하지 않습니다.
      *
      * @param id 조회할 공지사항 ID
      * @return 조회된 공지사항
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public NoticeDto getNotice(Long id) {
-        Notice notice = noticeRepository.findById(id)
-                .orElseThrow(() -> {
-                    log.error("Notice not found with id {}", id);
-                    return new ServiceException("Notice not found with id " + id, ErrorCode.NOTICE_NOT_FOUND);
-                });
+        NoticeDto notice = loadStarted(id);
 
-        noticeRepository.incrementViewCount(id);
-
-        return NoticeDto.builder()
-                .id(notice.getId())
-                .title(notice.getTitle())
-                .content(notice.getContent())
-                .startDateTime(notice.getStartDateTime())
-                .endDateTime(notice.getEndDateTime())
-                .attachmentPaths(notice.getAttachmentPaths())
-                .createdDate(notice.getCreatedDate())
-                .viewCount(notice.getViewCount() + 1)
-                .author(notice.getAuthor())
+        long viewCount = viewCountService.recordView(id, notice.getViewCount());
+        titleSuggester.recordView(id, viewCount);
+        if (notice.getEndDateTime() == null || LocalDateTime.now().isBefore(notice.getEndDateTime())) {
+            trendingService.recordView(id);
+            noticeLeaderboard.offer(NoticeResponseDto.builder()
+                    .id(notice.getId())
+                    .title(notice.getTitle())
+                    .content(notice.getContent())
+                    .createdDate(notice.getCreatedDate())
+                    .viewCount((int) viewCount)
+                    .author(notice.getAuthor())
+                    .build());
+        }
+
+        return notice.toBuilder()
+                .viewCount((int) viewCount)
                 .build();
     }
 
     /**
-     * 모든 공지사항을 조회합니다.
+     * 게시가 시작된 모든 공지사항을 조회합니다.
+     * 엔티티 대신 목록에 필요한 컬럼과 잘린 본문만 조회하므로 첨부파일 조회와 변경 감지가 발생하지 않습니다.
+     * 페이지별 결과는 noticePages 캐시에 보관되며, 만료가 가까워지면 백그라운드에서 한 번만 다시 조회합니다.
+     * 공지사항의 게시가 시작되면 NoticeLifecycleScheduler가 캐시된 페이지를 비우지 않고 백그라운드에서 다시 적재하여 목록에 나타나게 합니다.
      *
      * @return 모든 공지사항 목록
      */
-    public Page<NoticeResponseDto> getAllNotices(Pageable pageable) {
-        return noticeRepository.findAll(pageable).map(notice ->
-                NoticeResponseDto.builder()
-                        .id(notice.getId())
-                        .title(notice.getTitle())
-                        .content(notice.getContent())
-                        .createdDate(notice.getCreatedDate())
-                        .viewCount(notice.getViewCount())
-                        .author(notice.getAuthor())
-                        .build()
-        );
+    @Cacheable(cacheNames = NOTICE_PAGES_CACHE, key = "#pageable", sync = true)
+    @Transactional(readOnly = true)
+    public Page<NoticeSummaryDto> getAllNotices(Pageable pageable) {
+        return noticeRepository.findAllSummaries(LocalDateTime.now(), pageable);
     }
 
     /**
-     * 조회수 상위 5개의 공지사항을 조회합니다.
-     * 이 메서드는 캐시를 사용하여 성능을 최적화합니다.
+     * 커서 기반으로 공지사항 목록을 조회합니다.
+     * OFFSET과 COUNT 쿼리 없이 (정렬 기준, ID) 복합 인덱스를 따라 다음 위치부터 읽으므로 페이지 깊이와 무관하게 비용이 일정합니다.
+     * 조회수 정렬은 페이지 사이에 조회수가 바뀐 공지사항이 누락되거나 중복될 수 있습니다.
      *
-     * @return 조회수 상위 5개의 공지사항 목록
-     */
-    @Cacheable(value = "topNotices")
-    public List<NoticeResponseDto> getTopNotices() {
-        List<Notice> topNotices = noticeRepository.findTop5ByOrderByViewCountDesc(PageRequest.of(0, 5));
-        return topNotices.stream()
-                .map(notice -> NoticeResponseDto.builder()
-                        .id(notice.getId())
-                        .title(notice.getTitle())
-                        .content(notice.getContent())
-                        .createdDate(notice.getCreatedDate())
-                        .viewCount(notice.getViewCount())
-                        .author(notice.getAuthor())
-                        .build())
-                .collect(Collectors.toList());
+     * @param after 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 조회할 공지사항 개수
+     * @param sortKey 정렬 기준 (after가 주어지면 커서에 담긴 정렬 기준을 따릅니다)
+     * @return 공지사항 목록과 다음 페이지 커서
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<NoticeSummaryDto> getNoticesByCursor(String after, int size, NoticeCursor.SortKey sortKey) {
+        NoticeCursor cursor = after != null ? NoticeCursor.decode(after) : null;
+        NoticeCursor.SortKey effectiveSortKey = cursor != null ? cursor.getSortKey() : sortKey;
+        Pageable limit = PageRequest.of(0, size + 1);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<NoticeSummaryDto> notices;
+        if (effectiveSortKey == NoticeCursor.SortKey.VIEW_COUNT) {
+            notices = cursor == null
+                    ? noticeRepository.findFirstPageOrderByViewCount(now, limit)
+                    : noticeRepository.findNextPageOrderByViewCount(cursor.getViewCount(), cursor.getId(), now, limit);
+        } else {
+            notices = cursor == null
+                    ? noticeRepository.findFirstPageOrderByCreatedDate(now, limit)
+                    : noticeRepository.findNextPageOrderByCreatedDate(cursor.getCreatedDate(), cursor.getId(), now, limit);
+        }
+
+        boolean hasNext = notices.size() > size;
+        List<NoticeSummaryDto> page = hasNext ? notices.subList(0, size) : notices;
+
+        String nextCursor = null;
+        if (hasNext) {
+            NoticeSummaryDto last = page.get(page.size() - 1);
+            nextCursor = (effectiveSortKey == NoticeCursor.SortKey.VIEW_COUNT
+                    ? NoticeCursor.ofViewCount(last.getViewCount(), last.getId())
+                    : NoticeCursor.ofCreatedDate(last.getCreatedDate(), last.getId())).encode();
+        }
+
+        return CursorPageDto.<NoticeSummaryDto>builder()
+                .content(page)
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
     }
-}
 
+    /**
+     * 조회수 상위 공지사항을 조회합니다.
+     * DB를 조회하지 않고 메모리에서 유지되는 리더보드의 결과를 반환하므로 트랜잭션을 시작하지 않습니다.
+     * 리더보드 크기보다 많이 요청하면 목록을 줄여 반환하지 않고 잘못된 요청으로 처리합니다.
+     *
+     * @param limit 조회할 공지사항 개수
+     * @return 조회수 내림차순으로 정렬된 공지사항 목록
+     * @throws InvalidNoticeException limit이 리더보드 크기보다 큰 경우
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<NoticeResponseDto> getTopNotices(int limit) {
+        int capacity = noticeLeaderboard.getCapacity();
+        if (limit > capacity) {
+            throw new InvalidNoticeException("Limit must be at most " + capacity, ErrorCode.INVALID_PARAMETER);
+        }
+        return noticeLeaderboard.getTop(limit);
+    }
+
+    /**
+     * 기간별 인기 급상승 공지사항을 조회합니다.
+     * 기간별 순위 크기보다 많이 요청하면 목록을 줄여 반환하지 않고 잘못된 요청으로 처리합니다.
+     *
+     * @param window 집계 기간
+     * @param limit 조회할 공지사항 개수
+     * @return 기간 내 조회수 내림차순으로 정렬된 공지사항 목록
+     * @throws InvalidNoticeException limit이 기간별 순위 크기보다 큰 경우
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<TrendingNoticeDto> getTrendingNotices(TrendingWindow window, int limit) {
+        int capacity = trendingService.getCapacity();
+        if (limit > capacity) {
+            throw new InvalidNoticeException("Limit must be at most " + capacity, ErrorCode.INVALID_PARAMETER);
+        }
+        return trendingService.getTrending(window, limit);
+    }
+
+    /**
+     * 현재 게시 기간 중인 공지사항을 조회합니다.
+     * DB를 조회하지 않고 메모리에서 유지되는 게시 기간 색인의 결과를 반환하므로 트랜잭션을 시작하지 않습니다.
+     *
+     * @param limit 조회할 공지사항 개수
+     * @return 게시 시작 일시 내림차순으로 정렬된 공지사항 목록
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<ActiveNoticeDto> getActiveNotices(int limit) {
+        return activeNoticeService.getActive(limit);
+    }
+
+    /**
+     * 제목과 본문에 검색어가 포함된 공지사항을 관련도 순으로 조회합니다.
+     * 검색 색인에서 공지사항 ID를 찾은 뒤 목록에 필요한 컬럼만 쿼리로 가져옵니다.
+     * 색인에는 남아 있지만 이미 삭제되었거나 아직 게시가 시작되지 않은 공지사항은 결과에서 제외되므로,
+     * size보다 두 배 많은 후보부터 가져오고 모자라면 후보를 두 배씩 늘려 새로 나온 후보만 다시 조회합니다.
+     * 후보가 더 없거나 SEARCH_MAX_CANDIDATES에 도달하면 채운 만큼만 반환합니다.
+     *
+     * @param query 검색어
+     * @param size 조회할 공지사항 개수
+     * @return 관련도 내림차순으로 정렬된 공지사항 목록
+     */
+    @Transactional(readOnly = true)
+    public List<NoticeSummaryDto> searchNotices(String query, int size) {
+        LocalDateTime now = LocalDateTime.now();
+        List<NoticeSummaryDto> results = new ArrayList<>(size);
+        Set<Long> seen = new HashSet<>();
+        int limit = Math.min(size * 2, SEARCH_MAX_CANDIDATES);
+        while (true) {
+            List<Long> ids = noticeSearchService.search(query, limit);
+            List<Long> candidates = ids.stream().filter(seen::add).toList();
+            if (!candidates.isEmpty()) {
+                Map<Long, NoticeSummaryDto> summaries = noticeRepository.findSummariesByIdIn(candidates, now).stream()
+                        .collect(Collectors.toMap(NoticeSummaryDto::getId, Function.identity()));
+                for (Long id : candidates) {
+                    NoticeSummaryDto summary = summaries.get(id);
+                    if (summary != null) {
+                        results.add(summary);
+                        if (results.size() == size) {
+                            return results;
+                        }
+                    }
+                }
+            }
+            if (ids.size() < limit || limit >= SEARCH_MAX_CANDIDATES) {
+                return results;
+            }
+            limit = Math.min(limit * 2, SEARCH_MAX_CANDIDATES);
+        }
+    }
+
+    /**
+     * 입력 중인 접두어로 시작하는 공지사항 제목을 조회수 순으로 추천합니다.
+     * DB를 조회하지 않고 메모리의 제목 색인에서 찾으므로 트랜잭션을 시작하지 않습니다.
+     *
+     * @param prefix 입력 중인 접두어
+     * @param size 추천할 제목 개수
+     * @return 조회수 내림차순으로 정렬된 제목 목록
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<NoticeSuggestionDto> suggestTitles(String prefix, int size) {
+        return titleSuggester.suggest(prefix, size);
+    }
+
+    private Notice findNoticeWithAttachments(Long id) {
+        return noticeRepository.findWithAttachmentsById(id)
+                .orElseThrow(() -> {
+                    log.error("Notice not found with id {}", id);
+                    return new ServiceException("Notice not found with id " + id, ErrorCode.NOTICE_NOT_FOUND);
+                });
+    }
+
+    private Notice appendAttachment(Long id, String path, String filename) {
+        try {
+            return transactionTemplate.execute(status -> {
+                Notice notice = findNoticeWithAttachments(id);
+                checkAttachmentLimit(notice);
+                notice.getAttachmentPaths().add(path);
+                if (notice.getAttachmentNames() == null) {
+                    notice.setAttachmentNames(new HashMap<>());
+                }
+                notice.getAttachmentNames().put(path, filename);
+                Notice savedNotice = noticeRepository.save(notice);
+                Hibernate.initialize(savedNotice.getAttachmentPaths());
+                Hibernate.initialize(savedNotice.getAttachmentNames());
+                eventPublisher.publishEvent(new NoticeChangedEvent(NoticeChangedEvent.Type.UPDATED, savedNotice));
+                publishStoredAttachments(List.of(path));
+                return savedNotice;
+            });
+        } catch (RuntimeException e) {
+            releaseAttachments(List.of(path));
+            throw e;
+        }
+    }
+
+    /**
+     * 공지사항 상세 정보를 불러옵니다. 게시 시작 전이면 미리 적재된 캐시가 있더라도 찾을 수 없다는 예외를 던집니다.
+     */
+    private NoticeDto loadStarted(Long id) {
+        NoticeDto notice = noticeDetailLoader.load(id);
+        if (notice.getStartDateTime() != null && LocalDateTime.now().isBefore(notice.getStartDateTime())) {
+            log.debug("Notice {} is not published until {}", id, notice.getStartDateTime());
+            throw new InvalidNoticeException("Notice not found with id " + id, ErrorCode.NOTICE_NOT_FOUND);
+        }
+        return notice;
+    }
+
+    /**
+     * 업로드한 파일의 원본 이름을 저장된 경로별로 모읍니다. processFiles는 요청한 파일 순서대로 경로를 반환합니다.
+     */
+    private static Map<String, String> attachmentNamesOf(List<MultipartFile> files, List<String> paths) {
+        Map<String, String> names = new HashMap<>();
+        if (files == null || paths == null) {
+            return names;
+        }
+        for (int i = 0; i < Math.min(files.size(), paths.size()); i++) {
+            String originalFilename = files.get(i).getOriginalFilename();
+            if (originalFilename != null) {
+                names.put(paths.get(i), originalFilename);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * 트랜잭션이 실패하여 기록되지 않은 첨부파일의 참조를 해제합니다.
+     */
+    private void releaseAttachments(List<String> paths) {
+        if (paths != null && !paths.isEmpty()) {
+            eventPublisher.publishEvent(new AttachmentsReleasedEvent(paths));
+        }
+    }
+
+    /**
+     * 공지사항에 새로 연결된 첨부파일을 알립니다. 이미지 첨부파일은 커밋 이후 축소본 생성 작업으로 기록됩니다.
+     */
+    private void publishStoredAttachments(List<String> paths) {
+        if (paths != null && !paths.isEmpty()) {
+            eventPublisher.publishEvent(new AttachmentsStoredEvent(paths));
+        }
+    }
+
+    private static List<String> attachmentPathsOf(Notice notice) {
+        return notice.getAttachmentPaths() != null ? List.copyOf(notice.getAttachmentPaths()) : List.of();
+    }
+
+    private void checkAttachmentLimit(Notice notice) {
+        fileUtil.checkAttachmentLimit(notice.getAttachmentPaths() != null ? notice.getAttachmentPaths().size() : 0);
+    }
+}
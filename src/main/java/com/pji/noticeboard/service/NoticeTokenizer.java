@@ -0,0 +1,150 @@
+package com.pji.noticeboard.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 공지사항 제목, 본문과 검색어를 색인어로 나눕니다.
+ *
+ * 영문과 숫자는 연속된 글자를 한 단어로 나누고, 한글, 한자, 가나는 인접한 두 글자씩(바이그램) 나눕니다.
+ * 형태소 분석 없이도 조사가 붙은 어절("공지사항을")이나 띄어쓰기가 다른 문장에서 검색어를 찾을 수 있도록,
+ * 검색어는 어절마다 바이그램으로 나누어 NoticeSearchIndex가 어절의 바이그램 일부만 일치해도 찾게 합니다.
+ * 한 글자로 된 한글 어절은 그 글자 하나가 색인어가 됩니다.
+ */
+final class NoticeTokenizer {
+
+    /**
+     * 한 단어의 최대 길이입니다. 더 긴 단어는 앞부분만 색인합니다.
+     */
+    static final int MAX_TERM_LENGTH = 32;
+
+    private NoticeTokenizer() {
+    }
+
+    /**
+     * 문자열을 색인어 목록으로 나눕니다. 같은 색인어가 여러 번 나오면 나온 횟수만큼 포함됩니다.
+     *
+     * @param text 나눌 문자열 (null이면 빈 목록)
+     * @return 나온 순서대로 정렬된 색인어 목록
+     */
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int start = 0;
+        while (start < length) {
+            int codePoint = normalized.codePointAt(start);
+            CharClass charClass = CharClass.of(codePoint);
+            int end = start + Character.charCount(codePoint);
+            if (charClass == CharClass.SEPARATOR) {
+                start = end;
+                continue;
+            }
+            while (end < length) {
+                int next = normalized.codePointAt(end);
+                if (CharClass.of(next) != charClass) {
+                    break;
+                }
+                end += Character.charCount(next);
+            }
+
+            String run = normalized.substring(start, end);
+            if (charClass == CharClass.WORD) {
+                addWord(terms, run);
+            } else {
+                addBigrams(terms, run);
+            }
+            start = end;
+        }
+        return terms;
+    }
+
+    /**
+     * 문자열의 색인어별 출현 횟수를 셉니다.
+     *
+     * @param text 나눌 문자열
+     * @param weight 한 번 나올 때 더할 횟수 (제목 가중치)
+     * @param frequencies 출현 횟수를 더할 맵
+     * @return 더한 색인어 수 (문서 길이)
+     */
+    static int countTerms(String text, int weight, Map<String, Integer> frequencies) {
+        List<String> terms = tokenize(text);
+        for (String term : terms) {
+            frequencies.merge(term, weight, Integer::sum);
+        }
+        return terms.size() * weight;
+    }
+
+    /**
+     * 검색어를 구분 문자(공백, 문장 부호)로 나눈 어절마다 중복 없는 색인어 목록으로 나눕니다.
+     *
+     * @param query 검색어 (null이면 빈 목록)
+     * @return 어절 순서대로 정렬된 어절별 색인어 목록
+     */
+    static List<List<String>> queryWords(String query) {
+        List<List<String>> words = new ArrayList<>();
+        if (query == null || query.isEmpty()) {
+            return words;
+        }
+
+        String normalized = Normalizer.normalize(query, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int start = 0;
+        while (start < length) {
+            int end = start;
+            while (end < length) {
+                int codePoint = normalized.codePointAt(end);
+                if (CharClass.of(codePoint) == CharClass.SEPARATOR) {
+                    break;
+                }
+                end += Character.charCount(codePoint);
+            }
+            if (end == start) {
+                start += Character.charCount(normalized.codePointAt(start));
+                continue;
+            }
+            words.add(new ArrayList<>(new LinkedHashSet<>(tokenize(normalized.substring(start, end)))));
+            start = end;
+        }
+        return words;
+    }
+
+    private static void addWord(List<String> terms, String word) {
+        if (word.codePointCount(0, word.length()) > MAX_TERM_LENGTH) {
+            word = word.substring(0, word.offsetByCodePoints(0, MAX_TERM_LENGTH));
+        }
+        terms.add(word);
+    }
+
+    private static void addBigrams(List<String> terms, String run) {
+        int[] codePoints = run.codePoints().toArray();
+        if (codePoints.length == 1) {
+            terms.add(run);
+            return;
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            terms.add(new String(codePoints, i, 2));
+        }
+    }
+
+    private enum CharClass {
+        SEPARATOR, WORD, CJK;
+
+        static CharClass of(int codePoint) {
+            Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+            if (script == Character.UnicodeScript.HANGUL || script == Character.UnicodeScript.HAN
+                    || script == Character.UnicodeScript.HIRAGANA || script == Character.UnicodeScript.KATAKANA) {
+                return CJK;
+            }
+            return Character.isLetterOrDigit(codePoint) ? WORD : SEPARATOR;
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package com.pji.noticeboard.service;
+
+import com.pji.noticeboard.config.AttachmentGcProperties;
+import com.pji.noticeboard.config.FileUploadProperties;
+import com.pji.noticeboard.repository.NoticeRepository;
+import com.pji.noticeboard.util.AttachmentStorage;
+import com.pji.noticeboard.util.FileUtil;
+import com.pji.noticeboard.util.SegmentAttachmentStorage;
+import com.pji.noticeboard.util.StoredObject;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * 업로드 폴더에서 어떤 공지사항도 참조하지 않는 첨부파일을 찾아 삭제하는 백그라운드 수거기입니다.
+ *
+ * 참조 해제 시점에 바로 지우지 못한 파일(유예 기간 안에 있던 파일, 실패한 업로드, 이전 형식의 시간 단위 폴더 등)을 정리합니다.
+ * 한 번 실행할 때 경로 순서상 커서 다음의 파일을 batch-size개까지만 읽고 notice_attachment_paths와 한 번의 쿼리로 대조하며,
+ * 삭제는 max-deletes-per-run개까지만 합니다. 다음 실행은 커서에서 이어가고, 끝까지 돌면 처음부터 다시 시작합니다.
+ * 세그먼트처럼 개별 파일이 아닌 곳에 보관된 첨부파일은 저장소의 키 목록을 별도의 커서로 같은 방식으로 검사하며,
+ * 파일 검사와 키 검사가 모두 끝까지 돌아야 한 바퀴로 셉니다.
+ * 작업은 우선순위가 낮은 전용 스레드에서 실행되며, 회수한 용량은 attachment.gc.reclaimed 지표와 attachmentgc 액추에이터 엔드포인트로 확인합니다.
+ */
+@Slf4j
+@Service
+public class OrphanAttachmentCollector {
+
+    /**
+     * 경로를 이름 단위로 비교합니다. 디렉터리를 이름순으로 깊이 우선 순회하는 순서와 같습니다.
+     */
+    private static final Comparator<Path> PATH_ORDER = (left, right) -> {
+        int common = Math.min(left.getNameCount(), right.getNameCount());
+        for (int i = 0; i < common; i++) {
+            int compared = left.getName(i).toString().compareTo(right.getName(i).toString());
+            if (compared != 0) {
+                return compared;
+            }
+        }
+        return Integer.compare(left.getNameCount(), right.getNameCount());
+    };
+
+    private final NoticeRepository noticeRepository;
+    private final FileUtil fileUtil;
+    private final AttachmentStorage attachmentStorage;
+    private final FileUploadProperties fileUploadProperties;
+    private final AttachmentGcProperties attachmentGcProperties;
+
+    private final Counter scannedFiles;
+    private final Counter deletedFiles;
+    private final Counter reclaimedBytes;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(lowPriorityThreadFactory());
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private volatile Path cursor;
+    private volatile String objectCursor;
+    private volatile boolean filesExhausted;
+    private volatile boolean objectsExhausted;
+    private volatile long completedPasses;
+    private volatile LocalDateTime lastRunAt;
+    private volatile LocalDateTime lastPassCompletedAt;
+
+    public OrphanAttachmentCollector(NoticeRepository noticeRepository, FileUtil fileUtil, AttachmentStorage attachmentStorage,
+                                     FileUploadProperties fileUploadProperties,
+                                     AttachmentGcProperties attachmentGcProperties, MeterRegistry meterRegistry) {
+        this.noticeRepository = noticeRepository;
+        this.fileUtil = fileUtil;
+        this.attachmentStorage = attachmentStorage;
+        this.fileUploadProperties = fileUploadProperties;
+        this.attachmentGcProperties = attachmentGcProperties;
+        this.scannedFiles = Counter.builder("attachment.gc.scanned")
+                .baseUnit("files")
+                .register(meterRegistry);
+        this.deletedFiles = Counter.builder("attachment.gc.deleted")
+                .baseUnit("files")
+                .register(meterRegistry);
+        this.reclaimedBytes = Counter.builder("attachment.gc.reclaimed")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 주기적으로 수거 작업을 전용 스레드에 맡깁니다. 이전 작업이 아직 실행 중이면 이번 주기는 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${file.upload.gc.interval:10000}", initialDelayString = "${file.upload.gc.interval:10000}")
+    public void schedule() {
+        if (!attachmentGcProperties.isEnabled() || !running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            worker.execute(() -> {
+                try {
+                    runOnce();
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 커서 다음의 파일과 저장소 키를 한 묶음씩 검사하고, 참조되지 않으며 유예 기간이 지난 첨부파일을 삭제합니다.
+     *
+     * @return 이번 실행에서 삭제한 파일 수
+     */
+    public synchronized int runOnce() {
+        Path basePath = Paths.get(fileUploadProperties.getBasePath());
+        if (!Files.isDirectory(basePath)) {
+            return 0;
+        }
+        lastRunAt = LocalDateTime.now();
+
+        int batchSize = attachmentGcProperties.getBatchSize();
+        Map<Path, BasicFileAttributes> batch = new LinkedHashMap<>();
+        if (!filesExhausted) {
+            try {
+                collect(basePath, basePath, cursor, batch, batchSize);
+            } catch (IOException e) {
+                log.warn("Failed to scan upload directory {}", basePath, e);
+                return 0;
+            }
+        }
+        List<StoredObject> objects = objectsExhausted ? List.of() : attachmentStorage.listObjects(objectCursor, batchSize);
+        scannedFiles.increment(batch.size() + objects.size());
+
+        int deleted = deleteOrphans(basePath, batch, objects);
+
+        if (!filesExhausted) {
+            filesExhausted = batch.size() < batchSize;
+            cursor = filesExhausted ? null : basePath.relativize(lastKey(batch));
+        }
+        if (!objectsExhausted) {
+            objectsExhausted = objects.size() < batchSize;
+            objectCursor = objectsExhausted ? null : objects.get(objects.size() - 1).key();
+        }
+        if (filesExhausted && objectsExhausted) {
+            filesExhausted = false;
+            objectsExhausted = false;
+            completedPasses++;
+            lastPassCompletedAt = LocalDateTime.now();
+        }
+        if (deleted > 0) {
+            log.info("Deleted {} orphan attachments", deleted);
+        }
+        return deleted;
+    }
+
+    /**
+     * 수거 진행 상황과 누적 회수량을 반환합니다.
+     *
+     * @return 수거 상태
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", attachmentGcProperties.isEnabled());
+        status.put("cursor", cursor != null ? cursor.toString() : null);
+        status.put("objectCursor", objectCursor);
+        status.put("completedPasses", completedPasses);
+        status.put("lastRunAt", lastRunAt);
+        status.put("lastPassCompletedAt", lastPassCompletedAt);
+        status.put("scannedFiles", (long) scannedFiles.count());
+        status.put("deletedFiles", (long) deletedFiles.count());
+        status.put("reclaimedBytes", (long) reclaimedBytes.count());
+        return status;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    /**
+     * 디렉터리를 이름순으로 깊이 우선 순회하며 커서보다 뒤에 있는 파일을 limit개까지 모읍니다.
+     * 커서보다 앞에 있는 디렉터리는 열지 않으며, 비어 있는 이전 형식의 시간 단위 폴더는 삭제합니다.
+     * 축소본 디렉터리는 원본을 삭제할 때 함께 정리되고 세그먼트 디렉터리는 저장소의 키 목록으로 따로 검사하므로, 두 디렉터리는 순회하지 않습니다.
+     */
+    private void collect(Path basePath, Path dir, Path after, Map<Path, BasicFileAttributes> batch, int limit) throws IOException {
+        List<Path> children;
+        try (Stream<Path> entries = Files.list(dir)) {
+            children = entries.sorted(Comparator.comparing(path -> path.getFileName().toString())).toList();
+        }
+
+        for (Path child : children) {
+            if (batch.size() >= limit) {
+                return;
+            }
+            Path relative = basePath.relativize(child);
+            BasicFileAttributes attributes;
+            try {
+                attributes = Files.readAttributes(child, BasicFileAttributes.class);
+            } catch (NoSuchFileException e) {
+                continue;
+            }
+
+            if (attributes.isDirectory()) {
+                if (relative.equals(Paths.get(FileUtil.DERIVATIVE_DIRECTORY))
+                        || relative.equals(Paths.get(SegmentAttachmentStorage.SEGMENT_DIRECTORY))) {
+                    continue;
+                }
+                if (after != null && PATH_ORDER.compare(relative, after) < 0 && !after.startsWith(relative)) {
+                    continue;
+                }
+                collect(basePath, child, after, batch, limit);
+                deleteIfEmptyLegacyDirectory(relative, child, attributes);
+            } else if (attributes.isRegularFile() && (after == null || PATH_ORDER.compare(relative, after) > 0)) {
+                batch.put(child, attributes);
+            }
+        }
+    }
+
+    private int deleteOrphans(Path basePath, Map<Path, BasicFileAttributes> batch, List<StoredObject> objects) {
+        Instant graceDeadline = Instant.now().minus(fileUploadProperties.getOrphanGracePeriod());
+        Instant stagingDeadline = graceDeadline.minus(fileUploadProperties.getUploadSessionTtl());
+        Path stagingDir = Paths.get(FileUtil.CAS_DIRECTORY, FileUtil.STAGING_DIRECTORY);
+
+        List<String> candidates = new ArrayList<>();
+        Map<String, Long> sizes = new LinkedHashMap<>();
+        int deleted = 0;
+        for (Map.Entry<Path, BasicFileAttributes> entry : batch.entrySet()) {
+            Path relative = basePath.relativize(entry.getKey());
+            BasicFileAttributes attributes = entry.getValue();
+            if (relative.startsWith(stagingDir)) {
+                if (deleted < attachmentGcProperties.getMaxDeletesPerRun()
+                        && attributes.lastModifiedTime().toInstant().isBefore(stagingDeadline)
+                        && deleteStagingFile(entry.getKey(), attributes.size())) {
+                    deleted++;
+                }
+            } else if (attributes.lastModifiedTime().toInstant().isBefore(graceDeadline)) {
+                candidates.add(relative.toString());
+                sizes.put(relative.toString(), attributes.size());
+            }
+        }
+        for (StoredObject object : objects) {
+            if (Paths.get(object.key()).startsWith(FileUtil.CAS_DIRECTORY)
+                    && Instant.ofEpochMilli(object.lastModified()).isBefore(graceDeadline)) {
+                candidates.add(object.key());
+                sizes.put(object.key(), object.size());
+            }
+        }
+        if (candidates.isEmpty()) {
+            return deleted;
+        }
+
+        Set<String> referenced = new HashSet<>(noticeRepository.findReferencedAttachmentPaths(candidates));
+        for (String path : candidates) {
+            if (deleted >= attachmentGcProperties.getMaxDeletesPerRun()) {
+                break;
+            }
+            if (!referenced.contains(path) && fileUtil.deleteIfStale(path)) {
+                deletedFiles.increment();
+                reclaimedBytes.increment(sizes.get(path));
+                deleted++;
+                log.debug("Deleted orphan attachment {}", path);
+            }
+        }
+        return deleted;
+    }
+
+    private boolean deleteStagingFile(Path file, long size) {
+        try {
+            if (Files.deleteIfExists(file)) {
+                deletedFiles.increment();
+                reclaimedBytes.increment(size);
+                return true;
+            }
+        } catch (IOException e) {
+            log.warn("Failed to delete staging file {}", file, e);
+        }
+        return false;
+    }
+
+    /**
+     * 파일이 모두 정리된 이전 형식(yyyyMMddHH)의 폴더를 삭제합니다.
+     * 내용 주소 저장소의 폴더는 저장 직전에 만들어지므로 경쟁을 피하기 위해 남겨 둡니다.
+     */
+    private void deleteIfEmptyLegacyDirectory(Path relative, Path dir, BasicFileAttributes attributes) {
+        if (relative.startsWith(FileUtil.CAS_DIRECTORY)
+                || attributes.lastModifiedTime().toInstant().isAfter(Instant.now().minus(fileUploadProperties.getOrphanGracePeriod()))) {
+            return;
+        }
+        try {
+            Files.delete(dir);
+            log.debug("Deleted empty upload directory {}", relative);
+        } catch (DirectoryNotEmptyException | NoSuchFileException e) {
+            // 아직 파일이 남아 있거나 이미 삭제된 폴더입니다.
+        } catch (IOException e) {
+            log.warn("Failed to delete upload directory {}", dir, e);
+        }
+    }
+
+    private static Path lastKey(Map<Path, BasicFileAttributes> batch) {
+        Path last = null;
+        for (Path path : batch.keySet()) {
+            last = path;
+        }
+        return last;
+    }
+
+    private static CustomizableThreadFactory lowPriorityThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("attachment-gc-");
+        threadFactory.setThreadPriority(Thread.MIN_PRIORITY);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
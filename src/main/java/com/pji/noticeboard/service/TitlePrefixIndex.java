@@ -0,0 +1,524 @@
+package com.pji.noticeboard.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 공지사항 제목의 접두어 색인입니다. 접두어로 시작하는 제목을 가중치(조회수)가 높은 순으로 찾습니다.
+ *
+ * 제목은 한글 음절을 자모로 풀어 쓴 키로 바꾸어 정렬한 뒤 하나의 char 배열에 이어 붙여 보관합니다.
+ * 키를 자모로 풀어 두므로 입력 중인 "공ㅈ"이나 다음 음절의 초성이 될 받침이 붙은 "공"(고요)도 접두어로 찾을 수 있습니다.
+ * 접두어에 해당하는 키는 정렬된 배열의 연속 구간이므로 이진 탐색으로 구간을 찾고,
+ * 가중치 최댓값 위치를 담은 세그먼트 트리로 구간의 상위 k개를 O(k log n)에 고릅니다.
+ * 제목이 바뀐 공지사항은 기존 항목에 삭제 표시를 하고 작은 추가 맵(overlay)에 넣으며, compact()가 둘을 다시 하나의 배열로 합칩니다.
+ * 조회는 잠금 없이 읽으므로 갱신 중인 가중치는 순위에 조금 늦게 반영될 수 있습니다.
+ */
+final class TitlePrefixIndex {
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ",
+            "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+            "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"), Map.entry('ㄺ', "ㄹㄱ"),
+            Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"), Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"),
+            Map.entry('ㄿ', "ㄹㅍ"), Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"), Map.entry('ㅘ', "ㅗㅏ"),
+            Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"), Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"),
+            Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ"));
+    private static final int HANGUL_BASE = 0xAC00;
+    private static final int HANGUL_LAST = 0xD7A3;
+
+    /**
+     * 삭제된 항목의 가중치입니다. 살아 있는 항목의 가중치는 0 이상입니다.
+     */
+    private static final long REMOVED = -1;
+
+    private static final Comparator<Suggestion> RANKING = Comparator.comparingLong(Suggestion::weight)
+            .thenComparingLong(Suggestion::id);
+
+    private final Object writeLock = new Object();
+    private final ConcurrentSkipListMap<String, Entry> overlay = new ConcurrentSkipListMap<>();
+    private final Map<Long, Entry> overlayById = new ConcurrentHashMap<>();
+    private final Map<Long, Long> pendingWeights = new ConcurrentHashMap<>();
+
+    private volatile Base base;
+    private Set<Long> changedWhileCompacting;
+
+    TitlePrefixIndex() {
+        this.base = Base.of(List.of());
+    }
+
+    private TitlePrefixIndex(List<Entry> entries) {
+        this.base = Base.of(entries);
+    }
+
+    /**
+     * 공지사항 목록으로 색인을 만듭니다.
+     */
+    static TitlePrefixIndex of(List<Suggestion> suggestions) {
+        List<Entry> entries = new ArrayList<>(suggestions.size());
+        for (Suggestion suggestion : suggestions) {
+            if (suggestion.title() != null) {
+                entries.add(new Entry(suggestion.id(), suggestion.title(), keyOf(suggestion.title()), Math.max(0, suggestion.weight())));
+            }
+        }
+        return new TitlePrefixIndex(entries);
+    }
+
+    /**
+     * 공지사항 제목을 색인합니다. 제목이 그대로면 가중치만 바꿉니다.
+     */
+    void put(long id, String title, long weight) {
+        if (title == null) {
+            remove(id);
+            return;
+        }
+        synchronized (writeLock) {
+            pendingWeights.remove(id);
+            Base current = base;
+            int position = current.positionOf(id);
+            if (position >= 0 && current.weights[position] != REMOVED && current.titles[position].equals(title)) {
+                current.setWeight(position, Math.max(0, weight));
+                if (changedWhileCompacting != null) {
+                    pendingWeights.put(id, Math.max(0, weight));
+                }
+                return;
+            }
+            removeLocked(id);
+            Entry entry = new Entry(id, title, keyOf(title), Math.max(0, weight));
+            overlay.put(entry.overlayKey(), entry);
+            overlayById.put(id, entry);
+            if (changedWhileCompacting != null) {
+                changedWhileCompacting.add(id);
+            }
+        }
+    }
+
+    /**
+     * 공지사항을 색인에서 제거합니다.
+     */
+    void remove(long id) {
+        synchronized (writeLock) {
+            pendingWeights.remove(id);
+            removeLocked(id);
+        }
+    }
+
+    /**
+     * 가중치 변경을 기록합니다. 잠금 없이 기록만 하고, applyWeights()가 모아서 반영합니다.
+     */
+    void updateWeight(long id, long weight) {
+        pendingWeights.put(id, Math.max(0, weight));
+    }
+
+    /**
+     * 기록된 가중치 변경을 반영합니다.
+     */
+    void applyWeights() {
+        if (pendingWeights.isEmpty()) {
+            return;
+        }
+        synchronized (writeLock) {
+            Base current = base;
+            for (Long id : new ArrayList<>(pendingWeights.keySet())) {
+                Long weight = pendingWeights.remove(id);
+                Entry entry = overlayById.get(id);
+                if (entry != null) {
+                    entry.weight = weight;
+                    continue;
+                }
+                int position = current.positionOf(id);
+                if (position >= 0 && current.weights[position] != REMOVED) {
+                    current.setWeight(position, weight);
+                }
+            }
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 제목을 가중치가 높은 순으로 반환합니다. 가중치가 같으면 최근 공지사항이 앞에 옵니다.
+     *
+     * @param prefix 입력 중인 접두어
+     * @param limit 반환할 최대 개수
+     * @return 제목 목록
+     */
+    List<Suggestion> suggest(String prefix, int limit) {
+        String key = keyOf(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        PriorityQueue<Suggestion> top = new PriorityQueue<>(limit, RANKING);
+        base.collect(key, limit, top);
+        for (Entry entry : overlay.subMap(key, true, key + Character.MAX_VALUE, false).values()) {
+            offer(top, new Suggestion(entry.id, entry.title, entry.weight), limit);
+        }
+
+        List<Suggestion> suggestions = new ArrayList<>(top);
+        suggestions.sort(RANKING.reversed());
+        return suggestions;
+    }
+
+    /**
+     * 추가 맵에 쌓인 제목 수를 반환합니다.
+     */
+    int overlaySize() {
+        return overlayById.size();
+    }
+
+    /**
+     * 색인된 공지사항 수를 반환합니다.
+     */
+    int size() {
+        return base.liveCount() + overlayById.size();
+    }
+
+    /**
+     * 배열의 살아 있는 항목과 추가 맵을 하나의 배열로 합칩니다.
+     * 합치는 동안 들어온 변경은 기존 구조에 반영되고, 합친 뒤 새 배열에 다시 적용합니다.
+     */
+    void compact() {
+        Base previous;
+        List<Entry> merged;
+        synchronized (writeLock) {
+            if (overlayById.isEmpty() && base.removedCount == 0) {
+                return;
+            }
+            previous = base;
+            merged = new ArrayList<>(overlayById.values());
+            changedWhileCompacting = new HashSet<>();
+        }
+
+        Base compacted;
+        try {
+            List<Entry> entries = new ArrayList<>(previous.liveCount() + merged.size());
+            for (int position = 0; position < previous.ids.length; position++) {
+                long weight = previous.weights[position];
+                if (weight != REMOVED) {
+                    entries.add(new Entry(previous.ids[position], previous.titles[position], previous.keyAt(position), weight));
+                }
+            }
+            for (Entry entry : merged) {
+                entries.add(new Entry(entry.id, entry.title, entry.key, entry.weight));
+            }
+            compacted = Base.of(entries);
+        } catch (RuntimeException e) {
+            synchronized (writeLock) {
+                changedWhileCompacting = null;
+            }
+            throw e;
+        }
+
+        synchronized (writeLock) {
+            for (Entry entry : merged) {
+                if (overlayById.remove(entry.id, entry)) {
+                    overlay.remove(entry.overlayKey());
+                }
+            }
+            for (Long id : changedWhileCompacting) {
+                int position = compacted.positionOf(id);
+                if (position >= 0) {
+                    compacted.setWeight(position, REMOVED);
+                }
+            }
+            changedWhileCompacting = null;
+            base = compacted;
+        }
+        applyWeights();
+    }
+
+    /**
+     * 제목을 검색 키로 바꿉니다. 소문자로 바꾸고 공백을 하나로 줄이며, 한글 음절과 겹자모는 낱자로 풉니다.
+     */
+    static String keyOf(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT).strip();
+        StringBuilder key = new StringBuilder(normalized.length() * 3);
+        boolean space = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = true;
+                continue;
+            }
+            if (space) {
+                key.append(' ');
+                space = false;
+            }
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                int syllable = c - HANGUL_BASE;
+                key.append(CHOSEONG.charAt(syllable / 588))
+                        .append(JUNGSEONG[syllable % 588 / 28])
+                        .append(JONGSEONG[syllable % 28]);
+            } else {
+                key.append(COMPOUND_JAMO.getOrDefault(c, String.valueOf(c)));
+            }
+        }
+        return key.toString();
+    }
+
+    private void removeLocked(long id) {
+        Entry entry = overlayById.remove(id);
+        if (entry != null) {
+            overlay.remove(entry.overlayKey());
+        }
+        Base current = base;
+        int position = current.positionOf(id);
+        if (position >= 0 && current.weights[position] != REMOVED) {
+            current.setWeight(position, REMOVED);
+        }
+        if (changedWhileCompacting != null) {
+            changedWhileCompacting.add(id);
+        }
+    }
+
+    private static void offer(PriorityQueue<Suggestion> top, Suggestion suggestion, int limit) {
+        if (top.size() < limit) {
+            top.add(suggestion);
+        } else if (RANKING.compare(suggestion, top.peek()) > 0) {
+            top.poll();
+            top.add(suggestion);
+        }
+    }
+
+    /**
+     * 추천 제목 한 건입니다.
+     */
+    record Suggestion(long id, String title, long weight) {
+    }
+
+    private static final class Entry {
+
+        private final long id;
+        private final String title;
+        private final String key;
+        private volatile long weight;
+
+        private Entry(long id, String title, String key, long weight) {
+            this.id = id;
+            this.title = title;
+            this.key = key;
+            this.weight = weight;
+        }
+
+        /**
+         * 같은 제목의 공지사항이 여럿일 수 있으므로 키 뒤에 ID를 붙여 추가 맵의 키로 씁니다.
+         */
+        String overlayKey() {
+            return key + '\u0000' + id;
+        }
+    }
+
+    /**
+     * 키 순서로 정렬된 항목 배열입니다. 키는 keyChars 하나에 이어 붙이고 keyOffsets로 나눕니다.
+     * tree는 크기가 2의 거듭제곱인 세그먼트 트리로, 각 노드에 자식 구간에서 가중치가 가장 큰 항목의 위치를 담습니다.
+     */
+    private static final class Base {
+
+        private final char[] keyChars;
+        private final int[] keyOffsets;
+        private final long[] ids;
+        private final String[] titles;
+        private final long[] weights;
+        private final int[] tree;
+        private final int leafStart;
+        private final long[] sortedIds;
+        private final int[] positionsById;
+        private int removedCount;
+
+        private Base(char[] keyChars, int[] keyOffsets, long[] ids, String[] titles, long[] weights) {
+            this.keyChars = keyChars;
+            this.keyOffsets = keyOffsets;
+            this.ids = ids;
+            this.titles = titles;
+            this.weights = weights;
+
+            int count = ids.length;
+            int leaves = Integer.highestOneBit(Math.max(1, count - 1)) << 1;
+            this.leafStart = leaves;
+            this.tree = new int[leaves * 2];
+            Arrays.fill(tree, -1);
+            for (int position = 0; position < count; position++) {
+                tree[leaves + position] = position;
+            }
+            for (int node = leaves - 1; node >= 1; node--) {
+                tree[node] = better(tree[node * 2], tree[node * 2 + 1]);
+            }
+
+            Integer[] order = new Integer[count];
+            for (int position = 0; position < count; position++) {
+                order[position] = position;
+            }
+            Arrays.sort(order, Comparator.comparingLong(position -> ids[position]));
+            this.sortedIds = new long[count];
+            this.positionsById = new int[count];
+            for (int i = 0; i < count; i++) {
+                sortedIds[i] = ids[order[i]];
+                positionsById[i] = order[i];
+            }
+        }
+
+        static Base of(List<Entry> entries) {
+            List<Entry> sorted = new ArrayList<>(entries);
+            sorted.sort(Comparator.comparing((Entry entry) -> entry.key).thenComparingLong(entry -> entry.id));
+
+            int count = sorted.size();
+            int[] keyOffsets = new int[count + 1];
+            long totalLength = 0;
+            for (Entry entry : sorted) {
+                totalLength += entry.key.length();
+            }
+            char[] keyChars = new char[Math.toIntExact(totalLength)];
+            long[] ids = new long[count];
+            String[] titles = new String[count];
+            long[] weights = new long[count];
+            int offset = 0;
+            for (int position = 0; position < count; position++) {
+                Entry entry = sorted.get(position);
+                entry.key.getChars(0, entry.key.length(), keyChars, offset);
+                keyOffsets[position] = offset;
+                offset += entry.key.length();
+                ids[position] = entry.id;
+                titles[position] = entry.title;
+                weights[position] = entry.weight;
+            }
+            keyOffsets[count] = offset;
+            return new Base(keyChars, keyOffsets, ids, titles, weights);
+        }
+
+        int positionOf(long id) {
+            int index = Arrays.binarySearch(sortedIds, id);
+            return index >= 0 ? positionsById[index] : -1;
+        }
+
+        String keyAt(int position) {
+            return new String(keyChars, keyOffsets[position], keyOffsets[position + 1] - keyOffsets[position]);
+        }
+
+        int liveCount() {
+            return ids.length - removedCount;
+        }
+
+        void setWeight(int position, long weight) {
+            if (weight == REMOVED && weights[position] != REMOVED) {
+                removedCount++;
+            }
+            weights[position] = weight;
+            for (int node = (leafStart + position) / 2; node >= 1; node /= 2) {
+                tree[node] = better(tree[node * 2], tree[node * 2 + 1]);
+            }
+        }
+
+        /**
+         * 접두어 구간에서 가중치가 큰 항목부터 꺼냅니다. 구간의 최댓값을 꺼낸 뒤 그 왼쪽과 오른쪽 구간을 다시 후보로 넣습니다.
+         */
+        void collect(String prefix, int limit, PriorityQueue<Suggestion> top) {
+            int from = lowerBound(prefix, false);
+            int to = lowerBound(prefix, true);
+            if (from >= to) {
+                return;
+            }
+
+            PriorityQueue<int[]> ranges = new PriorityQueue<>(
+                    Comparator.comparingLong((int[] range) -> weights[range[2]]).thenComparingLong(range -> ids[range[2]]).reversed());
+            addRange(ranges, from, to);
+            int taken = 0;
+            while (taken < limit && !ranges.isEmpty()) {
+                int[] range = ranges.poll();
+                int best = range[2];
+                long weight = weights[best];
+                if (weight == REMOVED) {
+                    break;
+                }
+                offer(top, new Suggestion(ids[best], titles[best], weight), limit);
+                taken++;
+                addRange(ranges, range[0], best);
+                addRange(ranges, best + 1, range[1]);
+            }
+        }
+
+        private void addRange(PriorityQueue<int[]> ranges, int from, int to) {
+            if (from < to) {
+                ranges.add(new int[]{from, to, best(from, to)});
+            }
+        }
+
+        /**
+         * [from, to) 구간에서 가중치가 가장 큰 항목의 위치를 반환합니다.
+         */
+        private int best(int from, int to) {
+            int result = -1;
+            for (int left = from + leafStart, right = to + leafStart; left < right; left /= 2, right /= 2) {
+                if ((left & 1) == 1) {
+                    result = better(result, tree[left++]);
+                }
+                if ((right & 1) == 1) {
+                    result = better(result, tree[--right]);
+                }
+            }
+            return result;
+        }
+
+        private int better(int left, int right) {
+            if (left < 0) {
+                return right;
+            }
+            if (right < 0) {
+                return left;
+            }
+            if (weights[left] != weights[right]) {
+                return weights[left] > weights[right] ? left : right;
+            }
+            return ids[left] > ids[right] ? left : right;
+        }
+
+        /**
+         * 키가 접두어보다 크거나 같은(after가 true면 접두어로 시작하는 키보다 큰) 첫 위치를 찾습니다.
+         */
+        private int lowerBound(String prefix, boolean after) {
+            int low = 0;
+            int high = ids.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                int compared = comparePrefix(mid, prefix);
+                if (compared < 0 || (after && compared == 0)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * 키의 앞부분을 접두어와 비교합니다. 키가 접두어로 시작하면 0을 반환합니다.
+         */
+        private int comparePrefix(int position, String prefix) {
+            int offset = keyOffsets[position];
+            int length = keyOffsets[position + 1] - offset;
+            int common = Math.min(length, prefix.length());
+            for (int i = 0; i < common; i++) {
+                int compared = Character.compare(keyChars[offset + i], prefix.charAt(i));
+                if (compared != 0) {
+                    return compared;
+                }
+            }
+            return length < prefix.length() ? -1 : 0;
+        }
+    }
+}
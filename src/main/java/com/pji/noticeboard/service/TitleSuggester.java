@@ -0,0 +1,163 @@
+package com.pji.noticeboard.service;
+
+import com.pji.noticeboard.config.SuggestProperties;
+import com.pji.noticeboard.dto.NoticeSuggestionDto;
+import com.pji.noticeboard.entity.Notice;
+import com.pji.noticeboard.event.NoticeChangedEvent;
+import com.pji.noticeboard.event.NoticeScheduleEvent;
+import com.pji.noticeboard.repository.NoticeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 공지사항 제목 자동완성을 담당합니다.
+ *
+ * 애플리케이션 시작 시 게시가 시작된 제목과 조회수를 TitlePrefixIndex에 적재하고, 등록/수정/삭제 이벤트와 조회마다 갱신합니다.
+ * 게시 시작 전이거나 게시가 끝난 공지사항의 제목은 색인에 넣지 않고, 게시 시작 이벤트를 받으면 추가하고 게시 종료 이벤트를 받으면 제거합니다.
+ * 추천은 DB 접근 없이 메모리에서만 처리합니다.
+ * 다른 노드에서 일어난 변경과 조회수는 주기적인 재적재로 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TitleSuggester {
+
+    private final NoticeRepository noticeRepository;
+    private final ViewCountService viewCountService;
+    private final SuggestProperties suggestProperties;
+
+    private volatile TitlePrefixIndex index;
+
+    /**
+     * 재적재 중에 들어온 변경은 기존 색인에 바로 반영하고, 적재가 끝나면 새 색인에도 다시 적용합니다. 제목이 null이면 삭제입니다.
+     */
+    private final KeysetReloader<TitlePrefixIndex.Suggestion> reloader = new KeysetReloader<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * DB에서 게시 중인 제목으로 색인을 다시 만듭니다.
+     * 아직 DB에 반영되지 않은 조회수는 ViewCountService의 값으로 보정합니다.
+     */
+    @Scheduled(fixedDelayString = "${notice.suggest.reload-interval:600000}",
+            initialDelayString = "${notice.suggest.reload-interval:600000}")
+    public void reload() {
+        LocalDateTime now = LocalDateTime.now();
+        TitlePrefixIndex loaded = reloader.reload(
+                (lastId, pageable) -> noticeRepository.findSuggestionsAfter(lastId, now, pageable),
+                NoticeSuggestionDto::getId, suggestProperties.getBatchSize(),
+                notices -> {
+                    List<TitlePrefixIndex.Suggestion> titles = new ArrayList<>(notices.size());
+                    for (NoticeSuggestionDto notice : notices) {
+                        long viewCount = viewCountService.getCurrentCount(notice.getId(), notice.getViewCount());
+                        titles.add(new TitlePrefixIndex.Suggestion(notice.getId(), notice.getTitle(), viewCount));
+                    }
+                    return TitlePrefixIndex.of(titles);
+                },
+                (built, changes) -> {
+                    changes.values().forEach(change -> built.put(change.id(), change.title(), change.weight()));
+                    index = built;
+                });
+        log.info("Title suggestions loaded with {} titles", loaded.size());
+    }
+
+    /**
+     * 접두어로 시작하는 제목을 조회수가 높은 순으로 추천합니다. 색인이 적재되기 전에는 빈 목록을 반환합니다.
+     *
+     * @param prefix 입력 중인 접두어
+     * @param limit 추천할 최대 개수
+     * @return 추천 제목 목록
+     */
+    public List<NoticeSuggestionDto> suggest(String prefix, int limit) {
+        TitlePrefixIndex current = index;
+        if (current == null) {
+            return List.of();
+        }
+        return current.suggest(prefix, limit).stream()
+                .map(suggestion -> NoticeSuggestionDto.builder()
+                        .id(suggestion.id())
+                        .title(suggestion.title())
+                        .viewCount((int) suggestion.weight())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 조회수 변경을 기록합니다. 순위에는 다음 maintain() 실행 때 반영됩니다.
+     *
+     * @param id 조회된 공지사항 ID
+     * @param viewCount 현재 조회수
+     */
+    public void recordView(Long id, long viewCount) {
+        TitlePrefixIndex current = index;
+        if (current != null) {
+            current.updateWeight(id, viewCount);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        Notice notice = event.getNotice();
+        String title = event.isRemoval() || !isPublished(notice) ? null : notice.getTitle();
+        long viewCount = viewCountService.getCurrentCount(notice.getId(), notice.getViewCount());
+        apply(new TitlePrefixIndex.Suggestion(notice.getId(), title, viewCount));
+    }
+
+    /**
+     * 게시가 시작된 공지사항의 제목을 색인에 추가하고, 게시가 끝난 공지사항의 제목은 제거합니다.
+     */
+    @EventListener
+    public void onNoticeScheduled(NoticeScheduleEvent event) {
+        if (event.getType() == NoticeScheduleEvent.Type.EXPIRED) {
+            apply(new TitlePrefixIndex.Suggestion(event.getNoticeId(), null, 0));
+            return;
+        }
+        noticeRepository.findById(event.getNoticeId())
+                .filter(TitleSuggester::isPublished)
+                .ifPresent(notice -> apply(new TitlePrefixIndex.Suggestion(notice.getId(), notice.getTitle(),
+                        viewCountService.getCurrentCount(notice.getId(), notice.getViewCount()))));
+    }
+
+    /**
+     * 모아 둔 조회수 변경을 반영하고, 추가 맵이 커지면 색인을 합칩니다.
+     */
+    @Scheduled(fixedDelayString = "${notice.suggest.maintain-interval:1000}")
+    public void maintain() {
+        TitlePrefixIndex current = index;
+        if (current == null) {
+            return;
+        }
+        current.applyWeights();
+        if (current.overlaySize() >= suggestProperties.getMaxOverlay()) {
+            long startedAt = System.nanoTime();
+            current.compact();
+            log.info("Title suggestions compacted in {} ms", (System.nanoTime() - startedAt) / 1_000_000);
+        }
+    }
+
+    private static boolean isPublished(Notice notice) {
+        LocalDateTime now = LocalDateTime.now();
+        return (notice.getStartDateTime() == null || !now.isBefore(notice.getStartDateTime()))
+                && (notice.getEndDateTime() == null || now.isBefore(notice.getEndDateTime()));
+    }
+
+    private void apply(TitlePrefixIndex.Suggestion change) {
+        reloader.record(change.id(), change);
+        TitlePrefixIndex current = index;
+        if (current != null) {
+            current.put(change.id(), change.title(), change.weight());
+        }
+    }
+}
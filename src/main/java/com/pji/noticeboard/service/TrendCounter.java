@@ -0,0 +1,142 @@
+package com.pji.noticeboard.service;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 공지사항 한 건의 기간별 조회수를 시간 버킷 링으로 보관합니다.
+ *
+ * 집계 기간마다 고정 크기의 링을 하나씩 두고 하나의 int 배열에 이어 붙여 저장하므로,
+ * 공지사항당 메모리 사용량이 일정합니다. 링의 head는 마지막으로 기록한 버킷의 절대 번호이며,
+ * 시간이 흐르면 그 사이의 버킷을 0으로 비우고 앞으로 이동합니다.
+ */
+final class TrendCounter {
+
+    private static final TrendingWindow[] WINDOWS = TrendingWindow.values();
+    private static final int[] OFFSETS = new int[WINDOWS.length];
+    private static final int TOTAL_BUCKETS;
+
+    static {
+        int offset = 0;
+        for (int i = 0; i < WINDOWS.length; i++) {
+            OFFSETS[i] = offset;
+            offset += WINDOWS[i].getBucketCount();
+        }
+        TOTAL_BUCKETS = offset;
+    }
+
+    /**
+     * 집계 기간별 가중치입니다. 가장 긴 기간 대비 길이의 역수이므로 최근 조회일수록 여러 기간에 걸쳐 크게 반영됩니다.
+     */
+    private static final long[] HEAT_WEIGHTS = new long[WINDOWS.length];
+
+    static {
+        TrendingWindow longest = WINDOWS[WINDOWS.length - 1];
+        long longestMillis = longest.getBucketMillis() * longest.getBucketCount();
+        for (int i = 0; i < WINDOWS.length; i++) {
+            HEAT_WEIGHTS[i] = longestMillis / (WINDOWS[i].getBucketMillis() * WINDOWS[i].getBucketCount());
+        }
+    }
+
+    static final int SERIALIZED_SIZE = WINDOWS.length * Long.BYTES + TOTAL_BUCKETS * Integer.BYTES;
+
+    private final long[] heads = new long[WINDOWS.length];
+    private final int[] buckets = new int[TOTAL_BUCKETS];
+
+    /**
+     * 현재 시각의 버킷에 조회 1건을 기록합니다.
+     *
+     * @param now 현재 시각 (epoch millis)
+     */
+    synchronized void increment(long now) {
+        for (int i = 0; i < WINDOWS.length; i++) {
+            buckets[advance(i, now)]++;
+        }
+    }
+
+    /**
+     * 집계 기간 동안의 조회수를 반환합니다.
+     *
+     * @param window 집계 기간
+     * @param now 현재 시각 (epoch millis)
+     * @return 기간 내 조회수
+     */
+    synchronized long sum(TrendingWindow window, long now) {
+        int index = window.ordinal();
+        advance(index, now);
+        long sum = 0;
+        int from = OFFSETS[index];
+        for (int i = from; i < from + window.getBucketCount(); i++) {
+            sum += buckets[i];
+        }
+        return sum;
+    }
+
+    /**
+     * 오래된 조회일수록 작게 반영한 점수를 반환합니다. 추적 상한에 도달했을 때 가장 식은 카운터를 고르는 데 사용합니다.
+     *
+     * @param now 현재 시각 (epoch millis)
+     * @return 기간별 조회수에 기간 가중치를 곱해 더한 값
+     */
+    long heat(long now) {
+        long heat = 0;
+        for (int i = 0; i < WINDOWS.length; i++) {
+            heat += sum(WINDOWS[i], now) * HEAT_WEIGHTS[i];
+        }
+        return heat;
+    }
+
+    /**
+     * 가장 긴 집계 기간 동안 조회가 없었는지 확인합니다.
+     *
+     * @param now 현재 시각 (epoch millis)
+     * @return 조회가 없었으면 true
+     */
+    boolean isIdle(long now) {
+        return sum(WINDOWS[WINDOWS.length - 1], now) == 0;
+    }
+
+    synchronized byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(SERIALIZED_SIZE);
+        for (long head : heads) {
+            buffer.putLong(head);
+        }
+        for (int bucket : buckets) {
+            buffer.putInt(bucket);
+        }
+        return buffer.array();
+    }
+
+    static TrendCounter fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != SERIALIZED_SIZE) {
+            throw new IllegalArgumentException("Invalid trend bucket data");
+        }
+        TrendCounter counter = new TrendCounter();
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        for (int i = 0; i < counter.heads.length; i++) {
+            counter.heads[i] = buffer.getLong();
+        }
+        for (int i = 0; i < counter.buckets.length; i++) {
+            counter.buckets[i] = buffer.getInt();
+        }
+        return counter;
+    }
+
+    /**
+     * 링을 현재 시각의 버킷까지 이동시키고, 현재 버킷의 배열 위치를 반환합니다.
+     */
+    private int advance(int windowIndex, long now) {
+        TrendingWindow window = WINDOWS[windowIndex];
+        int count = window.getBucketCount();
+        long index = now / window.getBucketMillis();
+        long head = heads[windowIndex];
+
+        if (index > head) {
+            long gap = Math.min(index - head, count);
+            for (long i = 1; i <= gap; i++) {
+                buckets[OFFSETS[windowIndex] + (int) ((head + i) % count)] = 0;
+            }
+            heads[windowIndex] = index;
+        }
+        return OFFSETS[windowIndex] + (int) (heads[windowIndex] % count);
+    }
+}
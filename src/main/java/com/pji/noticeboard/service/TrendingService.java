@@ -0,0 +1,343 @@
+package com.pji.noticeboard.service;
+
+import com.pji.noticeboard.config.TrendingProperties;
+import com.pji.noticeboard.dto.TrendingNoticeDto;
+import com.pji.noticeboard.entity.Notice;
+import com.pji.noticeboard.entity.NoticeTrend;
+import com.pji.noticeboard.event.NoticeChangedEvent;
+import com.pji.noticeboard.event.NoticeScheduleEvent;
+import com.pji.noticeboard.repository.NoticeRepository;
+import com.pji.noticeboard.repository.NoticeTrendRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 기간별 인기 급상승 공지사항을 집계합니다.
+ *
+ * 상세조회마다 공지사항별 시간 버킷 링(TrendCounter)에 조회를 기록하고,
+ * 주기적으로 기간별 상위 공지사항 순위를 다시 계산해 둡니다. 조회 요청은 미리 계산된 순위에서 바로 응답합니다.
+ * 버킷은 주기적으로 DB에 저장되어 재시작 후에도 복원됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingService {
+
+    private static final Comparator<long[]> BY_SCORE = Comparator.comparingLong((long[] entry) -> entry[1])
+            .thenComparingLong(entry -> entry[0]);
+
+    /**
+     * 추적 상한에서 한 번 훑을 때 골라 두는 제거 후보 수입니다.
+     */
+    static final int EVICTION_BATCH = 1024;
+
+    private final NoticeRepository noticeRepository;
+    private final NoticeTrendRepository noticeTrendRepository;
+    private final ViewCountService viewCountService;
+    private final TrendingProperties trendingProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, TrendCounter> counters = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> removedIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 추적 상한에서 제거할 카운터 ID입니다. 마지막으로 훑은 시점의 점수가 낮은 순서입니다.
+     */
+    private final Deque<Long> evictionCandidates = new ArrayDeque<>();
+
+    private volatile Map<TrendingWindow, List<TrendingNoticeDto>> rankings = new EnumMap<>(TrendingWindow.class);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        restore();
+        refreshRankings();
+    }
+
+    /**
+     * 현재 시각의 버킷에 조회 1건을 기록합니다.
+     * 추적 중인 공지사항 수가 상한에 도달하면 가장 식은 카운터를 제거하고 새 공지사항을 기록합니다.
+     *
+     * @param id 조회된 공지사항 ID
+     */
+    public void recordView(Long id) {
+        long now = System.currentTimeMillis();
+        TrendCounter counter = counters.get(id);
+        if (counter == null) {
+            if (counters.size() >= trendingProperties.getMaxTracked()) {
+                evictColdest(now);
+            }
+            counter = counters.computeIfAbsent(id, key -> new TrendCounter());
+        }
+        counter.increment(now);
+        dirtyIds.add(id);
+    }
+
+    /**
+     * 기간별 인기 급상승 공지사항을 반환합니다.
+     *
+     * @param window 집계 기간
+     * @param limit 반환할 최대 개수 (기간 내 조회된 공지사항이 적으면 그만큼만 반환합니다)
+     * @return 기간 내 조회수 내림차순으로 정렬된 공지사항 목록
+     */
+    public List<TrendingNoticeDto> getTrending(TrendingWindow window, int limit) {
+        List<TrendingNoticeDto> ranking = rankings.getOrDefault(window, List.of());
+        return new ArrayList<>(ranking.subList(0, Math.min(limit, ranking.size())));
+    }
+
+    public int getCapacity() {
+        return trendingProperties.getCapacity();
+    }
+
+    /**
+     * 기간별 상위 공지사항 순위를 다시 계산합니다.
+     * 기간마다 크기가 capacity인 최소 힙으로 상위 공지사항을 고른 뒤, 공지사항 정보는 한 번의 쿼리로 가져옵니다.
+     */
+    @Scheduled(fixedDelayString = "${notice.trending.refresh-interval:30000}")
+    public void refreshRankings() {
+        long now = System.currentTimeMillis();
+        int capacity = trendingProperties.getCapacity();
+
+        Map<TrendingWindow, List<long[]>> scored = new EnumMap<>(TrendingWindow.class);
+        Set<Long> ids = new HashSet<>();
+        for (TrendingWindow window : TrendingWindow.values()) {
+            PriorityQueue<long[]> heap = new PriorityQueue<>(BY_SCORE);
+            counters.forEach((id, counter) -> {
+                long score = counter.sum(window, now);
+                if (score == 0) {
+                    return;
+                }
+                long[] entry = {id, score};
+                if (heap.size() < capacity) {
+                    heap.add(entry);
+                } else if (BY_SCORE.compare(entry, heap.peek()) > 0) {
+                    heap.poll();
+                    heap.add(entry);
+                }
+            });
+
+            List<long[]> top = new ArrayList<>(heap);
+            top.sort(BY_SCORE.reversed());
+            top.forEach(entry -> ids.add(entry[0]));
+            scored.put(window, top);
+        }
+
+        Map<Long, Notice> notices = ids.isEmpty() ? Map.of() : noticeRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(Notice::getId, Function.identity()));
+
+        Map<TrendingWindow, List<TrendingNoticeDto>> refreshed = new EnumMap<>(TrendingWindow.class);
+        scored.forEach((window, top) -> refreshed.put(window, top.stream()
+                .filter(entry -> notices.containsKey(entry[0]))
+                .map(entry -> toTrendingNotice(notices.get(entry[0]), entry[1]))
+                .collect(Collectors.toList())));
+        rankings = refreshed;
+
+        // 제거 후보는 훑은 시점의 점수로 고른 것이므로, 순위를 다시 계산할 때마다 버리고 필요할 때 다시 고릅니다.
+        synchronized (evictionCandidates) {
+            evictionCandidates.clear();
+        }
+    }
+
+    /**
+     * 변경된 버킷을 DB에 저장하고, 7일 동안 조회가 없었던 공지사항의 카운터는 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${notice.trending.persist-interval:60000}",
+            initialDelayString = "${notice.trending.persist-interval:60000}")
+    public void persist() {
+        long now = System.currentTimeMillis();
+        counters.forEach((id, counter) -> {
+            if (counter.isIdle(now) && counters.remove(id, counter)) {
+                dirtyIds.remove(id);
+                removedIds.add(id);
+            }
+        });
+
+        List<Long> dirty = drain(dirtyIds);
+        List<Long> removed = drain(removedIds);
+        int batchSize = trendingProperties.getPersistBatchSize();
+
+        for (int from = 0; from < dirty.size(); from += batchSize) {
+            List<Long> batch = dirty.subList(from, Math.min(from + batchSize, dirty.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> saveBuckets(batch));
+            } catch (Exception e) {
+                log.error("Failed to persist trend buckets for {} notices", batch.size(), e);
+                dirtyIds.addAll(batch);
+            }
+        }
+
+        if (!removed.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> noticeTrendRepository.deleteAllByIdInBatch(removed));
+            } catch (Exception e) {
+                log.error("Failed to delete trend buckets for {} notices", removed.size(), e);
+                removedIds.addAll(removed);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        persist();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        if (event.isRemoval()) {
+            forget(event.getNoticeId());
+        }
+    }
+
+    /**
+     * 게시 기간이 끝난 공지사항은 더 이상 인기 급상승 목록에 나오지 않도록 삭제된 공지사항처럼 집계에서 제외합니다.
+     */
+    @EventListener
+    public void onNoticeScheduled(NoticeScheduleEvent event) {
+        if (event.getType() == NoticeScheduleEvent.Type.EXPIRED) {
+            forget(event.getNoticeId());
+        }
+    }
+
+    /**
+     * 점수(TrendCounter.heat)가 가장 낮은 카운터를 제거합니다.
+     * 매번 모든 카운터를 훑지 않도록 한 번 훑을 때 점수가 낮은 EVICTION_BATCH개를 후보로 골라 두고 차례로 제거하며, 후보가 떨어지면 다시 훑습니다.
+     */
+    private void evictColdest(long now) {
+        synchronized (evictionCandidates) {
+            while (true) {
+                if (evictionCandidates.isEmpty()) {
+                    selectEvictionCandidates(now);
+                    if (evictionCandidates.isEmpty()) {
+                        return;
+                    }
+                }
+                Long id = evictionCandidates.poll();
+                TrendCounter counter = counters.get(id);
+                if (counter != null && counters.remove(id, counter)) {
+                    dirtyIds.remove(id);
+                    removedIds.add(id);
+                    log.debug("Trending counter limit reached, evicted notice {}", id);
+                    return;
+                }
+            }
+        }
+    }
+
+    private void selectEvictionCandidates(long now) {
+        // 점수가 가장 높은 후보가 맨 앞에 오는 최대 힙으로 점수가 낮은 EVICTION_BATCH개를 고릅니다.
+        PriorityQueue<long[]> heap = new PriorityQueue<>(BY_SCORE.reversed());
+        counters.forEach((id, counter) -> {
+            long[] entry = {id, counter.heat(now)};
+            if (heap.size() < EVICTION_BATCH) {
+                heap.add(entry);
+            } else if (BY_SCORE.compare(entry, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(entry);
+            }
+        });
+
+        List<long[]> coldest = new ArrayList<>(heap);
+        coldest.sort(BY_SCORE);
+        coldest.forEach(entry -> evictionCandidates.add(entry[0]));
+    }
+
+    private void forget(Long id) {
+        if (counters.remove(id) != null) {
+            dirtyIds.remove(id);
+            removedIds.add(id);
+        }
+
+        Map<TrendingWindow, List<TrendingNoticeDto>> filtered = new EnumMap<>(TrendingWindow.class);
+        rankings.forEach((window, ranking) -> filtered.put(window, ranking.stream()
+                .filter(notice -> !notice.getId().equals(id))
+                .collect(Collectors.toList())));
+        rankings = filtered;
+    }
+
+    /**
+     * 저장된 버킷으로 카운터를 복원합니다.
+     */
+    private void restore() {
+        long now = System.currentTimeMillis();
+        int restored = 0;
+        Long lastId = 0L;
+        List<NoticeTrend> page;
+        do {
+            page = noticeTrendRepository.findTop1000ByNoticeIdGreaterThanOrderByNoticeIdAsc(lastId);
+            for (NoticeTrend trend : page) {
+                lastId = trend.getNoticeId();
+                try {
+                    TrendCounter counter = TrendCounter.fromBytes(trend.getBuckets());
+                    if (!counter.isIdle(now)) {
+                        counters.put(trend.getNoticeId(), counter);
+                        restored++;
+                    }
+                } catch (IllegalArgumentException e) {
+                    log.warn("Ignoring corrupted trend buckets for notice {}", trend.getNoticeId());
+                }
+            }
+        } while (!page.isEmpty());
+        log.info("Restored trend buckets for {} notices", restored);
+    }
+
+    private void saveBuckets(List<Long> ids) {
+        Map<Long, NoticeTrend> existing = noticeTrendRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(NoticeTrend::getNoticeId, Function.identity()));
+        LocalDateTime updatedAt = LocalDateTime.now();
+
+        List<NoticeTrend> created = new ArrayList<>();
+        for (Long id : ids) {
+            TrendCounter counter = counters.get(id);
+            if (counter == null) {
+                continue;
+            }
+            NoticeTrend trend = existing.get(id);
+            if (trend == null) {
+                created.add(new NoticeTrend(id, counter.toBytes(), updatedAt));
+            } else {
+                trend.setBuckets(counter.toBytes());
+                trend.setUpdatedAt(updatedAt);
+            }
+        }
+        noticeTrendRepository.saveAll(created);
+    }
+
+    private TrendingNoticeDto toTrendingNotice(Notice notice, long recentViewCount) {
+        return TrendingNoticeDto.builder()
+                .id(notice.getId())
+                .title(notice.getTitle())
+                .createdDate(notice.getCreatedDate())
+                .viewCount((int) viewCountService.getCurrentCount(notice.getId(), notice.getViewCount()))
+                .recentViewCount(recentViewCount)
+                .author(notice.getAuthor())
+                .build();
+    }
+
+    private static List<Long> drain(Set<Long> ids) {
+        List<Long> drained = new ArrayList<>(ids);
+        drained.forEach(ids::remove);
+        return drained;
+    }
+}
@@ -0,0 +1,50 @@
+package com.pji.noticeboard.service;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 인기 급상승 공지사항을 집계하는 기간입니다.
+ * 기간마다 버킷 크기와 개수가 정해져 있으며, 버킷 크기가 슬라이딩 윈도우의 정밀도가 됩니다.
+ */
+public enum TrendingWindow {
+    HOUR("1h", Duration.ofMinutes(5), 12),
+    DAY("24h", Duration.ofHours(1), 24),
+    WEEK("7d", Duration.ofHours(6), 28);
+
+    private final String label;
+    private final long bucketMillis;
+    private final int bucketCount;
+
+    TrendingWindow(String label, Duration bucketSize, int bucketCount) {
+        this.label = label;
+        this.bucketMillis = bucketSize.toMillis();
+        this.bucketCount = bucketCount;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public long getBucketMillis() {
+        return bucketMillis;
+    }
+
+    public int getBucketCount() {
+        return bucketCount;
+    }
+
+    /**
+     * 요청 파라미터(1h, 24h, 7d)를 집계 기간으로 변환합니다.
+     *
+     * @param value 집계 기간 문자열
+     * @return 집계 기간
+     * @throws IllegalArgumentException 지원하지 않는 기간인 경우
+     */
+    public static TrendingWindow from(String value) {
+        return Arrays.stream(values())
+                .filter(window -> window.label.equalsIgnoreCase(value) || window.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported trending window: " + value));
+    }
+}
@@ -0,0 +1,204 @@
+package com.pji.noticeboard.service;
+
+import com.pji.noticeboard.config.ViewCountProperties;
+import com.pji.noticeboard.event.NoticeChangedEvent;
+import com.pji.noticeboard.repository.NoticeViewCountRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 공지사항 조회수를 메모리에 모아 두었다가 주기적으로 DB에 반영하는 write-behind 카운터입니다.
+ *
+ * 상세조회마다 UPDATE 문을 실행하면 인기 공지사항 한 건의 행 잠금에 요청이 몰리므로,
+ * 조회수는 스트라이프 카운터(LongAdder)에 누적하고 flush 주기마다 변경된 공지사항만 배치로 반영합니다.
+ * 반영할 증가분이 없고 idle-timeout 동안 조회되지 않은 카운터는 flush 후 제거하여 조회된 적 있는 모든 공지사항의 카운터가 쌓이지 않게 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountService {
+
+    private final NoticeViewCountRepository noticeViewCountRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ViewCountProperties viewCountProperties;
+
+    private final Map<Long, ViewCounter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * 조회 1건을 기록하고 이번 조회를 포함한 현재 조회수를 반환합니다.
+     *
+     * @param id 조회된 공지사항 ID
+     * @param persistedCount DB에서 읽은 조회수 (카운터가 처음 만들어질 때의 기준값)
+     * @return 현재 조회수
+     */
+    public long recordView(Long id, long persistedCount) {
+        ViewCounter counter = counters.computeIfAbsent(id, key -> new ViewCounter(persistedCount));
+        counter.increment();
+        if (counters.get(id) != counter) {
+            // 증가시키는 사이에 유휴 카운터로 제거되었으면 이번 조회가 유실되지 않도록 다시 등록합니다.
+            return reattach(id, counter).total();
+        }
+        return counter.total();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수까지 포함한 현재 조회수를 반환합니다.
+     *
+     * @param id 공지사항 ID
+     * @param persistedCount DB에서 읽은 조회수
+     * @return 현재 조회수
+     */
+    public long getCurrentCount(Long id, long persistedCount) {
+        ViewCounter counter = counters.get(id);
+        return counter != null ? counter.total() : persistedCount;
+    }
+
+    /**
+     * 삭제가 커밋된 공지사항의 카운터를 제거합니다. 삭제가 롤백되면 카운터와 반영 전 조회수가 그대로 남습니다.
+     * 보관된 공지사항은 같은 ID로 계속 조회되고 조회수도 보관 테이블에 반영되므로 카운터를 유지합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        if (event.getType() == NoticeChangedEvent.Type.DELETED) {
+            counters.remove(event.getNoticeId());
+        }
+    }
+
+    /**
+     * 누적된 조회수 증가분을 DB에 반영합니다.
+     * 반영에 실패하면 증가분을 카운터에 되돌려 다음 주기에 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${notice.view-count.flush-interval:1000}")
+    public void flush() {
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        counters.forEach((id, counter) -> {
+            long delta = counter.drainPending();
+            if (delta > 0) {
+                deltas.put(id, delta);
+            }
+        });
+
+        if (deltas.isEmpty()) {
+            evictIdle();
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> noticeViewCountRepository.addViewCounts(deltas));
+            log.debug("Flushed view counts for {} notices", deltas.size());
+            evictIdle();
+        } catch (Exception e) {
+            log.error("Failed to flush view counts for {} notices", deltas.size(), e);
+            deltas.forEach((id, delta) -> {
+                ViewCounter counter = counters.get(id);
+                if (counter != null) {
+                    counter.restorePending(delta);
+                }
+            });
+        }
+    }
+
+    /**
+     * 반영할 증가분이 없고 idle-timeout 동안 조회되지 않은 카운터를 제거합니다.
+     * 제거한 직후 들어온 조회가 있으면 카운터를 다시 등록합니다.
+     */
+    private void evictIdle() {
+        long idleSince = System.currentTimeMillis() - viewCountProperties.getIdleTimeout().toMillis();
+        int evicted = 0;
+        for (Map.Entry<Long, ViewCounter> entry : counters.entrySet()) {
+            ViewCounter counter = entry.getValue();
+            if (counter.isIdleSince(idleSince) && counters.remove(entry.getKey(), counter)) {
+                if (counter.hasPending()) {
+                    reattach(entry.getKey(), counter);
+                } else {
+                    evicted++;
+                }
+            }
+        }
+        if (evicted > 0) {
+            log.debug("Evicted {} idle view counters", evicted);
+        }
+    }
+
+    /**
+     * 맵에서 제거된 카운터를 다시 등록합니다. 그 사이 새 카운터가 만들어졌으면 남은 증가분을 새 카운터로 옮깁니다.
+     *
+     * @return 맵에 등록된 카운터
+     */
+    private ViewCounter reattach(Long id, ViewCounter detached) {
+        ViewCounter current = counters.putIfAbsent(id, detached);
+        if (current == null || current == detached) {
+            return detached;
+        }
+        current.add(detached.drainPending());
+        return current;
+    }
+
+    /**
+     * 애플리케이션 종료 시 남아 있는 조회수를 모두 반영합니다.
+     */
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+
+    private static final class ViewCounter {
+
+        /**
+         * 마지막 조회 시각을 갱신하는 최소 간격입니다. 조회마다 같은 필드에 쓰지 않도록 이 간격 안에서는 갱신하지 않습니다.
+         */
+        private static final long TOUCH_INTERVAL_MILLIS = 1000;
+
+        private final LongAdder total = new LongAdder();
+        private final LongAdder pending = new LongAdder();
+        private volatile long lastViewedAt = System.currentTimeMillis();
+
+        private ViewCounter(long persistedCount) {
+            total.add(persistedCount);
+        }
+
+        private void increment() {
+            total.increment();
+            pending.increment();
+            long now = System.currentTimeMillis();
+            if (now - lastViewedAt >= TOUCH_INTERVAL_MILLIS) {
+                lastViewedAt = now;
+            }
+        }
+
+        private void add(long views) {
+            total.add(views);
+            pending.add(views);
+        }
+
+        private boolean hasPending() {
+            return pending.sum() > 0;
+        }
+
+        private boolean isIdleSince(long idleSince) {
+            return lastViewedAt <= idleSince && !hasPending();
+        }
+
+        private long total() {
+            return total.sum();
+        }
+
+        private long drainPending() {
+            return pending.sumThenReset();
+        }
+
+        private void restorePending(long delta) {
+            pending.add(delta);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.pji.noticeboard.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+
+/**
+ * 저장소에서 연 첨부파일 내용입니다.
+ */
+public interface AttachmentContent {
+
+    long size();
+
+    /**
+     * @return 수정 시각 (epoch 밀리초)
+     */
+    long lastModified();
+
+    /**
+     * 내용이 개별 파일로 저장되어 있으면 그 파일의 경로를 반환합니다. sendfile처럼 파일 경로가 필요한 전송에 사용합니다.
+     *
+     * @return 파일 경로 (개별 파일이 아니면 null)
+     */
+    Path file();
+
+    /**
+     * 내용의 일부를 대상 채널에 씁니다. 힙에 복사하지 않고 FileChannel.transferTo나 매핑된 버퍼로 바로 씁니다.
+     *
+     * @param position 시작 위치
+     * @param count 쓸 크기
+     * @param target 대상 채널
+     * @throws IOException 쓰는 중 I/O 오류가 발생한 경우
+     */
+    void transferTo(long position, long count, WritableByteChannel target) throws IOException;
+
+    InputStream newInputStream() throws IOException;
+}
@@ -0,0 +1,78 @@
+package com.pji.noticeboard.util;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 첨부파일 내용을 보관하는 저장소입니다.
+ *
+ * 첨부파일은 업로드 폴더 기준의 상대 경로(cas/{해시 앞 두 글자}/{해시}.{확장자})를 키로 저장되며,
+ * 키는 저장 방식과 관계없이 같으므로 DB에 기록된 경로는 저장 방식을 바꿔도 그대로 사용할 수 있습니다.
+ * 업로드 내용은 먼저 업로드 폴더의 임시 파일에 기록되고, 해시가 계산된 뒤 store로 저장소에 옮겨집니다.
+ */
+public interface AttachmentStorage {
+
+    /**
+     * 내용이 모두 기록된 임시 파일을 키로 저장합니다. 임시 파일은 옮겨지거나 그대로 남으며, 남은 임시 파일은 호출한 쪽이 삭제합니다.
+     *
+     * @param key 저장할 키
+     * @param stagedFile 내용이 기록된 임시 파일
+     * @param size 파일 크기
+     * @throws IOException 저장하지 못한 경우
+     */
+    void store(String key, Path stagedFile, long size) throws IOException;
+
+    /**
+     * 저장된 내용을 엽니다. 크기와 수정 시각만 필요할 때도 사용하며, 내용은 transferTo나 newInputStream을 호출할 때 읽습니다.
+     *
+     * @param key 저장된 키
+     * @return 저장된 내용 (없으면 null)
+     * @throws IOException 조회하지 못한 경우
+     */
+    AttachmentContent open(String key) throws IOException;
+
+    boolean exists(String key);
+
+    /**
+     * 수정 시각을 현재 시각으로 바꿉니다. 같은 내용을 재사용할 때 참조 해제 유예 기간을 다시 적용받기 위해 호출합니다.
+     *
+     * @param key 저장된 키
+     * @return 갱신했으면 true, 없었으면 false
+     * @throws IOException 갱신하지 못한 경우
+     */
+    boolean touch(String key) throws IOException;
+
+    /**
+     * 저장된 내용을 삭제합니다.
+     *
+     * @param key 저장된 키
+     * @return 삭제했으면 true, 없었으면 false
+     * @throws IOException 삭제하지 못한 경우
+     */
+    boolean delete(String key) throws IOException;
+
+    /**
+     * 업로드 폴더의 개별 파일이 아닌 곳에 보관된 키를 이름순으로 반환합니다. 고아 첨부파일 수거기가 파일 시스템 검사와 별도로 확인합니다.
+     * 모든 내용을 개별 파일로 저장하는 저장소는 빈 목록을 반환합니다.
+     *
+     * @param after 이 키 다음부터 반환합니다 (처음부터는 null)
+     * @param limit 반환할 최대 개수
+     * @return 저장된 키와 크기, 수정 시각
+     */
+    default List<StoredObject> listObjects(String after, int limit) {
+        return List.of();
+    }
+
+    /**
+     * 클라이언트가 앱 서버를 거치지 않고 저장소에서 바로 내려받을 수 있는 주소를 반환합니다.
+     *
+     * @param key 저장된 키
+     * @param filename 내려받을 때 사용할 파일 이름
+     * @return 서명된 주소 (직접 내려받기를 지원하지 않으면 null)
+     */
+    default URI downloadUri(String key, String filename) {
+        return null;
+    }
+}
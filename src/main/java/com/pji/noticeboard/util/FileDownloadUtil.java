@@ -0,0 +1,216 @@
+package com.pji.noticeboard.util;
+
+import com.pji.noticeboard.exception.ErrorCode;
+import com.pji.noticeboard.exception.InvalidNoticeException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * 저장된 첨부파일을 HTTP 응답으로 보냅니다.
+ *
+ * 개별 파일로 저장된 첨부파일은 Tomcat이 sendfile을 지원하면 응답 본문을 직접 쓰지 않고 파일 경로와 구간만 넘겨 커널이 소켓으로 바로 보내게 하고,
+ * 그 외에는 저장소가 제공하는 transferTo(FileChannel.transferTo 또는 매핑된 버퍼)로 응답 스트림에 옮겨 씁니다.
+ * ETag/Last-Modified 조건부 요청과 단일 구간 Range/If-Range 요청을 처리합니다.
+ * 내용 주소로 저장된 파일은 같은 내용이 다시 업로드될 때마다 수정 시각이 바뀌므로 Last-Modified를 보내지 않고 내용 해시 ETag만 씁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileDownloadUtil {
+
+    private static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    /**
+     * 이보다 작은 응답은 sendfile로 넘기는 비용이 복사 비용보다 크므로 직접 씁니다. (Tomcat DefaultServlet과 같은 기준)
+     */
+    private static final long SENDFILE_THRESHOLD = 48 * 1024;
+
+    private final AttachmentStorage attachmentStorage;
+
+    /**
+     * 첨부파일을 응답으로 보냅니다. 저장소가 직접 내려받기를 지원하면 서명된 주소로 리다이렉트하여 앱 서버를 거치지 않게 합니다.
+     * 조건부 요청이 일치하면 304 또는 412만 응답하고, 처리할 수 있는 Range 요청이면 206으로 해당 구간만 보냅니다.
+     * 만족할 수 없는 구간이면 416을 응답합니다.
+     *
+     * @param path 저장된 파일 경로
+     * @param filename Content-Disposition에 쓸 원본 파일 이름 (null이면 저장된 파일 이름을 씁니다)
+     * @param request HTTP 요청
+     * @param response HTTP 응답
+     * @throws IOException 응답을 쓰는 중 I/O 오류가 발생한 경우
+     */
+    public void send(String path, String filename, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path key = normalize(path);
+        String downloadName = filename != null ? filename : key.getFileName().toString();
+        URI location = attachmentStorage.downloadUri(key.toString(), downloadName);
+        if (location != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+            response.sendRedirect(location.toString());
+            return;
+        }
+        send(key, downloadName, ContentDisposition.attachment(), null, request, response);
+    }
+
+    /**
+     * 브라우저가 바로 표시할 파일을 응답으로 보냅니다. 내용이 바뀌지 않는 파일에 긴 Cache-Control을 붙일 때 사용합니다.
+     *
+     * @param path 저장된 파일 경로
+     * @param cacheControl 응답에 붙일 Cache-Control (304 응답에도 붙습니다)
+     * @param request HTTP 요청
+     * @param response HTTP 응답
+     * @throws IOException 응답을 쓰는 중 I/O 오류가 발생한 경우
+     */
+    public void sendInline(String path, CacheControl cacheControl, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path key = normalize(path);
+        send(key, key.getFileName().toString(), ContentDisposition.inline(), cacheControl, request, response);
+    }
+
+    private void send(Path key, String downloadName, ContentDisposition.Builder disposition, CacheControl cacheControl,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        AttachmentContent content = attachmentStorage.open(key.toString());
+        if (content == null) {
+            log.error("Attachment file {} is missing", key);
+            throw new InvalidNoticeException("Attachment not found", ErrorCode.ATTACHMENT_NOT_FOUND);
+        }
+
+        long length = content.size();
+        boolean contentAddressed = isContentAddressed(key);
+        long lastModified = contentAddressed ? -1 : content.lastModified();
+        String etag = contentAddressed ? hashEtagOf(key) : "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+
+        if (cacheControl != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        }
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setContentType(FileExtension.contentTypeOf(getFileExtension(key.getFileName().toString())));
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                disposition.filename(downloadName, StandardCharsets.UTF_8).build().toString());
+
+        long start = 0;
+        long end = length - 1;
+        HttpRange range = requestedRange(request, etag, lastModified);
+        if (range != null) {
+            try {
+                start = range.getRangeStart(length);
+                end = range.getRangeEnd(length);
+            } catch (IllegalArgumentException e) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if (HttpMethod.HEAD.matches(request.getMethod())) {
+            return;
+        }
+
+        Path file = content.file();
+        if (file != null && count >= SENDFILE_THRESHOLD && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTR, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, end + 1);
+            return;
+        }
+
+        content.transferTo(start, count, Channels.newChannel(response.getOutputStream()));
+    }
+
+    /**
+     * 저장된 파일 경로를 정규화합니다. 업로드 폴더 밖을 가리키면 예외를 던집니다.
+     */
+    private Path normalize(String path) {
+        Path key = Paths.get(path).normalize();
+        if (key.isAbsolute() || key.startsWith("..") || key.toString().isEmpty()) {
+            throw new InvalidNoticeException("Attachment not found", ErrorCode.ATTACHMENT_NOT_FOUND);
+        }
+        return key;
+    }
+
+    /**
+     * 처리할 Range를 반환합니다.
+     * Range가 없거나, 형식이 잘못되었거나, 여러 구간을 요청했거나, If-Range가 현재 파일과 다르면 null을 반환하여 전체를 보냅니다.
+     */
+    private HttpRange requestedRange(HttpServletRequest request, String etag, long lastModified) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null || !ifRangeMatches(request, etag, lastModified)) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            log.debug("Ignoring invalid Range header {}", rangeHeader);
+            return null;
+        }
+    }
+
+    /**
+     * If-Range가 없거나 현재 파일과 일치하는지 확인합니다. ETag는 강한 비교로, 날짜는 초 단위로 비교합니다.
+     * Last-Modified를 보내지 않은 파일(lastModified가 음수)에 대한 날짜는 일치하지 않는 것으로 봅니다.
+     */
+    private boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+        if (lastModified < 0) {
+            return false;
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 내용 주소로 저장된 파일과 그 축소본인지 확인합니다. 이 파일들은 이름이 내용의 SHA-256 해시이므로 내용이 바뀌지 않습니다.
+     */
+    private static boolean isContentAddressed(Path key) {
+        return key.startsWith(FileUtil.CAS_DIRECTORY) || key.startsWith(FileUtil.DERIVATIVE_DIRECTORY);
+    }
+
+    /**
+     * 내용 주소로 저장된 파일의 이름에 담긴 해시를 ETag로 반환합니다. 그 외의 파일은 크기와 수정 시각을 ETag로 사용합니다.
+     */
+    private static String hashEtagOf(Path key) {
+        String filename = key.getFileName().toString();
+        int dotIndex = filename.lastIndexOf(".");
+        return "\"" + (dotIndex == -1 ? filename : filename.substring(0, dotIndex)) + "\"";
+    }
+
+    private String getFileExtension(String filename) {
+        int dotIndex = filename.lastIndexOf(".");
+        return (dotIndex == -1) ? "" : filename.substring(dotIndex + 1);
+    }
+}
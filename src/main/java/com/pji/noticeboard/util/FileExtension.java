@@ -4,43 +4,63 @@ import java.util.Arrays;
 
 public enum FileExtension {
     // 이미지 파일 확장자
-    JPG("jpg"),
-    JPEG("jpeg"),
-    PNG("png"),
-    GIF("gif"),
-    BMP("bmp"),
-    WEBP("webp"),
+    JPG("jpg", "image/jpeg"),
+    JPEG("jpeg", "image/jpeg"),
+    PNG("png", "image/png"),
+    GIF("gif", "image/gif"),
+    BMP("bmp", "image/bmp"),
+    WEBP("webp", "image/webp"),
 
     // 문서 파일 확장자
-    PDF("pdf"),
-    DOC("doc"),
-    DOCX("docx"),
-    XLS("xls"),
-    XLSX("xlsx"),
-    PPT("ppt"),
-    PPTX("pptx"),
-    TXT("txt"),
+    PDF("pdf", "application/pdf"),
+    DOC("doc", "application/msword"),
+    DOCX("docx", "application/vnd.openxmlformats-officedocument.wordprocessingml.document"),
+    XLS("xls", "application/vnd.ms-excel"),
+    XLSX("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"),
+    PPT("ppt", "application/vnd.ms-powerpoint"),
+    PPTX("pptx", "application/vnd.openxmlformats-officedocument.presentationml.presentation"),
+    TXT("txt", "text/plain"),
 
     // 압축 파일 확장자
-    ZIP("zip"),
-    RAR("rar"),
-    TAR("tar"),
-    GZ("gz"),
-    SEVEN_Z("7z");
+    ZIP("zip", "application/zip"),
+    RAR("rar", "application/vnd.rar"),
+    TAR("tar", "application/x-tar"),
+    GZ("gz", "application/gzip"),
+    SEVEN_Z("7z", "application/x-7z-compressed");
 
 
     private final String extension;
+    private final String contentType;
 
-    FileExtension(String extension) {
+    FileExtension(String extension, String contentType) {
         this.extension = extension;
+        this.contentType = contentType;
     }
 
     public String getExtension() {
         return extension;
     }
 
+    public String getContentType() {
+        return contentType;
+    }
+
     public static boolean isValid(String extension) {
         return Arrays.stream(values())
                 .anyMatch(e -> e.getExtension().equalsIgnoreCase(extension));
     }
+
+    /**
+     * 확장자에 해당하는 Content-Type을 반환합니다. 허용되지 않은 확장자는 application/octet-stream을 반환합니다.
+     *
+     * @param extension 파일 확장자
+     * @return Content-Type
+     */
+    public static String contentTypeOf(String extension) {
+        return Arrays.stream(values())
+                .filter(e -> e.getExtension().equalsIgnoreCase(extension))
+                .map(FileExtension::getContentType)
+                .findFirst()
+                .orElse("application/octet-stream");
+    }
 }
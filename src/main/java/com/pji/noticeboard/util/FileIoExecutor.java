@@ -0,0 +1,79 @@
+package com.pji.noticeboard.util;
+
+import com.pji.noticeboard.config.FileUploadProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 첨부파일 기록 전용 스레드 풀입니다.
+ *
+ * 스레드 수와 대기열 크기는 file.upload.io-threads, file.upload.io-queue-capacity로 제한되며,
+ * 대기열이 가득 차면 요청 스레드가 직접 기록하여 자연스럽게 유입 속도를 늦춥니다.
+ * 대기열 길이(file.io.queue.depth)와 작업별 기록 시간(file.io.write)을 지표로 남깁니다.
+ */
+@Slf4j
+@Component
+public class FileIoExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final Timer writeTimer;
+
+    public FileIoExecutor(FileUploadProperties fileUploadProperties, MeterRegistry meterRegistry) {
+        int threads = fileUploadProperties.getIoThreads();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(fileUploadProperties.getIoQueueCapacity()),
+                new CustomizableThreadFactory("file-io-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        Gauge.builder("file.io.queue.depth", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("file.io.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        this.writeTimer = Timer.builder("file.io.write")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기록 작업을 스레드 풀에 맡깁니다.
+     *
+     * @param task 실행할 기록 작업
+     * @return 작업 결과
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            Timer.Sample sample = Timer.start();
+            try {
+                future.complete(task.call());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            } finally {
+                sample.stop(writeTimer);
+            }
+        });
+        return future;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("File I/O executor did not terminate in time, {} tasks pending", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+}
@@ -2,62 +2,143 @@ package com.pji.noticeboard.util;
 
 import com.pji.noticeboard.config.FileUploadProperties;
 import com.pji.noticeboard.exception.ErrorCode;
+import com.pji.noticeboard.exception.InvalidNoticeException;
 import com.pji.noticeboard.exception.ServiceException;
+import com.pji.noticeboard.service.ImageVariant;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class FileUtil {
 
+    /**
+     * 내용 주소 저장소의 루트 폴더입니다. 첨부파일은 cas/{해시 앞 두 글자}/{해시}.{확장자}에 저장됩니다.
+     */
+    public static final String CAS_DIRECTORY = "cas";
+    public static final String STAGING_DIRECTORY = "tmp";
+
+    /**
+     * 이미지 축소본의 루트 폴더입니다. 축소본은 derivatives/{종류}/{해시 앞 두 글자}/{해시}.{jpg|png}에 저장됩니다.
+     */
+    public static final String DERIVATIVE_DIRECTORY = "derivatives";
+
+    private static final int KEY_LOCK_STRIPES = 64;
+
     private final FileUploadProperties fileUploadProperties;
+    private final FileIoExecutor fileIoExecutor;
+    private final AttachmentStorage attachmentStorage;
+
+    /**
+     * processFiles가 새로 기록했고 아직 결과가 정해지지 않은 키와 기록한 호출입니다. 그 사이 다른 요청이 같은 내용을 재사용하면 제거되므로,
+     * 일괄 저장이 실패했을 때 남아 있는 키만 삭제합니다.
+     */
+    private final Map<String, Object> pendingBatchKeys = new ConcurrentHashMap<>();
+
+    /**
+     * 같은 키의 저장, 재사용, 삭제를 직렬화하는 잠금입니다. 키의 해시로 나눈 고정 개수의 잠금을 공유합니다.
+     */
+    private final Object[] keyLocks = Stream.generate(Object::new).limit(KEY_LOCK_STRIPES).toArray();
+
+    /**
+     * 디스크에 읽고 쓰는 동안에만 빌려 쓰는 다이렉트 버퍼입니다. 처음 필요할 때 만들며 buffer-pool-size개를 넘게 만들지 않으므로,
+     * 요청 스레드 수와 관계없이 다이렉트 메모리 사용량이 buffer-size * buffer-pool-size로 제한됩니다.
+     * 요청 본문은 버퍼를 빌리기 전에 힙 배열로 읽으므로, 느린 클라이언트가 버퍼를 붙잡고 있지 않습니다.
+     */
+    private final BlockingQueue<ByteBuffer> transferBuffers = new LinkedBlockingQueue<>();
+    private final AtomicInteger allocatedBuffers = new AtomicInteger();
 
     /**
      * 파일 목록을 처리하고 파일 시스템에 저장합니다.
+     * 파일들은 FileIoExecutor에서 동시에 기록되며, 하나라도 실패하면 이번에 새로 기록된 파일을 삭제하고 예외를 던집니다.
+     * 기존 파일을 재사용한 경로와, 기록한 뒤 같은 내용을 올린 다른 요청이 재사용한 경로는 삭제하지 않고 OrphanAttachmentCollector에 맡깁니다.
      *
-     * @param files 처리할 MultipartFile 객체의 목록
+     * @param files 처리할 MultipartFile 객체의 목록 (null이면 빈 목록으로 처리합니다)
      * @param title 로깅을 위한 공지사항 제목
-     * @return 저장된 파일 경로의 목록
+     * @return 저장된 파일 경로의 목록 (요청한 파일 순서와 같습니다)
      */
     public List<String> processFiles(List<MultipartFile> files, String title) {
-        if (files != null && files.size() > fileUploadProperties.getMaxFiles()) {
+        List<MultipartFile> requested = files != null ? files : List.of();
+        if (requested.size() > fileUploadProperties.getMaxFiles()) {
             throw new ServiceException("Maximum number of files exceeded", ErrorCode.MAX_FILE_LIMIT_EXCEEDED);
         }
 
-        return files.stream()
-                .map(file -> {
-                    try {
-                        return saveFile(file);
-                    } catch (IllegalArgumentException e) {
-                        log.error("Invalid file provided for notice with TITLE {}. Reason: {}", title, e.getMessage());
-                        throw new ServiceException(String.format("Invalid file provided for notice with TITLE %s. Reason: %s", title, e.getMessage()), ErrorCode.INVALID_FILE_PROVIDED, e);
-                    } catch (Exception e) {
-                        log.error("Failed to saveFile with TITLE {}", title, e);
-                        throw new ServiceException(String.format("Failed to saveFile with TITLE %s", title), ErrorCode.SAVE_FILE_FAILED, e);
-                    }
-                })
-                .collect(Collectors.toList());
+        Object batch = new Object();
+        List<CompletableFuture<StoredFile>> writes = requested.stream()
+                .map(file -> fileIoExecutor.submit(() -> saveFile(file, batch)))
+                .toList();
+
+        List<String> savedPaths = new ArrayList<>(writes.size());
+        List<String> createdPaths = new ArrayList<>(writes.size());
+        Throwable failure = null;
+        for (CompletableFuture<StoredFile> write : writes) {
+            try {
+                StoredFile storedFile = write.join();
+                savedPaths.add(storedFile.path());
+                if (storedFile.created()) {
+                    createdPaths.add(storedFile.path());
+                }
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                }
+            }
+        }
+
+        if (failure != null) {
+            createdPaths.forEach(path -> deletePendingBatchKey(path, batch));
+            if (failure instanceof ServiceException serviceException) {
+                throw serviceException;
+            }
+            if (failure instanceof IllegalArgumentException) {
+                log.error("Invalid file provided for notice with TITLE {}. Reason: {}", title, failure.getMessage());
+                throw new ServiceException(String.format("Invalid file provided for notice with TITLE %s. Reason: %s", title, failure.getMessage()), ErrorCode.INVALID_FILE_PROVIDED, failure);
+            }
+            log.error("Failed to saveFile with TITLE {}", title, failure);
+            throw new ServiceException(String.format("Failed to saveFile with TITLE %s", title), ErrorCode.SAVE_FILE_FAILED, failure);
+        }
+        createdPaths.forEach(path -> pendingBatchKeys.remove(path, batch));
+        return savedPaths;
     }
 
     /**
      * 파일 시스템에 파일을 저장합니다.
      *
      * @param file 저장할 MultipartFile 객체
-     * @return 파일이 저장된 경로
+     * @param batch 파일을 저장하는 processFiles 호출
+     * @return 파일이 저장된 경로와 새로 기록되었는지 여부
      * @throws IOException I/O 오류가 발생한 경우
      */
-    private  String saveFile(MultipartFile file) throws IOException {
+    private  StoredFile saveFile(MultipartFile file, Object batch) throws IOException {
         if (file.isEmpty()) {
             throw new IllegalArgumentException("File must not be empty");
         }
@@ -67,24 +148,361 @@ public class FileUtil {
             throw new IllegalArgumentException("Invalid file type");
         }
 
-        LocalDateTime now = LocalDateTime.now();
-        String dateFolder = now.format(DateTimeFormatter.ofPattern("yyyyMMddHH"));
-        File uploadDir = new File(fileUploadProperties.getBasePath(), dateFolder);
+        try (InputStream inputStream = file.getInputStream()) {
+            return store(inputStream, getFileExtension(originalFilename), Long.MAX_VALUE, batch);
+        } catch (IOException e) {
+            throw new IOException("Failed to save file", e);
+        }
+    }
+
+    /**
+     * 요청 본문을 읽는 즉시 파일에 기록합니다.
+     * 전체 내용을 힙이나 임시 파일에 모으지 않고 버퍼 크기만큼씩 읽어, 쓰는 동안에만 버퍼 풀에서 빌린 다이렉트 버퍼로 FileChannel에 옮겨 씁니다.
+     * 확장자는 기록 전에, 크기는 읽는 도중에 검사하며, 실패하면 기록 중이던 파일을 삭제합니다.
+     * 같은 내용의 파일이 이미 저장되어 있으면 기존 파일의 경로를 반환합니다.
+     *
+     * @param inputStream 파일 내용을 담은 요청 본문
+     * @param originalFilename 원본 파일 이름
+     * @param contentLength 요청 본문 길이 (알 수 없으면 -1)
+     * @return 파일이 저장된 경로
+     */
+    public String saveStream(InputStream inputStream, String originalFilename, long contentLength) {
+        checkFilename(originalFilename);
+
+        long maxFileSize = fileUploadProperties.getMaxFileSize().toBytes();
+        if (contentLength > maxFileSize) {
+            throw new InvalidNoticeException("File must not exceed " + maxFileSize + " bytes", ErrorCode.FILE_SIZE_LIMIT_EXCEEDED);
+        }
+
+        try {
+            return store(inputStream, getFileExtension(originalFilename), maxFileSize, null).path();
+        } catch (IOException e) {
+            log.error("Failed to save streamed file {}", originalFilename, e);
+            throw new ServiceException("Failed to save file", ErrorCode.SAVE_FILE_FAILED, e);
+        }
+    }
 
-        if (!uploadDir.exists() && !uploadDir.mkdirs()) {
-            throw new IOException("Failed to create directory: " + uploadDir.getAbsolutePath());
+    /**
+     * 업로드할 파일 이름이 경로를 포함하지 않고 허용된 확장자인지 확인합니다.
+     *
+     * @param originalFilename 원본 파일 이름
+     */
+    public void checkFilename(String originalFilename) {
+        if (originalFilename == null || originalFilename.contains("/") || originalFilename.contains("\\")
+                || !FileExtension.isValid(getFileExtension(originalFilename))) {
+            throw new InvalidNoticeException("Invalid file type", ErrorCode.INVALID_FILE_PROVIDED);
         }
+    }
 
-        String fileName = now.format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss")) + "_" + originalFilename;
-        File destinationFile = new File(uploadDir, fileName);
+    /**
+     * 업로드 내용을 모을 빈 임시 파일을 만듭니다. 임시 파일은 저장소와 같은 파일 시스템에 있으므로 이동만으로 저장할 수 있습니다.
+     *
+     * @return 임시 파일 경로
+     * @throws IOException 임시 파일을 만들지 못한 경우
+     */
+    public Path createStagingFile() throws IOException {
+        Path stagingDir = Paths.get(fileUploadProperties.getBasePath()).resolve(CAS_DIRECTORY).resolve(STAGING_DIRECTORY);
+        Files.createDirectories(stagingDir);
+        return Files.createTempFile(stagingDir, "upload-", ".part");
+    }
 
+    /**
+     * 내용이 모두 기록된 임시 파일을 내용 주소로 저장합니다.
+     * 파일을 한 번 읽어 해시를 계산한 뒤 저장 위치로 옮기며, 같은 내용이 이미 있으면 임시 파일을 삭제하고 기존 경로를 반환합니다.
+     * 저장하지 못하면 임시 파일을 남겨 두므로, 호출한 쪽에서 다시 시도하거나 삭제합니다.
+     *
+     * @param stagedFile createStagingFile로 만든 임시 파일
+     * @param originalFilename 원본 파일 이름 (확장자만 사용합니다)
+     * @return 파일이 저장된 경로
+     */
+    public String storeStagedFile(Path stagedFile, String originalFilename) {
         try {
-            file.transferTo(destinationFile);
+            MessageDigest digest = newDigest();
+            try (FileChannel source = FileChannel.open(stagedFile, StandardOpenOption.READ)) {
+                while (true) {
+                    ByteBuffer buffer = borrowBuffer();
+                    try {
+                        if (source.read(buffer) == -1) {
+                            break;
+                        }
+                        buffer.flip();
+                        digest.update(buffer);
+                    } finally {
+                        releaseBuffer(buffer);
+                    }
+                }
+            }
+            String path = promote(stagedFile, digest, getFileExtension(originalFilename), null).path();
+            deleteQuietly(stagedFile);
+            return path;
         } catch (IOException e) {
-            throw new IOException("Failed to save file", e);
+            log.error("Failed to store staged file {}", stagedFile, e);
+            throw new ServiceException("Failed to save file", ErrorCode.SAVE_FILE_FAILED, e);
+        }
+    }
+
+    /**
+     * 요청 본문을 파일의 지정한 위치부터 기록합니다. 위치를 지정해 쓰므로 같은 파일에 여러 요청이 동시에 기록할 수 있습니다.
+     *
+     * @param inputStream 기록할 내용을 담은 요청 본문
+     * @param target 기록할 파일
+     * @param position 기록을 시작할 위치
+     * @param maxLength 기록할 수 있는 최대 크기 (넘으면 즉시 중단합니다)
+     * @return 기록한 크기
+     * @throws IOException I/O 오류가 발생한 경우
+     */
+    public long writeAt(InputStream inputStream, FileChannel target, long position, long maxLength) throws IOException {
+        byte[] chunk = new byte[(int) fileUploadProperties.getBufferSize().toBytes()];
+        long written = 0;
+        int read;
+        while ((read = inputStream.readNBytes(chunk, 0, chunk.length)) > 0) {
+            if (written + read > maxLength) {
+                throw new InvalidNoticeException("Chunk must not exceed " + maxLength + " bytes", ErrorCode.INVALID_FILE_PROVIDED);
+            }
+            write(target, chunk, read, position + written);
+            written += read;
+        }
+        return written;
+    }
+
+    /**
+     * 첨부파일을 하나 더 추가할 수 있는지 확인합니다.
+     *
+     * @param currentCount 현재 첨부파일 개수
+     */
+    public void checkAttachmentLimit(int currentCount) {
+        if (currentCount >= fileUploadProperties.getMaxFiles()) {
+            throw new InvalidNoticeException("Maximum number of files exceeded", ErrorCode.MAX_FILE_LIMIT_EXCEEDED);
+        }
+    }
+
+    /**
+     * 저장된 첨부파일을 삭제합니다. 삭제에 실패해도 예외를 던지지 않습니다.
+     *
+     * @param path 저장된 파일 경로
+     */
+    public void deleteFile(String path) {
+        try {
+            attachmentStorage.delete(path);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Failed to delete file {}", path, e);
+        }
+    }
+
+    /**
+     * 더 이상 참조되지 않는 첨부파일을 삭제합니다.
+     * 같은 내용이 방금 다시 업로드되어 아직 커밋되지 않은 공지사항이 참조하려는 중일 수 있으므로,
+     * 유예 기간 안에 기록되거나 재사용된 파일은 남겨 둡니다. 수정 시각 확인과 삭제 사이에 재사용되지 않도록 같은 키의 저장과 직렬화합니다.
+     * 파일을 삭제하면 해당 이미지의 축소본도 함께 삭제합니다.
+     *
+     * @param path 저장된 파일 경로
+     * @return 파일을 삭제했으면 true
+     */
+    public boolean deleteIfStale(String path) {
+        synchronized (lockFor(path)) {
+            try {
+                AttachmentContent content = attachmentStorage.open(path);
+                if (content == null) {
+                    return false;
+                }
+                Instant lastModified = Instant.ofEpochMilli(content.lastModified());
+                if (lastModified.isAfter(Instant.now().minus(fileUploadProperties.getOrphanGracePeriod()))) {
+                    return false;
+                }
+                if (!attachmentStorage.delete(path)) {
+                    return false;
+                }
+                deleteDerivatives(path);
+                return true;
+            } catch (IOException e) {
+                log.warn("Failed to delete file {}", path, e);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 실패한 processFiles가 새로 기록한 파일을 삭제합니다. 기록한 뒤 다른 요청이 재사용했으면 남겨 둡니다.
+     */
+    private void deletePendingBatchKey(String path, Object batch) {
+        synchronized (lockFor(path)) {
+            if (!pendingBatchKeys.remove(path, batch)) {
+                log.debug("Keeping {} reused by another upload", path);
+                return;
+            }
+            deleteFile(path);
+            deleteDerivatives(path);
+        }
+    }
+
+    /**
+     * 내용 주소로 저장된 이미지의 축소본 경로를 반환합니다.
+     * 투명도를 가질 수 있는 PNG, GIF는 PNG로, 그 외의 이미지는 JPEG로 저장합니다.
+     *
+     * @param sourcePath 원본 파일 경로 (cas/{해시 앞 두 글자}/{해시}.{확장자})
+     * @param variant 축소본 종류
+     * @return 축소본의 상대 경로 (내용 주소로 저장된 파일이 아니면 null)
+     */
+    public String derivativePath(String sourcePath, String variant) {
+        Path source = Paths.get(sourcePath);
+        if (source.getNameCount() != 3 || !source.startsWith(CAS_DIRECTORY)) {
+            return null;
+        }
+        String filename = source.getFileName().toString();
+        int dotIndex = filename.lastIndexOf(".");
+        if (dotIndex <= 0) {
+            return null;
+        }
+        String extension = getFileExtension(filename).toLowerCase(Locale.ROOT);
+        String format = extension.equals("png") || extension.equals("gif") ? "png" : "jpg";
+        return Paths.get(DERIVATIVE_DIRECTORY, variant, source.getName(1).toString(), filename.substring(0, dotIndex) + "." + format).toString();
+    }
+
+    /**
+     * 원본이 삭제된 이미지의 축소본을 모두 삭제합니다.
+     */
+    private void deleteDerivatives(String sourcePath) {
+        for (ImageVariant variant : ImageVariant.values()) {
+            String derivativePath = derivativePath(sourcePath, variant.getLabel());
+            if (derivativePath != null) {
+                deleteFile(derivativePath);
+            }
+        }
+    }
+
+    /**
+     * 내용을 SHA-256 주소로 저장합니다.
+     * 임시 파일에 기록하면서 해시를 함께 계산하고, 같은 해시의 파일이 이미 있으면 임시 파일을 버리고 기존 파일을 재사용합니다.
+     * 재사용한 파일은 수정 시각을 갱신하여 참조 해제 시의 유예 기간을 다시 적용받습니다.
+     *
+     * @param batch 파일을 저장하는 processFiles 호출 (새로 기록한 키를 실패 시 삭제할 수 있도록 기록합니다, 그 외에는 null)
+     * @return cas/{해시 앞 두 글자}/{해시}.{확장자} 형식의 상대 경로와 새로 기록되었는지 여부
+     */
+    private StoredFile store(InputStream inputStream, String extension, long maxFileSize, Object batch) throws IOException {
+        Path stagedFile = createStagingFile();
+        try {
+            MessageDigest digest = newDigest();
+            long written;
+            try (FileChannel target = FileChannel.open(stagedFile, StandardOpenOption.WRITE)) {
+                written = transfer(inputStream, target, digest, maxFileSize);
+            }
+            if (written == 0) {
+                throw new InvalidNoticeException("File must not be empty", ErrorCode.INVALID_FILE_PROVIDED);
+            }
+            return promote(stagedFile, digest, extension, batch);
+        } finally {
+            deleteQuietly(stagedFile);
+        }
+    }
+
+    /**
+     * 해시가 계산된 임시 파일을 저장소에 저장합니다. 같은 해시의 내용이 이미 있으면 임시 파일은 그대로 두고 기존 내용을 재사용합니다.
+     * 저장소는 저장 시각을 현재 시각으로 기록하므로, 오래 전에 기록된 분할 업로드 파일도 첨부되기 전에 정리되지 않습니다.
+     * 다른 요청이 재사용한 키는 그 키를 기록한 processFiles가 실패하더라도 삭제하지 않도록 pendingBatchKeys에서 제거합니다.
+     * 다른 서버의 수거기가 존재 확인과 수정 시각 갱신 사이에 삭제했으면 아직 남아 있는 임시 파일로 다시 저장합니다.
+     */
+    private StoredFile promote(Path stagedFile, MessageDigest digest, String extension, Object batch) throws IOException {
+        String hash = HexFormat.of().formatHex(digest.digest());
+        String key = Paths.get(CAS_DIRECTORY, hash.substring(0, 2), hash + "." + extension.toLowerCase(Locale.ROOT)).toString();
+        synchronized (lockFor(key)) {
+            if (attachmentStorage.exists(key) && attachmentStorage.touch(key)) {
+                if (batch == null || pendingBatchKeys.get(key) != batch) {
+                    pendingBatchKeys.remove(key);
+                }
+                log.debug("Reusing stored content {}", key);
+                return new StoredFile(key, false);
+            }
+            attachmentStorage.store(key, stagedFile, Files.size(stagedFile));
+            if (batch != null) {
+                pendingBatchKeys.put(key, batch);
+            }
+            return new StoredFile(key, true);
+        }
+    }
+
+    private Object lockFor(String key) {
+        return keyLocks[Math.floorMod(key.hashCode(), keyLocks.length)];
+    }
+
+    /**
+     * 원본의 내용을 버퍼 크기만큼씩 읽어 대상 파일에 쓰고, 읽은 내용으로 해시를 갱신합니다. 누적 크기가 상한을 넘으면 즉시 중단합니다.
+     */
+    private long transfer(InputStream source, FileChannel target, MessageDigest digest, long maxFileSize) throws IOException {
+        byte[] chunk = new byte[(int) fileUploadProperties.getBufferSize().toBytes()];
+        long written = 0;
+        int read;
+        while ((read = source.readNBytes(chunk, 0, chunk.length)) > 0) {
+            if (written + read > maxFileSize) {
+                throw new InvalidNoticeException("File must not exceed " + maxFileSize + " bytes", ErrorCode.FILE_SIZE_LIMIT_EXCEEDED);
+            }
+            digest.update(chunk, 0, read);
+            write(target, chunk, read, written);
+            written += read;
+        }
+        return written;
+    }
+
+    /**
+     * 읽어 둔 내용을 풀에서 빌린 다이렉트 버퍼로 옮겨 파일의 지정한 위치에 쓰고, 쓰기가 끝나면 버퍼를 바로 돌려줍니다.
+     */
+    private void write(FileChannel target, byte[] chunk, int length, long position) throws IOException {
+        ByteBuffer buffer = borrowBuffer();
+        try {
+            buffer.put(chunk, 0, length).flip();
+            long offset = position;
+            while (buffer.hasRemaining()) {
+                offset += target.write(buffer, offset);
+            }
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    /**
+     * 다이렉트 버퍼를 빌립니다. 돌려받은 버퍼가 없으면 buffer-pool-size개까지 새로 만들고, 그 뒤로는 buffer-wait-timeout 동안 기다립니다.
+     * 그 안에 돌려받지 못하면 서버가 바쁜 것이므로 503으로 응답합니다. 빌린 버퍼는 반드시 releaseBuffer로 돌려주어야 합니다.
+     */
+    private ByteBuffer borrowBuffer() throws IOException {
+        ByteBuffer buffer = transferBuffers.poll();
+        if (buffer != null) {
+            return buffer;
+        }
+        int poolSize = fileUploadProperties.getBufferPoolSize();
+        if (allocatedBuffers.getAndUpdate(count -> count < poolSize ? count + 1 : count) < poolSize) {
+            return ByteBuffer.allocateDirect((int) fileUploadProperties.getBufferSize().toBytes());
+        }
+        try {
+            buffer = transferBuffers.poll(fileUploadProperties.getBufferWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a transfer buffer");
+        }
+        if (buffer == null) {
+            log.warn("No transfer buffer was returned within {}", fileUploadProperties.getBufferWaitTimeout());
+            throw new ServiceException("Upload buffers are exhausted", ErrorCode.UPLOAD_BUFFER_UNAVAILABLE);
+        }
+        return buffer;
+    }
+
+    private void releaseBuffer(ByteBuffer buffer) {
+        buffer.clear();
+        transferBuffers.offer(buffer);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
         }
+    }
 
-        return Paths.get(dateFolder, fileName).toString();
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete file {}", path, e);
+        }
     }
 
     /**
@@ -97,4 +515,7 @@ public class FileUtil {
         int dotIndex = filename.lastIndexOf(".");
         return (dotIndex == -1) ? "" : filename.substring(dotIndex + 1);
     }
+
+    private record StoredFile(String path, boolean created) {
+    }
 }
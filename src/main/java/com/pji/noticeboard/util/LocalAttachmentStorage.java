@@ -0,0 +1,117 @@
+package com.pji.noticeboard.util;
+
+import com.pji.noticeboard.config.FileUploadProperties;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+/**
+ * 첨부파일마다 업로드 폴더 아래에 파일 하나로 저장합니다. 키가 곧 업로드 폴더 기준의 상대 경로입니다.
+ */
+public class LocalAttachmentStorage implements AttachmentStorage {
+
+    private final FileUploadProperties fileUploadProperties;
+
+    public LocalAttachmentStorage(FileUploadProperties fileUploadProperties) {
+        this.fileUploadProperties = fileUploadProperties;
+    }
+
+    /**
+     * 임시 파일을 키의 위치로 옮깁니다. 임시 파일은 같은 파일 시스템에 있으므로 복사 없이 이름만 바뀝니다.
+     * 임시 파일의 수정 시각은 첫 기록 시각이므로, 옮긴 뒤 현재 시각으로 갱신하여 첨부되기 전에 정리되지 않도록 합니다.
+     */
+    @Override
+    public void store(String key, Path stagedFile, long size) throws IOException {
+        Path destination = resolve(key);
+        Files.createDirectories(destination.getParent());
+        Files.move(stagedFile, destination, StandardCopyOption.ATOMIC_MOVE);
+        Files.setLastModifiedTime(destination, FileTime.from(Instant.now()));
+    }
+
+    @Override
+    public AttachmentContent open(String key) throws IOException {
+        Path file = resolve(key);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return attributes.isRegularFile() ? new FileContent(file, attributes) : null;
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    @Override
+    public boolean touch(String key) throws IOException {
+        try {
+            Files.setLastModifiedTime(resolve(key), FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        return Files.deleteIfExists(resolve(key));
+    }
+
+    /**
+     * 키를 업로드 폴더 기준의 절대 경로로 바꿉니다. 업로드 폴더 밖을 가리키는 키는 거부합니다.
+     */
+    private Path resolve(String key) {
+        Path basePath = Paths.get(fileUploadProperties.getBasePath()).toAbsolutePath().normalize();
+        Path file = basePath.resolve(key).normalize();
+        if (!file.startsWith(basePath) || file.equals(basePath)) {
+            throw new IllegalArgumentException("Invalid attachment key: " + key);
+        }
+        return file;
+    }
+
+    private record FileContent(Path file, BasicFileAttributes attributes) implements AttachmentContent {
+
+        @Override
+        public long size() {
+            return attributes.size();
+        }
+
+        @Override
+        public long lastModified() {
+            return attributes.lastModifiedTime().toMillis();
+        }
+
+        @Override
+        public void transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            try (FileChannel source = FileChannel.open(file, StandardOpenOption.READ)) {
+                long remaining = count;
+                while (remaining > 0) {
+                    long transferred = source.transferTo(position, remaining, target);
+                    if (transferred <= 0) {
+                        break;
+                    }
+                    position += transferred;
+                    remaining -= transferred;
+                }
+            }
+        }
+
+        @Override
+        public InputStream newInputStream() throws IOException {
+            return Files.newInputStream(file);
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package com.pji.noticeboard.util;
+
+import com.pji.noticeboard.config.S3StorageProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.MetadataDirective;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 첨부파일을 S3 호환 저장소에 저장합니다. 모든 서버가 같은 버킷을 보므로 서버를 여러 대로 늘릴 수 있습니다.
+ *
+ * multipart-threshold 이상의 파일은 part-size 단위로 나누어 transfer-threads개의 스레드에서 동시에 올리고,
+ * 하나라도 실패하면 업로드를 취소하여 조각이 버킷에 남지 않게 합니다.
+ * 첨부파일 내려받기는 서명된 주소로 리다이렉트하여 내용이 앱 서버를 거치지 않으며, 축소본처럼 앱 서버가 직접 응답하는 경우에는 구간 GET으로 읽습니다.
+ */
+@Slf4j
+public class S3AttachmentStorage implements AttachmentStorage, Closeable {
+
+    /**
+     * S3 멀티파트 업로드의 최대 조각 수입니다.
+     */
+    private static final int MAX_PARTS = 10_000;
+    private static final String TOUCHED_AT_METADATA = "touched-at";
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final S3StorageProperties s3StorageProperties;
+    private final String bucket;
+    private final String keyPrefix;
+    private final ExecutorService transferExecutor;
+
+    public S3AttachmentStorage(S3Client s3Client, S3Presigner s3Presigner, S3StorageProperties s3StorageProperties) {
+        if (!StringUtils.hasText(s3StorageProperties.getBucket())) {
+            throw new IllegalStateException("file.upload.s3.bucket must be set");
+        }
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.s3StorageProperties = s3StorageProperties;
+        this.bucket = s3StorageProperties.getBucket();
+        this.keyPrefix = s3StorageProperties.getKeyPrefix() != null ? s3StorageProperties.getKeyPrefix() : "";
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("s3-transfer-");
+        threadFactory.setDaemon(true);
+        this.transferExecutor = Executors.newFixedThreadPool(s3StorageProperties.getTransferThreads(), threadFactory);
+    }
+
+    @Override
+    public void store(String key, Path stagedFile, long size) throws IOException {
+        String objectKey = objectKey(key);
+        String contentType = FileExtension.contentTypeOf(getFileExtension(key));
+        try {
+            if (size < s3StorageProperties.getMultipartThreshold().toBytes()) {
+                s3Client.putObject(PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(objectKey)
+                        .contentType(contentType)
+                        .contentLength(size)
+                        .build(), RequestBody.fromFile(stagedFile));
+            } else {
+                uploadMultipart(objectKey, contentType, stagedFile, size);
+            }
+        } catch (SdkException e) {
+            throw new IOException("Failed to upload " + key, e);
+        }
+    }
+
+    @Override
+    public AttachmentContent open(String key) throws IOException {
+        try {
+            HeadObjectResponse head = head(objectKey(key));
+            return head != null ? new S3Content(objectKey(key), head.contentLength(), head.lastModified().toEpochMilli()) : null;
+        } catch (SdkException e) {
+            throw new IOException("Failed to read " + key, e);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return head(objectKey(key)) != null;
+    }
+
+    /**
+     * 객체를 자기 자신에게 복사하여 수정 시각을 갱신합니다. 첨부파일은 5GB보다 작으므로 한 번의 복사로 처리됩니다.
+     */
+    @Override
+    public boolean touch(String key) throws IOException {
+        String objectKey = objectKey(key);
+        try {
+            s3Client.copyObject(CopyObjectRequest.builder()
+                    .sourceBucket(bucket)
+                    .sourceKey(objectKey)
+                    .destinationBucket(bucket)
+                    .destinationKey(objectKey)
+                    .contentType(FileExtension.contentTypeOf(getFileExtension(key)))
+                    .metadataDirective(MetadataDirective.REPLACE)
+                    .metadata(Map.of(TOUCHED_AT_METADATA, Instant.now().toString()))
+                    .build());
+            return true;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            throw new IOException("Failed to touch " + key, e);
+        } catch (SdkException e) {
+            throw new IOException("Failed to touch " + key, e);
+        }
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        String objectKey = objectKey(key);
+        try {
+            if (head(objectKey) == null) {
+                return false;
+            }
+            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(objectKey).build());
+            return true;
+        } catch (SdkException e) {
+            throw new IOException("Failed to delete " + key, e);
+        }
+    }
+
+    /**
+     * 내용 주소 저장소(cas/)의 객체를 키 순서로 반환합니다. 축소본은 원본을 삭제할 때 함께 삭제되므로 포함하지 않습니다.
+     */
+    @Override
+    public List<StoredObject> listObjects(String after, int limit) {
+        ListObjectsV2Request.Builder request = ListObjectsV2Request.builder()
+                .bucket(bucket)
+                .prefix(keyPrefix + FileUtil.CAS_DIRECTORY + "/")
+                .maxKeys(limit);
+        if (after != null) {
+            request.startAfter(objectKey(after));
+        }
+        return s3Client.listObjectsV2(request.build()).contents().stream()
+                .map(object -> new StoredObject(object.key().substring(keyPrefix.length()), object.size(),
+                        object.lastModified().toEpochMilli()))
+                .toList();
+    }
+
+    @Override
+    public URI downloadUri(String key, String filename) {
+        if (!s3StorageProperties.isPresignDownloads()) {
+            return null;
+        }
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(objectKey(key))
+                .responseContentType(FileExtension.contentTypeOf(getFileExtension(key)))
+                .responseContentDisposition(ContentDisposition.attachment()
+                        .filename(filename, StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
+                .build();
+        return URI.create(s3Presigner.presignGetObject(GetObjectPresignRequest.builder()
+                .signatureDuration(s3StorageProperties.getPresignTtl())
+                .getObjectRequest(getObjectRequest)
+                .build()).url().toString());
+    }
+
+    @Override
+    public void close() {
+        transferExecutor.shutdownNow();
+        s3Presigner.close();
+        s3Client.close();
+    }
+
+    /**
+     * 파일을 조각으로 나누어 동시에 올립니다. 조각 수가 S3의 최대 조각 수를 넘지 않도록 조각 크기를 늘립니다.
+     * 실패하면 진행 중인 조각이 모두 끝난 뒤 업로드를 취소하여, 취소 이후에 도착한 조각이 남지 않게 합니다.
+     */
+    private void uploadMultipart(String objectKey, String contentType, Path stagedFile, long size) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(objectKey)
+                .contentType(contentType)
+                .build()).uploadId();
+        long partSize = Math.max(s3StorageProperties.getPartSize().toBytes(), (size + MAX_PARTS - 1) / MAX_PARTS);
+        int partCount = (int) ((size + partSize - 1) / partSize);
+
+        try (FileChannel channel = FileChannel.open(stagedFile, StandardOpenOption.READ)) {
+            List<CompletableFuture<CompletedPart>> parts = new ArrayList<>(partCount);
+            for (int i = 0; i < partCount; i++) {
+                int partNumber = i + 1;
+                long position = i * partSize;
+                int length = (int) Math.min(partSize, size - position);
+                parts.add(CompletableFuture.supplyAsync(
+                        () -> uploadPart(objectKey, uploadId, partNumber, channel, position, length), transferExecutor));
+            }
+            CompletableFuture.allOf(parts.toArray(new CompletableFuture[0])).join();
+
+            List<CompletedPart> completedParts = parts.stream().map(CompletableFuture::join).toList();
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(objectKey)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+            log.debug("Uploaded {} in {} parts", objectKey, partCount);
+        } catch (CompletionException | SdkException | IOException e) {
+            abortQuietly(objectKey, uploadId);
+            Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+            throw new IOException("Failed to upload " + objectKey + " in " + partCount + " parts", cause);
+        }
+    }
+
+    private CompletedPart uploadPart(String objectKey, String uploadId, int partNumber, FileChannel channel, long position, int length) {
+        byte[] content = new byte[length];
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        try {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new EOFException("Staged file is shorter than expected");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                .bucket(bucket)
+                .key(objectKey)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength((long) length)
+                .build(), RequestBody.fromContentProvider(() -> new ByteArrayInputStream(content), length, "application/octet-stream"))
+                .eTag();
+        return CompletedPart.builder().partNumber(partNumber).eTag(eTag).build();
+    }
+
+    private void abortQuietly(String objectKey, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(objectKey)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (SdkException e) {
+            log.warn("Failed to abort multipart upload {} of {}", uploadId, objectKey, e);
+        }
+    }
+
+    /**
+     * 객체의 크기와 수정 시각을 조회합니다.
+     *
+     * @return 객체 정보 (없으면 null)
+     */
+    private HeadObjectResponse head(String objectKey) {
+        try {
+            return s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(objectKey).build());
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    private String objectKey(String key) {
+        return keyPrefix + key;
+    }
+
+    private static String getFileExtension(String filename) {
+        int dotIndex = filename.lastIndexOf(".");
+        return (dotIndex == -1) ? "" : filename.substring(dotIndex + 1);
+    }
+
+    private final class S3Content implements AttachmentContent {
+
+        private final String objectKey;
+        private final long size;
+        private final long lastModified;
+
+        private S3Content(String objectKey, long size, long lastModified) {
+            this.objectKey = objectKey;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long lastModified() {
+            return lastModified;
+        }
+
+        @Override
+        public Path file() {
+            return null;
+        }
+
+        @Override
+        public void transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            if (count <= 0) {
+                return;
+            }
+            GetObjectRequest request = GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(objectKey)
+                    .range("bytes=" + position + "-" + (position + count - 1))
+                    .build();
+            try (InputStream input = s3Client.getObject(request)) {
+                input.transferTo(Channels.newOutputStream(target));
+            } catch (SdkException e) {
+                throw new IOException("Failed to read " + objectKey, e);
+            }
+        }
+
+        @Override
+        public InputStream newInputStream() throws IOException {
+            try {
+                return s3Client.getObject(GetObjectRequest.builder().bucket(bucket).key(objectKey).build());
+            } catch (SdkException e) {
+                throw new IOException("Failed to read " + objectKey, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,540 @@
+package com.pji.noticeboard.util;
+
+import com.pji.noticeboard.config.FileUploadProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 작은 첨부파일을 큰 세그먼트 파일에 이어 붙여 저장합니다.
+ *
+ * 파일마다 inode, 디렉터리 항목, open()이 필요한 대신, segment-threshold 이하의 파일은 {base-path}/segments/segment-NNNNNNNN.seg에
+ * [헤더, 키, 내용] 레코드로 추가하고 키별 위치는 메모리 색인에 보관합니다. 읽기는 세그먼트를 메모리 매핑한 버퍼의 조각으로 응답합니다.
+ * 색인은 시작할 때 세그먼트를 처음부터 읽어 다시 만들며, 삭제는 삭제 표시 레코드를 추가하여 재시작 후에도 유지됩니다.
+ * 저장과 삭제는 레코드가 디스크에 기록된 뒤에 반환합니다. 동시에 기록한 요청들은 한 번의 fsync를 함께 기다립니다(그룹 커밋).
+ * 죽은 레코드의 비율이 segment-compaction-ratio 이상인 세그먼트는 살아 있는 레코드만 현재 세그먼트로 옮긴 뒤 삭제합니다.
+ * 임계값보다 큰 파일은 fallback 저장소에 개별 파일로 저장합니다.
+ */
+@Slf4j
+public class SegmentAttachmentStorage implements AttachmentStorage, Closeable {
+
+    public static final String SEGMENT_DIRECTORY = "segments";
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("segment-(\\d{8})\\.seg");
+    private static final int MAGIC = 0x4E425347;
+    private static final byte DATA = 0;
+    private static final byte TOMBSTONE = 1;
+
+    /**
+     * 고정 길이 헤더: magic(4) + 종류(1) + 키 길이(2) + 저장 시각(8) + 내용 길이(4) + 내용 CRC32(4)
+     */
+    private static final int HEADER_SIZE = 23;
+
+    private final AttachmentStorage fallback;
+    private final Path segmentDir;
+    private final long threshold;
+    private final long segmentSize;
+    private final double compactionRatio;
+
+    private final ConcurrentSkipListMap<String, Entry> index = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<Integer, Segment> segments = new ConcurrentSkipListMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Segment active;
+
+    public SegmentAttachmentStorage(FileUploadProperties fileUploadProperties, AttachmentStorage fallback) throws IOException {
+        this.fallback = fallback;
+        this.segmentDir = Paths.get(fileUploadProperties.getBasePath()).resolve(SEGMENT_DIRECTORY);
+        this.threshold = fileUploadProperties.getSegmentThreshold().toBytes();
+        this.segmentSize = fileUploadProperties.getSegmentSize().toBytes();
+        this.compactionRatio = fileUploadProperties.getSegmentCompactionRatio();
+        if (segmentSize > Integer.MAX_VALUE || threshold + HEADER_SIZE + Short.MAX_VALUE > segmentSize) {
+            throw new IllegalArgumentException("segment-size must be larger than segment-threshold and at most 2GB");
+        }
+        load();
+    }
+
+    /**
+     * 임계값 이하의 파일은 현재 세그먼트 끝에 추가하고, 큰 파일은 fallback 저장소에 저장합니다.
+     */
+    @Override
+    public void store(String key, Path stagedFile, long size) throws IOException {
+        if (size > threshold) {
+            fallback.store(key, stagedFile, size);
+            return;
+        }
+        byte[] content = Files.readAllBytes(stagedFile);
+        Entry entry;
+        writeLock.lock();
+        try {
+            entry = append(DATA, key, content, System.currentTimeMillis());
+            Entry previous = index.put(key, entry);
+            if (previous != null) {
+                markDead(previous, key);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        awaitDurable(entry);
+    }
+
+    @Override
+    public AttachmentContent open(String key) throws IOException {
+        Entry entry = index.get(key);
+        return entry != null ? new PackedContent(entry) : fallback.open(key);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return index.containsKey(key) || fallback.exists(key);
+    }
+
+    /**
+     * 세그먼트에 저장된 파일은 메모리 색인의 수정 시각만 갱신합니다. 재시작하면 저장 시각으로 돌아갑니다.
+     */
+    @Override
+    public boolean touch(String key) throws IOException {
+        Entry entry = index.get(key);
+        if (entry != null) {
+            entry.lastModified = System.currentTimeMillis();
+            return true;
+        }
+        return fallback.touch(key);
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        Entry tombstone = null;
+        writeLock.lock();
+        try {
+            Entry entry = index.remove(key);
+            if (entry != null) {
+                tombstone = append(TOMBSTONE, key, new byte[0], System.currentTimeMillis());
+                markDead(entry, key);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        if (tombstone != null) {
+            awaitDurable(tombstone);
+        }
+        return fallback.delete(key) || tombstone != null;
+    }
+
+    @Override
+    public List<StoredObject> listObjects(String after, int limit) {
+        return (after == null ? index : index.tailMap(after, false)).entrySet().stream()
+                .limit(limit)
+                .map(entry -> new StoredObject(entry.getKey(), entry.getValue().length, entry.getValue().lastModified))
+                .toList();
+    }
+
+    /**
+     * 죽은 레코드의 비율이 기준 이상인 세그먼트를 정리합니다. 현재 기록 중인 세그먼트는 제외합니다.
+     */
+    @Scheduled(fixedDelayString = "${file.upload.segment-compaction-interval:60000}")
+    public void compact() {
+        for (Segment segment : List.copyOf(segments.values())) {
+            if (segment == active || segment.size == 0 || segment.deadRatio() < compactionRatio) {
+                continue;
+            }
+            try {
+                compact(segment);
+            } catch (IOException e) {
+                log.warn("Failed to compact segment {}", segment.path, e);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        writeLock.lock();
+        try {
+            for (Segment segment : segments.values()) {
+                segment.channel.close();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 세그먼트를 번호순으로 읽어 색인을 만듭니다. 같은 키는 뒤의 레코드가 앞의 레코드를 대신합니다.
+     * 마지막 세그먼트는 기록 도중 종료되었을 수 있으므로 내용 CRC까지 확인하고, 깨진 레코드부터 잘라냅니다.
+     */
+    private void load() throws IOException {
+        Files.createDirectories(segmentDir);
+        List<Path> files;
+        try (Stream<Path> entries = Files.list(segmentDir)) {
+            files = entries.filter(path -> SEGMENT_NAME.matcher(path.getFileName().toString()).matches())
+                    .sorted(Comparator.comparing(path -> path.getFileName().toString()))
+                    .toList();
+        }
+
+        for (int i = 0; i < files.size(); i++) {
+            Path path = files.get(i);
+            Matcher matcher = SEGMENT_NAME.matcher(path.getFileName().toString());
+            matcher.matches();
+            Segment segment = new Segment(Integer.parseInt(matcher.group(1)), path,
+                    FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE));
+            segments.put(segment.id, segment);
+            scan(segment, i == files.size() - 1);
+        }
+
+        Segment last = segments.isEmpty() ? null : segments.lastEntry().getValue();
+        active = last != null && last.size < segmentSize ? last : createSegment(last != null ? last.id + 1 : 1);
+        for (Segment segment : segments.values()) {
+            if (segment != active) {
+                segment.remap();
+            }
+        }
+        log.info("Loaded {} packed attachments from {} segments", index.size(), segments.size());
+    }
+
+    private void scan(Segment segment, boolean verify) throws IOException {
+        FileChannel channel = segment.channel;
+        long fileSize = channel.size();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        long position = 0;
+        while (position + HEADER_SIZE <= fileSize) {
+            header.clear();
+            readFully(channel, header, position);
+            header.flip();
+            int magic = header.getInt();
+            byte type = header.get();
+            int keyLength = header.getShort() & 0xFFFF;
+            long storedAt = header.getLong();
+            int length = header.getInt();
+            int crc = header.getInt();
+            long recordSize = (long) HEADER_SIZE + keyLength + length;
+            if (magic != MAGIC || length < 0 || position + recordSize > fileSize) {
+                break;
+            }
+
+            ByteBuffer keyBuffer = ByteBuffer.allocate(keyLength);
+            readFully(channel, keyBuffer, position + HEADER_SIZE);
+            String key = new String(keyBuffer.array(), StandardCharsets.UTF_8);
+            long offset = position + HEADER_SIZE + keyLength;
+            if (verify && type == DATA) {
+                ByteBuffer content = ByteBuffer.allocate(length);
+                readFully(channel, content, offset);
+                if (crc32(content.array()) != crc) {
+                    break;
+                }
+            }
+
+            if (type == DATA) {
+                Entry entry = new Entry(segment, offset, length, recordSize, storedAt);
+                segment.liveBytes.addAndGet(recordSize);
+                Entry previous = index.put(key, entry);
+                if (previous != null) {
+                    markDead(previous, key);
+                }
+            } else {
+                Entry previous = index.remove(key);
+                if (previous != null) {
+                    markDead(previous, key);
+                }
+            }
+            position += recordSize;
+        }
+
+        if (position < fileSize) {
+            if (verify) {
+                log.warn("Truncating torn tail of segment {} at {} of {} bytes", segment.path, position, fileSize);
+                channel.truncate(position);
+            } else {
+                log.error("Segment {} is corrupted at {}, ignoring the remaining {} bytes", segment.path, position, fileSize - position);
+            }
+        }
+        segment.size = position;
+        segment.durableSize = position;
+    }
+
+    /**
+     * 살아 있는 레코드를 현재 세그먼트로 옮기고 세그먼트 파일을 삭제합니다.
+     * 삭제 표시 레코드는 다른 세그먼트에 같은 키의 죽은 레코드가 남아 있어 재시작 시 되살아날 수 있을 때만 옮깁니다.
+     * 이미 이 세그먼트의 조각을 받은 읽기 요청은 매핑이 해제될 때까지 그대로 읽을 수 있습니다.
+     * 색인은 세그먼트에서 다시 만들어지므로, 옮긴 레코드를 받은 세그먼트와 디렉터리 항목을 디스크에 기록한 뒤에만 원본을 삭제합니다.
+     * 정리 도중 가득 차서 넘어간 세그먼트는 append에서 이미 기록되었으므로 현재 세그먼트만 기록하면 됩니다.
+     */
+    private void compact(Segment segment) throws IOException {
+        ByteBuffer mapped = segment.remap();
+        long reclaimed = segment.size - segment.liveBytes.get();
+        int moved = 0;
+        long position = 0;
+        while (position < segment.size) {
+            int index = (int) position;
+            byte type = mapped.get(index + 4);
+            int keyLength = mapped.getShort(index + 5) & 0xFFFF;
+            int length = mapped.getInt(index + 15);
+            byte[] keyBytes = new byte[keyLength];
+            mapped.get(index + HEADER_SIZE, keyBytes);
+            String key = new String(keyBytes, StandardCharsets.UTF_8);
+            long offset = position + HEADER_SIZE + keyLength;
+
+            writeLock.lock();
+            try {
+                Entry entry = this.index.get(key);
+                if (type == DATA && entry != null && entry.segment == segment && entry.offset == offset) {
+                    byte[] content = new byte[length];
+                    mapped.get((int) offset, content);
+                    this.index.put(key, append(DATA, key, content, entry.lastModified));
+                    moved++;
+                } else if (type == TOMBSTONE && entry == null && hasDeadRecordElsewhere(key, segment)) {
+                    append(TOMBSTONE, key, new byte[0], mapped.getLong(index + 7));
+                }
+            } finally {
+                writeLock.unlock();
+            }
+            position += HEADER_SIZE + keyLength + length;
+        }
+
+        writeLock.lock();
+        try {
+            active.channel.force(true);
+            syncSegmentDirectory();
+            segments.remove(segment.id);
+            segment.channel.close();
+        } finally {
+            writeLock.unlock();
+        }
+        Files.deleteIfExists(segment.path);
+        log.info("Compacted segment {}: moved {} live attachments, reclaimed {} bytes", segment.path.getFileName(), moved, reclaimed);
+    }
+
+    /**
+     * 현재 세그먼트 끝에 레코드를 추가합니다. 세그먼트가 가득 차면 디스크에 기록하고 매핑을 고정한 뒤 새 세그먼트를 만듭니다.
+     * writeLock을 잡고 호출해야 합니다.
+     */
+    private Entry append(byte type, String key, byte[] content, long storedAt) throws IOException {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        long recordSize = (long) HEADER_SIZE + keyBytes.length + content.length;
+        if (active.size > 0 && active.size + recordSize > segmentSize) {
+            active.channel.force(true);
+            active.durableSize = active.size;
+            active.remap();
+            active = createSegment(active.id + 1);
+            syncSegmentDirectory();
+        }
+
+        ByteBuffer record = ByteBuffer.allocate((int) recordSize);
+        record.putInt(MAGIC)
+                .put(type)
+                .putShort((short) keyBytes.length)
+                .putLong(storedAt)
+                .putInt(content.length)
+                .putInt(crc32(content))
+                .put(keyBytes)
+                .put(content)
+                .flip();
+
+        Segment segment = active;
+        long position = segment.size;
+        while (record.hasRemaining()) {
+            position += segment.channel.write(record, position);
+        }
+        long offset = segment.size + HEADER_SIZE + keyBytes.length;
+        segment.size += recordSize;
+        if (type == DATA) {
+            segment.liveBytes.addAndGet(recordSize);
+        }
+        return new Entry(segment, offset, content.length, recordSize, storedAt);
+    }
+
+    /**
+     * 레코드가 디스크에 기록될 때까지 기다립니다. writeLock 밖에서 호출합니다.
+     * fsync는 세그먼트마다 한 번에 하나만 실행되고 그때까지 추가된 레코드를 모두 기록하므로,
+     * 그동안 기다린 요청은 자기 레코드가 이미 기록되었으면 fsync 없이 반환합니다.
+     */
+    private void awaitDurable(Entry entry) throws IOException {
+        Segment segment = entry.segment;
+        long end = entry.offset + entry.length;
+        if (segment.durableSize >= end) {
+            return;
+        }
+        synchronized (segment.syncLock) {
+            if (segment.durableSize >= end) {
+                return;
+            }
+            long target = segment.size;
+            // 내용과 다시 읽는 데 필요한 파일 크기만 기록하면 되므로 나머지 메타데이터는 기록하지 않습니다.
+            segment.channel.force(false);
+            segment.durableSize = Math.max(segment.durableSize, target);
+        }
+    }
+
+    private Segment createSegment(int id) throws IOException {
+        Path path = segmentDir.resolve(String.format("segment-%08d.seg", id));
+        Segment segment = new Segment(id, path, FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE));
+        segments.put(id, segment);
+        return segment;
+    }
+
+    /**
+     * 새로 만든 세그먼트 파일의 디렉터리 항목을 디스크에 기록합니다. 디렉터리를 열 수 없는 플랫폼에서는 건너뜁니다.
+     */
+    private void syncSegmentDirectory() {
+        try (FileChannel directory = FileChannel.open(segmentDir, StandardOpenOption.READ)) {
+            directory.force(true);
+        } catch (IOException e) {
+            log.debug("Could not sync segment directory {}", segmentDir, e);
+        }
+    }
+
+    private void markDead(Entry entry, String key) {
+        entry.segment.liveBytes.addAndGet(-entry.recordSize);
+        entry.segment.deadKeys.add(key);
+    }
+
+    private boolean hasDeadRecordElsewhere(String key, Segment compacting) {
+        for (Segment segment : segments.values()) {
+            if (segment != compacting && segment.deadKeys.contains(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of segment");
+            }
+            position += read;
+        }
+    }
+
+    private static int crc32(byte[] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        return (int) crc.getValue();
+    }
+
+    private static final class Segment {
+
+        private final int id;
+        private final Path path;
+        private final FileChannel channel;
+        private final AtomicLong liveBytes = new AtomicLong();
+
+        /**
+         * 이 세그먼트에 남아 있는 죽은 데이터 레코드의 키입니다. 삭제 표시 레코드를 정리해도 되는지 판단할 때 사용합니다.
+         */
+        private final Set<String> deadKeys = ConcurrentHashMap.newKeySet();
+        private final Object syncLock = new Object();
+
+        private volatile long size;
+
+        /**
+         * 디스크에 기록된 것이 확인된 크기입니다.
+         */
+        private volatile long durableSize;
+        private volatile MappedByteBuffer mapped;
+
+        private Segment(int id, Path path, FileChannel channel) {
+            this.id = id;
+            this.path = path;
+            this.channel = channel;
+        }
+
+        private double deadRatio() {
+            return 1.0 - (double) liveBytes.get() / size;
+        }
+
+        /**
+         * 레코드 조각을 읽기 전용 버퍼로 반환합니다. 매핑 이후에 추가된 레코드를 읽으면 현재 크기로 다시 매핑합니다.
+         */
+        private ByteBuffer slice(long offset, int length) throws IOException {
+            MappedByteBuffer current = mapped;
+            if (current == null || offset + length > current.capacity()) {
+                current = remap();
+            }
+            return current.slice((int) offset, length).asReadOnlyBuffer();
+        }
+
+        private synchronized MappedByteBuffer remap() throws IOException {
+            long currentSize = size;
+            if (mapped == null || mapped.capacity() < currentSize) {
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, currentSize);
+            }
+            return mapped;
+        }
+    }
+
+    private static final class Entry {
+
+        private final Segment segment;
+        private final long offset;
+        private final int length;
+        private final long recordSize;
+        private volatile long lastModified;
+
+        private Entry(Segment segment, long offset, int length, long recordSize, long lastModified) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+            this.recordSize = recordSize;
+            this.lastModified = lastModified;
+        }
+    }
+
+    private record PackedContent(Entry entry) implements AttachmentContent {
+
+        @Override
+        public long size() {
+            return entry.length;
+        }
+
+        @Override
+        public long lastModified() {
+            return entry.lastModified;
+        }
+
+        @Override
+        public Path file() {
+            return null;
+        }
+
+        @Override
+        public void transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            ByteBuffer buffer = entry.segment.slice(entry.offset + position, (int) count);
+            while (buffer.hasRemaining()) {
+                target.write(buffer);
+            }
+        }
+
+        @Override
+        public InputStream newInputStream() throws IOException {
+            ByteBuffer buffer = entry.segment.slice(entry.offset, entry.length);
+            byte[] content = new byte[buffer.remaining()];
+            buffer.get(content);
+            return new ByteArrayInputStream(content);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.pji.noticeboard.util;
+
+/**
+ * 저장소에 보관된 키와 크기, 수정 시각(epoch 밀리초)입니다.
+ */
+public record StoredObject(String key, long size, long lastModified) {
+}
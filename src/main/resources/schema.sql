@@ -5,6 +5,7 @@ CREATE TABLE IF NOT EXISTS notice (
     start_date_time TIMESTAMP,
     end_date_time TIMESTAMP,
     created_date TIMESTAMP,
+    modified_date TIMESTAMP,
     view_count INT,
     author VARCHAR(255)
     );
@@ -13,10 +14,70 @@ CREATE INDEX idx_notice_view_count ON notice(view_count);
 CREATE INDEX idx_notice_start_date_time ON notice(start_date_time);
 CREATE INDEX idx_notice_end_date_time ON notice(end_date_time);
 CREATE INDEX idx_notice_author ON notice(author);
+CREATE INDEX idx_notice_created_date_id ON notice(created_date, id);
+CREATE INDEX idx_notice_view_count_id ON notice(view_count, id);
+CREATE INDEX idx_notice_modified_date_id ON notice(modified_date, id);
 
-CREATE TABLE IF NOT EXISTS notice_attachments (
-                                                  notice_id BIGINT NOT NULL,
-                                                  attachment_path VARCHAR(255),
+CREATE TABLE IF NOT EXISTS notice_attachment_paths (
+                                                       notice_id BIGINT NOT NULL,
+                                                       attachment_paths VARCHAR(255),
+    FOREIGN KEY (notice_id) REFERENCES notice(id)
+    );
+
+CREATE INDEX idx_notice_attachment_paths_path ON notice_attachment_paths(attachment_paths);
+
+CREATE TABLE IF NOT EXISTS notice_archive (
+                                              id BIGINT PRIMARY KEY,
+                                              title VARCHAR(255) NOT NULL,
+    content TEXT NOT NULL,
+    start_date_time TIMESTAMP,
+    end_date_time TIMESTAMP,
+    created_date TIMESTAMP,
+    modified_date TIMESTAMP,
+    view_count INT,
+    author VARCHAR(255),
+    archived_date TIMESTAMP
+    );
+
+CREATE TABLE IF NOT EXISTS notice_archive_attachment_paths (
+                                                               notice_id BIGINT NOT NULL,
+                                                               attachment_paths VARCHAR(255),
+    FOREIGN KEY (notice_id) REFERENCES notice_archive(id)
+    );
+
+CREATE INDEX idx_notice_archive_attachment_paths_path ON notice_archive_attachment_paths(attachment_paths);
+
+CREATE TABLE IF NOT EXISTS notice_attachment_names (
+                                                       notice_id BIGINT NOT NULL,
+                                                       attachment_path VARCHAR(255) NOT NULL,
+    original_filename VARCHAR(255),
     PRIMARY KEY (notice_id, attachment_path),
     FOREIGN KEY (notice_id) REFERENCES notice(id)
-    );
\ No newline at end of file
+    );
+
+CREATE TABLE IF NOT EXISTS notice_archive_attachment_names (
+                                                               notice_id BIGINT NOT NULL,
+                                                               attachment_path VARCHAR(255) NOT NULL,
+    original_filename VARCHAR(255),
+    PRIMARY KEY (notice_id, attachment_path),
+    FOREIGN KEY (notice_id) REFERENCES notice_archive(id)
+    );
+
+CREATE TABLE IF NOT EXISTS notice_trend (
+                                            notice_id BIGINT PRIMARY KEY,
+                                            buckets VARBINARY(512),
+    updated_at TIMESTAMP
+    );
+
+CREATE TABLE IF NOT EXISTS image_derivative_job (
+                                                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                                    source_path VARCHAR(255) NOT NULL UNIQUE,
+    status VARCHAR(16) NOT NULL,
+    attempts INT NOT NULL,
+    available_at TIMESTAMP NOT NULL,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP
+    );
+
+CREATE INDEX idx_image_derivative_job_status_available_at ON image_derivative_job(status, available_at);
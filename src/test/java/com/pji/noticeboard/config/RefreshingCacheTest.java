@@ -0,0 +1,231 @@
+package com.pji.noticeboard.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RefreshingCache 단위 테스트 클래스입니다.
+ * 테스트 목록:
+ * 1. testConcurrentMissesLoadOnce: 같은 키에 동시에 캐시 미스가 나도 적재는 한 번만 실행되는지 테스트.
+ * 2. testRefreshAheadKeepsServingCurrentValue: 만료 전 갱신 구간에서는 현재 값을 반환하고 백그라운드에서 갱신하는지 테스트.
+ * 3. testStaleValueServedWhileRevalidating: 만료 직후에는 이전 값을 반환하고, 허용 기간이 지나면 직접 적재하는지 테스트.
+ * 4. testEvictDuringLoadDiscardsResult: 적재 중에 무효화되면 적재 결과를 캐시에 넣지 않는지 테스트.
+ * 5. testRefreshAllKeepsServingUntilReloaded: 전체 갱신 중에는 이전 값을 반환하고, 갱신이 끝나면 새 값을 반환하는지 테스트.
+ * 6. testEvictOfOtherKeyKeepsLoad: 적재 중에 다른 키가 무효화되어도 적재 결과를 캐시에 넣는지 테스트.
+ * 7. testLeastRecentlyUsedEntryIsEvicted: 항목 수가 상한에 도달하면 가장 오래 사용하지 않은 항목을 제거하는지 테스트.
+ * 8. testCancelledRefreshIsWrapped: 기다리던 갱신이 취소되면 ValueRetrievalException으로 감싸 던지는지 테스트.
+ */
+class RefreshingCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private MeterRegistry meterRegistry;
+    private RefreshingCache cache;
+
+    @BeforeEach
+    void setUp() {
+        RefreshingCacheProperties.Spec spec = new RefreshingCacheProperties.Spec();
+        spec.setRefreshAfter(Duration.ofSeconds(20));
+        spec.setTtl(Duration.ofSeconds(30));
+        spec.setStaleFor(Duration.ofSeconds(30));
+
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new RefreshingCache("test", spec, Runnable::run, meterRegistry, now::get);
+    }
+
+    /**
+     * 같은 키에 동시에 캐시 미스가 나도 적재는 한 번만 실행되는지 테스트합니다.
+     */
+    @Test
+    void testConcurrentMissesLoadOnce() throws Exception {
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() -> cache.get("key", () -> {
+                loadCount.incrementAndGet();
+                loaderStarted.countDown();
+                releaseLoader.await();
+                return "value";
+            }));
+            assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+
+            Future<String> second = executor.submit(() -> cache.get("key", () -> {
+                loadCount.incrementAndGet();
+                return "other";
+            }));
+            while (meterRegistry.get("notice.cache.loads").tag("type", "coalesced").counter().count() < 1) {
+                Thread.onSpinWait();
+            }
+            releaseLoader.countDown();
+
+            assertEquals("value", first.get(5, TimeUnit.SECONDS));
+            assertEquals("value", second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loadCount.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 만료 전 갱신 구간에서는 현재 값을 반환하고 백그라운드에서 갱신하는지 테스트합니다.
+     */
+    @Test
+    void testRefreshAheadKeepsServingCurrentValue() {
+        cache.get("key", () -> "v1");
+
+        now.set(Duration.ofSeconds(25).toMillis());
+        assertEquals("v1", cache.get("key", () -> "v2"));
+        assertEquals("v2", cache.get("key", () -> "v3"));
+        assertEquals(1, meterRegistry.get("notice.cache.loads").tag("type", "refresh").counter().count());
+    }
+
+    /**
+     * 만료 직후에는 이전 값을 반환하고, 허용 기간이 지나면 직접 적재하는지 테스트합니다.
+     */
+    @Test
+    void testStaleValueServedWhileRevalidating() {
+        List<Runnable> pendingRefreshes = new ArrayList<>();
+        RefreshingCache queuedCache = new RefreshingCache("queued", specWithoutRefreshAhead(),
+                pendingRefreshes::add, meterRegistry, now::get);
+        queuedCache.get("key", () -> "v1");
+
+        now.set(Duration.ofSeconds(45).toMillis());
+        assertEquals("v1", queuedCache.get("key", () -> "v2"));
+        assertNull(queuedCache.get("key"));
+        assertEquals(1, meterRegistry.get("notice.cache.requests").tag("cache", "queued").tag("result", "stale").counter().count());
+
+        pendingRefreshes.forEach(Runnable::run);
+        assertEquals("v2", queuedCache.get("key", () -> "unused"));
+
+        now.set(Duration.ofSeconds(120).toMillis());
+        assertEquals("v3", queuedCache.get("key", () -> "v3"));
+    }
+
+    /**
+     * 적재 중에 무효화되면 적재 결과를 캐시에 넣지 않는지 테스트합니다.
+     */
+    @Test
+    void testEvictDuringLoadDiscardsResult() {
+        assertEquals("v1", cache.get("key", () -> {
+            cache.evict("key");
+            return "v1";
+        }));
+
+        assertNull(cache.get("key"));
+        assertEquals("v2", cache.get("key", () -> "v2"));
+    }
+
+    /**
+     * 전체 갱신 중에는 이전 값을 반환하고, 갱신이 끝나면 새 값을 반환하는지 테스트합니다.
+     */
+    @Test
+    void testRefreshAllKeepsServingUntilReloaded() {
+        List<Runnable> pendingRefreshes = new ArrayList<>();
+        RefreshingCache queuedCache = new RefreshingCache("queued", specWithoutRefreshAhead(),
+                pendingRefreshes::add, meterRegistry, now::get);
+        queuedCache.get("a", () -> "a1");
+        queuedCache.get("b", () -> "b1");
+
+        queuedCache.refreshAll(key -> key + "2");
+        assertEquals(2, pendingRefreshes.size());
+        assertEquals("a1", queuedCache.get("a", () -> "unused"));
+        assertEquals(2, meterRegistry.get("notice.cache.requests").tag("cache", "queued").tag("result", "miss").counter().count());
+
+        pendingRefreshes.forEach(Runnable::run);
+        assertEquals("a2", queuedCache.get("a", () -> "unused"));
+        assertEquals("b2", queuedCache.get("b", () -> "unused"));
+    }
+
+    /**
+     * 적재 중에 다른 키가 무효화되어도 적재 결과를 캐시에 넣는지 테스트합니다.
+     */
+    @Test
+    void testEvictOfOtherKeyKeepsLoad() {
+        assertEquals("a1", cache.get("a", () -> {
+            cache.evict("b");
+            return "a1";
+        }));
+
+        assertEquals("a1", cache.get("a", String.class));
+    }
+
+    /**
+     * 항목 수가 상한에 도달하면 가장 오래 사용하지 않은 항목을 제거하는지 테스트합니다.
+     */
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() {
+        RefreshingCacheProperties.Spec spec = specWithoutRefreshAhead();
+        spec.setMaxEntries(2);
+        RefreshingCache boundedCache = new RefreshingCache("bounded", spec, Runnable::run, meterRegistry, now::get);
+        boundedCache.put("a", "a1");
+        boundedCache.put("b", "b1");
+
+        assertEquals("a1", boundedCache.get("a", String.class));
+        boundedCache.put("c", "c1");
+
+        assertNull(boundedCache.get("b"));
+        assertEquals("a1", boundedCache.get("a", String.class));
+        assertEquals("c1", boundedCache.get("c", String.class));
+    }
+
+    /**
+     * 기다리던 갱신이 대기열이 가득 차 취소되면 CancellationException을 그대로 던지지 않고 ValueRetrievalException으로 감싸 던지는지 테스트합니다.
+     */
+    @Test
+    void testCancelledRefreshIsWrapped() throws Exception {
+        ExecutorService waiters = Executors.newSingleThreadExecutor();
+        List<Future<String>> waiting = new ArrayList<>();
+        RefreshingCache[] holder = new RefreshingCache[1];
+        RefreshingCache rejectingCache = new RefreshingCache("rejecting", specWithoutRefreshAhead(), command -> {
+            // 갱신을 맡기기 전에 같은 키를 직접 적재하려는 요청이 진행 중인 갱신을 기다리게 합니다.
+            holder[0].evict("key");
+            waiting.add(waiters.submit(() -> holder[0].get("key", () -> "unused")));
+            while (meterRegistry.get("notice.cache.loads").tag("cache", "rejecting").tag("type", "coalesced").counter().count() < 1) {
+                Thread.onSpinWait();
+            }
+            throw new RejectedExecutionException("queue full");
+        }, meterRegistry, now::get);
+        holder[0] = rejectingCache;
+        rejectingCache.put("key", "v1");
+
+        try {
+            rejectingCache.refreshAll(key -> "v2");
+
+            ExecutionException thrown = assertThrows(ExecutionException.class,
+                    () -> waiting.get(0).get(5, TimeUnit.SECONDS));
+            assertInstanceOf(Cache.ValueRetrievalException.class, thrown.getCause());
+            assertInstanceOf(CancellationException.class, thrown.getCause().getCause());
+        } finally {
+            waiters.shutdownNow();
+        }
+    }
+
+    private static RefreshingCacheProperties.Spec specWithoutRefreshAhead() {
+        RefreshingCacheProperties.Spec spec = new RefreshingCacheProperties.Spec();
+        spec.setRefreshAfter(Duration.ofSeconds(30));
+        spec.setTtl(Duration.ofSeconds(30));
+        spec.setStaleFor(Duration.ofSeconds(30));
+        return spec;
+    }
+}
@@ -0,0 +1,178 @@
+package com.pji.noticeboard.config;
+
+import com.pji.noticeboard.entity.Notice;
+import com.pji.noticeboard.event.NoticeChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import jakarta.servlet.http.Cookie;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * ReplicaRoutingDataSource 테스트 클래스입니다.
+ * 기본 DB와 복제본 역할의 H2 메모리 DB 두 개에 서로 다른 값을 넣고, 어느 DB에서 읽었는지 확인합니다.
+ * 테스트 목록:
+ * 1. testReadOnlyTransactionUsesReplica: 읽기 전용 트랜잭션은 복제본, 읽기-쓰기 트랜잭션은 기본 DB로 가는지 테스트.
+ * 2. testRecentWriterReadsFromPrimary: 공지사항을 변경한 호출자만 기본 DB에서 읽는지 테스트.
+ * 3. testLaggingReplicaIsSkipped: 복제 지연이 허용치를 넘은 복제본을 건너뛰고, 회복되면 다시 사용하는지 테스트.
+ * 4. testAnonymousWriterReadsOwnWriteFromPrimary: 익명 호출자가 변경 후 고정 쿠키로 다시 읽으면 기본 DB에서 읽고, 쿠키가 없는 다른 익명 호출자는 복제본에서 읽는지 테스트.
+ * 5. testStickyCookieWorksOnAnotherNode: 변경을 처리하지 않은 다른 노드도 고정 쿠키만으로 기본 DB에서 읽고, 기간이 지난 쿠키는 복제본에서 읽는지 테스트.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String WHICH_DB = "SELECT name FROM routing_marker";
+
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate replicaJdbcTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("routing_primary", "primary");
+        DataSource replica = h2("routing_replica", "replica");
+        replicaJdbcTemplate = new JdbcTemplate(replica);
+        replicaJdbcTemplate.execute("CREATE TABLE IF NOT EXISTS replica_lag (seconds BIGINT)");
+        replicaJdbcTemplate.update("DELETE FROM replica_lag");
+        replicaJdbcTemplate.update("INSERT INTO replica_lag VALUES (0)");
+
+        ReplicaRoutingProperties properties = new ReplicaRoutingProperties();
+        properties.setStickyWindow(Duration.ofMinutes(1));
+        properties.setMaxLag(Duration.ofSeconds(10));
+        properties.setLagQuery("SELECT seconds FROM replica_lag");
+
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica), properties);
+        routingDataSource.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    /**
+     * 읽기 전용 트랜잭션은 복제본, 읽기-쓰기 트랜잭션은 기본 DB로 가는지 테스트합니다.
+     */
+    @Test
+    void testReadOnlyTransactionUsesReplica() {
+        assertEquals("replica", readOnly.execute(status -> jdbcTemplate.queryForObject(WHICH_DB, String.class)));
+        assertEquals("primary", readWrite.execute(status -> jdbcTemplate.queryForObject(WHICH_DB, String.class)));
+        assertEquals("primary", jdbcTemplate.queryForObject(WHICH_DB, String.class));
+    }
+
+    /**
+     * 공지사항을 변경한 호출자만 기본 DB에서 읽는지 테스트합니다.
+     */
+    @Test
+    void testRecentWriterReadsFromPrimary() {
+        startRequest(null);
+        routingDataSource.onNoticeChanged(
+                new NoticeChangedEvent(NoticeChangedEvent.Type.UPDATED, Notice.builder().id(1L).build()));
+
+        // 같은 요청 안에서 이어지는 읽기도 기본 DB에서 읽습니다.
+        assertEquals("primary", readOnly.execute(status -> jdbcTemplate.queryForObject(WHICH_DB, String.class)));
+
+        startRequest(null);
+        assertEquals("replica", readOnly.execute(status -> jdbcTemplate.queryForObject(WHICH_DB, String.class)));
+    }
+
+    /**
+     * 복제 지연이 허용치를 넘은 복제본을 건너뛰고, 회복되면 다시 사용하는지 테스트합니다.
+     */
+    @Test
+    void testLaggingReplicaIsSkipped() {
+        replicaJdbcTemplate.update("UPDATE replica_lag SET seconds = 30");
+        routingDataSource.checkReplicaLag();
+
+        assertEquals("primary", readOnly.execute(status -> jdbcTemplate.queryForObject(WHICH_DB, String.class)));
+
+        replicaJdbcTemplate.update("UPDATE replica_lag SET seconds = 1");
+        routingDataSource.checkReplicaLag();
+
+        assertEquals("replica", readOnly.execute(status -> jdbcTemplate.queryForObject(WHICH_DB, String.class)));
+    }
+
+    /**
+     * 익명 호출자가 변경 후 고정 쿠키로 다시 읽으면 기본 DB에서 읽고, 쿠키가 없는 다른 익명 호출자는 복제본에서 읽는지 테스트합니다.
+     */
+    @Test
+    void testAnonymousWriterReadsOwnWriteFromPrimary() {
+        MockHttpServletResponse writeResponse = startRequest(null);
+        routingDataSource.onNoticeChanged(
+                new NoticeChangedEvent(NoticeChangedEvent.Type.UPDATED, Notice.builder().id(1L).build()));
+
+        Cookie sticky = writeResponse.getCookie(ReplicaRoutingDataSource.STICKY_COOKIE);
+        assertNotNull(sticky);
+
+        startRequest(sticky);
+        assertEquals("primary", readOnly.execute(status -> jdbcTemplate.queryForObject(WHICH_DB, String.class)));
+
+        startRequest(null);
+        assertEquals("replica", readOnly.execute(status -> jdbcTemplate.queryForObject(WHICH_DB, String.class)));
+    }
+
+    /**
+     * 변경을 처리하지 않은 다른 노드도 고정 쿠키만으로 기본 DB에서 읽고, 기간이 지난 쿠키는 복제본에서 읽는지 테스트합니다.
+     */
+    @Test
+    void testStickyCookieWorksOnAnotherNode() {
+        MockHttpServletResponse writeResponse = startRequest(null);
+        routingDataSource.onNoticeChanged(
+                new NoticeChangedEvent(NoticeChangedEvent.Type.UPDATED, Notice.builder().id(1L).build()));
+        Cookie sticky = writeResponse.getCookie(ReplicaRoutingDataSource.STICKY_COOKIE);
+        assertNotNull(sticky);
+
+        // 같은 DB를 바라보는 다른 노드입니다.
+        setUp();
+
+        startRequest(sticky);
+        assertEquals("primary", readOnly.execute(status -> jdbcTemplate.queryForObject(WHICH_DB, String.class)));
+
+        long expired = System.currentTimeMillis() - Duration.ofMinutes(2).toMillis();
+        startRequest(new Cookie(ReplicaRoutingDataSource.STICKY_COOKIE, Long.toString(expired)));
+        assertEquals("replica", readOnly.execute(status -> jdbcTemplate.queryForObject(WHICH_DB, String.class)));
+    }
+
+    private static DataSource h2(String name, String marker) {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS routing_marker (name VARCHAR(20))");
+        jdbcTemplate.update("DELETE FROM routing_marker");
+        jdbcTemplate.update("INSERT INTO routing_marker VALUES (?)", marker);
+        return dataSource;
+    }
+
+    private static MockHttpServletResponse startRequest(Cookie cookie) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (cookie != null) {
+            request.setCookies(cookie);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return response;
+    }
+}
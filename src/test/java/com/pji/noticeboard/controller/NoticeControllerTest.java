@@ -1,28 +1,42 @@
 package com.pji.noticeboard.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pji.noticeboard.config.LeaderboardProperties;
+import com.pji.noticeboard.config.TrendingProperties;
 import com.pji.noticeboard.dto.NoticeCreateDto;
 import com.pji.noticeboard.dto.NoticeUpdateDto;
 import com.pji.noticeboard.entity.Notice;
 import com.pji.noticeboard.repository.NoticeRepository;
+import com.pji.noticeboard.service.NoticeLeaderboard;
+import com.pji.noticeboard.service.NoticeSearchService;
+import com.pji.noticeboard.service.TitleSuggester;
+import com.pji.noticeboard.support.QueryCountConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
+import static com.pji.noticeboard.support.QueryCounter.assertWithinBudget;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
@@ -34,10 +48,23 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * 3. testUpdateNotice: 공지사항을 업데이트하는 테스트.
  * 4. testDeleteNotice: 공지사항을 삭제하는 테스트.
  * 5. testGetTopNotices: 조회수 기준 상위 5개의 공지사항을 조회하는 테스트.
+ * 6. testGetTrendingNoticesWithInvalidWindow: 지원하지 않는 집계 기간으로 인기 급상승 공지사항을 조회하는 테스트.
+ * 7. testGetNoticesByCursor: 커서를 따라 공지사항 목록을 끝까지 조회하는 테스트.
+ * 8. testGetNoticesByInvalidCursor: 잘못된 커서로 공지사항 목록을 조회하는 테스트.
+ * 9. testQueryBudgets: 상세조회와 목록 조회가 쿼리 예산 안에서 처리되는지 테스트.
+ * 10. testUploadAttachmentStream: 요청 본문으로 첨부파일을 업로드하는 테스트.
+ * 11. testDownloadAttachment: 첨부파일을 전체, 구간, 조건부 요청으로 내려받는 테스트.
+ * 12. testSearchNoticesBeforeIndexReady: 첫 색인이 끝나기 전에 검색하면 503을 반환하는지 테스트.
+ * 13. testGetNoticeBeforeStart: 게시 시작 전인 공지사항을 조회하면 없는 공지사항과 같은 404를 반환하는지 테스트.
+ * 14. testSuggestTitlesExcludesScheduledNotices: 게시 시작 전인 공지사항의 제목이 자동완성에 나타나지 않는지 테스트.
+ * 15. testGetTopNoticesOverCapacity: 리더보드 크기보다 많은 상위 공지사항을 요청하면 400을 반환하는지 테스트.
+ * 16. testGetTrendingNoticesOverCapacity: 기간별 순위 크기보다 많은 인기 급상승 공지사항을 요청하면 400을 반환하는지 테스트.
+ * 17. testGetActiveNoticesOverLimit: 최대 개수보다 많은 게시 중인 공지사항을 요청하면 400을 반환하는지 테스트.
  */
 @SpringBootTest
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
+@Import(QueryCountConfig.class)
 class NoticeControllerTest {
 
     @Autowired
@@ -46,6 +73,15 @@ class NoticeControllerTest {
     @Autowired
     private NoticeRepository noticeRepository;
 
+    @Autowired
+    private NoticeLeaderboard noticeLeaderboard;
+
+    @Autowired
+    private NoticeSearchService noticeSearchService;
+
+    @Autowired
+    private TitleSuggester titleSuggester;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -113,6 +149,7 @@ class NoticeControllerTest {
     /**
      * 공지사항을 업데이트하는 테스트.
      * - 공지사항을 저장한 후 업데이트하고, 업데이트된 결과를 검증합니다.
+     * - 수정 전에 캐시된 상세 정보가 무효화되고 조회수는 계속 증가하는지 검증합니다.
      */
     @Test
     @WithMockUser(username = "testUser")
@@ -129,6 +166,11 @@ class NoticeControllerTest {
 
         notice = noticeRepository.save(notice);
 
+        mockMvc.perform(get("/api/notices/" + notice.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Old Title"))
+                .andExpect(jsonPath("$.viewCount").value(1));
+
         MockMultipartFile file = new MockMultipartFile("files", "test.txt", MediaType.TEXT_PLAIN_VALUE, "Test content".getBytes());
 
         NoticeUpdateDto noticeUpdateDto = NoticeUpdateDto.builder()
@@ -154,6 +196,11 @@ class NoticeControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.title").value("Updated Title"))
                 .andExpect(jsonPath("$.content").value("Updated Content"));
+
+        mockMvc.perform(get("/api/notices/" + notice.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Updated Title"))
+                .andExpect(jsonPath("$.viewCount").value(2));
     }
 
     /**
@@ -196,11 +243,18 @@ class NoticeControllerTest {
         Notice notice6 = Notice.builder().title("Notice 6").viewCount(10).build();
 
         noticeRepository.saveAll(List.of(notice1, notice2, notice3, notice4, notice5, notice6));
+        noticeLeaderboard.rebuild();
 
         mockMvc.perform(get("/api/notices/top"))
                 .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(5))
                 .andExpect(jsonPath("$[0].title").value("Notice 1"))
                 .andExpect(jsonPath("$[4].title").value("Notice 5"));
+
+        mockMvc.perform(get("/api/notices/top").param("limit", "6"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(6))
+                .andExpect(jsonPath("$[5].title").value("Notice 6"));
     }
 
     /**
@@ -274,4 +328,275 @@ class NoticeControllerTest {
                         .file(noticeCreateDtoPart))
                 .andExpect(status().isBadRequest());
     }
+
+    /**
+     * 지원하지 않는 집계 기간으로 인기 급상승 공지사항을 조회할 때 400을 반환하는지 테스트합니다.
+     */
+    @Test
+    @WithMockUser(username = "testUser")
+    void testGetTrendingNoticesWithInvalidWindow() throws Exception {
+        mockMvc.perform(get("/api/notices/trending").param("window", "2h"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/notices/trending").param("window", "7d"))
+                .andExpect(status().isOk());
+    }
+
+    /**
+     * 커서를 따라 공지사항 목록을 끝까지 조회하는 테스트입니다.
+     * - 작성일 내림차순으로 2개씩 조회하고, 마지막 페이지에서 hasNext가 false인지 검증합니다.
+     */
+    @Test
+    @WithMockUser(username = "testUser")
+    void testGetNoticesByCursor() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        noticeRepository.saveAll(List.of(
+                Notice.builder().title("Notice 1").createdDate(now.minusMinutes(3)).build(),
+                Notice.builder().title("Notice 2").createdDate(now.minusMinutes(2)).build(),
+                Notice.builder().title("Notice 3").createdDate(now.minusMinutes(1)).build()
+        ));
+
+        String response = mockMvc.perform(get("/api/notices/cursor").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].title").value("Notice 3"))
+                .andExpect(jsonPath("$.content[1].title").value("Notice 2"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode firstPage = objectMapper.readTree(response);
+
+        mockMvc.perform(get("/api/notices/cursor")
+                        .param("size", "2")
+                        .param("after", firstPage.get("nextCursor").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("Notice 1"))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    /**
+     * 잘못된 커서로 공지사항 목록을 조회할 때 400을 반환하는지 테스트합니다.
+     */
+    @Test
+    @WithMockUser(username = "testUser")
+    void testGetNoticesByInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/notices/cursor").param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * 상세조회와 목록 조회가 쿼리 예산 안에서 처리되는지 테스트합니다.
+     * - 첨부파일이 있는 공지사항의 상세조회는 조인 쿼리 1개, 목록 조회는 데이터와 개수 쿼리 2개 이내여야 합니다.
+     */
+    @Test
+    @WithMockUser(username = "testUser")
+    void testQueryBudgets() throws Exception {
+        List<Notice> notices = noticeRepository.saveAll(List.of(
+                Notice.builder().title("Notice 1").attachmentPaths(List.of("a.txt", "b.txt")).build(),
+                Notice.builder().title("Notice 2").attachmentPaths(List.of("c.txt")).build(),
+                Notice.builder().title("Notice 3").attachmentPaths(List.of("d.txt")).build()
+        ));
+
+        assertWithinBudget(1, () -> mockMvc.perform(get("/api/notices/" + notices.get(0).getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.attachmentPaths.length()").value(2)));
+
+        assertWithinBudget(2, () -> mockMvc.perform(get("/api/notices").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2)));
+
+        assertWithinBudget(1, () -> mockMvc.perform(get("/api/notices/cursor").param("size", "2"))
+                .andExpect(status().isOk()));
+    }
+
+    /**
+     * 요청 본문으로 첨부파일을 업로드하는 테스트입니다.
+     * - 업로드한 파일이 공지사항의 첨부파일 목록에 추가되는지 검증합니다.
+     * - 허용되지 않은 확장자는 파일을 기록하지 않고 400을 반환하는지 검증합니다.
+     */
+    @Test
+    @WithMockUser(username = "testUser")
+    void testUploadAttachmentStream() throws Exception {
+        Notice notice = noticeRepository.save(Notice.builder().title("Notice").attachmentPaths(List.of()).build());
+
+        mockMvc.perform(post("/api/notices/" + notice.getId() + "/attachments")
+                        .param("filename", "report.txt")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content("a".repeat(200_000).getBytes()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.attachmentPaths.length()").value(1));
+
+        mockMvc.perform(post("/api/notices/" + notice.getId() + "/attachments")
+                        .param("filename", "script.sh")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content("echo".getBytes()))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * 첨부파일을 전체, 구간, 조건부 요청으로 내려받는 테스트입니다.
+     * - 전체 요청 시 확장자에 맞는 Content-Type과 ETag로 파일 내용을 반환하고, 내용 주소로 저장된 파일에는 Last-Modified를 붙이지 않는지 검증합니다.
+     * - Range 요청은 206으로 해당 구간만 반환하고, If-Range가 다르거나 날짜이면 전체를 반환하는지 검증합니다.
+     * - 같은 내용이 다시 업로드되어도 ETag가 그대로여서 이어받기가 계속 206을 반환하는지 검증합니다.
+     * - ETag가 일치하면 304를, 파일 크기를 벗어난 구간은 416을, 없는 첨부파일은 404를 반환하는지 검증합니다.
+     */
+    @Test
+    @WithMockUser(username = "testUser")
+    void testDownloadAttachment() throws Exception {
+        Notice notice = noticeRepository.save(Notice.builder().title("Notice").attachmentPaths(List.of()).build());
+        mockMvc.perform(post("/api/notices/" + notice.getId() + "/attachments")
+                        .param("filename", "notes.txt")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content("0123456789".getBytes()))
+                .andExpect(status().isOk());
+
+        String url = "/api/notices/" + notice.getId() + "/attachments/0";
+        String etag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, startsWith("text/plain")))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("notes.txt")))
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+                .andExpect(content().string("0123456789"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=2-5").header(HttpHeaders.IF_RANGE, etag))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(content().string("2345"));
+
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=2-5").header(HttpHeaders.IF_RANGE, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(content().string("0123456789"));
+
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=2-5")
+                        .header(HttpHeaders.IF_RANGE, "Wed, 21 Oct 2015 07:28:00 GMT"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("0123456789"));
+
+        Notice other = noticeRepository.save(Notice.builder().title("Other").attachmentPaths(List.of()).build());
+        mockMvc.perform(post("/api/notices/" + other.getId() + "/attachments")
+                        .param("filename", "copy.txt")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content("0123456789".getBytes()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=6-").header(HttpHeaders.IF_RANGE, etag))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string("6789"));
+
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=20-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+
+        mockMvc.perform(get("/api/notices/" + notice.getId() + "/attachments/1"))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * 첫 색인이 끝나기 전에 검색하면 503을 반환하는지 테스트합니다.
+     */
+    @Test
+    @WithMockUser(username = "testUser")
+    void testSearchNoticesBeforeIndexReady() throws Exception {
+        Object ready = ReflectionTestUtils.getField(noticeSearchService, "index");
+        ReflectionTestUtils.setField(noticeSearchService, "index", null);
+        try {
+            mockMvc.perform(get("/api/notices/search").param("q", "공지사항"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.errorCode").value("SEARCH_INDEX_NOT_READY"));
+        } finally {
+            ReflectionTestUtils.setField(noticeSearchService, "index", ready);
+        }
+    }
+
+    /**
+     * 게시 시작 전인 공지사항을 조회하면 없는 공지사항과 같은 404를 반환하는지 테스트합니다.
+     */
+    @Test
+    @WithMockUser(username = "testUser")
+    void testGetNoticeBeforeStart() throws Exception {
+        Notice notice = noticeRepository.save(Notice.builder()
+                .title("Scheduled Title")
+                .content("Test Content")
+                .startDateTime(LocalDateTime.now().plusDays(1))
+                .endDateTime(LocalDateTime.now().plusDays(2))
+                .viewCount(0)
+                .createdDate(LocalDateTime.now())
+                .author("Author")
+                .build());
+
+        mockMvc.perform(get("/api/notices/" + notice.getId()))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorCode").value("NOTICE_NOT_FOUND"));
+
+        mockMvc.perform(get("/api/notices/" + (notice.getId() + 1000)))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorCode").value("NOTICE_NOT_FOUND"));
+    }
+
+    /**
+     * 게시 시작 전인 공지사항의 제목이 자동완성에 나타나지 않는지 테스트합니다.
+     */
+    @Test
+    @WithMockUser(username = "testUser")
+    void testSuggestTitlesExcludesScheduledNotices() throws Exception {
+        noticeRepository.saveAll(List.of(
+                Notice.builder().title("Embargo Published").startDateTime(LocalDateTime.now().minusDays(1)).build(),
+                Notice.builder().title("Embargo Scheduled").startDateTime(LocalDateTime.now().plusDays(1)).build()
+        ));
+        titleSuggester.reload();
+
+        mockMvc.perform(get("/api/notices/suggest").param("prefix", "Embargo"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value("Embargo Published"));
+    }
+
+    /**
+     * 리더보드 크기보다 많은 상위 공지사항을 요청하면 목록을 줄여 반환하지 않고 400을 반환하는지 테스트합니다.
+     */
+    @Test
+    @WithMockUser(username = "testUser")
+    void testGetTopNoticesOverCapacity() throws Exception {
+        mockMvc.perform(get("/api/notices/top").param("limit", String.valueOf(LeaderboardProperties.MAX_CAPACITY + 1)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"));
+
+        mockMvc.perform(get("/api/notices/top").param("limit", String.valueOf(LeaderboardProperties.MAX_CAPACITY)))
+                .andExpect(status().isOk());
+    }
+
+    /**
+     * 기간별 순위 크기보다 많은 인기 급상승 공지사항을 요청하면 목록을 줄여 반환하지 않고 400을 반환하는지 테스트합니다.
+     */
+    @Test
+    @WithMockUser(username = "testUser")
+    void testGetTrendingNoticesOverCapacity() throws Exception {
+        mockMvc.perform(get("/api/notices/trending").param("limit", String.valueOf(TrendingProperties.MAX_CAPACITY + 1)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"));
+
+        mockMvc.perform(get("/api/notices/trending").param("limit", String.valueOf(TrendingProperties.MAX_CAPACITY)))
+                .andExpect(status().isOk());
+    }
+
+    /**
+     * 최대 개수보다 많은 게시 중인 공지사항을 요청하면 400을 반환하는지 테스트합니다.
+     */
+    @Test
+    @WithMockUser(username = "testUser")
+    void testGetActiveNoticesOverLimit() throws Exception {
+        mockMvc.perform(get("/api/notices/active").param("limit", "101"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"));
+
+        mockMvc.perform(get("/api/notices/active").param("limit", "100"))
+                .andExpect(status().isOk());
+    }
 }
@@ -1,18 +1,22 @@
 package com.pji.noticeboard.repository;
 
+import com.pji.noticeboard.dto.NoticeSummaryDto;
 import com.pji.noticeboard.entity.Notice;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -22,17 +26,22 @@ import static org.junit.jupiter.api.Assertions.*;
  * 1. testFindById: ID로 공지사항을 조회하는 테스트.
  * 2. testSave: 공지사항을 저장하는 테스트.
  * 3. testDelete: 공지사항을 삭제하는 테스트.
- * 4. testFindTop5ByOrderByViewCountDesc: 조회수 기준 상위 5개의 공지사항을 조회하는 테스트.
+ * 4. testFindPublishedOrderByViewCountDesc: 리더보드가 사용하는 게시 중인 공지사항의 조회수 순 상위 목록을 조회하는 테스트.
  * 5. testFindAll: 모든 공지사항을 페이징하여 조회하는 테스트.
- * 6. testIncrementViewCount: 조회수를 증가시키는 메서드의 테스트.
+ * 6. testAddViewCounts: ViewCountService가 반영하는 공지사항별 조회수 증가분을 한 번에 더하는 테스트.
+ * 7. testFindAllSummaries: 본문을 잘라낸 요약 목록을 페이징하여 조회하는 테스트.
  */
 @DataJpaTest
+@Import(NoticeViewCountRepository.class)
 @ActiveProfiles("test")
 class NoticeRepositoryTest {
 
     @Autowired
     private NoticeRepository noticeRepository;
 
+    @Autowired
+    private NoticeViewCountRepository noticeViewCountRepository;
+
     @Autowired
     private TestEntityManager entityManager;
 
@@ -109,21 +118,25 @@ class NoticeRepositoryTest {
     }
 
     /**
-     * 조회수 기준 상위 5개의 공지사항을 조회하는 테스트.
+     * 리더보드가 사용하는 게시 중인 공지사항의 조회수 순 상위 목록을 조회하는 테스트.
      * - 여러 공지사항을 저장한 후, 조회수를 기준으로 상위 5개를 조회하여 검증합니다.
+     * - 게시 시작 전이거나 종료된 공지사항은 조회수가 높아도 제외되는지 검증합니다.
      */
     @Test
-    void testFindTop5ByOrderByViewCountDesc() {
+    void testFindPublishedOrderByViewCountDesc() {
+        LocalDateTime now = LocalDateTime.now();
         Notice notice1 = Notice.builder().title("Notice 1").viewCount(100).build();
         Notice notice2 = Notice.builder().title("Notice 2").viewCount(80).build();
         Notice notice3 = Notice.builder().title("Notice 3").viewCount(60).build();
         Notice notice4 = Notice.builder().title("Notice 4").viewCount(40).build();
         Notice notice5 = Notice.builder().title("Notice 5").viewCount(20).build();
         Notice notice6 = Notice.builder().title("Notice 6").viewCount(10).build();
+        Notice scheduled = Notice.builder().title("Scheduled").viewCount(500).startDateTime(now.plusDays(1)).build();
+        Notice expired = Notice.builder().title("Expired").viewCount(400).endDateTime(now.minusDays(1)).build();
 
-        noticeRepository.saveAll(List.of(notice1, notice2, notice3, notice4, notice5, notice6));
+        noticeRepository.saveAll(List.of(notice1, notice2, notice3, notice4, notice5, notice6, scheduled, expired));
 
-        List<Notice> topNotices = noticeRepository.findTop5ByOrderByViewCountDesc(PageRequest.of(0, 5));
+        List<Notice> topNotices = noticeRepository.findPublishedOrderByViewCountDesc(now, PageRequest.of(0, 5));
 
         assertEquals(5, topNotices.size());
         assertEquals("Notice 1", topNotices.get(0).getTitle());
@@ -147,12 +160,13 @@ class NoticeRepositoryTest {
     }
 
     /**
-     * 조회수를 증가시키는 메서드의 테스트.
-     * - 공지사항을 저장하고, 조회수를 증가시킨 후 증가된 조회수를 검증합니다.
+     * ViewCountService가 반영하는 공지사항별 조회수 증가분을 한 번에 더하는 테스트.
+     * - 공지사항을 저장하고, 증가분을 반영한 후 증가된 조회수를 검증합니다.
+     * - 없는 공지사항의 증가분은 반영된 행이 0으로 반환되는지 검증합니다.
      */
     @Test
     @Transactional
-    void testIncrementViewCount() {
+    void testAddViewCounts() {
         Notice notice = Notice.builder()
                 .title("Test Title")
                 .content("Test Content")
@@ -164,15 +178,40 @@ class NoticeRepositoryTest {
                 .build();
 
         Notice savedNotice = noticeRepository.save(notice);
+        entityManager.flush();
 
-        noticeRepository.incrementViewCount(savedNotice.getId());
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        deltas.put(savedNotice.getId(), 3L);
+        deltas.put(savedNotice.getId() + 1000, 1L);
+        int[] updated = noticeViewCountRepository.addViewCounts(deltas);
 
-        entityManager.flush();
         entityManager.clear();
 
         Notice updatedNotice = noticeRepository.findById(savedNotice.getId()).orElse(null);
 
         assertNotNull(updatedNotice);
-        assertEquals(1, updatedNotice.getViewCount());
+        assertEquals(3, updatedNotice.getViewCount());
+        assertArrayEquals(new int[]{1, 0}, updated);
+    }
+
+    /**
+     * 본문을 잘라낸 요약 목록을 페이징하여 조회하는 테스트.
+     * - 긴 본문을 가진 공지사항을 저장한 후, 요약 목록의 미리보기가 PREVIEW_LENGTH로 잘리는지 검증합니다.
+     * - 게시 시작 전인 공지사항은 목록과 전체 개수에서 제외되는지 검증합니다.
+     */
+    @Test
+    void testFindAllSummaries() {
+        Notice notice1 = Notice.builder().title("Notice 1").content("a".repeat(500)).viewCount(100).build();
+        Notice notice2 = Notice.builder().title("Notice 2").content("Short").viewCount(80).build();
+        Notice scheduled = Notice.builder().title("Scheduled").content("Later").viewCount(90)
+                .startDateTime(LocalDateTime.now().plusDays(1)).build();
+        noticeRepository.saveAll(List.of(notice1, notice2, scheduled));
+
+        Page<NoticeSummaryDto> summaries = noticeRepository.findAllSummaries(LocalDateTime.now(), PageRequest.of(0, 10));
+
+        assertEquals(2, summaries.getTotalElements());
+        assertEquals(NoticeSummaryDto.PREVIEW_LENGTH, summaries.getContent().get(0).getContentPreview().length());
+        assertEquals("Short", summaries.getContent().get(1).getContentPreview());
+        assertEquals(100, summaries.getContent().get(0).getViewCount());
     }
 }
@@ -0,0 +1,124 @@
+package com.pji.noticeboard.service;
+
+import com.pji.noticeboard.dto.ActiveNoticeDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ActiveNoticeIndex 단위 테스트 클래스입니다.
+ * 테스트 목록:
+ * 1. testNoticesActivateAndExpireAtBoundaries: 시작 일시에 게시되고 종료 일시에 빠지는지 테스트.
+ * 2. testActiveNoticesAreOrderedByLatestStart: 게시 중인 목록이 최근 시작 순으로 limit개만 반환되는지 테스트.
+ * 3. testUpdatesAndRemovalsMoveNotices: 기간 수정과 삭제가 게시 중인 목록과 다음 경계에 반영되는지 테스트.
+ * 4. testSnapshotKeepsOnlyHead: 게시 중인 공지사항이 상한보다 많으면 앞부분만 보관하고, 앞부분이 빠지면 뒤의 공지사항으로 채우는지 테스트.
+ */
+class ActiveNoticeIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 7, 1, 9, 0);
+
+    /**
+     * 시작 일시에 게시되고 종료 일시에 빠지는지 테스트합니다.
+     */
+    @Test
+    void testNoticesActivateAndExpireAtBoundaries() {
+        ActiveNoticeIndex index = new ActiveNoticeIndex(List.of(
+                notice(1L, NOW.minusDays(1), NOW.plusHours(1)),
+                notice(2L, NOW.plusHours(2), NOW.plusHours(3)),
+                notice(3L, NOW.minusDays(2), NOW),
+                notice(4L, null, null)), NOW);
+
+        assertEquals(List.of(1L, 4L), ids(index.getActive(10)));
+        assertEquals(1, index.pendingCount());
+        assertEquals(NOW.plusHours(1), index.getNextBoundary());
+
+        assertFalse(index.advance(NOW.plusMinutes(59)));
+        assertTrue(index.advance(NOW.plusHours(1)));
+        assertEquals(List.of(4L), ids(index.getActive(10)));
+
+        assertTrue(index.advance(NOW.plusHours(2)));
+        assertEquals(List.of(2L, 4L), ids(index.getActive(10)));
+        assertEquals(0, index.pendingCount());
+
+        assertTrue(index.advance(NOW.plusDays(1)));
+        assertEquals(List.of(4L), ids(index.getActive(10)));
+        assertNull(index.getNextBoundary());
+    }
+
+    /**
+     * 게시 중인 목록이 최근 시작 순으로 limit개만 반환되는지 테스트합니다.
+     */
+    @Test
+    void testActiveNoticesAreOrderedByLatestStart() {
+        ActiveNoticeIndex index = new ActiveNoticeIndex(List.of(
+                notice(1L, NOW.minusDays(3), null),
+                notice(2L, NOW.minusDays(1), null),
+                notice(3L, NOW.minusDays(2), null),
+                notice(4L, NOW.minusDays(1), null)), NOW);
+
+        assertEquals(List.of(4L, 2L, 3L, 1L), ids(index.getActive(10)));
+        assertEquals(List.of(4L, 2L), ids(index.getActive(2)));
+    }
+
+    /**
+     * 기간 수정과 삭제가 게시 중인 목록과 다음 경계에 반영되는지 테스트합니다.
+     */
+    @Test
+    void testUpdatesAndRemovalsMoveNotices() {
+        ActiveNoticeIndex index = new ActiveNoticeIndex();
+        index.put(notice(1L, NOW.minusHours(1), NOW.plusHours(1)), NOW);
+        index.put(notice(2L, NOW.plusHours(1), null), NOW);
+        assertEquals(List.of(1L), ids(index.getActive(10)));
+
+        index.put(notice(2L, NOW.minusMinutes(1), null), NOW);
+        index.put(notice(1L, NOW.plusDays(1), NOW.plusDays(2)), NOW);
+        assertEquals(List.of(2L), ids(index.getActive(10)));
+        assertEquals(NOW.plusDays(1), index.getNextBoundary());
+
+        index.remove(1L);
+        index.put(notice(3L, NOW.minusDays(2), NOW.minusDays(1)), NOW);
+        assertEquals(List.of(2L), ids(index.getActive(10)));
+        assertEquals(0, index.pendingCount());
+        assertNull(index.getNextBoundary());
+    }
+
+    /**
+     * 게시 중인 공지사항이 상한보다 많으면 최근 시작 순으로 앞부분만 보관하고, 앞부분이 빠지면 뒤의 공지사항으로 채우는지 테스트합니다.
+     */
+    @Test
+    void testSnapshotKeepsOnlyHead() {
+        int total = ActiveNoticeService.MAX_LIMIT + 50;
+        List<ActiveNoticeDto> notices = LongStream.rangeClosed(1, total)
+                .mapToObj(id -> notice(id, NOW.minusMinutes(id), null))
+                .toList();
+        ActiveNoticeIndex index = new ActiveNoticeIndex(notices, NOW);
+
+        assertEquals(total, index.activeCount());
+        assertEquals(ActiveNoticeService.MAX_LIMIT, index.getActive(total).size());
+        assertEquals(1L, index.getActive(1).get(0).getId());
+
+        index.remove(1L);
+        List<ActiveNoticeDto> head = index.getActive(ActiveNoticeService.MAX_LIMIT);
+        assertEquals(2L, head.get(0).getId());
+        assertEquals(ActiveNoticeService.MAX_LIMIT + 1L, head.get(head.size() - 1).getId());
+        assertEquals(total - 1, index.activeCount());
+    }
+
+    private static ActiveNoticeDto notice(Long id, LocalDateTime start, LocalDateTime end) {
+        return ActiveNoticeDto.builder()
+                .id(id)
+                .title("공지 " + id)
+                .author("admin")
+                .startDateTime(start)
+                .endDateTime(end)
+                .build();
+    }
+
+    private static List<Long> ids(List<ActiveNoticeDto> notices) {
+        return notices.stream().map(ActiveNoticeDto::getId).toList();
+    }
+}
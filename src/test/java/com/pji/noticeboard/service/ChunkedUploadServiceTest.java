@@ -0,0 +1,219 @@
+package com.pji.noticeboard.service;
+
+import com.pji.noticeboard.config.FileUploadProperties;
+import com.pji.noticeboard.dto.UploadSessionDto;
+import com.pji.noticeboard.exception.ErrorCode;
+import com.pji.noticeboard.exception.InvalidNoticeException;
+import com.pji.noticeboard.exception.ServiceException;
+import com.pji.noticeboard.util.FileIoExecutor;
+import com.pji.noticeboard.util.FileUtil;
+import com.pji.noticeboard.util.LocalAttachmentStorage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ChunkedUploadService 단위 테스트 클래스입니다.
+ * 테스트 목록:
+ * 1. testOutOfOrderChunksAreAssembled: 순서가 뒤섞인 조각이 올바른 위치에 조립되는지 테스트.
+ * 2. testParallelChunksAreAssembled: 동시에 올린 조각이 올바르게 조립되는지 테스트.
+ * 3. testCompleteRejectsMissingChunks: 빠진 조각이 있으면 완료할 수 없는지 테스트.
+ * 4. testAbandonedSessionExpires: 만료된 세션이 임시 파일과 함께 정리되는지 테스트.
+ * 5. testFailedAttachKeepsSession: 첨부에 실패해도 세션이 남아 완료를 다시 요청할 수 있는지 테스트.
+ * 6. testFailedChunkWriteIsNotReceived: 이미 받은 조각을 다시 보내다 실패하면 받지 않은 조각으로 되돌리는지 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+class ChunkedUploadServiceTest {
+
+    @TempDir
+    Path basePath;
+
+    @Mock
+    private NoticeService noticeService;
+
+    private FileUploadProperties fileUploadProperties;
+    private FileIoExecutor fileIoExecutor;
+    private ChunkedUploadService chunkedUploadService;
+
+    @BeforeEach
+    void setUp() {
+        fileUploadProperties = new FileUploadProperties();
+        fileUploadProperties.setBasePath(basePath.toString());
+        fileUploadProperties.setMaxFiles(5);
+        fileUploadProperties.setChunkSize(DataSize.ofBytes(4));
+
+        fileIoExecutor = new FileIoExecutor(fileUploadProperties, new SimpleMeterRegistry());
+        FileUtil fileUtil = new FileUtil(fileUploadProperties, fileIoExecutor, new LocalAttachmentStorage(fileUploadProperties));
+        chunkedUploadService = new ChunkedUploadService(noticeService, fileUtil, fileUploadProperties);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        chunkedUploadService.shutdown();
+        fileIoExecutor.shutdown();
+    }
+
+    /**
+     * 순서가 뒤섞인 조각이 올바른 위치에 조립되는지 테스트합니다.
+     */
+    @Test
+    void testOutOfOrderChunksAreAssembled() throws IOException {
+        UploadSessionDto session = chunkedUploadService.initiate(1L, "archive.zip", 10);
+        assertEquals(3, session.getTotalChunks());
+
+        upload(session, 2, "ij");
+        upload(session, 0, "abcd");
+        upload(session, 1, "efgh");
+        chunkedUploadService.complete(1L, session.getUploadId());
+
+        assertEquals("abcdefghij", Files.readString(basePath.resolve(attachedPath())));
+    }
+
+    /**
+     * 동시에 올린 조각이 올바르게 조립되는지 테스트합니다.
+     */
+    @Test
+    void testParallelChunksAreAssembled() throws IOException {
+        fileUploadProperties.setChunkSize(DataSize.ofBytes(1024));
+        byte[] content = new byte[64 * 1024 + 100];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i % 251);
+        }
+        UploadSessionDto session = chunkedUploadService.initiate(1L, "archive.zip", content.length);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<UploadSessionDto>> uploads = IntStream.range(0, session.getTotalChunks())
+                    .mapToObj(index -> CompletableFuture.supplyAsync(() -> chunkedUploadService.uploadChunk(1L, session.getUploadId(), index,
+                            new ByteArrayInputStream(content, index * 1024, Math.min(1024, content.length - index * 1024))), executor))
+                    .toList();
+            uploads.forEach(CompletableFuture::join);
+        } finally {
+            executor.shutdown();
+        }
+        chunkedUploadService.complete(1L, session.getUploadId());
+
+        assertArrayEquals(content, Files.readAllBytes(basePath.resolve(attachedPath())));
+    }
+
+    /**
+     * 빠진 조각이 있으면 완료할 수 없는지 테스트합니다.
+     */
+    @Test
+    void testCompleteRejectsMissingChunks() {
+        UploadSessionDto session = chunkedUploadService.initiate(1L, "archive.zip", 10);
+        upload(session, 0, "abcd");
+
+        InvalidNoticeException exception = assertThrows(InvalidNoticeException.class,
+                () -> chunkedUploadService.complete(1L, session.getUploadId()));
+
+        assertEquals(ErrorCode.UPLOAD_INCOMPLETE, exception.getErrorCode());
+        assertEquals(List.of(1, 2), chunkedUploadService.getSession(1L, session.getUploadId()).getMissingChunks());
+        assertThrows(InvalidNoticeException.class, () -> upload(session, 1, "toolong"));
+    }
+
+    /**
+     * 만료된 세션이 임시 파일과 함께 정리되는지 테스트합니다.
+     */
+    @Test
+    void testAbandonedSessionExpires() throws IOException {
+        UploadSessionDto session = chunkedUploadService.initiate(1L, "archive.zip", 10);
+        upload(session, 0, "abcd");
+
+        fileUploadProperties.setUploadSessionTtl(Duration.ZERO);
+        chunkedUploadService.expireSessions();
+
+        InvalidNoticeException exception = assertThrows(InvalidNoticeException.class, () -> upload(session, 1, "efgh"));
+        assertEquals(ErrorCode.UPLOAD_SESSION_NOT_FOUND, exception.getErrorCode());
+        try (Stream<Path> files = Files.walk(basePath)) {
+            assertTrue(files.noneMatch(Files::isRegularFile));
+        }
+    }
+
+    /**
+     * 첨부에 실패해도 세션이 남아 완료를 다시 요청할 수 있는지 테스트합니다.
+     * 이미 저장된 내용은 다시 저장하지 않고 같은 경로로 첨부하며, 조립을 시작한 세션은 조각을 받지 않아야 합니다.
+     */
+    @Test
+    void testFailedAttachKeepsSession() throws IOException {
+        when(noticeService.attachStoredFile(eq(1L), anyString(), anyString()))
+                .thenThrow(new InvalidNoticeException("Maximum number of files exceeded", ErrorCode.MAX_FILE_LIMIT_EXCEEDED))
+                .thenReturn(null);
+        UploadSessionDto session = chunkedUploadService.initiate(1L, "archive.zip", 6);
+        upload(session, 0, "abcd");
+        upload(session, 1, "ef");
+
+        assertThrows(InvalidNoticeException.class, () -> chunkedUploadService.complete(1L, session.getUploadId()));
+        InvalidNoticeException exception = assertThrows(InvalidNoticeException.class, () -> upload(session, 0, "wxyz"));
+        assertEquals(ErrorCode.UPLOAD_ALREADY_ASSEMBLED, exception.getErrorCode());
+
+        chunkedUploadService.complete(1L, session.getUploadId());
+
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(noticeService, times(2)).attachStoredFile(eq(1L), captor.capture(), anyString());
+        assertEquals(captor.getAllValues().get(0), captor.getAllValues().get(1));
+        assertEquals("abcdef", Files.readString(basePath.resolve(captor.getValue())));
+        assertThrows(InvalidNoticeException.class, () -> chunkedUploadService.getSession(1L, session.getUploadId()));
+    }
+
+    /**
+     * 이미 받은 조각을 다시 보내다 실패하면 받지 않은 조각으로 되돌리는지 테스트합니다.
+     */
+    @Test
+    void testFailedChunkWriteIsNotReceived() {
+        UploadSessionDto session = chunkedUploadService.initiate(1L, "archive.zip", 8);
+        upload(session, 0, "abcd");
+        upload(session, 1, "efgh");
+
+        InputStream interrupted = new SequenceInputStream(new ByteArrayInputStream("ab".getBytes()), new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Connection reset");
+            }
+        });
+        assertThrows(ServiceException.class, () -> chunkedUploadService.uploadChunk(1L, session.getUploadId(), 0, interrupted));
+
+        assertEquals(List.of(0), chunkedUploadService.getSession(1L, session.getUploadId()).getMissingChunks());
+        InvalidNoticeException exception = assertThrows(InvalidNoticeException.class,
+                () -> chunkedUploadService.complete(1L, session.getUploadId()));
+        assertEquals(ErrorCode.UPLOAD_INCOMPLETE, exception.getErrorCode());
+    }
+
+    private void upload(UploadSessionDto session, int index, String content) {
+        chunkedUploadService.uploadChunk(1L, session.getUploadId(), index, new ByteArrayInputStream(content.getBytes()));
+    }
+
+    private String attachedPath() {
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(noticeService).attachStoredFile(eq(1L), captor.capture(), anyString());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,73 @@
+package com.pji.noticeboard.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HashedTimingWheel 단위 테스트 클래스입니다.
+ * 테스트 목록:
+ * 1. testTasksFireAtTheirTick: 작업이 마감 틱이 지난 뒤에만 실행되는지 테스트.
+ * 2. testTasksBeyondOneRotationWaitForTheirRound: 휠 한 바퀴보다 먼 작업이 남은 바퀴를 기다렸다가 실행되는지 테스트.
+ * 3. testCancelledTasksNeverFire: 취소한 작업은 실행되지 않고 지난 마감은 다음 틱에 실행되는지 테스트.
+ */
+class HashedTimingWheelTest {
+
+    /**
+     * 작업이 마감 틱이 지난 뒤에만 실행되는지 테스트합니다.
+     */
+    @Test
+    void testTasksFireAtTheirTick() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(100, 8, 0);
+        wheel.schedule("a", 250);
+        wheel.schedule("b", 300);
+        wheel.schedule("c", 301);
+
+        assertTrue(wheel.advance(299).isEmpty());
+        assertEquals(List.of("b", "a"), wheel.advance(300));
+        assertTrue(wheel.advance(399).isEmpty());
+        assertEquals(List.of("c"), wheel.advance(400));
+        assertEquals(0, wheel.size());
+    }
+
+    /**
+     * 휠 한 바퀴보다 먼 작업이 남은 바퀴를 기다렸다가 실행되는지 테스트합니다.
+     */
+    @Test
+    void testTasksBeyondOneRotationWaitForTheirRound() {
+        HashedTimingWheel<Integer> wheel = new HashedTimingWheel<>(10, 4, 0);
+        for (int deadline = 0; deadline <= 200; deadline += 10) {
+            wheel.schedule(deadline, deadline);
+        }
+
+        List<Integer> fired = new ArrayList<>();
+        for (long now = 0; now <= 200; now += 10) {
+            List<Integer> tasks = wheel.advance(now);
+            assertEquals(List.of((int) now), tasks);
+            fired.addAll(tasks);
+        }
+        assertEquals(21, fired.size());
+        assertEquals(0, wheel.size());
+    }
+
+    /**
+     * 취소한 작업은 실행되지 않고 지난 마감은 다음 틱에 실행되는지 테스트합니다.
+     */
+    @Test
+    void testCancelledTasksNeverFire() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(100, 8, 0);
+        HashedTimingWheel.Timeout<String> cancelled = wheel.schedule("cancelled", 200);
+        wheel.schedule("kept", 200);
+        assertTrue(cancelled.cancel());
+        assertFalse(cancelled.cancel());
+
+        assertEquals(List.of("kept"), wheel.advance(500));
+
+        wheel.schedule("late", 100);
+        assertTrue(wheel.advance(599).isEmpty());
+        assertEquals(List.of("late"), wheel.advance(600));
+    }
+}
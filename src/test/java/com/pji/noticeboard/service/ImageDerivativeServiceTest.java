@@ -0,0 +1,164 @@
+package com.pji.noticeboard.service;
+
+import com.pji.noticeboard.config.FileUploadProperties;
+import com.pji.noticeboard.config.ImageDerivativeProperties;
+import com.pji.noticeboard.entity.ImageDerivativeJob;
+import com.pji.noticeboard.exception.ErrorCode;
+import com.pji.noticeboard.exception.InvalidNoticeException;
+import com.pji.noticeboard.repository.ImageDerivativeJobRepository;
+import com.pji.noticeboard.util.FileIoExecutor;
+import com.pji.noticeboard.util.FileUtil;
+import com.pji.noticeboard.util.LocalAttachmentStorage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ImageDerivativeService 단위 테스트 클래스입니다.
+ * 테스트 목록:
+ * 1. testGenerateScalesWithinVariantSize: 비율을 유지하여 종류별 크기 이하로 축소본을 만드는지 테스트.
+ * 2. testPollProcessesClaimedJob: 가져간 작업을 작업자 스레드에서 처리하고 완료로 기록하는지 테스트.
+ * 3. testUnreadableImageFailsWithoutRetry: 읽을 수 없는 이미지는 다시 시도하지 않고 실패로 기록하는지 테스트.
+ * 4. testMissingDerivativeIsEnqueued: 축소본이 없으면 작업을 기록하고 DERIVATIVE_NOT_READY를 던지는지 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+class ImageDerivativeServiceTest {
+
+    private static final String HASH = "ab".repeat(32);
+
+    @TempDir
+    Path basePath;
+
+    @Mock
+    private ImageDerivativeJobRepository jobRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FileIoExecutor fileIoExecutor;
+    private FileUtil fileUtil;
+    private ImageDerivativeService imageDerivativeService;
+
+    @BeforeEach
+    void setUp() {
+        FileUploadProperties fileUploadProperties = new FileUploadProperties();
+        fileUploadProperties.setBasePath(basePath.toString());
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        fileIoExecutor = new FileIoExecutor(fileUploadProperties, meterRegistry);
+        LocalAttachmentStorage attachmentStorage = new LocalAttachmentStorage(fileUploadProperties);
+        fileUtil = new FileUtil(fileUploadProperties, fileIoExecutor, attachmentStorage);
+        imageDerivativeService = new ImageDerivativeService(jobRepository, fileUtil, attachmentStorage,
+                new ImageDerivativeProperties(), transactionManager, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        imageDerivativeService.shutdown();
+        fileIoExecutor.shutdown();
+    }
+
+    /**
+     * 비율을 유지하여 종류별 크기 이하로 축소본을 만드는지 테스트합니다.
+     */
+    @Test
+    void testGenerateScalesWithinVariantSize() throws IOException {
+        String sourcePath = writeImage(HASH + ".png", 3000, 1500);
+
+        imageDerivativeService.generate(sourcePath);
+
+        BufferedImage thumbnail = ImageIO.read(basePath.resolve(fileUtil.derivativePath(sourcePath, "thumbnail")).toFile());
+        BufferedImage preview = ImageIO.read(basePath.resolve(fileUtil.derivativePath(sourcePath, "preview")).toFile());
+        assertEquals(200, thumbnail.getWidth());
+        assertEquals(100, thumbnail.getHeight());
+        assertEquals(1024, preview.getWidth());
+        assertEquals(512, preview.getHeight());
+    }
+
+    /**
+     * 가져간 작업을 작업자 스레드에서 처리하고 완료로 기록하는지 테스트합니다.
+     */
+    @Test
+    void testPollProcessesClaimedJob() throws IOException, InterruptedException {
+        String sourcePath = writeImage(HASH + ".jpg", 300, 300);
+        ImageDerivativeJob job = new ImageDerivativeJob(sourcePath, LocalDateTime.now());
+        job.setId(1L);
+        when(jobRepository.findAvailable(anyCollection(), any(), any())).thenReturn(List.of(job));
+        when(jobRepository.claim(eq(1L), eq(ImageDerivativeJob.Status.PENDING), eq(job.getAvailableAt()),
+                eq(ImageDerivativeJob.Status.RUNNING), any(), any())).thenReturn(1);
+
+        imageDerivativeService.poll();
+        imageDerivativeService.shutdown();
+
+        verify(jobRepository).finish(eq(1L), eq(ImageDerivativeJob.Status.DONE), any(), isNull(), any());
+        assertTrue(Files.exists(basePath.resolve(fileUtil.derivativePath(sourcePath, "thumbnail"))));
+    }
+
+    /**
+     * 읽을 수 없는 이미지는 다시 시도하지 않고 실패로 기록하는지 테스트합니다.
+     */
+    @Test
+    void testUnreadableImageFailsWithoutRetry() throws IOException, InterruptedException {
+        String sourcePath = "cas/ab/" + HASH + ".jpg";
+        Files.createDirectories(basePath.resolve(sourcePath).getParent());
+        Files.writeString(basePath.resolve(sourcePath), "not an image");
+        ImageDerivativeJob job = new ImageDerivativeJob(sourcePath, LocalDateTime.now());
+        job.setId(1L);
+        when(jobRepository.findAvailable(anyCollection(), any(), any())).thenReturn(List.of(job));
+        when(jobRepository.claim(eq(1L), any(), any(), any(), any(), any())).thenReturn(1);
+
+        imageDerivativeService.poll();
+        imageDerivativeService.shutdown();
+
+        verify(jobRepository).finish(eq(1L), eq(ImageDerivativeJob.Status.FAILED), any(), any(), any());
+    }
+
+    /**
+     * 축소본이 없으면 작업을 기록하고 DERIVATIVE_NOT_READY를 던지는지 테스트합니다.
+     */
+    @Test
+    void testMissingDerivativeIsEnqueued() throws IOException {
+        String sourcePath = writeImage(HASH + ".png", 10, 10);
+        when(jobRepository.findBySourcePath(sourcePath)).thenReturn(Optional.empty());
+
+        InvalidNoticeException exception = assertThrows(InvalidNoticeException.class,
+                () -> imageDerivativeService.getDerivativePath(ImageVariant.THUMBNAIL, HASH + ".png"));
+
+        assertEquals(ErrorCode.DERIVATIVE_NOT_READY, exception.getErrorCode());
+        verify(jobRepository).save(any(ImageDerivativeJob.class));
+        assertThrows(InvalidNoticeException.class,
+                () -> imageDerivativeService.getDerivativePath(ImageVariant.THUMBNAIL, "../" + HASH + ".png"));
+    }
+
+    private String writeImage(String filename, int width, int height) throws IOException {
+        String sourcePath = "cas/" + filename.substring(0, 2) + "/" + filename;
+        Path file = basePath.resolve(sourcePath);
+        Files.createDirectories(file.getParent());
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ImageIO.write(image, filename.endsWith(".png") ? "png" : "jpeg", file.toFile());
+        return sourcePath;
+    }
+}
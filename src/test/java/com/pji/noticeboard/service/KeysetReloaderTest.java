@@ -0,0 +1,79 @@
+package com.pji.noticeboard.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * KeysetReloader 단위 테스트 클래스입니다.
+ * 테스트 목록:
+ * 1. testReadsAllBatchesAfterLastId: 마지막으로 읽은 ID 다음부터 묶음을 이어 읽어 모든 항목으로 색인을 만드는지 테스트.
+ * 2. testChangesWhileLoadingArePublished: 읽는 동안 기록된 변경만 적재 결과와 함께 넘기는지 테스트.
+ * 3. testFailedReloadStopsRecording: 적재가 실패해도 변경 기록이 남아 있지 않은지 테스트.
+ */
+class KeysetReloaderTest {
+
+    private static final List<Long> IDS = LongStream.rangeClosed(1, 5).boxed().toList();
+
+    /**
+     * 마지막으로 읽은 ID 다음부터 묶음을 이어 읽어 모든 항목으로 색인을 만드는지 테스트합니다.
+     */
+    @Test
+    void testReadsAllBatchesAfterLastId() {
+        KeysetReloader<String> reloader = new KeysetReloader<>();
+        List<Long> lastIds = new ArrayList<>();
+
+        List<Long> loaded = reloader.reload((lastId, pageable) -> {
+            lastIds.add(lastId);
+            return IDS.stream().filter(id -> id > lastId).limit(pageable.getPageSize()).toList();
+        }, Long::longValue, 2, List::copyOf, (built, changes) -> assertTrue(changes.isEmpty()));
+
+        assertEquals(IDS, loaded);
+        assertEquals(List.of(0L, 2L, 4L), lastIds);
+    }
+
+    /**
+     * 읽는 동안 기록된 변경만 적재 결과와 함께 넘기는지 테스트합니다.
+     */
+    @Test
+    void testChangesWhileLoadingArePublished() {
+        KeysetReloader<String> reloader = new KeysetReloader<>();
+        Map<Long, String> published = new HashMap<>();
+        reloader.record(1L, "before");
+
+        reloader.reload((lastId, pageable) -> {
+            reloader.record(3L, "first");
+            reloader.record(3L, "second");
+            return List.<Long>of();
+        }, Long::longValue, 2, List::copyOf, (built, changes) -> published.putAll(changes));
+        reloader.record(4L, "after");
+
+        assertEquals(Map.of(3L, "second"), published);
+
+        reloader.reload((lastId, pageable) -> List.<Long>of(), Long::longValue, 2, List::copyOf,
+                (built, changes) -> assertTrue(changes.isEmpty()));
+    }
+
+    /**
+     * 적재가 실패해도 변경 기록이 남아 있지 않은지 테스트합니다.
+     */
+    @Test
+    void testFailedReloadStopsRecording() {
+        KeysetReloader<String> reloader = new KeysetReloader<>();
+
+        assertThrows(IllegalStateException.class, () -> reloader.reload((lastId, pageable) -> {
+            reloader.record(1L, "during failed load");
+            throw new IllegalStateException("database unavailable");
+        }, Long::longValue, 2, List::copyOf, (built, changes) -> fail("must not publish")));
+        reloader.record(2L, "after failed load");
+
+        reloader.reload((lastId, pageable) -> List.<Long>of(), Long::longValue, 2, List::copyOf,
+                (built, changes) -> assertTrue(changes.isEmpty()));
+    }
+}
@@ -0,0 +1,120 @@
+package com.pji.noticeboard.service;
+
+import com.pji.noticeboard.dto.NoticeDto;
+import com.pji.noticeboard.entity.ArchivedNotice;
+import com.pji.noticeboard.entity.Notice;
+import com.pji.noticeboard.repository.ArchivedNoticeRepository;
+import com.pji.noticeboard.repository.NoticeRepository;
+import com.pji.noticeboard.repository.NoticeViewCountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * NoticeArchiver 통합 테스트 클래스입니다.
+ * 테스트 목록:
+ * 1. testExpiredNoticesMoveToArchive: 보관 기간이 지난 공지사항만 첨부파일 경로, 원본 파일 이름과 함께 보관 테이블로 옮겨지고 같은 ID로 조회되는지 테스트.
+ * 2. testViewCountsReachArchivedNotices: 보관된 공지사항의 조회수 증가분이 보관 테이블에 반영되는지 테스트.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class NoticeArchiverTest {
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private ArchivedNoticeRepository archivedNoticeRepository;
+
+    @Autowired
+    private NoticeViewCountRepository noticeViewCountRepository;
+
+    @Autowired
+    private NoticeArchiver noticeArchiver;
+
+    @Autowired
+    private NoticeDetailLoader noticeDetailLoader;
+
+    @BeforeEach
+    void setUp() {
+        noticeRepository.deleteAll();
+        archivedNoticeRepository.deleteAll();
+    }
+
+    /**
+     * 보관 기간이 지난 공지사항만 첨부파일 경로와 함께 보관 테이블로 옮겨지고 같은 ID로 조회되는지 테스트합니다.
+     */
+    @Test
+    void testExpiredNoticesMoveToArchive() {
+        Notice old = notice("Old Notice", LocalDateTime.now().minusDays(60), List.of("2024/01/old.txt"));
+        old.setAttachmentNames(new HashMap<>(Map.of("2024/01/old.txt", "minutes.txt")));
+        old = noticeRepository.saveAndFlush(old);
+        Notice recent = noticeRepository.saveAndFlush(notice("Recent Notice", LocalDateTime.now().minusDays(1), List.of()));
+        Notice open = noticeRepository.saveAndFlush(notice("Open Notice", LocalDateTime.now().plusDays(1), List.of()));
+
+        assertEquals(1, noticeArchiver.archive());
+
+        assertTrue(noticeRepository.findById(old.getId()).isEmpty());
+        assertTrue(noticeRepository.findById(recent.getId()).isPresent());
+        assertTrue(noticeRepository.findById(open.getId()).isPresent());
+
+        ArchivedNotice archived = archivedNoticeRepository.findWithAttachmentsById(old.getId()).orElseThrow();
+        assertEquals("Old Notice", archived.getTitle());
+        assertEquals(List.of("2024/01/old.txt"), archived.getAttachmentPaths());
+        assertEquals(Map.of("2024/01/old.txt", "minutes.txt"), archived.getAttachmentNames());
+        assertNotNull(archived.getArchivedDate());
+        assertEquals(List.of("2024/01/old.txt"),
+                noticeRepository.findReferencedAttachmentPaths(List.of("2024/01/old.txt", "2024/01/missing.txt")));
+
+        NoticeDto loaded = noticeDetailLoader.load(old.getId());
+        assertEquals("Old Notice", loaded.getTitle());
+        assertEquals(List.of("2024/01/old.txt"), loaded.getAttachmentPaths());
+        assertEquals(Map.of("2024/01/old.txt", "minutes.txt"), loaded.getAttachmentNames());
+
+        assertEquals(0, noticeArchiver.archive());
+    }
+
+    /**
+     * 보관된 공지사항의 조회수 증가분이 보관 테이블에 반영되는지 테스트합니다.
+     */
+    @Test
+    void testViewCountsReachArchivedNotices() {
+        Notice old = noticeRepository.saveAndFlush(notice("Old Notice", LocalDateTime.now().minusDays(60), List.of()));
+        Notice open = noticeRepository.saveAndFlush(notice("Open Notice", LocalDateTime.now().plusDays(1), List.of()));
+        noticeArchiver.archive();
+
+        int[] updated = noticeViewCountRepository.addViewCounts(Map.of(old.getId(), 3L));
+        assertArrayEquals(new int[]{1}, updated);
+        updated = noticeViewCountRepository.addViewCounts(Map.of(open.getId(), 2L));
+        assertArrayEquals(new int[]{1}, updated);
+
+        assertEquals(8, archivedNoticeRepository.findById(old.getId()).orElseThrow().getViewCount());
+        assertEquals(7, noticeRepository.findById(open.getId()).orElseThrow().getViewCount());
+    }
+
+    private static Notice notice(String title, LocalDateTime endDateTime, List<String> attachmentPaths) {
+        return Notice.builder()
+                .title(title)
+                .content("Test Content")
+                .startDateTime(endDateTime.minusDays(7))
+                .endDateTime(endDateTime)
+                .attachmentPaths(new ArrayList<>(attachmentPaths))
+                .createdDate(endDateTime.minusDays(7))
+                .modifiedDate(endDateTime.minusDays(7))
+                .viewCount(5)
+                .author("Author")
+                .build();
+    }
+}
@@ -0,0 +1,210 @@
+package com.pji.noticeboard.service;
+
+import com.pji.noticeboard.config.ReplicaRoutingProperties;
+import com.pji.noticeboard.dto.NoticeDto;
+import com.pji.noticeboard.entity.Notice;
+import com.pji.noticeboard.event.NoticeChangedEvent;
+import com.pji.noticeboard.repository.ArchivedNoticeRepository;
+import com.pji.noticeboard.repository.NoticeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+/**
+ * NoticeDetailLoader 단위 테스트 클래스입니다.
+ * 테스트 목록:
+ * 1. testUpdateThenReadReturnsUpdatedNotice: 수정 후 다시 조회하면 읽기 전용 트랜잭션으로 읽은 수정된 값을 반환하는지 테스트.
+ * 2. testLoadSpanningCommitIsNotCached: 읽는 도중 커밋된 변경이 캐시를 무효화하면 읽은 값을 캐시에 남기지 않는지 테스트.
+ * 3. testOtherNoticeChangeKeepsLoad: 읽는 도중 다른 공지사항이 변경되어도 읽은 값을 캐시에 남기는지 테스트.
+ * 4. testConcurrentMissesShareOneQuery: 캐시에 없는 같은 ID를 동시에 읽으면 한 번만 조회하는지 테스트.
+ * 5. testRecentlyChangedNoticeIsNotCachedFromReplica: 복제 허용 지연 안에 변경된 공지사항은 읽은 값을 캐시에 남기지 않는지 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+class NoticeDetailLoaderTest {
+
+    @Mock
+    private NoticeRepository noticeRepository;
+
+    @Mock
+    private ArchivedNoticeRepository archivedNoticeRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ConcurrentMapCacheManager cacheManager;
+    private ReplicaRoutingProperties replicaRoutingProperties;
+    private NoticeDetailLoader noticeDetailLoader;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(NoticeDetailLoader.CACHE_NAME);
+        replicaRoutingProperties = new ReplicaRoutingProperties();
+        noticeDetailLoader = new NoticeDetailLoader(noticeRepository, archivedNoticeRepository, cacheManager,
+                replicaRoutingProperties, transactionManager);
+    }
+
+    /**
+     * 수정 후 다시 조회하면 읽기 전용 트랜잭션으로 읽은 수정된 값을 반환하는지 테스트합니다.
+     */
+    @Test
+    void testUpdateThenReadReturnsUpdatedNotice() {
+        when(noticeRepository.findWithAttachmentsById(1L))
+                .thenReturn(Optional.of(notice("Before")))
+                .thenReturn(Optional.of(notice("After")));
+
+        assertEquals("Before", noticeDetailLoader.load(1L).getTitle());
+        assertEquals("Before", noticeDetailLoader.load(1L).getTitle());
+
+        // NoticeService.updateNotice는 커밋 이후 변경 이벤트를 발행하고 캐시를 무효화합니다.
+        noticeDetailLoader.onNoticeChanged(new NoticeChangedEvent(NoticeChangedEvent.Type.UPDATED, notice("After")));
+        detailCache().evict(1L);
+
+        assertEquals("After", noticeDetailLoader.load(1L).getTitle());
+        verify(noticeRepository, times(2)).findWithAttachmentsById(1L);
+
+        // 캐시에 없을 때는 복제본 라우팅을 따르도록 읽기 전용 트랜잭션으로 읽습니다.
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(2)).getTransaction(definitions.capture());
+        definitions.getAllValues().forEach(definition -> assertTrue(definition.isReadOnly()));
+    }
+
+    /**
+     * 읽는 도중 커밋된 변경이 캐시를 무효화하면 읽은 값을 캐시에 남기지 않는지 테스트합니다.
+     */
+    @Test
+    void testLoadSpanningCommitIsNotCached() {
+        when(noticeRepository.findWithAttachmentsById(1L))
+                .thenAnswer(invocation -> {
+                    // 이전 값을 읽은 직후 다른 요청의 수정이 커밋되고 캐시가 무효화됩니다.
+                    noticeDetailLoader.onNoticeChanged(new NoticeChangedEvent(NoticeChangedEvent.Type.UPDATED, notice("After")));
+                    detailCache().evict(1L);
+                    return Optional.of(notice("Before"));
+                })
+                .thenReturn(Optional.of(notice("After")));
+
+        assertEquals("Before", noticeDetailLoader.load(1L).getTitle());
+        assertNull(detailCache().get(1L));
+
+        assertEquals("After", noticeDetailLoader.load(1L).getTitle());
+        assertEquals("After", noticeDetailLoader.load(1L).getTitle());
+        verify(noticeRepository, times(2)).findWithAttachmentsById(1L);
+    }
+
+    /**
+     * 읽는 도중 다른 공지사항이 변경되어도 읽은 값을 캐시에 남기는지 테스트합니다.
+     */
+    @Test
+    void testOtherNoticeChangeKeepsLoad() {
+        when(noticeRepository.findWithAttachmentsById(1L))
+                .thenAnswer(invocation -> {
+                    Notice other = notice("Other").toBuilder().id(2L).build();
+                    noticeDetailLoader.onNoticeChanged(new NoticeChangedEvent(NoticeChangedEvent.Type.UPDATED, other));
+                    detailCache().evict(2L);
+                    return Optional.of(notice("Before"));
+                });
+
+        assertEquals("Before", noticeDetailLoader.load(1L).getTitle());
+        assertNotNull(detailCache().get(1L));
+        assertEquals("Before", noticeDetailLoader.load(1L).getTitle());
+        verify(noticeRepository, times(1)).findWithAttachmentsById(1L);
+    }
+
+    /**
+     * 캐시에 없는 같은 ID를 동시에 읽으면 한 번만 조회하고 결과를 함께 받는지 테스트합니다.
+     */
+    @Test
+    void testConcurrentMissesShareOneQuery() throws Exception {
+        CountDownLatch querying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(noticeRepository.findWithAttachmentsById(1L))
+                .thenAnswer(invocation -> {
+                    querying.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return Optional.of(notice("Before"));
+                });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<NoticeDto> leader = executor.submit(() -> noticeDetailLoader.load(1L));
+            assertTrue(querying.await(5, TimeUnit.SECONDS));
+            List<Future<NoticeDto>> followers = IntStream.range(0, 3)
+                    .mapToObj(i -> executor.submit(() -> noticeDetailLoader.load(1L)))
+                    .toList();
+            // 뒤따른 요청들이 진행 중인 조회를 기다리기 시작할 시간을 줍니다.
+            Thread.sleep(100);
+            release.countDown();
+
+            assertEquals("Before", leader.get(5, TimeUnit.SECONDS).getTitle());
+            for (Future<NoticeDto> follower : followers) {
+                assertEquals("Before", follower.get(5, TimeUnit.SECONDS).getTitle());
+            }
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+        verify(noticeRepository, times(1)).findWithAttachmentsById(1L);
+    }
+
+    /**
+     * 복제본을 사용할 때 복제 허용 지연 안에 변경된 공지사항은 복제본에 이전 값이 남아 있을 수 있으므로, 읽은 값을 캐시에 남기지 않는지 테스트합니다.
+     */
+    @Test
+    void testRecentlyChangedNoticeIsNotCachedFromReplica() {
+        replicaRoutingProperties.setEnabled(true);
+        replicaRoutingProperties.setMaxLag(Duration.ofMinutes(1));
+        when(noticeRepository.findWithAttachmentsById(1L)).thenReturn(Optional.of(notice("After")));
+
+        noticeDetailLoader.onNoticeChanged(new NoticeChangedEvent(NoticeChangedEvent.Type.UPDATED, notice("After")));
+        assertEquals("After", noticeDetailLoader.load(1L).getTitle());
+        assertNull(detailCache().get(1L));
+
+        // 복제 허용 지연이 지나 변경 기록이 정리되면 다시 캐시합니다.
+        replicaRoutingProperties.setMaxLag(Duration.ZERO);
+        noticeDetailLoader.pruneVersions();
+        noticeDetailLoader.load(1L);
+        assertNotNull(detailCache().get(1L));
+    }
+
+    private Cache detailCache() {
+        return cacheManager.getCache(NoticeDetailLoader.CACHE_NAME);
+    }
+
+    private static Notice notice(String title) {
+        return Notice.builder()
+                .id(1L)
+                .title(title)
+                .content("Content")
+                .startDateTime(LocalDateTime.now().minusDays(1))
+                .endDateTime(LocalDateTime.now().plusDays(1))
+                .attachmentPaths(new ArrayList<>())
+                .createdDate(LocalDateTime.now())
+                .viewCount(0)
+                .author("Author")
+                .build();
+    }
+}
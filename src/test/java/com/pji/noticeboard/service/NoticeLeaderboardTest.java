@@ -0,0 +1,194 @@
+package com.pji.noticeboard.service;
+
+import com.pji.noticeboard.config.LeaderboardProperties;
+import com.pji.noticeboard.dto.NoticeResponseDto;
+import com.pji.noticeboard.entity.Notice;
+import com.pji.noticeboard.event.NoticeChangedEvent;
+import com.pji.noticeboard.event.NoticeScheduleEvent;
+import com.pji.noticeboard.repository.NoticeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * NoticeLeaderboard 단위 테스트 클래스입니다.
+ * 테스트 목록:
+ * 1. testOfferReordersRanking: 조회수가 증가한 공지사항의 순위가 갱신되는지 테스트.
+ * 2. testOfferEvictsLowestWhenFull: 가득 찬 리더보드에 진입하면 최하위 항목이 밀려나는지 테스트.
+ * 3. testRemoveFromFullBoardUsesReserve: 가득 찬 리더보드에서 삭제되면 DB를 조회하지 않고 유지하던 다음 순위로 채우는지 테스트.
+ * 4. testUpdatedEventKeepsViewCount: 수정 이벤트 시 제목은 갱신되고 조회수는 유지되는지 테스트.
+ * 5. testExpiredNoticesLeaveBoard: 게시 종료 이벤트, 종료 일시가 지난 수정 이벤트, 보관 이벤트에 공지사항이 제거되는지 테스트.
+ * 6. testActivatedNoticeEntersBoard: 게시 시작 전에 제외된 공지사항이 시작 이벤트에 진입하는지 테스트.
+ * 7. testRefillRunsInBackgroundAndKeepsConcurrentChanges: 다음 순위가 모자라면 삭제한 스레드가 아닌 다시 적재에서 DB를 읽고, 그동안의 조회와 삭제를 유지하는지 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+class NoticeLeaderboardTest {
+
+    @Mock
+    private NoticeRepository noticeRepository;
+
+    @Mock
+    private ViewCountService viewCountService;
+
+    private NoticeLeaderboard noticeLeaderboard;
+
+    @BeforeEach
+    void setUp() {
+        LeaderboardProperties leaderboardProperties = new LeaderboardProperties();
+        leaderboardProperties.setCapacity(3);
+        leaderboardProperties.setReserve(2);
+        noticeLeaderboard = new NoticeLeaderboard(noticeRepository, viewCountService, leaderboardProperties);
+
+        List<Notice> notices = List.of(notice(1L, 30), notice(2L, 20), notice(3L, 10));
+        when(noticeRepository.findPublishedOrderByViewCountDesc(any(LocalDateTime.class), eq(PageRequest.of(0, 5)))).thenReturn(notices);
+        when(viewCountService.getCurrentCount(anyLong(), anyLong()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+        noticeLeaderboard.rebuild();
+    }
+
+    /**
+     * 조회수가 증가한 공지사항의 순위가 갱신되는지 테스트합니다.
+     */
+    @Test
+    void testOfferReordersRanking() {
+        noticeLeaderboard.offer(entry(3L, 31));
+
+        List<NoticeResponseDto> top = noticeLeaderboard.getTop(3);
+
+        assertEquals(List.of(3L, 1L, 2L), top.stream().map(NoticeResponseDto::getId).toList());
+        assertEquals(31, top.get(0).getViewCount());
+    }
+
+    /**
+     * 가득 찬 리더보드에 진입하면 최하위 항목이 밀려나는지 테스트합니다.
+     */
+    @Test
+    void testOfferEvictsLowestWhenFull() {
+        noticeLeaderboard.offer(entry(4L, 5));
+        noticeLeaderboard.offer(entry(5L, 15));
+
+        List<NoticeResponseDto> top = noticeLeaderboard.getTop(10);
+
+        assertEquals(List.of(1L, 2L, 5L), top.stream().map(NoticeResponseDto::getId).toList());
+    }
+
+    /**
+     * 가득 찬 리더보드에서 삭제되면 DB를 조회하지 않고 유지하던 다음 순위로 채우는지 테스트합니다.
+     */
+    @Test
+    void testRemoveFromFullBoardUsesReserve() {
+        noticeLeaderboard.offer(entry(4L, 8));
+        noticeLeaderboard.offer(entry(5L, 6));
+
+        noticeLeaderboard.remove(1L);
+        noticeLeaderboard.refillIfRequested();
+
+        assertEquals(List.of(2L, 3L, 4L), noticeLeaderboard.getTop(3).stream().map(NoticeResponseDto::getId).toList());
+        verify(noticeRepository, times(1)).findPublishedOrderByViewCountDesc(any(LocalDateTime.class), any());
+    }
+
+    /**
+     * 수정 이벤트 시 제목은 갱신되고 조회수는 유지되는지 테스트합니다.
+     */
+    @Test
+    void testUpdatedEventKeepsViewCount() {
+        noticeLeaderboard.offer(entry(2L, 25));
+        Notice updated = Notice.builder().id(2L).title("Updated").viewCount(20).build();
+
+        noticeLeaderboard.onNoticeChanged(new NoticeChangedEvent(NoticeChangedEvent.Type.UPDATED, updated));
+
+        NoticeResponseDto second = noticeLeaderboard.getTop(3).get(1);
+        assertEquals("Updated", second.getTitle());
+        assertEquals(25, second.getViewCount());
+    }
+
+    /**
+     * 게시 종료 이벤트, 종료 일시가 지난 수정 이벤트, 보관 이벤트에 공지사항이 제거되는지 테스트합니다.
+     */
+    @Test
+    void testExpiredNoticesLeaveBoard() {
+        noticeLeaderboard.onNoticeScheduled(new NoticeScheduleEvent(NoticeScheduleEvent.Type.EXPIRED, 1L));
+        assertEquals(List.of(2L, 3L), noticeLeaderboard.getTop(3).stream().map(NoticeResponseDto::getId).toList());
+
+        Notice expired = Notice.builder().id(2L).title("Notice 2").viewCount(20)
+                .endDateTime(LocalDateTime.now().minusMinutes(1)).build();
+        noticeLeaderboard.onNoticeChanged(new NoticeChangedEvent(NoticeChangedEvent.Type.UPDATED, expired));
+        assertEquals(List.of(3L), noticeLeaderboard.getTop(3).stream().map(NoticeResponseDto::getId).toList());
+
+        noticeLeaderboard.onNoticeChanged(new NoticeChangedEvent(NoticeChangedEvent.Type.ARCHIVED, Notice.builder().id(3L).build()));
+        assertTrue(noticeLeaderboard.getTop(3).isEmpty());
+    }
+
+    /**
+     * 게시 시작 전에 제외된 공지사항이 시작 이벤트에 진입하는지 테스트합니다.
+     */
+    @Test
+    void testActivatedNoticeEntersBoard() {
+        Notice scheduled = Notice.builder().id(4L).title("Notice 4").viewCount(40)
+                .startDateTime(LocalDateTime.now().plusMinutes(1)).build();
+        noticeLeaderboard.onNoticeChanged(new NoticeChangedEvent(NoticeChangedEvent.Type.CREATED, scheduled));
+        assertEquals(List.of(1L, 2L, 3L), noticeLeaderboard.getTop(3).stream().map(NoticeResponseDto::getId).toList());
+
+        Notice activated = Notice.builder().id(4L).title("Notice 4").viewCount(40)
+                .startDateTime(LocalDateTime.now().minusSeconds(1)).build();
+        when(noticeRepository.findById(4L)).thenReturn(Optional.of(activated));
+        noticeLeaderboard.onNoticeScheduled(new NoticeScheduleEvent(NoticeScheduleEvent.Type.ACTIVATED, 4L));
+
+        assertEquals(List.of(4L, 1L, 2L), noticeLeaderboard.getTop(3).stream().map(NoticeResponseDto::getId).toList());
+    }
+
+    /**
+     * 다음 순위가 모자라면 삭제한 스레드가 아닌 다시 적재에서 DB를 읽고, 그동안의 조회와 삭제를 유지하는지 테스트합니다.
+     */
+    @Test
+    void testRefillRunsInBackgroundAndKeepsConcurrentChanges() {
+        noticeLeaderboard.offer(entry(4L, 8));
+        noticeLeaderboard.offer(entry(5L, 6));
+        noticeLeaderboard.offer(entry(6L, 4));
+
+        noticeLeaderboard.remove(1L);
+        noticeLeaderboard.remove(2L);
+        noticeLeaderboard.remove(3L);
+
+        // 삭제한 스레드는 DB를 조회하지 않습니다.
+        verify(noticeRepository, times(1)).findPublishedOrderByViewCountDesc(any(LocalDateTime.class), any());
+        assertEquals(List.of(4L, 5L), noticeLeaderboard.getTop(3).stream().map(NoticeResponseDto::getId).toList());
+
+        when(noticeRepository.findPublishedOrderByViewCountDesc(any(LocalDateTime.class), eq(PageRequest.of(0, 5))))
+                .thenAnswer(invocation -> {
+                    // DB를 읽는 동안 조회수가 오른 공지사항과 삭제된 공지사항입니다.
+                    noticeLeaderboard.offer(entry(7L, 50));
+                    noticeLeaderboard.remove(9L);
+                    return List.of(notice(4L, 8), notice(5L, 6), notice(9L, 7), notice(8L, 5), notice(7L, 3));
+                });
+        noticeLeaderboard.refillIfRequested();
+
+        assertEquals(List.of(7L, 4L, 5L), noticeLeaderboard.getTop(3).stream().map(NoticeResponseDto::getId).toList());
+        assertEquals(50, noticeLeaderboard.getTop(1).get(0).getViewCount());
+
+        noticeLeaderboard.refillIfRequested();
+        verify(noticeRepository, times(2)).findPublishedOrderByViewCountDesc(any(LocalDateTime.class), any());
+    }
+
+    private static Notice notice(Long id, int viewCount) {
+        return Notice.builder().id(id).title("Notice " + id).viewCount(viewCount).build();
+    }
+
+    private static NoticeResponseDto entry(Long id, int viewCount) {
+        return NoticeResponseDto.builder().id(id).title("Notice " + id).viewCount(viewCount).build();
+    }
+}
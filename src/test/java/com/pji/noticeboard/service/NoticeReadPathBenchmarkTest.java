@@ -0,0 +1,107 @@
+package com.pji.noticeboard.service;
+
+import com.pji.noticeboard.entity.Notice;
+import com.pji.noticeboard.repository.NoticeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.IntSupplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 목록 조회 경로의 지연 시간과 힙 할당량을 비교하는 벤치마크입니다.
+ * 일반 테스트에서는 제외되며 {@code ./gradlew benchmark}로 실행합니다.
+ * 테스트 목록:
+ * 1. benchmarkListPage: 100개 목록 페이지를 읽기-쓰기 트랜잭션, 읽기 전용 트랜잭션, 요약 프로젝션으로 조회할 때를 비교.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class NoticeReadPathBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(NoticeReadPathBenchmarkTest.class);
+
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURED_ITERATIONS = 1000;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        noticeRepository.deleteAll();
+        LocalDateTime now = LocalDateTime.now();
+        noticeRepository.saveAll(IntStream.range(0, PAGE_SIZE * 5)
+                .mapToObj(i -> Notice.builder()
+                        .title("Notice " + i)
+                        .content("x".repeat(500))
+                        .createdDate(now.minusMinutes(i))
+                        .viewCount(i)
+                        .author("Author")
+                        .build())
+                .toList());
+    }
+
+    /**
+     * 100개 목록 페이지를 세 가지 방식으로 조회하여 호출당 평균 지연 시간과 할당 바이트를 기록합니다.
+     * 읽기 전용 트랜잭션은 엔티티 스냅샷과 커밋 시 flush를 생략하고, 요약 프로젝션은 엔티티를 만들지 않습니다.
+     * getAllNotices는 noticePages 캐시를 거치므로 세 경우 모두 리포지토리를 직접 호출하여 DB 조회 비용만 비교합니다.
+     */
+    @Test
+    void benchmarkListPage() {
+        Pageable page = PageRequest.of(0, PAGE_SIZE);
+
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        List<Result> results = List.of(
+                measure("entity, read-write", () -> readWrite.execute(status -> noticeRepository.findAll(page).getNumberOfElements())),
+                measure("entity, read-only", () -> readOnly.execute(status -> noticeRepository.findAll(page).getNumberOfElements())),
+                measure("summary projection", () -> readOnly.execute(status -> noticeRepository.findAllSummaries(LocalDateTime.now(), page).getNumberOfElements()))
+        );
+
+        results.forEach(result -> log.info("{}: {} us/op, {} KB/op",
+                result.name(), result.nanosPerOp() / 1_000, result.bytesPerOp() / 1_024));
+    }
+
+    private static Result measure(String name, IntSupplier operation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            assertEquals(PAGE_SIZE, operation.getAsInt());
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long startBytes = threadMXBean.getCurrentThreadAllocatedBytes();
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            operation.getAsInt();
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long allocatedBytes = threadMXBean.getCurrentThreadAllocatedBytes() - startBytes;
+
+        return new Result(name, elapsedNanos / MEASURED_ITERATIONS, allocatedBytes / MEASURED_ITERATIONS);
+    }
+
+    private record Result(String name, long nanosPerOp, long bytesPerOp) {
+    }
+}
@@ -0,0 +1,147 @@
+package com.pji.noticeboard.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * NoticeSearchIndex 단위 테스트 클래스입니다.
+ * 테스트 목록:
+ * 1. testKoreanAndEnglishTermsAreFound: 조사가 붙은 한글 단어와 대소문자가 다른 영문 단어를 찾는지 테스트.
+ * 2. testRankingPrefersTitleMatches: 제목에 검색어가 있는 공지사항이 본문에만 있는 공지사항보다 앞에 오는지 테스트.
+ * 3. testUpdatesAndRemovalsSurviveMerge: 수정과 삭제가 병합 전후 모두 검색 결과에 반영되는지 테스트.
+ * 4. testSnapshotRoundTripKeepsResults: 여러 블록에 걸친 포스팅을 저장했다가 읽어도 같은 결과를 반환하는지 테스트.
+ * 5. testQueryWithParticleIsFound: 조사가 붙은 검색어로 조사 없이 쓰인 공지사항을 찾는지 테스트.
+ * 6. testSpacingMismatchIsFound: 붙여 쓴 검색어로 띄어 쓴 공지사항을 찾고, 그대로 쓴 공지사항이 앞에 오는지 테스트.
+ */
+class NoticeSearchIndexTest {
+
+    /**
+     * 조사가 붙은 한글 단어와 대소문자가 다른 영문 단어를 찾는지 테스트합니다.
+     */
+    @Test
+    void testKoreanAndEnglishTermsAreFound() {
+        NoticeSearchIndex index = new NoticeSearchIndex();
+        index.add(1L, "시스템 점검 안내", "이번 주 공지사항을 꼭 확인하세요.");
+        index.add(2L, "Spring Boot 업그레이드", "서버 프레임워크를 올립니다.");
+        index.add(3L, "휴무 안내", "사무실이 쉽니다.");
+
+        assertEquals(List.of(1L), ids(index.search("공지사항", 10)));
+        assertEquals(List.of(2L), ids(index.search("spring", 10)));
+        assertEquals(List.of(2L), ids(index.search("BOOT 업그레이드", 10)));
+        assertTrue(index.search("공지사항 휴무", 10).isEmpty());
+        assertTrue(index.search("   ", 10).isEmpty());
+    }
+
+    /**
+     * 제목에 검색어가 있는 공지사항이 본문에만 있는 공지사항보다 앞에 오는지 테스트합니다.
+     */
+    @Test
+    void testRankingPrefersTitleMatches() {
+        NoticeSearchIndex index = new NoticeSearchIndex();
+        index.add(1L, "주간 회의", "다음 주 일정에 대한 보안 교육 안내입니다.");
+        index.add(2L, "보안 교육 일정", "다음 주에 진행합니다.");
+        index.add(3L, "식단표", "이번 주 식단입니다.");
+
+        assertEquals(List.of(2L, 1L), ids(index.search("보안 교육", 10)));
+        assertEquals(List.of(2L), ids(index.search("보안 교육", 1)));
+    }
+
+    /**
+     * 수정과 삭제가 병합 전후 모두 검색 결과에 반영되는지 테스트합니다.
+     */
+    @Test
+    void testUpdatesAndRemovalsSurviveMerge() {
+        NoticeSearchIndex index = new NoticeSearchIndex();
+        index.add(1L, "주차장 공사", "지하 주차장을 이용할 수 없습니다.");
+        index.add(2L, "엘리베이터 점검", "오후에 점검합니다.");
+        assertTrue(index.merge());
+
+        index.add(1L, "주차장 공사 완료", "지상 주차장을 다시 이용할 수 있습니다.");
+        assertTrue(index.remove(2L));
+        assertFalse(index.remove(2L));
+        index.add(3L, "엘리베이터 교체", "새 엘리베이터로 교체합니다.");
+
+        assertEquals(List.of(1L), ids(index.search("지상", 10)));
+        assertTrue(index.search("지하", 10).isEmpty());
+        assertEquals(List.of(3L), ids(index.search("엘리베이터", 10)));
+        assertEquals(2, index.documentCount());
+
+        assertTrue(index.merge());
+
+        assertEquals(0, index.pendingChanges());
+        assertEquals(List.of(1L), ids(index.search("지상", 10)));
+        assertTrue(index.search("지하", 10).isEmpty());
+        assertEquals(List.of(3L), ids(index.search("엘리베이터", 10)));
+        assertFalse(index.merge());
+    }
+
+    /**
+     * 여러 블록에 걸친 포스팅을 저장했다가 읽어도 같은 결과를 반환하는지 테스트합니다.
+     */
+    @Test
+    void testSnapshotRoundTripKeepsResults() throws IOException {
+        NoticeSearchIndex.Builder builder = new NoticeSearchIndex.Builder();
+        for (long id = 1; id <= 1000; id++) {
+            String content = id % 250 == 0 ? "정기 점검 결과 보고" : "정기 회의록 " + id;
+            builder.add(id, "공지 " + id, content);
+        }
+        NoticeSearchIndex index = builder.build();
+        index.remove(500L);
+
+        assertEquals(List.of(1000L, 750L, 250L), ids(index.search("정기 점검", 10)));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            index.writeTo(output);
+        }
+        NoticeSearchIndex restored = NoticeSearchIndex.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(999, restored.documentCount());
+        assertEquals(ids(index.search("정기 점검", 10)), ids(restored.search("정기 점검", 10)));
+        assertEquals(List.of(777L), ids(restored.search("회의록 777", 10)));
+    }
+
+    /**
+     * 조사가 붙은 검색어로 조사 없이 쓰인 공지사항을 찾는지 테스트합니다.
+     */
+    @Test
+    void testQueryWithParticleIsFound() {
+        NoticeSearchIndex index = new NoticeSearchIndex();
+        index.add(1L, "공지사항 안내", "게시판 이용 방법입니다.");
+        index.add(2L, "휴무 안내", "사무실이 쉽니다.");
+
+        assertEquals(List.of(1L), ids(index.search("공지사항을", 10)));
+        assertTrue(index.search("공지사항을 휴가", 10).isEmpty());
+
+        assertTrue(index.merge());
+        assertEquals(List.of(1L), ids(index.search("공지사항을", 10)));
+    }
+
+    /**
+     * 붙여 쓴 검색어로 띄어 쓴 공지사항을 찾고, 그대로 쓴 공지사항이 앞에 오는지 테스트합니다.
+     */
+    @Test
+    void testSpacingMismatchIsFound() {
+        NoticeSearchIndex index = new NoticeSearchIndex();
+        index.add(1L, "공지 사항 안내", "게시판 이용 방법입니다.");
+        index.add(2L, "공지사항 안내", "게시판 이용 방법입니다.");
+        index.add(3L, "사무실 이전", "다음 주에 이전합니다.");
+
+        assertEquals(List.of(2L, 1L), ids(index.search("공지사항", 10)));
+
+        assertTrue(index.merge());
+        assertEquals(List.of(2L, 1L), ids(index.search("공지사항", 10)));
+    }
+
+    private static List<Long> ids(List<NoticeSearchIndex.Hit> hits) {
+        return hits.stream().map(NoticeSearchIndex.Hit::id).toList();
+    }
+}
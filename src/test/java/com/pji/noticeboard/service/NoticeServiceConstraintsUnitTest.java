@@ -11,8 +11,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
@@ -22,6 +25,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
@@ -41,15 +45,38 @@ class NoticeServiceConstraintsUnitTest {
     @Mock
     private NoticeRepository noticeRepository;
 
+    @Mock
+    private NoticeDetailLoader noticeDetailLoader;
+
     @Mock
     private FileUtil fileUtil;
 
+    @Mock
+    private ViewCountService viewCountService;
+
+    @Mock
+    private NoticeLeaderboard noticeLeaderboard;
+
+    @Mock
+    private TrendingService trendingService;
+
+    @Mock
+    private TitleSuggester titleSuggester;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private NoticeService noticeService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
     }
 
     /**
@@ -126,7 +153,7 @@ class NoticeServiceConstraintsUnitTest {
                 .endDateTime(LocalDateTime.now().plusDays(1))
                 .build();
 
-        when(noticeRepository.findById(1L)).thenReturn(Optional.empty());
+        when(noticeRepository.findWithAttachmentsById(1L)).thenReturn(Optional.empty());
 
         assertThrows(ServiceException.class, () -> noticeService.updateNotice(1L, noticeUpdateDto, List.of()));
     }
@@ -4,6 +4,7 @@ import com.pji.noticeboard.config.SecurityConfig;
 import com.pji.noticeboard.dto.NoticeCreateDto;
 import com.pji.noticeboard.dto.NoticeDto;
 import com.pji.noticeboard.dto.NoticeResponseDto;
+import com.pji.noticeboard.dto.TrendingNoticeDto;
 import com.pji.noticeboard.dto.NoticeUpdateDto;
 import com.pji.noticeboard.entity.Notice;
 import com.pji.noticeboard.repository.NoticeRepository;
@@ -12,7 +13,6 @@ import org.junit.jupiter.api.Test;
 import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
@@ -23,9 +23,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Objects;
 
-import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -36,7 +34,8 @@ import static org.junit.jupiter.api.Assertions.*;
  * 3. integrationTestUpdateNotice: 공지사항을 업데이트하는 테스트.
  * 4. integrationTestDeleteNotice: 공지사항을 삭제하는 테스트.
  * 5. integrationTestGetTopNotices: 조회수 기준 상위 5개의 공지사항을 조회하는 테스트.
- * 6. integrationTestCacheable: getTopNotices 메서드의 캐시 기능을 테스트하는 테스트.
+ * 6. integrationTestTopNoticesReflectViews: 상세조회로 증가한 조회수가 상위 공지사항 순위에 즉시 반영되는지 테스트.
+ * 7. integrationTestGetTrendingNotices: 최근 조회수 기준 인기 급상승 공지사항을 조회하는 테스트.
  */
 @SpringBootTest
 @ActiveProfiles("test")
@@ -51,13 +50,15 @@ class NoticeServiceIntegrationTest {
     private NoticeService noticeService;
 
     @Autowired
-    private CacheManager cacheManager;
+    private NoticeLeaderboard noticeLeaderboard;
+
+    @Autowired
+    private TrendingService trendingService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
         noticeRepository.deleteAll();
-        Objects.requireNonNull(cacheManager.getCache("topNotices")).clear();
     }
 
     /**
@@ -190,8 +191,9 @@ class NoticeServiceIntegrationTest {
         );
 
         noticeRepository.saveAll(topNotices); // 데이터베이스에 저장
+        noticeLeaderboard.rebuild(); // 리포지토리로 직접 저장한 데이터를 리더보드에 적재
 
-        List<NoticeResponseDto> topNoticesDto = noticeService.getTopNotices();
+        List<NoticeResponseDto> topNoticesDto = noticeService.getTopNotices(5);
 
         assertNotNull(topNoticesDto);
         assertEquals(5, topNoticesDto.size());
@@ -199,16 +201,47 @@ class NoticeServiceIntegrationTest {
     }
 
     /**
-     * getTopNotices 메서드의 캐시 기능을 테스트합니다.
-     * 메서드를 두 번 호출하고 결과가 동일한지 확인하여 두 번째 호출이 캐시에서 반환되는지 검증합니다.
-     * 또한, 캐시가 null이 아닌지 확인하여 캐시가 활성화되어 있는지 확인합니다.
+     * 상세조회로 증가한 조회수가 상위 공지사항 순위에 즉시 반영되는지 테스트합니다.
+     * 조회수가 낮은 공지사항을 여러 번 조회한 뒤 DB 조회 없이 1위로 올라오는지 검증합니다.
+     */
+    @Test
+    @WithMockUser(username = "testUser")
+    void integrationTestTopNoticesReflectViews() {
+        Notice popular = noticeRepository.save(Notice.builder().title("Popular").viewCount(2).build());
+        Notice rising = noticeRepository.save(Notice.builder().title("Rising").viewCount(0).build());
+        noticeLeaderboard.rebuild();
+
+        for (int i = 0; i < 3; i++) {
+            noticeService.getNotice(rising.getId());
+        }
+
+        List<NoticeResponseDto> topNoticesDto = noticeService.getTopNotices(2);
+
+        assertEquals(2, topNoticesDto.size());
+        assertEquals("Rising", topNoticesDto.get(0).getTitle());
+        assertEquals(3, topNoticesDto.get(0).getViewCount());
+        assertEquals(popular.getId(), topNoticesDto.get(1).getId());
+    }
+
+    /**
+     * 최근 조회수 기준 인기 급상승 공지사항을 조회하는 테스트입니다.
+     * 누적 조회수가 높더라도 최근 조회가 없는 공지사항보다 최근에 조회된 공지사항이 먼저 반환되는지 검증합니다.
      */
     @Test
-    void integrationTestCacheable() {
-        List<NoticeResponseDto> topNotices1 = noticeService.getTopNotices();
-        List<NoticeResponseDto> topNotices2 = noticeService.getTopNotices();
+    @WithMockUser(username = "testUser")
+    void integrationTestGetTrendingNotices() {
+        Notice old = noticeRepository.save(Notice.builder().title("Old").viewCount(1000).build());
+        Notice fresh = noticeRepository.save(Notice.builder().title("Fresh").viewCount(0).build());
+
+        noticeService.getNotice(fresh.getId());
+        noticeService.getNotice(fresh.getId());
+        trendingService.refreshRankings();
+
+        List<TrendingNoticeDto> trending = noticeService.getTrendingNotices(TrendingWindow.HOUR, 10);
 
-        assertThat(topNotices1).isEqualTo(topNotices2);
-        assertThat(cacheManager.getCache("topNotices")).isNotNull();
+        assertEquals(1, trending.size());
+        assertEquals("Fresh", trending.get(0).getTitle());
+        assertEquals(2, trending.get(0).getRecentViewCount());
+        assertTrue(trending.stream().noneMatch(notice -> notice.getId().equals(old.getId())));
     }
-}
\ No newline at end of file
+}
@@ -4,8 +4,11 @@ import com.pji.noticeboard.config.SecurityConfig;
 import com.pji.noticeboard.dto.NoticeCreateDto;
 import com.pji.noticeboard.dto.NoticeDto;
 import com.pji.noticeboard.dto.NoticeResponseDto;
+import com.pji.noticeboard.dto.NoticeSummaryDto;
 import com.pji.noticeboard.dto.NoticeUpdateDto;
 import com.pji.noticeboard.entity.Notice;
+import com.pji.noticeboard.exception.ErrorCode;
+import com.pji.noticeboard.exception.InvalidNoticeException;
 import com.pji.noticeboard.repository.NoticeRepository;
 import com.pji.noticeboard.util.FileUtil;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,8 +17,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Import;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -24,6 +28,8 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -33,6 +39,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 /**
@@ -43,6 +50,9 @@ import static org.mockito.Mockito.*;
  * 3. unitTestUpdateNotice(): 공지사항을 업데이트하는 기능을 테스트.
  * 4. unitTestDeleteNotice(): 공지사항을 삭제하는 기능을 테스트.
  * 5. unitTestGetTopNotices(): 조회수 기준 상위 5개의 공지사항을 조회하는 기능을 테스트.
+ * 6. unitTestGetNoticeBeforeStart(): 게시 시작 전인 공지사항을 조회하면 예외가 발생하고 조회수가 오르지 않는지 테스트.
+ * 7. unitTestGetTrendingNoticesOverCapacity(): 기간별 순위 크기보다 많은 인기 급상승 공지사항을 요청하면 예외가 발생하는지 테스트.
+ * 8. unitTestSearchNoticesRefillsFilteredHits(): 검색 결과에서 삭제되었거나 게시 전인 공지사항이 빠지면 후보를 더 가져와 size를 채우는지 테스트.
  */
 @ExtendWith(MockitoExtension.class)
 @ActiveProfiles("test")
@@ -52,9 +62,33 @@ class NoticeServiceUnitTest {
     @Mock
     private NoticeRepository noticeRepository;
 
+    @Mock
+    private NoticeDetailLoader noticeDetailLoader;
+
     @Mock
     private FileUtil fileUtil;
 
+    @Mock
+    private ViewCountService viewCountService;
+
+    @Mock
+    private NoticeLeaderboard noticeLeaderboard;
+
+    @Mock
+    private TrendingService trendingService;
+
+    @Mock
+    private NoticeSearchService noticeSearchService;
+
+    @Mock
+    private TitleSuggester titleSuggester;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private NoticeService noticeService;
 
@@ -64,6 +98,8 @@ class NoticeServiceUnitTest {
         SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
         securityContext.setAuthentication(authentication);
         SecurityContextHolder.setContext(securityContext);
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
     }
 
     /**
@@ -73,7 +109,7 @@ class NoticeServiceUnitTest {
     @Test
     @WithMockUser(username = "testUser")
     void unitTestGetNotice() {
-        Notice notice = Notice.builder()
+        NoticeDto notice = NoticeDto.builder()
                 .id(1L)
                 .title("Test Title")
                 .content("Test Content")
@@ -84,13 +120,41 @@ class NoticeServiceUnitTest {
                 .author("Author")
                 .build();
 
-        when(noticeRepository.findById(1L)).thenReturn(Optional.of(notice));
+        when(noticeDetailLoader.load(1L)).thenReturn(notice);
+        when(viewCountService.recordView(1L, 0L)).thenReturn(1L);
 
         NoticeDto noticeDto = noticeService.getNotice(1L);
 
         assertNotNull(noticeDto);
         assertEquals("Test Title", noticeDto.getTitle());
         assertEquals(1, noticeDto.getViewCount());
+        assertEquals(0, notice.getViewCount());
+    }
+
+    /**
+     * 게시 시작 전인 공지사항을 조회하는 테스트.
+     * - 캐시에 미리 적재되어 있더라도 NOTICE_NOT_FOUND 예외가 발생하고 조회수와 순위 집계가 바뀌지 않는지 검증합니다.
+     */
+    @Test
+    void unitTestGetNoticeBeforeStart() {
+        NoticeDto notice = NoticeDto.builder()
+                .id(1L)
+                .title("Scheduled Title")
+                .content("Test Content")
+                .startDateTime(LocalDateTime.now().plusMinutes(1))
+                .endDateTime(LocalDateTime.now().plusDays(1))
+                .viewCount(0)
+                .createdDate(LocalDateTime.now())
+                .author("Author")
+                .build();
+
+        when(noticeDetailLoader.load(1L)).thenReturn(notice);
+
+        InvalidNoticeException exception = assertThrows(InvalidNoticeException.class, () -> noticeService.getNotice(1L));
+
+        assertEquals(ErrorCode.NOTICE_NOT_FOUND, exception.getErrorCode());
+        assertEquals(HttpStatus.NOT_FOUND, exception.getErrorCode().getStatus());
+        verifyNoInteractions(viewCountService, titleSuggester, trendingService, noticeLeaderboard);
     }
 
     /**
@@ -168,7 +232,7 @@ class NoticeServiceUnitTest {
                 new MockMultipartFile("file2", "file2.txt", MediaType.TEXT_PLAIN_VALUE, "Test File 2 Content".getBytes())
         );
 
-        when(noticeRepository.findById(1L)).thenReturn(Optional.of(existingNotice));
+        when(noticeRepository.findWithAttachmentsById(1L)).thenReturn(Optional.of(existingNotice));
         when(noticeRepository.save(any(Notice.class))).thenAnswer(invocation -> {
             Notice notice = invocation.getArgument(0);
             notice.setTitle(noticeUpdateDto.getTitle());
@@ -215,20 +279,57 @@ class NoticeServiceUnitTest {
     @Test
     @WithMockUser(username = "testUser")
     void unitTestGetTopNotices() {
-        List<Notice> topNotices = List.of(
-                Notice.builder().title("Notice 1").viewCount(100).build(),
-                Notice.builder().title("Notice 2").viewCount(80).build(),
-                Notice.builder().title("Notice 3").viewCount(60).build(),
-                Notice.builder().title("Notice 4").viewCount(40).build(),
-                Notice.builder().title("Notice 5").viewCount(20).build()
+        List<NoticeResponseDto> topNotices = List.of(
+                NoticeResponseDto.builder().title("Notice 1").viewCount(100).build(),
+                NoticeResponseDto.builder().title("Notice 2").viewCount(80).build(),
+                NoticeResponseDto.builder().title("Notice 3").viewCount(60).build(),
+                NoticeResponseDto.builder().title("Notice 4").viewCount(40).build(),
+                NoticeResponseDto.builder().title("Notice 5").viewCount(20).build()
         );
 
-        when(noticeRepository.findTop5ByOrderByViewCountDesc(PageRequest.of(0, 5))).thenReturn(topNotices);
+        when(noticeLeaderboard.getCapacity()).thenReturn(100);
+        when(noticeLeaderboard.getTop(5)).thenReturn(topNotices);
 
-        List<NoticeResponseDto> topNoticesDto = noticeService.getTopNotices();
+        List<NoticeResponseDto> topNoticesDto = noticeService.getTopNotices(5);
 
         assertNotNull(topNoticesDto);
         assertEquals(5, topNoticesDto.size());
         assertEquals("Notice 1", topNoticesDto.get(0).getTitle());
     }
+
+    /**
+     * 기간별 순위 크기보다 많은 인기 급상승 공지사항을 요청하면 목록을 줄여 반환하지 않고 예외가 발생하는지 테스트합니다.
+     */
+    @Test
+    void unitTestGetTrendingNoticesOverCapacity() {
+        when(trendingService.getCapacity()).thenReturn(10);
+
+        InvalidNoticeException exception = assertThrows(InvalidNoticeException.class,
+                () -> noticeService.getTrendingNotices(TrendingWindow.DAY, 11));
+
+        assertEquals(ErrorCode.INVALID_PARAMETER, exception.getErrorCode());
+        verify(trendingService, never()).getTrending(any(), anyInt());
+    }
+
+    /**
+     * 검색 색인에는 남아 있지만 삭제되었거나 게시 전인 공지사항이 빠져 결과가 모자라면, 후보를 더 가져와 size를 채우는지 테스트합니다.
+     */
+    @Test
+    void unitTestSearchNoticesRefillsFilteredHits() {
+        when(noticeSearchService.search("공지", 4)).thenReturn(List.of(1L, 2L, 3L, 4L));
+        when(noticeSearchService.search("공지", 8)).thenReturn(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L));
+        when(noticeRepository.findSummariesByIdIn(eq(List.of(1L, 2L, 3L, 4L)), any()))
+                .thenReturn(List.of(summary(1L)));
+        when(noticeRepository.findSummariesByIdIn(eq(List.of(5L, 6L, 7L, 8L)), any()))
+                .thenReturn(List.of(summary(6L), summary(8L)));
+
+        List<NoticeSummaryDto> results = noticeService.searchNotices("공지", 2);
+
+        assertEquals(List.of(1L, 6L), results.stream().map(NoticeSummaryDto::getId).toList());
+        verify(noticeSearchService, never()).search("공지", 16);
+    }
+
+    private static NoticeSummaryDto summary(Long id) {
+        return NoticeSummaryDto.builder().id(id).title("공지 " + id).build();
+    }
 }
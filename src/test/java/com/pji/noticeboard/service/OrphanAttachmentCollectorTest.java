@@ -0,0 +1,129 @@
+package com.pji.noticeboard.service;
+
+import com.pji.noticeboard.config.AttachmentGcProperties;
+import com.pji.noticeboard.config.FileUploadProperties;
+import com.pji.noticeboard.repository.NoticeRepository;
+import com.pji.noticeboard.util.FileIoExecutor;
+import com.pji.noticeboard.util.FileUtil;
+import com.pji.noticeboard.util.LocalAttachmentStorage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+/**
+ * OrphanAttachmentCollector 단위 테스트 클래스입니다.
+ * 테스트 목록:
+ * 1. testDeletesOnlyStaleUnreferencedFiles: 참조되지 않고 유예 기간이 지난 파일만 삭제하고 회수량을 기록하는지 테스트.
+ * 2. testCursorResumesAcrossRuns: 한 번에 batch-size개씩 검사하고 다음 실행에서 커서부터 이어가는지 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrphanAttachmentCollectorTest {
+
+    @TempDir
+    Path basePath;
+
+    @Mock
+    private NoticeRepository noticeRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private FileIoExecutor fileIoExecutor;
+    private AttachmentGcProperties attachmentGcProperties;
+    private OrphanAttachmentCollector orphanAttachmentCollector;
+
+    @BeforeEach
+    void setUp() {
+        FileUploadProperties fileUploadProperties = new FileUploadProperties();
+        fileUploadProperties.setBasePath(basePath.toString());
+        fileUploadProperties.setOrphanGracePeriod(Duration.ofMinutes(10));
+        fileUploadProperties.setUploadSessionTtl(Duration.ofMinutes(30));
+        attachmentGcProperties = new AttachmentGcProperties();
+
+        meterRegistry = new SimpleMeterRegistry();
+        fileIoExecutor = new FileIoExecutor(fileUploadProperties, meterRegistry);
+        LocalAttachmentStorage attachmentStorage = new LocalAttachmentStorage(fileUploadProperties);
+        FileUtil fileUtil = new FileUtil(fileUploadProperties, fileIoExecutor, attachmentStorage);
+        orphanAttachmentCollector = new OrphanAttachmentCollector(noticeRepository, fileUtil, attachmentStorage, fileUploadProperties,
+                attachmentGcProperties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        orphanAttachmentCollector.shutdown();
+        fileIoExecutor.shutdown();
+    }
+
+    /**
+     * 참조되지 않고 유예 기간이 지난 파일만 삭제하고 회수량을 기록하는지 테스트합니다.
+     */
+    @Test
+    void testDeletesOnlyStaleUnreferencedFiles() throws IOException {
+        Path referenced = createFile("cas/aa/aa11.txt", "referenced", Duration.ofHours(1));
+        Path orphan = createFile("cas/bb/bb22.txt", "orphan", Duration.ofHours(1));
+        Path recent = createFile("cas/cc/cc33.txt", "recent", Duration.ZERO);
+        Path abandoned = createFile("cas/tmp/upload-1.part", "abandoned", Duration.ofHours(1));
+        Path uploading = createFile("cas/tmp/upload-2.part", "uploading", Duration.ofMinutes(20));
+        when(noticeRepository.findReferencedAttachmentPaths(anyCollection()))
+                .thenReturn(List.of(basePath.relativize(referenced).toString()));
+
+        int deleted = orphanAttachmentCollector.runOnce();
+
+        assertEquals(2, deleted);
+        assertTrue(Files.exists(referenced));
+        assertFalse(Files.exists(orphan));
+        assertTrue(Files.exists(recent));
+        assertFalse(Files.exists(abandoned));
+        assertTrue(Files.exists(uploading));
+        assertEquals("orphan".length() + "abandoned".length(),
+                meterRegistry.get("attachment.gc.reclaimed").counter().count());
+        assertEquals(1L, orphanAttachmentCollector.getStatus().get("completedPasses"));
+    }
+
+    /**
+     * 한 번에 batch-size개씩 검사하고 다음 실행에서 커서부터 이어가는지 테스트합니다.
+     */
+    @Test
+    void testCursorResumesAcrossRuns() throws IOException {
+        attachmentGcProperties.setBatchSize(2);
+        createFile("cas/aa/aa11.txt", "1", Duration.ofHours(1));
+        createFile("cas/aa/aa22.txt", "2", Duration.ofHours(1));
+        createFile("cas/bb/bb11.txt", "3", Duration.ofHours(1));
+        when(noticeRepository.findReferencedAttachmentPaths(anyCollection()))
+                .thenAnswer(invocation -> List.copyOf(invocation.<Collection<String>>getArgument(0)));
+
+        orphanAttachmentCollector.runOnce();
+        assertEquals("cas/aa/aa22.txt", orphanAttachmentCollector.getStatus().get("cursor"));
+        assertEquals(0L, orphanAttachmentCollector.getStatus().get("completedPasses"));
+
+        orphanAttachmentCollector.runOnce();
+        assertNull(orphanAttachmentCollector.getStatus().get("cursor"));
+        assertEquals(1L, orphanAttachmentCollector.getStatus().get("completedPasses"));
+        assertEquals(3L, orphanAttachmentCollector.getStatus().get("scannedFiles"));
+        assertEquals(0L, orphanAttachmentCollector.getStatus().get("deletedFiles"));
+    }
+
+    private Path createFile(String path, String content, Duration age) throws IOException {
+        Path file = basePath.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(age)));
+        return file;
+    }
+}
@@ -0,0 +1,107 @@
+package com.pji.noticeboard.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TitlePrefixIndex 단위 테스트 클래스입니다.
+ * 테스트 목록:
+ * 1. testPartialHangulSyllablesMatch: 조합 중인 한글과 대소문자가 다른 영문 접두어로 제목을 찾는지 테스트.
+ * 2. testSuggestionsAreOrderedByWeight: 접두어에 해당하는 제목이 가중치 순으로 limit개만 반환되는지 테스트.
+ * 3. testChangesSurviveCompaction: 제목 변경, 삭제, 가중치 변경이 합치기 전후 모두 반영되는지 테스트.
+ * 4. testTopSuggestionsFromLargeRange: 넓은 접두어 구간에서도 가중치 상위 제목을 정확히 고르는지 테스트.
+ */
+class TitlePrefixIndexTest {
+
+    /**
+     * 조합 중인 한글과 대소문자가 다른 영문 접두어로 제목을 찾는지 테스트합니다.
+     */
+    @Test
+    void testPartialHangulSyllablesMatch() {
+        TitlePrefixIndex index = TitlePrefixIndex.of(List.of(
+                new TitlePrefixIndex.Suggestion(1L, "공지사항 안내", 0),
+                new TitlePrefixIndex.Suggestion(2L, "고요한 밤", 0),
+                new TitlePrefixIndex.Suggestion(3L, "Spring Boot 업그레이드", 0),
+                new TitlePrefixIndex.Suggestion(4L, "괜찮은 점심", 0)));
+
+        assertEquals(List.of(1L), ids(index.suggest("공ㅈ", 10)));
+        assertEquals(List.of(2L, 1L), ids(index.suggest("공", 10)));
+        assertEquals(List.of(3L), ids(index.suggest("spring  b", 10)));
+        assertEquals(List.of(4L), ids(index.suggest("고ㅐ", 10)));
+        assertEquals(List.of(4L), ids(index.suggest("ㄱㅙ", 10)));
+        assertTrue(index.suggest("안내", 10).isEmpty());
+        assertTrue(index.suggest("  ", 10).isEmpty());
+    }
+
+    /**
+     * 접두어에 해당하는 제목이 가중치 순으로 limit개만 반환되는지 테스트합니다.
+     */
+    @Test
+    void testSuggestionsAreOrderedByWeight() {
+        TitlePrefixIndex index = TitlePrefixIndex.of(List.of(
+                new TitlePrefixIndex.Suggestion(1L, "점검 안내", 5),
+                new TitlePrefixIndex.Suggestion(2L, "점심 메뉴", 30),
+                new TitlePrefixIndex.Suggestion(3L, "점검 결과", 30),
+                new TitlePrefixIndex.Suggestion(4L, "정기 회의", 100)));
+
+        assertEquals(List.of(3L, 2L, 1L), ids(index.suggest("점", 10)));
+        assertEquals(List.of(4L, 3L), ids(index.suggest("저", 2)));
+    }
+
+    /**
+     * 제목 변경, 삭제, 가중치 변경이 합치기 전후 모두 반영되는지 테스트합니다.
+     */
+    @Test
+    void testChangesSurviveCompaction() {
+        TitlePrefixIndex index = TitlePrefixIndex.of(List.of(
+                new TitlePrefixIndex.Suggestion(1L, "주차장 공사", 10),
+                new TitlePrefixIndex.Suggestion(2L, "주간 회의", 20),
+                new TitlePrefixIndex.Suggestion(3L, "엘리베이터 점검", 30)));
+
+        index.put(1L, "지상 주차장 개방", 10);
+        index.remove(3L);
+        index.put(4L, "주말 근무", 5);
+        index.updateWeight(4L, 50);
+        index.updateWeight(2L, 1);
+        index.applyWeights();
+
+        assertEquals(List.of(4L, 2L), ids(index.suggest("주", 10)));
+        assertEquals(List.of(1L), ids(index.suggest("지상", 10)));
+        assertTrue(index.suggest("엘리", 10).isEmpty());
+        assertEquals(3, index.size());
+
+        index.compact();
+
+        assertEquals(0, index.overlaySize());
+        assertEquals(List.of(4L, 2L), ids(index.suggest("주", 10)));
+        assertEquals(List.of(1L), ids(index.suggest("지상", 10)));
+        assertTrue(index.suggest("엘리", 10).isEmpty());
+        assertEquals(3, index.size());
+    }
+
+    /**
+     * 넓은 접두어 구간에서도 가중치 상위 제목을 정확히 고르는지 테스트합니다.
+     */
+    @Test
+    void testTopSuggestionsFromLargeRange() {
+        List<TitlePrefixIndex.Suggestion> titles = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            titles.add(new TitlePrefixIndex.Suggestion(id, "회의록 " + id, id * 7 % 1000));
+        }
+        titles.add(new TitlePrefixIndex.Suggestion(1001L, "휴가 안내", 5000));
+        TitlePrefixIndex index = TitlePrefixIndex.of(titles);
+        index.updateWeight(1L, 2000);
+        index.applyWeights();
+
+        assertEquals(List.of(1L, 857L, 714L), ids(index.suggest("회의록", 3)));
+        assertEquals(List.of(1001L, 1L), ids(index.suggest("ㅎ", 2)));
+    }
+
+    private static List<Long> ids(List<TitlePrefixIndex.Suggestion> suggestions) {
+        return suggestions.stream().map(TitlePrefixIndex.Suggestion::id).toList();
+    }
+}
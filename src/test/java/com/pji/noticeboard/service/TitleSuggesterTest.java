@@ -0,0 +1,53 @@
+package com.pji.noticeboard.service;
+
+import com.pji.noticeboard.config.SuggestProperties;
+import com.pji.noticeboard.dto.NoticeSuggestionDto;
+import com.pji.noticeboard.event.NoticeScheduleEvent;
+import com.pji.noticeboard.repository.NoticeRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * TitleSuggester 단위 테스트 클래스입니다.
+ * 테스트 목록:
+ * 1. testExpiredNoticeIsRemovedFromSuggestions: 게시 종료 이벤트를 받으면 DB를 조회하지 않고 제목을 추천에서 제거하는지 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+class TitleSuggesterTest {
+
+    @Mock
+    private NoticeRepository noticeRepository;
+
+    @Mock
+    private ViewCountService viewCountService;
+
+    /**
+     * 게시 종료 이벤트를 받으면 DB를 조회하지 않고 제목을 추천에서 제거하는지 테스트합니다.
+     */
+    @Test
+    void testExpiredNoticeIsRemovedFromSuggestions() {
+        when(noticeRepository.findSuggestionsAfter(anyLong(), any(), any())).thenReturn(List.of(
+                new NoticeSuggestionDto(1L, "공지사항 점검 안내", 10),
+                new NoticeSuggestionDto(2L, "공지사항 휴무 안내", 5)));
+        TitleSuggester titleSuggester = new TitleSuggester(noticeRepository, viewCountService, new SuggestProperties());
+        titleSuggester.reload();
+
+        titleSuggester.onNoticeScheduled(new NoticeScheduleEvent(NoticeScheduleEvent.Type.EXPIRED, 1L));
+
+        assertEquals(List.of(2L), titleSuggester.suggest("공지", 10).stream()
+                .map(NoticeSuggestionDto::getId)
+                .toList());
+        verify(noticeRepository, never()).findById(any());
+    }
+}
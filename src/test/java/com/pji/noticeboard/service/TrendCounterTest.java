@@ -0,0 +1,85 @@
+package com.pji.noticeboard.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TrendCounter 단위 테스트 클래스입니다.
+ * 테스트 목록:
+ * 1. testSumWithinWindows: 기록한 조회가 모든 집계 기간에 합산되는지 테스트.
+ * 2. testOldBucketsSlideOut: 집계 기간이 지난 버킷이 합계에서 빠지는지 테스트.
+ * 3. testSerializationRoundTrip: 직렬화 후 복원한 카운터가 같은 합계를 반환하는지 테스트.
+ * 4. testHeatFavorsRecentViews: 조회 수가 같으면 최근에 조회된 카운터의 점수가 더 높은지 테스트.
+ */
+class TrendCounterTest {
+
+    private static final long START = Duration.ofDays(20_000).toMillis();
+
+    /**
+     * 기록한 조회가 모든 집계 기간에 합산되는지 테스트합니다.
+     */
+    @Test
+    void testSumWithinWindows() {
+        TrendCounter counter = new TrendCounter();
+        counter.increment(START);
+        counter.increment(START + Duration.ofMinutes(10).toMillis());
+
+        long now = START + Duration.ofMinutes(20).toMillis();
+        assertEquals(2, counter.sum(TrendingWindow.HOUR, now));
+        assertEquals(2, counter.sum(TrendingWindow.DAY, now));
+        assertEquals(2, counter.sum(TrendingWindow.WEEK, now));
+    }
+
+    /**
+     * 집계 기간이 지난 버킷이 합계에서 빠지는지 테스트합니다.
+     */
+    @Test
+    void testOldBucketsSlideOut() {
+        TrendCounter counter = new TrendCounter();
+        counter.increment(START);
+
+        long twoHoursLater = START + Duration.ofHours(2).toMillis();
+        assertEquals(0, counter.sum(TrendingWindow.HOUR, twoHoursLater));
+        assertEquals(1, counter.sum(TrendingWindow.DAY, twoHoursLater));
+
+        long eightDaysLater = START + Duration.ofDays(8).toMillis();
+        assertEquals(0, counter.sum(TrendingWindow.WEEK, eightDaysLater));
+        assertTrue(counter.isIdle(eightDaysLater));
+    }
+
+    /**
+     * 직렬화 후 복원한 카운터가 같은 합계를 반환하는지 테스트합니다.
+     */
+    @Test
+    void testSerializationRoundTrip() {
+        TrendCounter counter = new TrendCounter();
+        counter.increment(START);
+        counter.increment(START + Duration.ofHours(3).toMillis());
+
+        TrendCounter restored = TrendCounter.fromBytes(counter.toBytes());
+
+        long now = START + Duration.ofHours(4).toMillis();
+        assertEquals(counter.sum(TrendingWindow.DAY, now), restored.sum(TrendingWindow.DAY, now));
+        assertEquals(2, restored.sum(TrendingWindow.DAY, now));
+        assertThrows(IllegalArgumentException.class, () -> TrendCounter.fromBytes(new byte[3]));
+    }
+
+    /**
+     * 조회 수가 같으면 최근에 조회된 카운터의 점수가 더 높은지 테스트합니다.
+     */
+    @Test
+    void testHeatFavorsRecentViews() {
+        TrendCounter old = new TrendCounter();
+        old.increment(START);
+        TrendCounter recent = new TrendCounter();
+        recent.increment(START + Duration.ofDays(3).toMillis());
+
+        long now = START + Duration.ofDays(3).plusMinutes(10).toMillis();
+        assertTrue(recent.heat(now) > old.heat(now));
+        assertEquals(1, old.sum(TrendingWindow.WEEK, now));
+        assertEquals(0, old.heat(START + Duration.ofDays(8).toMillis()));
+    }
+}
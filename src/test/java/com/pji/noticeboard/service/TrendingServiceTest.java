@@ -0,0 +1,86 @@
+package com.pji.noticeboard.service;
+
+import com.pji.noticeboard.config.TrendingProperties;
+import com.pji.noticeboard.dto.TrendingNoticeDto;
+import com.pji.noticeboard.entity.Notice;
+import com.pji.noticeboard.repository.NoticeRepository;
+import com.pji.noticeboard.repository.NoticeTrendRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+/**
+ * TrendingService 단위 테스트 클래스입니다.
+ * 테스트 목록:
+ * 1. testNewNoticeEvictsColdestCounter: 추적 상한에 도달하면 새 공지사항이 가장 식은 카운터를 밀어내고 집계되는지 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+class TrendingServiceTest {
+
+    @Mock
+    private NoticeRepository noticeRepository;
+
+    @Mock
+    private NoticeTrendRepository noticeTrendRepository;
+
+    @Mock
+    private ViewCountService viewCountService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private TrendingService trendingService;
+
+    @BeforeEach
+    void setUp() {
+        TrendingProperties trendingProperties = new TrendingProperties();
+        trendingProperties.setMaxTracked(2);
+        trendingService = new TrendingService(noticeRepository, noticeTrendRepository, viewCountService,
+                trendingProperties, transactionTemplate);
+    }
+
+    /**
+     * 추적 상한에 도달하면 새 공지사항이 기록되지 않고 버려지는 대신, 점수가 가장 낮은 카운터를 밀어내고 집계되는지 테스트합니다.
+     */
+    @Test
+    void testNewNoticeEvictsColdestCounter() {
+        when(noticeRepository.findByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(this::notice).toList();
+        });
+
+        trendingService.recordView(1L);
+        trendingService.recordView(1L);
+        trendingService.recordView(1L);
+        trendingService.recordView(2L);
+        trendingService.recordView(3L);
+        trendingService.recordView(3L);
+        trendingService.refreshRankings();
+
+        List<Long> ids = trendingService.getTrending(TrendingWindow.HOUR, 10).stream()
+                .map(TrendingNoticeDto::getId)
+                .toList();
+        assertEquals(List.of(1L, 3L), ids);
+    }
+
+    private Notice notice(Long id) {
+        return Notice.builder()
+                .id(id)
+                .title("Notice " + id)
+                .content("Content")
+                .author("author")
+                .createdDate(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,141 @@
+package com.pji.noticeboard.service;
+
+import com.pji.noticeboard.config.ViewCountProperties;
+import com.pji.noticeboard.entity.Notice;
+import com.pji.noticeboard.event.NoticeChangedEvent;
+import com.pji.noticeboard.repository.NoticeViewCountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+/**
+ * ViewCountService 단위 테스트 클래스입니다.
+ * 테스트 목록:
+ * 1. testRecordViewReturnsCurrentCount: 조회 기록 시 DB 조회수에 누적 조회수가 더해지는지 테스트.
+ * 2. testFlushBatchesPendingDeltas: flush 시 공지사항별 증가분이 한 번에 반영되는지 테스트.
+ * 3. testFlushRestoresPendingOnFailure: 반영 실패 시 증가분이 다음 flush로 이월되는지 테스트.
+ * 4. testIdleCountersAreEvictedAfterFlush: 반영이 끝난 유휴 카운터가 제거되고 다음 조회는 DB 조회수에서 다시 시작하는지 테스트.
+ * 5. testCounterIsRemovedOnlyForDeletedNotices: 삭제 이벤트에서만 카운터가 제거되고 수정, 보관 이벤트에서는 유지되는지 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+class ViewCountServiceTest {
+
+    @Mock
+    private NoticeViewCountRepository noticeViewCountRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private ViewCountProperties viewCountProperties = new ViewCountProperties();
+
+    @InjectMocks
+    private ViewCountService viewCountService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    /**
+     * 조회 기록 시 DB 조회수에 누적 조회수가 더해지는지 테스트합니다.
+     */
+    @Test
+    void testRecordViewReturnsCurrentCount() {
+        assertEquals(11, viewCountService.recordView(1L, 10));
+        assertEquals(12, viewCountService.recordView(1L, 10));
+        assertEquals(12, viewCountService.getCurrentCount(1L, 10));
+        assertEquals(5, viewCountService.getCurrentCount(2L, 5));
+    }
+
+    /**
+     * flush 시 공지사항별 증가분이 한 번에 반영되는지 테스트합니다.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFlushBatchesPendingDeltas() {
+        viewCountService.recordView(1L, 0);
+        viewCountService.recordView(1L, 0);
+        viewCountService.recordView(2L, 0);
+
+        viewCountService.flush();
+        viewCountService.flush();
+
+        ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(noticeViewCountRepository, times(1)).addViewCounts(captor.capture());
+        assertEquals(Map.of(1L, 2L, 2L, 1L), captor.getValue());
+    }
+
+    /**
+     * 반영 실패 시 증가분이 다음 flush로 이월되는지 테스트합니다.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFlushRestoresPendingOnFailure() {
+        viewCountService.recordView(1L, 0);
+        when(noticeViewCountRepository.addViewCounts(anyMap()))
+                .thenThrow(new IllegalStateException("DB unavailable"))
+                .thenReturn(new int[]{1});
+
+        viewCountService.flush();
+        viewCountService.recordView(1L, 0);
+        viewCountService.flush();
+
+        ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(noticeViewCountRepository, times(2)).addViewCounts(captor.capture());
+        assertEquals(Map.of(1L, 2L), captor.getValue());
+    }
+
+    /**
+     * 반영이 끝난 유휴 카운터가 제거되고 다음 조회는 DB 조회수에서 다시 시작하는지 테스트합니다.
+     */
+    @Test
+    void testIdleCountersAreEvictedAfterFlush() {
+        viewCountProperties.setIdleTimeout(Duration.ofMinutes(30));
+        viewCountService.recordView(1L, 10);
+        viewCountService.flush();
+        assertEquals(11, viewCountService.getCurrentCount(1L, 10));
+
+        viewCountProperties.setIdleTimeout(Duration.ZERO);
+        viewCountService.flush();
+        assertEquals(11, viewCountService.getCurrentCount(1L, 11));
+        assertEquals(7, viewCountService.getCurrentCount(1L, 7));
+        assertEquals(12, viewCountService.recordView(1L, 11));
+    }
+
+    /**
+     * 삭제 이벤트에서만 카운터가 제거되고 수정, 보관 이벤트에서는 유지되는지 테스트합니다.
+     */
+    @Test
+    void testCounterIsRemovedOnlyForDeletedNotices() {
+        viewCountService.recordView(1L, 10);
+        Notice notice = Notice.builder().id(1L).build();
+
+        viewCountService.onNoticeChanged(new NoticeChangedEvent(NoticeChangedEvent.Type.UPDATED, notice));
+        viewCountService.onNoticeChanged(new NoticeChangedEvent(NoticeChangedEvent.Type.ARCHIVED, notice));
+        assertEquals(11, viewCountService.getCurrentCount(1L, 10));
+
+        viewCountService.onNoticeChanged(new NoticeChangedEvent(NoticeChangedEvent.Type.DELETED, notice));
+        assertEquals(10, viewCountService.getCurrentCount(1L, 10));
+    }
+}
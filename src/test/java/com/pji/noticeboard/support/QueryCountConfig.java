@@ -0,0 +1,19 @@
+package com.pji.noticeboard.support;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * QueryCounter를 Hibernate StatementInspector로 등록하는 테스트 설정입니다.
+ * 쿼리 수를 검증하는 테스트 클래스에서 {@code @Import(QueryCountConfig.class)}로 사용합니다.
+ */
+@TestConfiguration
+public class QueryCountConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCounter());
+    }
+}
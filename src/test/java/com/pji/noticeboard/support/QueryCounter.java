@@ -0,0 +1,47 @@
+package com.pji.noticeboard.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 테스트 중 Hibernate가 실행하는 SQL 문 수를 스레드별로 셉니다.
+ * MockMvc 요청은 테스트 스레드에서 처리되므로 스케줄러 등 다른 스레드의 쿼리는 집계되지 않습니다.
+ */
+public class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<Integer> COUNT = ThreadLocal.withInitial(() -> 0);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.set(COUNT.get() + 1);
+        return sql;
+    }
+
+    public static void reset() {
+        COUNT.set(0);
+    }
+
+    public static int count() {
+        return COUNT.get();
+    }
+
+    /**
+     * 작업을 실행하고, 실행된 SQL 문 수가 예산을 넘으면 테스트를 실패시킵니다.
+     *
+     * @param budget 허용하는 최대 SQL 문 수
+     * @param action 측정할 작업
+     */
+    public static void assertWithinBudget(int budget, Action action) throws Exception {
+        reset();
+        action.run();
+        int executed = count();
+        assertTrue(executed <= budget,
+                () -> String.format("Expected at most %d statements but %d were executed", budget, executed));
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+}
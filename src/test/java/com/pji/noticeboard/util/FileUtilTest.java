@@ -0,0 +1,290 @@
+package com.pji.noticeboard.util;
+
+import com.pji.noticeboard.config.FileUploadProperties;
+import com.pji.noticeboard.exception.ErrorCode;
+import com.pji.noticeboard.exception.ServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FileUtil 단위 테스트 클래스입니다.
+ * 테스트 목록:
+ * 1. testProcessFilesSavesAllInOrder: 여러 파일을 동시에 저장하고 요청 순서대로 경로를 반환하는지 테스트.
+ * 2. testProcessFilesCleansUpOnFailure: 하나라도 실패하면 새로 저장된 파일을 모두 삭제하는지 테스트.
+ * 3. testProcessFilesKeepsFilesReusedByOtherUploads: 실패한 요청이 기록한 파일이라도 그 사이 다른 요청이 재사용했으면 남기는지 테스트.
+ * 4. testDuplicateContentIsStoredOnce: 같은 내용의 파일은 한 번만 저장되고 같은 경로를 공유하는지 테스트.
+ * 5. testDeleteIfStaleHonorsGracePeriod: 유예 기간 안에 재사용된 파일은 삭제하지 않는지 테스트.
+ * 6. testReuseRestoresContentDeletedAfterExistenceCheck: 재사용하려던 파일이 존재 확인 직후 삭제되면 다시 저장하는지 테스트.
+ * 7. testConcurrentUploadsShareBoundedBufferPool: 버퍼 풀보다 많은 업로드가 동시에 들어와도 버퍼를 나누어 쓰지 않고 모두 저장되는지 테스트.
+ * 8. testSlowUploadDoesNotHoldBuffer: 요청 본문을 기다리는 업로드가 버퍼를 붙잡지 않아 다른 업로드가 저장되는지 테스트.
+ */
+class FileUtilTest {
+
+    @TempDir
+    Path basePath;
+
+    private FileUploadProperties fileUploadProperties;
+    private FileIoExecutor fileIoExecutor;
+    private FileUtil fileUtil;
+
+    @BeforeEach
+    void setUp() {
+        fileUploadProperties = new FileUploadProperties();
+        fileUploadProperties.setBasePath(basePath.toString());
+        fileUploadProperties.setMaxFiles(5);
+        fileUploadProperties.setIoThreads(2);
+
+        fileIoExecutor = new FileIoExecutor(fileUploadProperties, new SimpleMeterRegistry());
+        fileUtil = new FileUtil(fileUploadProperties, fileIoExecutor, new LocalAttachmentStorage(fileUploadProperties));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        fileIoExecutor.shutdown();
+    }
+
+    /**
+     * 여러 파일을 동시에 저장하고 요청 순서대로 경로를 반환하는지 테스트합니다.
+     */
+    @Test
+    void testProcessFilesSavesAllInOrder() throws IOException {
+        List<MultipartFile> files = List.of(
+                new MockMultipartFile("files", "first.txt", "text/plain", "first".getBytes()),
+                new MockMultipartFile("files", "second.txt", "text/plain", "second".getBytes()),
+                new MockMultipartFile("files", "third.txt", "text/plain", "third".getBytes())
+        );
+
+        List<String> paths = fileUtil.processFiles(files, "Title");
+
+        assertEquals(3, paths.size());
+        assertEquals("first", Files.readString(basePath.resolve(paths.get(0))));
+        assertEquals("second", Files.readString(basePath.resolve(paths.get(1))));
+        assertEquals("third", Files.readString(basePath.resolve(paths.get(2))));
+    }
+
+    /**
+     * 하나라도 실패하면 새로 저장된 파일을 모두 삭제하는지 테스트합니다.
+     * 이미 저장되어 있던 내용을 재사용한 파일은 삭제하지 않아야 합니다.
+     */
+    @Test
+    void testProcessFilesCleansUpOnFailure() throws IOException {
+        String existing = fileUtil.saveStream(new ByteArrayInputStream("existing".getBytes()), "existing.txt", -1);
+        List<MultipartFile> files = List.of(
+                new MockMultipartFile("files", "first.txt", "text/plain", "first".getBytes()),
+                new MockMultipartFile("files", "invalid.exe", "application/octet-stream", "binary".getBytes()),
+                new MockMultipartFile("files", "third.txt", "text/plain", "existing".getBytes())
+        );
+
+        ServiceException exception = assertThrows(ServiceException.class, () -> fileUtil.processFiles(files, "Title"));
+        assertEquals(ErrorCode.INVALID_FILE_PROVIDED, exception.getErrorCode());
+        assertEquals(1, countStoredFiles());
+        assertTrue(Files.exists(basePath.resolve(existing)));
+
+        assertTrue(fileUtil.processFiles(null, "Title").isEmpty());
+    }
+
+    /**
+     * 실패한 요청이 기록한 파일이라도 그 사이 다른 요청이 재사용했으면 남기는지 테스트합니다.
+     */
+    @Test
+    void testProcessFilesKeepsFilesReusedByOtherUploads() throws Exception {
+        CountDownLatch releaseFailure = new CountDownLatch(1);
+        MultipartFile failing = new MockMultipartFile("files", "failing.txt", "text/plain", "failing".getBytes()) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                try {
+                    releaseFailure.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IOException("Connection reset");
+            }
+        };
+        List<MultipartFile> files = List.of(
+                new MockMultipartFile("files", "shared.txt", "text/plain", "shared".getBytes()),
+                failing
+        );
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<String>> upload = executor.submit(() -> fileUtil.processFiles(files, "Title"));
+            while (countPromotedFiles() < 1) {
+                Thread.sleep(10);
+            }
+            String shared = fileUtil.saveStream(new ByteArrayInputStream("shared".getBytes()), "other.txt", -1);
+            releaseFailure.countDown();
+
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> upload.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(ServiceException.class, exception.getCause());
+            assertTrue(Files.exists(basePath.resolve(shared)));
+        } finally {
+            releaseFailure.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 같은 내용의 파일은 한 번만 저장되고 같은 경로를 공유하는지 테스트합니다.
+     */
+    @Test
+    void testDuplicateContentIsStoredOnce() throws IOException {
+        String first = fileUtil.saveStream(new ByteArrayInputStream("same".getBytes()), "a.pdf", -1);
+        String second = fileUtil.saveStream(new ByteArrayInputStream("same".getBytes()), "b.PDF", -1);
+        String other = fileUtil.saveStream(new ByteArrayInputStream("other".getBytes()), "c.pdf", -1);
+
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+        assertTrue(first.startsWith(FileUtil.CAS_DIRECTORY));
+        assertTrue(first.endsWith(".pdf"));
+        assertEquals(2, countStoredFiles());
+    }
+
+    /**
+     * 유예 기간 안에 재사용된 파일은 삭제하지 않는지 테스트합니다.
+     */
+    @Test
+    void testDeleteIfStaleHonorsGracePeriod() throws IOException {
+        String path = fileUtil.saveStream(new ByteArrayInputStream("content".getBytes()), "a.txt", -1);
+
+        assertFalse(fileUtil.deleteIfStale(path));
+        assertTrue(Files.exists(basePath.resolve(path)));
+
+        fileUploadProperties.setOrphanGracePeriod(Duration.ZERO);
+        Files.setLastModifiedTime(basePath.resolve(path), FileTime.from(Instant.now().minusSeconds(1)));
+
+        assertTrue(fileUtil.deleteIfStale(path));
+        assertFalse(Files.exists(basePath.resolve(path)));
+    }
+
+    /**
+     * 재사용하려던 파일이 존재 확인 직후 다른 서버의 수거기에 삭제되면 업로드한 내용으로 다시 저장하는지 테스트합니다.
+     */
+    @Test
+    void testReuseRestoresContentDeletedAfterExistenceCheck() throws IOException {
+        String path = fileUtil.saveStream(new ByteArrayInputStream("content".getBytes()), "a.txt", -1);
+        LocalAttachmentStorage collectedAfterCheck = new LocalAttachmentStorage(fileUploadProperties) {
+            @Override
+            public boolean exists(String key) {
+                boolean exists = super.exists(key);
+                try {
+                    delete(key);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return exists;
+            }
+        };
+        FileUtil racingFileUtil = new FileUtil(fileUploadProperties, fileIoExecutor, collectedAfterCheck);
+
+        assertEquals(path, racingFileUtil.saveStream(new ByteArrayInputStream("content".getBytes()), "b.txt", -1));
+        assertEquals("content", Files.readString(basePath.resolve(path)));
+    }
+
+    /**
+     * 버퍼 풀보다 많은 업로드가 동시에 들어와도 버퍼를 기다렸다가 빌려 쓰고, 다른 업로드와 버퍼를 나누어 쓰지 않아 내용이 섞이지 않는지 테스트합니다.
+     */
+    @Test
+    void testConcurrentUploadsShareBoundedBufferPool() throws Exception {
+        fileUploadProperties.setBufferSize(DataSize.ofBytes(16));
+        fileUploadProperties.setBufferPoolSize(1);
+        FileUtil pooledFileUtil = new FileUtil(fileUploadProperties, fileIoExecutor, new LocalAttachmentStorage(fileUploadProperties));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> uploads = IntStream.range(0, 8)
+                    .mapToObj(i -> "upload " + i + " ".repeat(100) + i)
+                    .map(content -> executor.submit(() -> pooledFileUtil.saveStream(
+                            new ByteArrayInputStream(content.getBytes()), "a.txt", -1)))
+                    .toList();
+
+            for (int i = 0; i < uploads.size(); i++) {
+                String path = uploads.get(i).get(5, TimeUnit.SECONDS);
+                assertEquals("upload " + i + " ".repeat(100) + i, Files.readString(basePath.resolve(path)));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 요청 본문이 도착하기를 기다리는 업로드는 버퍼를 붙잡고 있지 않아, 버퍼가 하나뿐이어도 다른 업로드가 기다리지 않고 저장되는지 테스트합니다.
+     */
+    @Test
+    void testSlowUploadDoesNotHoldBuffer() throws Exception {
+        fileUploadProperties.setBufferSize(DataSize.ofBytes(16));
+        fileUploadProperties.setBufferPoolSize(1);
+        fileUploadProperties.setBufferWaitTimeout(Duration.ofMillis(200));
+        FileUtil pooledFileUtil = new FileUtil(fileUploadProperties, fileIoExecutor, new LocalAttachmentStorage(fileUploadProperties));
+
+        CountDownLatch firstChunkRead = new CountDownLatch(1);
+        CountDownLatch clientResumed = new CountDownLatch(1);
+        InputStream slowClient = new SequenceInputStream(new ByteArrayInputStream("slow upload first chunk".getBytes()), new InputStream() {
+            @Override
+            public int read() throws IOException {
+                firstChunkRead.countDown();
+                try {
+                    clientResumed.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                return -1;
+            }
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> slowUpload = executor.submit(() -> pooledFileUtil.saveStream(slowClient, "slow.txt", -1));
+            assertTrue(firstChunkRead.await(5, TimeUnit.SECONDS));
+
+            String path = pooledFileUtil.saveStream(new ByteArrayInputStream("fast".getBytes()), "fast.txt", -1);
+            assertEquals("fast", Files.readString(basePath.resolve(path)));
+
+            clientResumed.countDown();
+            assertEquals("slow upload first chunk", Files.readString(basePath.resolve(slowUpload.get(5, TimeUnit.SECONDS))));
+        } finally {
+            clientResumed.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private long countPromotedFiles() throws IOException {
+        Path staging = basePath.resolve(FileUtil.CAS_DIRECTORY).resolve(FileUtil.STAGING_DIRECTORY);
+        try (Stream<Path> stored = Files.walk(basePath)) {
+            return stored.filter(Files::isRegularFile).filter(path -> !path.startsWith(staging)).count();
+        }
+    }
+
+    private long countStoredFiles() throws IOException {
+        try (Stream<Path> stored = Files.walk(basePath)) {
+            return stored.filter(Files::isRegularFile).count();
+        }
+    }
+}
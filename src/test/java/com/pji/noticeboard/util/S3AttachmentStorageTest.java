@@ -0,0 +1,324 @@
+package com.pji.noticeboard.util;
+
+import com.pji.noticeboard.config.S3StorageProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CopyObjectResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * S3AttachmentStorage 단위 테스트 클래스입니다. 실제 S3 대신 메모리에 객체를 보관하는 S3Client로 테스트합니다.
+ * 테스트 목록:
+ * 1. testSmallFileIsPutAndReadByRange: 작은 파일은 한 번에 올리고, 키 접두사를 뺀 키로 조회하고 구간을 읽을 수 있는지 테스트.
+ * 2. testLargeFileIsUploadedInParts: 큰 파일은 여러 조각으로 나누어 올리고 순서대로 합쳐지는지 테스트.
+ * 3. testFailedPartAbortsUpload: 조각 하나가 실패하면 업로드를 취소하고 객체를 남기지 않는지 테스트.
+ * 4. testDownloadUriIsPresigned: 내려받기 주소가 파일 이름을 포함한 서명된 주소인지 테스트.
+ */
+class S3AttachmentStorageTest {
+
+    @TempDir
+    Path tempDir;
+
+    private S3StorageProperties s3StorageProperties;
+    private FakeS3Client s3Client;
+    private S3AttachmentStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        s3StorageProperties = new S3StorageProperties();
+        s3StorageProperties.setBucket("attachments");
+        s3StorageProperties.setKeyPrefix("notice/");
+        s3StorageProperties.setMultipartThreshold(DataSize.ofBytes(1024));
+        s3StorageProperties.setPartSize(DataSize.ofBytes(256));
+        s3StorageProperties.setEndpoint("http://localhost:9000");
+
+        s3Client = new FakeS3Client();
+        S3Presigner s3Presigner = S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .endpointOverride(URI.create(s3StorageProperties.getEndpoint()))
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("access", "secret")))
+                .build();
+        storage = new S3AttachmentStorage(s3Client, s3Presigner, s3StorageProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        storage.close();
+    }
+
+    /**
+     * 작은 파일은 한 번에 올리고, 키 접두사를 뺀 키로 조회하고 구간을 읽을 수 있는지 테스트합니다.
+     */
+    @Test
+    void testSmallFileIsPutAndReadByRange() throws IOException {
+        store("cas/aa/small.txt", "small attachment".getBytes());
+
+        assertArrayEquals("small attachment".getBytes(), s3Client.objects.get("notice/cas/aa/small.txt").content());
+        assertEquals(0, s3Client.uploadedParts.size());
+        assertTrue(storage.exists("cas/aa/small.txt"));
+        assertNull(storage.open("cas/aa/missing.txt"));
+
+        AttachmentContent content = storage.open("cas/aa/small.txt");
+        assertEquals(16, content.size());
+        assertNull(content.file());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        content.transferTo(6, 10, Channels.newChannel(output));
+        assertArrayEquals("attachment".getBytes(), output.toByteArray());
+
+        List<StoredObject> objects = storage.listObjects(null, 10);
+        assertEquals(1, objects.size());
+        assertEquals("cas/aa/small.txt", objects.get(0).key());
+
+        assertTrue(storage.delete("cas/aa/small.txt"));
+        assertFalse(storage.delete("cas/aa/small.txt"));
+        assertFalse(storage.exists("cas/aa/small.txt"));
+    }
+
+    /**
+     * 큰 파일은 여러 조각으로 나누어 올리고 순서대로 합쳐지는지 테스트합니다.
+     */
+    @Test
+    void testLargeFileIsUploadedInParts() throws IOException {
+        byte[] content = new byte[1000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+
+        store("cas/bb/large.bin", content);
+
+        assertEquals(4, s3Client.uploadedParts.size());
+        assertArrayEquals(content, s3Client.objects.get("notice/cas/bb/large.bin").content());
+        try (InputStream input = storage.open("cas/bb/large.bin").newInputStream()) {
+            assertArrayEquals(content, input.readAllBytes());
+        }
+    }
+
+    /**
+     * 조각 하나가 실패하면 업로드를 취소하고 객체를 남기지 않는지 테스트합니다.
+     */
+    @Test
+    void testFailedPartAbortsUpload() {
+        s3Client.failingPartNumber = 2;
+
+        assertThrows(IOException.class, () -> store("cas/cc/broken.bin", new byte[1000]));
+
+        assertFalse(s3Client.objects.containsKey("notice/cas/cc/broken.bin"));
+        assertEquals(1, s3Client.abortedUploads.size());
+        assertTrue(s3Client.uploads.isEmpty());
+    }
+
+    /**
+     * 내려받기 주소가 파일 이름을 포함한 서명된 주소인지 테스트합니다.
+     */
+    @Test
+    void testDownloadUriIsPresigned() {
+        URI uri = storage.downloadUri("cas/aa/aa11.pdf", "report.pdf");
+
+        assertTrue(uri.toString().startsWith("http://localhost:9000/attachments/notice/cas/aa/aa11.pdf?"));
+        assertTrue(uri.getQuery().contains("X-Amz-Signature="));
+        assertTrue(uri.getQuery().contains("response-content-disposition=attachment"));
+        assertTrue(uri.getQuery().contains("report.pdf"));
+
+        s3StorageProperties.setPresignDownloads(false);
+        assertNull(storage.downloadUri("cas/aa/aa11.pdf", "report.pdf"));
+    }
+
+    private void store(String key, byte[] content) throws IOException {
+        Path staged = Files.createTempFile(tempDir, "upload-", ".part");
+        Files.write(staged, content);
+        storage.store(key, staged, content.length);
+    }
+
+    private record StoredContent(byte[] content, Instant lastModified) {
+    }
+
+    /**
+     * 사용하는 API만 구현한 메모리 S3Client입니다.
+     */
+    private static class FakeS3Client implements S3Client {
+
+        private final Map<String, StoredContent> objects = new ConcurrentSkipListMap<>();
+        private final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+        private final Set<Integer> uploadedParts = ConcurrentHashMap.newKeySet();
+        private final Set<String> abortedUploads = ConcurrentHashMap.newKeySet();
+        private volatile int failingPartNumber;
+
+        @Override
+        public PutObjectResponse putObject(PutObjectRequest request, RequestBody requestBody) {
+            objects.put(request.key(), new StoredContent(read(requestBody), Instant.now()));
+            return PutObjectResponse.builder().build();
+        }
+
+        @Override
+        public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+            String uploadId = UUID.randomUUID().toString();
+            uploads.put(uploadId, new ConcurrentSkipListMap<>());
+            return CreateMultipartUploadResponse.builder().uploadId(uploadId).build();
+        }
+
+        @Override
+        public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody requestBody) {
+            if (request.partNumber() == failingPartNumber) {
+                throw SdkClientException.create("Connection reset");
+            }
+            uploads.get(request.uploadId()).put(request.partNumber(), read(requestBody));
+            uploadedParts.add(request.partNumber());
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+        }
+
+        @Override
+        public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+            Map<Integer, byte[]> parts = uploads.remove(request.uploadId());
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            for (CompletedPart part : request.multipartUpload().parts()) {
+                content.writeBytes(parts.get(part.partNumber()));
+            }
+            objects.put(request.key(), new StoredContent(content.toByteArray(), Instant.now()));
+            return CompleteMultipartUploadResponse.builder().build();
+        }
+
+        @Override
+        public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+            uploads.remove(request.uploadId());
+            abortedUploads.add(request.uploadId());
+            return AbortMultipartUploadResponse.builder().build();
+        }
+
+        @Override
+        public HeadObjectResponse headObject(HeadObjectRequest request) {
+            StoredContent stored = find(request.key());
+            return HeadObjectResponse.builder()
+                    .contentLength((long) stored.content().length)
+                    .lastModified(stored.lastModified())
+                    .build();
+        }
+
+        @Override
+        public <ReturnT> ReturnT getObject(GetObjectRequest request, ResponseTransformer<GetObjectResponse, ReturnT> transformer) {
+            byte[] content = find(request.key()).content();
+            if (request.range() != null) {
+                String[] range = request.range().substring("bytes=".length()).split("-");
+                content = Arrays.copyOfRange(content, Integer.parseInt(range[0]), Integer.parseInt(range[1]) + 1);
+            }
+            try {
+                return transformer.transform(GetObjectResponse.builder().contentLength((long) content.length).build(),
+                        AbortableInputStream.create(new ByteArrayInputStream(content)));
+            } catch (Exception e) {
+                throw SdkClientException.create("Failed to transform response", e);
+            }
+        }
+
+        @Override
+        public ResponseInputStream<GetObjectResponse> getObject(GetObjectRequest request) {
+            return getObject(request, ResponseTransformer.toInputStream());
+        }
+
+        @Override
+        public CopyObjectResponse copyObject(CopyObjectRequest request) {
+            objects.put(request.destinationKey(), new StoredContent(find(request.sourceKey()).content(), Instant.now()));
+            return CopyObjectResponse.builder().build();
+        }
+
+        @Override
+        public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+            objects.remove(request.key());
+            return DeleteObjectResponse.builder().build();
+        }
+
+        @Override
+        public ListObjectsV2Response listObjectsV2(ListObjectsV2Request request) {
+            List<S3Object> contents = objects.entrySet().stream()
+                    .filter(entry -> entry.getKey().startsWith(request.prefix()))
+                    .filter(entry -> request.startAfter() == null || entry.getKey().compareTo(request.startAfter()) > 0)
+                    .limit(request.maxKeys())
+                    .map(entry -> S3Object.builder()
+                            .key(entry.getKey())
+                            .size((long) entry.getValue().content().length)
+                            .lastModified(entry.getValue().lastModified())
+                            .build())
+                    .toList();
+            return ListObjectsV2Response.builder().contents(contents).build();
+        }
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private StoredContent find(String key) {
+            StoredContent stored = objects.get(key);
+            if (stored == null) {
+                throw (S3Exception) S3Exception.builder().statusCode(404).message("Not Found").build();
+            }
+            return stored;
+        }
+
+        private static byte[] read(RequestBody requestBody) {
+            try (InputStream input = requestBody.contentStreamProvider().newStream()) {
+                return input.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.pji.noticeboard.util;
+
+import com.pji.noticeboard.config.FileUploadProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SegmentAttachmentStorage 단위 테스트 클래스입니다.
+ * 테스트 목록:
+ * 1. testSmallFilesArePackedAndLargeFilesFallBack: 작은 파일은 세그먼트에, 큰 파일은 개별 파일로 저장되고 모두 읽을 수 있는지 테스트.
+ * 2. testReopenRebuildsIndexAndKeepsDeletes: 다시 열면 색인이 복원되고 삭제한 파일은 되살아나지 않는지 테스트.
+ * 3. testReopenTruncatesTornTail: 마지막 세그먼트의 끝이 깨져 있으면 잘라내고 이어서 기록하는지 테스트.
+ * 4. testCompactReclaimsDeletedRecords: 죽은 레코드가 많은 세그먼트를 정리해도 살아 있는 파일을 읽을 수 있는지 테스트.
+ * 5. testConcurrentStoresAreAllRecovered: 동시에 저장한 파일이 fsync를 함께 기다린 뒤 다시 열어도 모두 남아 있는지 테스트.
+ */
+class SegmentAttachmentStorageTest {
+
+    @TempDir
+    Path basePath;
+
+    private FileUploadProperties fileUploadProperties;
+    private SegmentAttachmentStorage storage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        fileUploadProperties = new FileUploadProperties();
+        fileUploadProperties.setBasePath(basePath.toString());
+        fileUploadProperties.setSegmentThreshold(DataSize.ofKilobytes(1));
+        fileUploadProperties.setSegmentSize(DataSize.ofKilobytes(64));
+        storage = open();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        storage.close();
+    }
+
+    /**
+     * 작은 파일은 세그먼트에, 큰 파일은 개별 파일로 저장되고 모두 읽을 수 있는지 테스트합니다.
+     */
+    @Test
+    void testSmallFilesArePackedAndLargeFilesFallBack() throws IOException {
+        byte[] small = "small attachment".getBytes();
+        byte[] large = new byte[4096];
+        Arrays.fill(large, (byte) 7);
+
+        store("cas/aa/small.txt", small);
+        store("cas/bb/large.bin", large);
+
+        assertFalse(Files.exists(basePath.resolve("cas/aa/small.txt")));
+        assertTrue(Files.exists(basePath.resolve("cas/bb/large.bin")));
+        assertTrue(storage.exists("cas/aa/small.txt"));
+        assertNull(storage.open("cas/aa/small.txt").file());
+        assertArrayEquals(small, read("cas/aa/small.txt"));
+        assertArrayEquals(large, read("cas/bb/large.bin"));
+        assertArrayEquals("attachment".getBytes(), read("cas/aa/small.txt", 6, 10));
+        assertEquals(1, storage.listObjects(null, 10).size());
+    }
+
+    /**
+     * 다시 열면 색인이 복원되고 삭제한 파일은 되살아나지 않는지 테스트합니다.
+     */
+    @Test
+    void testReopenRebuildsIndexAndKeepsDeletes() throws IOException {
+        store("cas/aa/first.txt", "first".getBytes());
+        store("cas/aa/second.txt", "second".getBytes());
+        assertTrue(storage.delete("cas/aa/first.txt"));
+        assertFalse(storage.delete("cas/aa/first.txt"));
+
+        storage.close();
+        storage = open();
+
+        assertFalse(storage.exists("cas/aa/first.txt"));
+        assertNull(storage.open("cas/aa/first.txt"));
+        assertArrayEquals("second".getBytes(), read("cas/aa/second.txt"));
+    }
+
+    /**
+     * 마지막 세그먼트의 끝이 깨져 있으면 잘라내고 이어서 기록하는지 테스트합니다.
+     */
+    @Test
+    void testReopenTruncatesTornTail() throws IOException {
+        store("cas/aa/kept.txt", "kept".getBytes());
+        storage.close();
+        Path segment = segmentFiles()[0];
+        Files.write(segment, new byte[]{0x4E, 0x42, 0x53}, StandardOpenOption.APPEND);
+
+        storage = open();
+        store("cas/aa/next.txt", "next".getBytes());
+        storage.close();
+        storage = open();
+
+        assertArrayEquals("kept".getBytes(), read("cas/aa/kept.txt"));
+        assertArrayEquals("next".getBytes(), read("cas/aa/next.txt"));
+    }
+
+    /**
+     * 죽은 레코드가 많은 세그먼트를 정리해도 살아 있는 파일을 읽을 수 있는지 테스트합니다.
+     */
+    @Test
+    void testCompactReclaimsDeletedRecords() throws IOException {
+        byte[] content = new byte[1000];
+        for (int i = 0; i < 80; i++) {
+            Arrays.fill(content, (byte) i);
+            store(String.format("cas/aa/%03d.bin", i), content);
+        }
+        assertEquals(2, segmentFiles().length);
+        for (int i = 0; i < 60; i++) {
+            storage.delete(String.format("cas/aa/%03d.bin", i));
+        }
+
+        storage.compact();
+
+        Path[] segments = segmentFiles();
+        assertEquals(1, segments.length);
+        assertTrue(Files.size(segments[0]) < 64 * 1024);
+        for (int i = 60; i < 80; i++) {
+            Arrays.fill(content, (byte) i);
+            assertArrayEquals(content, read(String.format("cas/aa/%03d.bin", i)));
+        }
+
+        storage.close();
+        storage = open();
+
+        assertEquals(20, storage.listObjects(null, 100).size());
+        assertFalse(storage.exists("cas/aa/000.bin"));
+        assertArrayEquals(content, read("cas/aa/079.bin"));
+    }
+
+    /**
+     * 동시에 저장한 파일이 fsync를 함께 기다린 뒤 반환되고, 다시 열어도 모두 남아 있는지 테스트합니다.
+     */
+    @Test
+    void testConcurrentStoresAreAllRecovered() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> stores = IntStream.range(0, 40)
+                    .mapToObj(i -> executor.submit(() -> {
+                        store(String.format("cas/bb/%03d.txt", i), ("content " + i).getBytes());
+                        return null;
+                    }))
+                    .collect(Collectors.toList());
+            for (Future<?> store : stores) {
+                store.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        storage.close();
+        storage = open();
+
+        assertEquals(40, storage.listObjects(null, 100).size());
+        for (int i = 0; i < 40; i++) {
+            assertArrayEquals(("content " + i).getBytes(), read(String.format("cas/bb/%03d.txt", i)));
+        }
+    }
+
+    private SegmentAttachmentStorage open() throws IOException {
+        return new SegmentAttachmentStorage(fileUploadProperties, new LocalAttachmentStorage(fileUploadProperties));
+    }
+
+    private void store(String key, byte[] content) throws IOException {
+        Path staged = Files.createTempFile(basePath, "upload-", ".part");
+        Files.write(staged, content);
+        storage.store(key, staged, content.length);
+        Files.deleteIfExists(staged);
+    }
+
+    private byte[] read(String key) throws IOException {
+        return read(key, 0, storage.open(key).size());
+    }
+
+    private byte[] read(String key, long position, long count) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        storage.open(key).transferTo(position, count, Channels.newChannel(output));
+        return output.toByteArray();
+    }
+
+    private Path[] segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(basePath.resolve(SegmentAttachmentStorage.SEGMENT_DIRECTORY))) {
+            return files.sorted().toArray(Path[]::new);
+        }
+    }
+}